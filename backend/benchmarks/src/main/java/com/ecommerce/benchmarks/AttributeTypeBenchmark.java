@@ -0,0 +1,43 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.domain.constant.AttributeType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el coste de {@link AttributeType#validate(Object)} para cada tipo, con valores válidos.
+ * El tipo COLOR_HEX incluye la evaluación de su expresión regular.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeTypeBenchmark {
+
+    @Param({"STRING", "INTEGER", "DOUBLE", "BOOLEAN", "COLOR_HEX"})
+    public AttributeType type;
+
+    private Object value;
+
+    @Setup
+    public void setUp() {
+        value = switch (type) {
+            case STRING -> "algodón";
+            case INTEGER -> 42;
+            case DOUBLE -> 3.5;
+            case BOOLEAN -> Boolean.TRUE;
+            case COLOR_HEX -> "#1a2b3c";
+            case LIST_STRING -> throw new IllegalStateException("Tipo no incluido en el benchmark");
+        };
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        type.validate(value);
+        blackhole.consume(value);
+    }
+}
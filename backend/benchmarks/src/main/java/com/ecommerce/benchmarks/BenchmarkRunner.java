@@ -0,0 +1,37 @@
+package com.ecommerce.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del jar de benchmarks. Acepta las mismas opciones que {@code org.openjdk.jmh.Main}
+ * (ej.: {@code -f}, {@code -wi}, un patrón de benchmarks), pero si no se indica formato de resultados
+ * los escribe en JSON en {@code jmh-result.json}, para poder comparar ejecuciones entre versiones
+ * (ej.: con https://jmh.morethan.io o un diff del archivo).
+ */
+public final class BenchmarkRunner {
+    // --- Campos constantes ---
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
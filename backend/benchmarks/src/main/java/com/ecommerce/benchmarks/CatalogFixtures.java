@@ -0,0 +1,97 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.domain.constant.AttributeType;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.catalog.product.domain.model.vo.Attribute;
+import com.ecommerce.libs.application.util.IdGenerator;
+import com.ecommerce.libs.domain.vo.Money;
+import com.ecommerce.libs.domain.vo.NonBlankString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Datos de prueba deterministas compartidos por los benchmarks: un esquema de atributos típico de ropa,
+ * productos con ese esquema y variantes que lo cumplen.
+ */
+public final class CatalogFixtures {
+    // --- Campos constantes ---
+    private static final String[] SIZES = {"XS", "S", "M", "L", "XL"};
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private CatalogFixtures() {}
+
+    /**
+     * Esquema de atributos con opciones de variante, atributos requeridos y valores por defecto.
+     * @return la lista de definiciones de atributos.
+     */
+    public static List<Attribute> attributeSchema() {
+        return List.of(
+                attribute("color", AttributeType.COLOR_HEX, true, true, null),
+                attribute("size", AttributeType.STRING, true, true, null),
+                attribute("material", AttributeType.STRING, false, true, "cotton"),
+                attribute("weight", AttributeType.DOUBLE, false, false, 0.25),
+                attribute("pockets", AttributeType.INTEGER, false, false, 2),
+                attribute("waterproof", AttributeType.BOOLEAN, false, false, false)
+        );
+    }
+
+    /**
+     * Atributos propuestos por una variante válida para {@link #attributeSchema()}.
+     * @param index el índice de la variante, para variar los valores.
+     * @return el mapa de atributos.
+     */
+    public static Map<String, Object> variantAttributes(int index) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("color", index % 2 == 0 ? "#1a2b3c" : "#fff");
+        attributes.put("size", SIZES[index % SIZES.length]);
+        attributes.put("material", index % 3 == 0 ? "cotton" : "linen");
+        attributes.put("weight", 0.25 + index % 5);
+        return attributes;
+    }
+
+    /**
+     * Crea una lista de productos con el esquema de atributos de ejemplo.
+     * @param count la cantidad de productos.
+     * @return los productos.
+     */
+    public static List<Product> products(int count) {
+        List<Attribute> schema = attributeSchema();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new Product(IdGenerator.generateId(), "Producto " + i, "Descripción del producto " + i,
+                    IdGenerator.generateId(), List.of(IdGenerator.generateId(), IdGenerator.generateId()), schema));
+        }
+        return products;
+    }
+
+    /**
+     * Crea una lista de variantes de un mismo producto.
+     * @param count la cantidad de variantes.
+     * @return las variantes.
+     */
+    public static List<Variant> variants(int count) {
+        String productId = IdGenerator.generateId();
+        List<Variant> variants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            variants.add(new Variant(IdGenerator.generateId(), productId,
+                    Money.of(BigDecimal.valueOf(19_990 + i * 100L, 2), "USD"), 10 + i,
+                    List.of("https://cdn.example.com/" + i + ".jpg"), variantAttributes(i)));
+        }
+        return variants;
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static Attribute attribute(String key, AttributeType type, boolean variantOption, boolean required,
+                                       Object defaultValue) {
+        return new Attribute(new NonBlankString(key), new NonBlankString(key.toUpperCase()), type,
+                variantOption, required, defaultValue);
+    }
+}
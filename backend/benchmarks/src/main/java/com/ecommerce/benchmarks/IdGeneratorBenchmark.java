@@ -0,0 +1,40 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.libs.application.util.IdGenerator;
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la generación de identificadores con {@link IdGenerator}, con uno y varios hilos (la fábrica es compartida),
+ * y la compara con la generación monótona de la librería ulid-creator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public String generateId() {
+        return IdGenerator.generateId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateIdContended() {
+        return IdGenerator.generateId();
+    }
+
+    @Benchmark
+    public byte[] generateBinaryId() {
+        return IdGenerator.generateBinaryId();
+    }
+
+    @Benchmark
+    public String ulidCreatorMonotonic() {
+        return UlidCreator.getMonotonicUlid().toLowerCase();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
+import com.ecommerce.catalog.product.application.mapper.ProductMapper;
+import com.ecommerce.catalog.product.application.mapper.VariantMapper;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide los mappers de MapStruct de productos y variantes, tanto para una entidad como para una página completa.
+ * Las implementaciones generadas se obtienen de un contexto de Spring mínimo, igual que en el servicio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductMapper productMapper;
+    private VariantMapper variantMapper;
+    private Product product;
+    private Variant variant;
+    private Page<Product> productPage;
+    private Page<Variant> variantPage;
+
+    @Setup
+    public void setUp() {
+        context = MapperContext.create();
+        productMapper = context.getBean(ProductMapper.class);
+        variantMapper = context.getBean(VariantMapper.class);
+        List<Product> products = CatalogFixtures.products(pageSize);
+        List<Variant> variants = CatalogFixtures.variants(pageSize);
+        product = products.get(0);
+        variant = variants.get(0);
+        productPage = new PageImpl<>(products, PageRequest.of(0, pageSize), pageSize * 10L);
+        variantPage = new PageImpl<>(variants, PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO productToResponseDTO() {
+        return productMapper.toResponseDTO(product);
+    }
+
+    @Benchmark
+    public VariantResponseDTO variantToResponseDTO() {
+        return variantMapper.toResponseDTO(variant);
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> productPage() {
+        return productMapper.toProductResponseDTOPage(productPage);
+    }
+
+    @Benchmark
+    public Page<VariantResponseDTO> variantPage() {
+        return variantMapper.toProductResponseDTOPage(variantPage);
+    }
+}
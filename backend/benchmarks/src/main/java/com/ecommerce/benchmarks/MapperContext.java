@@ -0,0 +1,26 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.application.mapper.ProductMapperImpl;
+import com.ecommerce.catalog.product.application.mapper.VariantMapperImpl;
+import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Contexto de Spring mínimo con los mappers de productos generados por MapStruct y sus dependencias.
+ */
+final class MapperContext {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private MapperContext() {}
+
+    /**
+     * Crea y refresca el contexto.
+     * @return el contexto con los mappers registrados.
+     */
+    static AnnotationConfigApplicationContext create() {
+        return new AnnotationConfigApplicationContext(
+                ValueObjectMapper.class, ProductMapperImpl.class, VariantMapperImpl.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import com.ecommerce.libs.domain.vo.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la aritmética de {@link Money} (BigDecimal) con la de {@link MinorMoney} (unidades menores en long)
+ * en las operaciones típicas de un carrito: multiplicar por cantidad y acumular un subtotal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final int LINES = 20;
+
+    private Money price;
+    private Money other;
+    private MinorMoney minorPrice;
+    private MinorMoney minorOther;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(new BigDecimal("199.90"), "USD");
+        other = Money.of(new BigDecimal("15.25"), "USD");
+        minorPrice = MinorMoney.fromMoney(price);
+        minorOther = MinorMoney.fromMoney(other);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public MinorMoney minorMoneyAdd() {
+        return minorPrice.add(minorOther);
+    }
+
+    @Benchmark
+    public Money moneySubtotal() {
+        Money subtotal = Money.Zero(price.currency());
+        for (int i = 1; i <= LINES; i++) {
+            subtotal = subtotal.add(price.multiply(i));
+        }
+        return subtotal;
+    }
+
+    @Benchmark
+    public MinorMoney minorMoneySubtotal() {
+        MinorMoney subtotal = MinorMoney.zero(minorPrice.currency());
+        for (int i = 1; i <= LINES; i++) {
+            subtotal = subtotal.add(minorPrice.multiply(i));
+        }
+        return subtotal;
+    }
+
+    @Benchmark
+    public boolean moneyCompare() {
+        return price.isGreaterThan(other);
+    }
+
+    @Benchmark
+    public boolean minorMoneyCompare() {
+        return minorPrice.isGreaterThan(minorOther);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
+import com.ecommerce.catalog.product.application.mapper.ProductMapper;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la serialización JSON de una página de {@link ProductResponseDTO} tal como la responde la API:
+ * envuelta en {@link PagedModel} (serialización VIA_DTO) y omitiendo los campos nulos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<ProductResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        try (AnnotationConfigApplicationContext context = MapperContext.create()) {
+            List<ProductResponseDTO> content = CatalogFixtures.products(pageSize).stream()
+                    .map(context.getBean(ProductMapper.class)::toResponseDTO)
+                    .toList();
+            page = new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize * 10L));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
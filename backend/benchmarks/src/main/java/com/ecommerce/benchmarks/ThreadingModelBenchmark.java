@@ -0,0 +1,84 @@
+package com.ecommerce.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el rendimiento de un pool fijo de hilos de plataforma (como el de Tomcat, 200 hilos por defecto)
+ * con un hilo virtual por petición, cuando cada petición pasa casi todo su tiempo bloqueada esperando E/S.
+ * Cada petición simulada hace {@code fanout} esperas secuenciales de {@code latencyMillis} (las consultas a MongoDB
+ * de una página de detalle). JMH reporta ráfagas por segundo; multiplicadas por {@code concurrency} dan las peticiones
+ * por segundo. Con pocas peticiones concurrentes ambos modelos rinden igual; cuando la concurrencia supera el tamaño
+ * del pool, el pool fijo encola las peticiones y los hilos virtuales no.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadingModelBenchmark {
+    // --- Campos constantes ---
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"200", "1000", "4000"})
+    private int concurrency;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadingModel model;
+
+    @Param({"3"})
+    private int fanout;
+
+    @Param({"2"})
+    private long latencyMillis;
+
+    private ExecutorService executor;
+
+    public enum ThreadingModel { PLATFORM, VIRTUAL }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = model == ThreadingModel.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Envía una ráfaga de {@code concurrency} peticiones a la vez y espera a que terminen todas.
+     */
+    @Benchmark
+    public int burstOfBlockingRequests() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> requests = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            requests.add(executor.submit(this::handleRequest));
+        }
+        int completed = 0;
+        for (Future<Integer> request : requests) {
+            completed += request.get();
+        }
+        return completed;
+    }
+
+    /**
+     * Simula el manejo de una petición: {@code fanout} llamadas bloqueantes consecutivas.
+     */
+    private int handleRequest() throws InterruptedException {
+        for (int i = 0; i < fanout; i++) {
+            Thread.sleep(latencyMillis);
+        }
+        return 1;
+    }
+}
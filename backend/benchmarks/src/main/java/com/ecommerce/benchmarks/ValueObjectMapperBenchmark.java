@@ -0,0 +1,61 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import com.ecommerce.libs.domain.vo.Money;
+import com.ecommerce.libs.domain.vo.NonBlankString;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las conversiones de {@link ValueObjectMapper} entre Value Objects y DTOs usadas por todos los mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectMapperBenchmark {
+    private final ValueObjectMapper mapper = new ValueObjectMapper();
+    private Money money;
+    private MoneyDTO moneyDTO;
+    private MinorMoney minorMoney;
+    private NonBlankString name;
+
+    @Setup
+    public void setUp() {
+        money = Money.of(new BigDecimal("199.90"), "USD");
+        moneyDTO = mapper.moneyToMoneyDTO(money);
+        minorMoney = MinorMoney.fromMoney(money);
+        name = new NonBlankString("Camiseta básica");
+    }
+
+    @Benchmark
+    public MoneyDTO moneyToMoneyDTO() {
+        return mapper.moneyToMoneyDTO(money);
+    }
+
+    @Benchmark
+    public Money moneyDTOToMoney() {
+        return mapper.moneyDTOToMoney(moneyDTO);
+    }
+
+    @Benchmark
+    public MoneyDTO minorMoneyToMoneyDTO() {
+        return mapper.minorMoneyToMoneyDTO(minorMoney);
+    }
+
+    @Benchmark
+    public MinorMoney moneyDTOToMinorMoney() {
+        return mapper.moneyDTOToMinorMoney(moneyDTO);
+    }
+
+    @Benchmark
+    public String nonBlankStringToString() {
+        return mapper.nonBlankStringToString(name);
+    }
+}
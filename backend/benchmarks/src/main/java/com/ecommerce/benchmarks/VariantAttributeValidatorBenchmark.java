@@ -0,0 +1,36 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.catalog.product.application.VariantAttributeValidator;
+import com.ecommerce.catalog.product.domain.model.vo.Attribute;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la validación de los atributos de una variante contra el esquema de su producto,
+ * la misma lógica que ejecuta {@code ProductService} al crear una variante.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantAttributeValidatorBenchmark {
+    private final VariantAttributeValidator validator = new VariantAttributeValidator();
+    private List<Attribute> schema;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() {
+        schema = CatalogFixtures.attributeSchema();
+        attributes = CatalogFixtures.variantAttributes(1);
+    }
+
+    @Benchmark
+    public Map<String, Object> validate() {
+        return validator.validate(attributes, schema);
+    }
+}
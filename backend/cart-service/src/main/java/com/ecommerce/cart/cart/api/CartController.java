@@ -0,0 +1,99 @@
+package com.ecommerce.cart.cart.api;
+
+import com.ecommerce.cart.cart.application.CartService;
+import com.ecommerce.cart.cart.application.dto.request.AddCartItemRequestDTO;
+import com.ecommerce.cart.cart.application.dto.request.MergeCartRequestDTO;
+import com.ecommerce.cart.cart.application.dto.request.UpdateCartItemRequestDTO;
+import com.ecommerce.cart.cart.application.dto.response.CartResponseDTO;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST que gestiona los carritos de compras y sus líneas.
+ */
+@RestController
+@RequestMapping("/carts")
+public class CartController {
+    // --- Dependencias ---
+    private final CartService service;
+
+    /**
+     * Construye un nuevo CartController con el CartService especificado.
+     * @param service el servicio de carritos.
+     */
+    public CartController(CartService service) {
+        this.service = service;
+    }
+
+    // --- EndPoints funcionales ---
+
+    /**
+     * Recupera un carrito valorado con los precios vigentes.
+     * @param id el ID del carrito.
+     * @return una ResponseEntity con el carrito (vacío si no existe).
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CartResponseDTO> getById(@PathVariable String id) {
+        return ResponseEntity.ok(service.getCart(id));
+    }
+
+    /**
+     * Agrega unidades de una variante al carrito.
+     * @param id el ID del carrito.
+     * @param request la variante y la cantidad.
+     * @return una ResponseEntity con el carrito actualizado.
+     */
+    @PostMapping("/{id}/items")
+    public ResponseEntity<CartResponseDTO> addItem(
+            @PathVariable String id, @Valid @RequestBody AddCartItemRequestDTO request) {
+        return ResponseEntity.ok(service.addItem(id, request));
+    }
+
+    /**
+     * Cambia la cantidad de una línea del carrito.
+     * @param id el ID del carrito.
+     * @param variantId el ID de la variante.
+     * @param request la nueva cantidad (0 quita la línea).
+     * @return una ResponseEntity con el carrito actualizado.
+     */
+    @PutMapping("/{id}/items/{variantId}")
+    public ResponseEntity<CartResponseDTO> updateItem(
+            @PathVariable String id, @PathVariable String variantId, @Valid @RequestBody UpdateCartItemRequestDTO request) {
+        return ResponseEntity.ok(service.updateItem(id, variantId, request));
+    }
+
+    /**
+     * Quita una línea del carrito.
+     * @param id el ID del carrito.
+     * @param variantId el ID de la variante.
+     * @return una ResponseEntity con el carrito actualizado.
+     */
+    @DeleteMapping("/{id}/items/{variantId}")
+    public ResponseEntity<CartResponseDTO> removeItem(@PathVariable String id, @PathVariable String variantId) {
+        return ResponseEntity.ok(service.removeItem(id, variantId));
+    }
+
+    /**
+     * Fusiona un carrito anónimo en este carrito (al iniciar sesión) y elimina el anónimo.
+     * @param id el ID del carrito del usuario.
+     * @param request el carrito anónimo y la regla para las variantes que están en ambos.
+     * @return una ResponseEntity con el carrito fusionado.
+     */
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<CartResponseDTO> merge(
+            @PathVariable String id, @Valid @RequestBody MergeCartRequestDTO request) {
+        return ResponseEntity.ok(service.merge(id, request));
+    }
+
+    /**
+     * Vacía el carrito.
+     * @param id el ID del carrito.
+     * @return una ResponseEntity 204 (No Content).
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> clear(@PathVariable String id) {
+        service.clear(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.cart.cart.application;
+
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.cart.infrastructure.messaging.AbandonedCartPublisher;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Procesa los carritos que vencen sin modificaciones: libera sus reservas de stock y publica su evento
+ * {@code CartAbandoned}.
+ * <p>
+ * El vencimiento llega por la notificación de expiración de Redis de la clave de aviso del carrito. Como esas
+ * notificaciones no se garantizan (se pierden si ninguna instancia está suscrita en ese momento), un barrido
+ * periódico recorre el índice de vencimientos, solo en su tramo vencido y por lotes, sin {@code KEYS} ni
+ * {@code SCAN}. Cada carrito se reclama de forma atómica, así que se procesa una sola vez aunque lo vean
+ * varias instancias.
+ */
+public class AbandonedCartService {
+    private static final Logger log = LoggerFactory.getLogger(AbandonedCartService.class);
+    // --- Dependencias ---
+    private final CartRepository repository;
+    private final StockReservationService reservations;
+    private final AbandonedCartPublisher publisher;
+    private final CartMapper mapper;
+    private final Clock clock;
+    // --- Estado ---
+    private final int sweepBatchSize;
+
+    /**
+     * Construye el servicio.
+     * @param repository el repositorio de carritos.
+     * @param reservations el servicio de reservas de stock.
+     * @param publisher el publicador de eventos de abandono.
+     * @param mapper el mapper de carritos a DTO.
+     * @param clock el reloj del servicio.
+     * @param sweepBatchSize la cantidad de carritos vencidos que se reclaman en cada lote del barrido.
+     */
+    public AbandonedCartService(CartRepository repository, StockReservationService reservations,
+                                AbandonedCartPublisher publisher, CartMapper mapper, Clock clock, int sweepBatchSize) {
+        this.repository = repository;
+        this.reservations = reservations;
+        this.publisher = publisher;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Procesa el vencimiento de un carrito, si venció y nadie lo procesó antes.
+     * @param cartId el ID del carrito.
+     * @return true si esta llamada lo procesó.
+     */
+    public boolean expire(String cartId) {
+        Instant now = clock.instant();
+        Optional<Cart> claimed = repository.claimExpired(cartId, now);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        Cart cart = claimed.get();
+        reservations.releaseAll(cart);
+        if (!cart.isEmpty()) {
+            publisher.publish(mapper.toAbandonedEvent(cart, now));
+        }
+        log.debug("Carrito {} vencido: {} líneas liberadas", cartId, cart.getLines().size());
+        return true;
+    }
+
+    /**
+     * Procesa los carritos vencidos cuya notificación se perdió. Se ejecuta periódicamente
+     * ({@code cart.expiry.sweep-interval}).
+     * @return la cantidad de carritos procesados.
+     */
+    @Scheduled(initialDelayString = "${cart.expiry.sweep-interval:PT1M}",
+            fixedDelayString = "${cart.expiry.sweep-interval:PT1M}")
+    public int sweep() {
+        int processed = 0;
+        try {
+            List<String> expired;
+            do {
+                expired = repository.findExpiredIds(clock.instant(), sweepBatchSize);
+                for (String cartId : expired) {
+                    if (expire(cartId)) {
+                        processed++;
+                    }
+                }
+            } while (expired.size() == sweepBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("Barrido de carritos vencidos interrumpido: {}", e.getMessage());
+        }
+        if (processed > 0) {
+            log.info("Barrido de carritos vencidos: {} procesados sin notificación", processed);
+        }
+        return processed;
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.cart.cart.application;
+
+import com.ecommerce.cart.cart.application.dto.request.AddCartItemRequestDTO;
+import com.ecommerce.cart.cart.application.dto.request.MergeCartRequestDTO;
+import com.ecommerce.cart.cart.application.dto.request.UpdateCartItemRequestDTO;
+import com.ecommerce.cart.cart.application.dto.response.CartResponseDTO;
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.cart.domain.model.CartMerge;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.pricing.application.CartPricingService;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Servicio de aplicación para la gestión de carritos de compras.
+ * Coordina el repositorio de carritos con la valoración de sus líneas: cada lectura revalida por lotes las líneas
+ * vencidas y cada modificación valora solo la línea afectada, ajustando el subtotal de forma incremental.
+ * Las unidades de cada línea quedan reservadas mientras el carrito no expire.
+ */
+@Service
+public class CartService {
+    private static final Logger log = LoggerFactory.getLogger(CartService.class);
+    // --- Dependencias ---
+    private final CartRepository repository;
+    private final CartPricingService pricing;
+    private final StockReservationService reservations;
+    private final CartMapper mapper;
+    // --- Estado ---
+    private final MergeStrategy defaultMergeStrategy;
+
+    /**
+     * Constructor con todas las dependencias del servicio.
+     * @param repository el repositorio de carritos.
+     * @param pricing el servicio que valora las líneas con los precios del catálogo.
+     * @param reservations el servicio que reserva el stock de las líneas.
+     * @param mapper el mapper para convertir los carritos en DTO.
+     * @param defaultMergeStrategy la regla de fusión de carritos cuando la petición no indica una.
+     */
+    public CartService(CartRepository repository, CartPricingService pricing, StockReservationService reservations,
+                       CartMapper mapper, @Value("${cart.merge.strategy:SUM}") MergeStrategy defaultMergeStrategy) {
+        this.repository = repository;
+        this.pricing = pricing;
+        this.reservations = reservations;
+        this.mapper = mapper;
+        this.defaultMergeStrategy = defaultMergeStrategy;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Devuelve un carrito valorado. Un carrito inexistente se devuelve vacío.
+     * @param id el ID del carrito.
+     * @return el carrito, con las líneas vencidas revalidadas.
+     */
+    public CartResponseDTO getCart(String id) {
+        Cart cart = repository.findById(id).orElseGet(() -> new Cart(id));
+        List<String> repriced = pricing.revalidate(cart);
+        save(cart);
+        return mapper.toResponseDTO(cart, repriced);
+    }
+
+    /**
+     * Agrega unidades de una variante a un carrito, creándolo si no existe.
+     * @param id el ID del carrito.
+     * @param request la variante y la cantidad a agregar.
+     * @return el carrito actualizado.
+     * @throws ResourceNotFoundException si la variante no existe.
+     * @throws IllegalStateException si la variante no está disponible o no tiene unidades libres suficientes.
+     */
+    public CartResponseDTO addItem(String id, AddCartItemRequestDTO request) {
+        log.debug("Agregando {} unidades de la variante {} al carrito {}", request.quantity(), request.variantId(), id);
+        Cart cart = repository.findById(id).orElseGet(() -> new Cart(id));
+        int quantity = cart.line(request.variantId()).map(CartLine::quantity).orElse(0) + request.quantity();
+        putLine(cart, request.variantId(), quantity);
+        saveReserved(cart, request.variantId());
+        return mapper.toResponseDTO(cart, List.of());
+    }
+
+    /**
+     * Cambia la cantidad de una línea de carrito; con cantidad 0 la quita.
+     * @param id el ID del carrito.
+     * @param variantId el ID de la variante.
+     * @param request la nueva cantidad.
+     * @return el carrito actualizado.
+     * @throws ResourceNotFoundException si el carrito o la línea no existen.
+     * @throws IllegalStateException si la variante no tiene unidades libres suficientes.
+     */
+    public CartResponseDTO updateItem(String id, String variantId, UpdateCartItemRequestDTO request) {
+        Cart cart = findCart(id);
+        if (cart.line(variantId).isEmpty()) {
+            throw new ResourceNotFoundException("Cart line", "variant ID", variantId);
+        }
+        if (request.quantity() == 0) {
+            cart.removeLine(variantId, pricing.now());
+            reservations.release(id, variantId);
+            save(cart);
+        } else {
+            putLine(cart, variantId, request.quantity());
+            saveReserved(cart, variantId);
+        }
+        return mapper.toResponseDTO(cart, List.of());
+    }
+
+    /**
+     * Quita una línea de un carrito.
+     * @param id el ID del carrito.
+     * @param variantId el ID de la variante.
+     * @return el carrito actualizado.
+     * @throws ResourceNotFoundException si el carrito o la línea no existen.
+     */
+    public CartResponseDTO removeItem(String id, String variantId) {
+        Cart cart = findCart(id);
+        if (!cart.removeLine(variantId, pricing.now())) {
+            throw new ResourceNotFoundException("Cart line", "variant ID", variantId);
+        }
+        reservations.release(id, variantId);
+        save(cart);
+        return mapper.toResponseDTO(cart, List.of());
+    }
+
+    /**
+     * Fusiona un carrito anónimo en el carrito del usuario (al iniciar sesión) con una sola operación atómica en Redis,
+     * y traspasa al carrito del usuario las reservas de las líneas que aportó el anónimo.
+     * @param id el ID del carrito del usuario; se crea si no existe.
+     * @param request el carrito anónimo y la regla para las variantes que están en ambos.
+     * @return el carrito del usuario, valorado.
+     * @throws IllegalArgumentException si ambos carritos son el mismo.
+     * @throws IllegalStateException si los carritos tienen monedas distintas.
+     */
+    public CartResponseDTO merge(String id, MergeCartRequestDTO request) {
+        if (id.equals(request.sourceCartId())) {
+            throw new IllegalArgumentException("Cannot merge cart " + id + " into itself");
+        }
+        MergeStrategy strategy = request.strategy() == null ? defaultMergeStrategy : request.strategy();
+        CartMerge merge = repository.merge(request.sourceCartId(), id, strategy, pricing.now());
+        if (merge.merged()) {
+            log.debug("Carrito {} fusionado en {} ({}): {} líneas, {} en ambos",
+                    request.sourceCartId(), id, strategy, merge.lines().size(), merge.conflicts());
+            reservations.transfer(request.sourceCartId(), id, merge.lines());
+        }
+        Cart cart = repository.findById(id).orElseGet(() -> new Cart(id));
+        List<String> repriced = pricing.revalidate(cart);
+        boolean dirty = cart.isDirty();
+        repository.save(cart);
+        if (dirty || merge.merged()) {
+            reservations.renew(cart); // La fusión también renovó la expiración del carrito
+        }
+        return mapper.toResponseDTO(cart, repriced);
+    }
+
+    /**
+     * Vacía un carrito y libera sus reservas.
+     * @param id el ID del carrito.
+     */
+    public void clear(String id) {
+        log.debug("Vaciando carrito {}", id);
+        repository.findById(id).ifPresent(reservations::releaseAll);
+        repository.deleteById(id);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private Cart findCart(String id) {
+        return repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cart", "ID", id));
+    }
+
+    /**
+     * Guarda los cambios del carrito y, si los había (lo que renueva su expiración), renueva también sus reservas.
+     */
+    private void save(Cart cart) {
+        boolean dirty = cart.isDirty();
+        repository.save(cart);
+        if (dirty) {
+            reservations.renew(cart);
+        }
+    }
+
+    /**
+     * Guarda un carrito al que se acaba de reservar la línea de una variante. Si el carrito se guardó entretanto en
+     * otra moneda (otra pestaña lo vació y lo volvió a llenar), la línea no se guarda y se libera su reserva.
+     */
+    private void saveReserved(Cart cart, String variantId) {
+        try {
+            save(cart);
+        } catch (IllegalStateException e) {
+            reservations.release(cart.getId(), variantId);
+            throw e;
+        }
+    }
+
+    /**
+     * Valora la línea de una variante con su precio vigente, reserva sus unidades y la guarda en el carrito
+     * con la cantidad dada. Todo lo que puede rechazar la línea se comprueba antes de reservar, para no retener
+     * stock que el carrito no va a usar.
+     */
+    private void putLine(Cart cart, String variantId, int quantity) {
+        VariantSnapshot snapshot = pricing.quote(variantId);
+        if (!snapshot.canFulfill(quantity)) {
+            throw new IllegalStateException("Variant " + variantId + " cannot fulfill " + quantity
+                    + " units (available: " + snapshot.available() + ", stock: " + snapshot.stock() + ")");
+        }
+        cart.checkCurrency(variantId, snapshot.price().currency());
+        reservations.reserve(cart.getId(), snapshot, quantity);
+        Instant now = pricing.now();
+        cart.putLine(CartLine.of(snapshot, quantity, now), snapshot.price().currency(), now);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.cart.cart.application.dto.event;
+
+import com.ecommerce.cart.cart.application.dto.response.CartLineResponseDTO;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Evento {@code CartAbandoned}: un carrito con líneas venció sin modificaciones ({@code cart.ttl}).
+ * Se publica por AMQP en lotes para las campañas de recuperación de carritos.
+ * @param cartId ID del carrito.
+ * @param lines Líneas del carrito, con los precios de su última valoración.
+ * @param subtotal Subtotal de las líneas disponibles.
+ * @param itemCount Cantidad total de unidades.
+ * @param lastUpdatedAt Momento de la última modificación del carrito.
+ * @param abandonedAt Momento en que se procesó el vencimiento.
+ */
+public record CartAbandonedEventDTO(
+        String cartId,
+        List<CartLineResponseDTO> lines,
+        MoneyDTO subtotal,
+        int itemCount,
+        Instant lastUpdatedAt,
+        Instant abandonedAt
+) {
+    /**
+     * Tipo del evento, en la cabecera {@code x-event-type} de los mensajes.
+     */
+    public static final String TYPE = "CartAbandoned";
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.cart.cart.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Objeto de transferencia de datos (DTO) para agregar unidades de una variante a un carrito.
+ * @param variantId ID de la variante del catálogo.
+ * @param quantity Cantidad de unidades a agregar.
+ */
+public record AddCartItemRequestDTO(
+        @NotBlank(message = "Variant id cannot be blank.")
+        String variantId,
+
+        @Positive(message = "Quantity must be greater than zero.")
+        int quantity
+) {
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.cart.cart.application.dto.request;
+
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Objeto de transferencia de datos (DTO) para fusionar un carrito anónimo en el carrito del usuario al iniciar sesión.
+ * @param sourceCartId ID del carrito anónimo; se elimina tras la fusión.
+ * @param strategy Regla para las variantes que están en ambos carritos, o null para la configurada
+ *                 ({@code cart.merge.strategy}).
+ */
+public record MergeCartRequestDTO(
+        @NotBlank(message = "Source cart id cannot be blank.")
+        String sourceCartId,
+
+        MergeStrategy strategy
+) {
+}
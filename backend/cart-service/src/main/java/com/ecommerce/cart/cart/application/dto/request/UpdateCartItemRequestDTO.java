@@ -0,0 +1,13 @@
+package com.ecommerce.cart.cart.application.dto.request;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Objeto de transferencia de datos (DTO) para cambiar la cantidad de una línea de carrito.
+ * @param quantity Nueva cantidad de unidades; 0 quita la línea.
+ */
+public record UpdateCartItemRequestDTO(
+        @PositiveOrZero(message = "Quantity cannot be less than zero.")
+        int quantity
+) {
+}
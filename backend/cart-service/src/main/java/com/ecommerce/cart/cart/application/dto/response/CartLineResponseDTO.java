@@ -0,0 +1,24 @@
+package com.ecommerce.cart.cart.application.dto.response;
+
+import com.ecommerce.libs.application.dto.MoneyDTO;
+
+/**
+ * Objeto de transferencia de datos (DTO) que representa una línea de carrito.
+ * @param variantId ID de la variante.
+ * @param productId ID del producto al que pertenece la variante.
+ * @param quantity Cantidad de unidades.
+ * @param unitPrice Precio unitario con el que se valoró la línea.
+ * @param total Aporte de la línea al subtotal (cero si la variante no está disponible).
+ * @param available Indica si la variante está disponible para la venta.
+ * @param priceVersion Versión de la variante con la que se valoró la línea.
+ */
+public record CartLineResponseDTO(
+        String variantId,
+        String productId,
+        int quantity,
+        MoneyDTO unitPrice,
+        MoneyDTO total,
+        boolean available,
+        long priceVersion
+) {
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.cart.cart.application.dto.response;
+
+import com.ecommerce.libs.application.dto.MoneyDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Objeto de transferencia de datos (DTO) que representa un carrito valorado.
+ * @param id ID del carrito.
+ * @param lines Líneas del carrito.
+ * @param subtotal Suma de las líneas disponibles, o null si el carrito está vacío.
+ * @param itemCount Cantidad total de unidades.
+ * @param repricedLines IDs de las variantes cuyo precio o disponibilidad cambió al revalidar el carrito en esta lectura.
+ * @param updatedAt Fecha de la última modificación del carrito.
+ */
+public record CartResponseDTO(
+        String id,
+        List<CartLineResponseDTO> lines,
+        MoneyDTO subtotal,
+        int itemCount,
+        List<String> repricedLines,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.cart.cart.application.mapper;
+
+import com.ecommerce.cart.cart.application.dto.event.CartAbandonedEventDTO;
+import com.ecommerce.cart.cart.application.dto.response.CartLineResponseDTO;
+import com.ecommerce.cart.cart.application.dto.response.CartResponseDTO;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Interfaz que define un mapper para convertir los carritos y sus líneas en los DTO de respuesta.
+ * Los importes se guardan en unidades menores de la moneda del carrito y se exponen como {@link MoneyDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface CartMapper {
+    /**
+     * Convierte un carrito en un {@link CartResponseDTO}.
+     * @param cart el carrito.
+     * @param repricedLines los IDs de las variantes que cambiaron de precio al revalidar el carrito.
+     * @return el carrito valorado.
+     */
+    default CartResponseDTO toResponseDTO(Cart cart, List<String> repricedLines) {
+        List<CartLineResponseDTO> lines = cart.getLines().stream()
+                .map(line -> toResponseDTO(line, cart.getCurrency()))
+                .toList();
+        MinorMoney subtotal = cart.getSubtotal();
+        return new CartResponseDTO(cart.getId(), lines, subtotal == null ? null : toMoneyDTO(subtotal),
+                cart.getItemCount(), repricedLines, cart.getUpdatedAt());
+    }
+
+    /**
+     * Convierte un carrito vencido en su evento {@link CartAbandonedEventDTO}.
+     * @param cart el carrito.
+     * @param abandonedAt el momento en que se procesó el vencimiento.
+     * @return el evento.
+     */
+    default CartAbandonedEventDTO toAbandonedEvent(Cart cart, Instant abandonedAt) {
+        CartResponseDTO dto = toResponseDTO(cart, List.of());
+        return new CartAbandonedEventDTO(dto.id(), dto.lines(), dto.subtotal(), dto.itemCount(), dto.updatedAt(),
+                abandonedAt);
+    }
+
+    /**
+     * Convierte una línea de carrito en un {@link CartLineResponseDTO}.
+     * @param line la línea.
+     * @param currency la moneda del carrito.
+     * @return la línea con sus importes en unidades mayores.
+     */
+    @Mapping(target = "total", expression = "java(toMoneyDTO(line.total(), currency))")
+    CartLineResponseDTO toResponseDTO(CartLine line, @Context Currency currency);
+
+    /**
+     * Convierte un importe en unidades menores a un {@link MoneyDTO}.
+     * @param amount el importe en unidades menores.
+     * @param currency la moneda.
+     * @return el importe en unidades mayores.
+     */
+    default MoneyDTO toMoneyDTO(long amount, @Context Currency currency) {
+        return toMoneyDTO(new MinorMoney(amount, currency));
+    }
+
+    /**
+     * Convierte un {@link MinorMoney} a un {@link MoneyDTO}.
+     * @param money el importe.
+     * @return el importe en unidades mayores.
+     */
+    default MoneyDTO toMoneyDTO(MinorMoney money) {
+        return new MoneyDTO(money.toMajor(), money.currency().getCurrencyCode());
+    }
+}
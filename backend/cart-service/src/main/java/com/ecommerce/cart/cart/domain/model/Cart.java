@@ -0,0 +1,183 @@
+package com.ecommerce.cart.cart.domain.model;
+
+import com.ecommerce.libs.domain.vo.MinorMoney;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Carrito de compras: líneas por variante, en una única moneda.
+ * <p>
+ * El subtotal se mantiene de forma incremental: cada cambio de línea le suma la diferencia entre el aporte nuevo
+ * y el anterior, sin recorrer las demás líneas ni volver a consultar sus precios. El carrito también registra qué
+ * líneas cambiaron desde que se cargó y cuánto varió el subtotal, para que el repositorio escriba solo esas
+ * diferencias.
+ */
+public class Cart {
+    // --- Atributos básicos ---
+    private final String id;
+    private Currency currency;
+    private final Map<String, CartLine> lines;
+    private long subtotal;
+    private Instant updatedAt;
+    // --- Cambios pendientes de guardar ---
+    private final Set<String> changedLines = new HashSet<>();
+    private final Set<String> removedLines = new HashSet<>();
+    private long subtotalDelta;
+
+    /**
+     * Construye un carrito vacío.
+     * @param id el identificador del carrito.
+     */
+    public Cart(String id) {
+        this(id, null, new LinkedHashMap<>(), 0L, null);
+    }
+
+    private Cart(String id, Currency currency, Map<String, CartLine> lines, long subtotal, Instant updatedAt) {
+        this.id = Objects.requireNonNull(id, "id is required");
+        this.currency = currency;
+        this.lines = lines;
+        this.subtotal = subtotal;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Reconstruye un carrito guardado, sin cambios pendientes.
+     * @param id el identificador del carrito.
+     * @param currency la moneda del carrito.
+     * @param lines las líneas del carrito.
+     * @param subtotal el subtotal guardado, en unidades menores.
+     * @param updatedAt la fecha de la última modificación.
+     * @return el carrito.
+     */
+    public static Cart restore(String id, Currency currency, Collection<CartLine> lines, long subtotal, Instant updatedAt) {
+        Map<String, CartLine> byVariant = new LinkedHashMap<>();
+        lines.forEach(line -> byVariant.put(line.variantId(), line));
+        return new Cart(id, currency, byVariant, subtotal, updatedAt);
+    }
+
+    // --- Getters ---
+
+    public String getId() { return id; }
+    public Currency getCurrency() { return currency; }
+    public Collection<CartLine> getLines() { return Collections.unmodifiableCollection(lines.values()); }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public Set<String> getChangedLines() { return Collections.unmodifiableSet(changedLines); }
+    public Set<String> getRemovedLines() { return Collections.unmodifiableSet(removedLines); }
+    public long getSubtotalDelta() { return subtotalDelta; }
+
+    /**
+     * @return el subtotal de las líneas disponibles, o null si el carrito todavía no tiene moneda.
+     */
+    public MinorMoney getSubtotal() {
+        return currency == null ? null : new MinorMoney(subtotal, currency);
+    }
+
+    /**
+     * @return la cantidad total de unidades en el carrito.
+     */
+    public int getItemCount() {
+        return lines.values().stream().mapToInt(CartLine::quantity).sum();
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @param variantId el ID de la variante.
+     * @return la línea de la variante, si está en el carrito.
+     */
+    public Optional<CartLine> line(String variantId) {
+        return Optional.ofNullable(lines.get(variantId));
+    }
+
+    /**
+     * @return true si el carrito no tiene líneas.
+     */
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * @return true si hay cambios sin guardar.
+     */
+    public boolean isDirty() {
+        return !changedLines.isEmpty() || !removedLines.isEmpty();
+    }
+
+    /**
+     * Agrega o reemplaza la línea de una variante, ajustando el subtotal con la diferencia de su aporte.
+     * @param line la línea nueva.
+     * @param lineCurrency la moneda del precio de la línea.
+     * @param now el momento de la modificación.
+     * @throws IllegalArgumentException si la moneda no es la del carrito.
+     */
+    public void putLine(CartLine line, Currency lineCurrency, Instant now) {
+        checkCurrency(line.variantId(), lineCurrency);
+        if (currency == null) {
+            currency = lineCurrency;
+        }
+        CartLine previous = lines.put(line.variantId(), line);
+        if (line.equals(previous)) {
+            return;
+        }
+        adjustSubtotal(line.total() - (previous == null ? 0L : previous.total()));
+        changedLines.add(line.variantId());
+        removedLines.remove(line.variantId());
+        updatedAt = now;
+    }
+
+    /**
+     * Comprueba que una variante se pueda agregar al carrito sin mezclar monedas, sin modificarlo.
+     * @param variantId el ID de la variante.
+     * @param lineCurrency la moneda del precio de la variante.
+     * @throws IllegalArgumentException si el carrito ya tiene otra moneda.
+     */
+    public void checkCurrency(String variantId, Currency lineCurrency) {
+        if (currency != null && !currency.equals(lineCurrency)) {
+            throw new IllegalArgumentException(
+                    "Cart " + id + " is priced in " + currency + ", variant " + variantId + " in " + lineCurrency);
+        }
+    }
+
+    /**
+     * Quita la línea de una variante, descontando su aporte del subtotal.
+     * @param variantId el ID de la variante.
+     * @param now el momento de la modificación.
+     * @return true si la variante estaba en el carrito.
+     */
+    public boolean removeLine(String variantId, Instant now) {
+        CartLine previous = lines.remove(variantId);
+        if (previous == null) {
+            return false;
+        }
+        adjustSubtotal(-previous.total());
+        changedLines.remove(variantId);
+        removedLines.add(variantId);
+        updatedAt = now;
+        return true;
+    }
+
+    /**
+     * Descarta el registro de cambios después de guardarlos.
+     */
+    public void markPersisted() {
+        changedLines.clear();
+        removedLines.clear();
+        subtotalDelta = 0L;
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void adjustSubtotal(long delta) {
+        subtotal = Math.addExact(subtotal, delta);
+        subtotalDelta = Math.addExact(subtotalDelta, delta);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.cart.cart.domain.model;
+
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Línea de un carrito: una variante, la cantidad pedida y el precio con el que se valoró.
+ * El precio se guarda en unidades menores de la moneda del carrito, junto con la versión de la variante
+ * de la que se tomó y el momento de la valoración, para revalidar solo las líneas vencidas.
+ * @param variantId el ID de la variante.
+ * @param productId el ID del producto al que pertenece la variante.
+ * @param quantity la cantidad pedida.
+ * @param unitPrice el precio unitario en unidades menores.
+ * @param priceVersion la versión de la variante con la que se valoró la línea.
+ * @param available si la variante estaba disponible al valorar la línea.
+ * @param pricedAt el momento de la última valoración.
+ */
+public record CartLine(
+        String variantId,
+        String productId,
+        int quantity,
+        long unitPrice,
+        long priceVersion,
+        boolean available,
+        Instant pricedAt
+) {
+    /**
+     * Constructor canónico. Valida el ID y la cantidad.
+     */
+    public CartLine {
+        Objects.requireNonNull(variantId, "variantId is required");
+        Objects.requireNonNull(pricedAt, "pricedAt is required");
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+    }
+
+    /**
+     * Crea una línea valorada con una copia de la variante.
+     * @param snapshot la variante.
+     * @param quantity la cantidad pedida.
+     * @param now el momento de la valoración.
+     * @return la nueva línea.
+     */
+    public static CartLine of(VariantSnapshot snapshot, int quantity, Instant now) {
+        return new CartLine(snapshot.variantId(), snapshot.productId(), quantity,
+                snapshot.price().amount(), snapshot.version(), snapshot.available(), now);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @return el aporte de la línea al subtotal en unidades menores; 0 si la variante no está disponible.
+     * @throws ArithmeticException si el resultado desborda un {@code long}.
+     */
+    public long total() {
+        return available ? Math.multiplyExact(unitPrice, quantity) : 0L;
+    }
+
+    /**
+     * @param now el momento actual.
+     * @param ttl el tiempo durante el que una valoración se considera vigente.
+     * @return true si la línea debe revalidarse contra el catálogo.
+     */
+    public boolean isStale(Instant now, Duration ttl) {
+        return !pricedAt.plus(ttl).isAfter(now);
+    }
+
+    /**
+     * @param quantity la nueva cantidad.
+     * @return una copia de la línea con otra cantidad.
+     */
+    public CartLine withQuantity(int quantity) {
+        return new CartLine(variantId, productId, quantity, unitPrice, priceVersion, available, pricedAt);
+    }
+
+    /**
+     * @param snapshot la copia vigente de la variante.
+     * @param now el momento de la valoración.
+     * @return una copia de la línea valorada con la variante dada.
+     */
+    public CartLine repriced(VariantSnapshot snapshot, Instant now) {
+        return new CartLine(variantId, snapshot.productId(), quantity,
+                snapshot.price().amount(), snapshot.version(), snapshot.available(), now);
+    }
+
+    /**
+     * @param now el momento de la valoración.
+     * @return una copia de la línea marcada como no disponible (la variante ya no existe en el catálogo).
+     */
+    public CartLine unavailable(Instant now) {
+        return new CartLine(variantId, productId, quantity, unitPrice, priceVersion, false, now);
+    }
+}
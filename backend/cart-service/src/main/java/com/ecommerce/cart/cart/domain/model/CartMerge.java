@@ -0,0 +1,19 @@
+package com.ecommerce.cart.cart.domain.model;
+
+import java.util.Map;
+
+/**
+ * Resultado de fusionar un carrito en otro.
+ * @param merged false si el carrito de origen no existía (no había nada que fusionar).
+ * @param conflicts la cantidad de variantes que estaban en ambos carritos.
+ * @param lines la cantidad final, en el carrito de destino, de cada variante que aportó el carrito de origen.
+ */
+public record CartMerge(boolean merged, int conflicts, Map<String, Integer> lines) {
+
+    /**
+     * @return el resultado de una fusión sin carrito de origen.
+     */
+    public static CartMerge nothing() {
+        return new CartMerge(false, 0, Map.of());
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.cart.cart.domain.model;
+
+/**
+ * Regla con la que se resuelven las variantes que están a la vez en el carrito anónimo y en el del usuario
+ * al fusionarlos. En ambos casos el precio es el de la línea del carrito modificado más recientemente.
+ * - SUM: la línea queda con la suma de las cantidades.
+ * - LATEST: la línea queda con la cantidad del carrito modificado más recientemente.
+ */
+public enum MergeStrategy {
+    SUM,
+    LATEST
+}
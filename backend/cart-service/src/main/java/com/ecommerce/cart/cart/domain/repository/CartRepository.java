@@ -0,0 +1,64 @@
+package com.ecommerce.cart.cart.domain.repository;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartMerge;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de carritos.
+ */
+public interface CartRepository {
+    /**
+     * Busca un carrito por su ID.
+     * @param id el ID del carrito.
+     * @return el carrito, o vacío si no existe o expiró.
+     */
+    Optional<Cart> findById(String id);
+
+    /**
+     * Guarda los cambios pendientes del carrito (líneas modificadas o quitadas y la variación del subtotal)
+     * y renueva su expiración. Un carrito que quedó vacío se elimina.
+     * @param cart el carrito.
+     * @throws IllegalStateException si el carrito se guardó entretanto en otra moneda; no se modifica.
+     */
+    void save(Cart cart);
+
+    /**
+     * Elimina un carrito.
+     * @param id el ID del carrito.
+     */
+    void deleteById(String id);
+
+    /**
+     * Fusiona de forma atómica un carrito en otro y elimina el de origen. El subtotal del destino se ajusta con
+     * las líneas que cambian y su expiración se renueva.
+     * @param sourceId el ID del carrito de origen (anónimo).
+     * @param targetId el ID del carrito de destino (del usuario); se crea si no existe.
+     * @param strategy la regla para las variantes que están en ambos carritos.
+     * @param now el momento de la fusión.
+     * @return el resultado de la fusión.
+     * @throws IllegalStateException si los carritos tienen monedas distintas; ninguno se modifica.
+     */
+    CartMerge merge(String sourceId, String targetId, MergeStrategy strategy, Instant now);
+
+    /**
+     * Busca los carritos vencidos que todavía no se procesaron, usando el índice de vencimientos.
+     * @param now el momento actual.
+     * @param limit la cantidad máxima de carritos a devolver.
+     * @return los IDs de los carritos vencidos, del más antiguo al más reciente.
+     */
+    List<String> findExpiredIds(Instant now, int limit);
+
+    /**
+     * Reclama de forma atómica un carrito vencido: lo quita del índice de vencimientos y lo elimina, devolviendo
+     * su contenido. Si varias instancias lo intentan a la vez, solo una lo obtiene.
+     * @param id el ID del carrito.
+     * @param now el momento actual.
+     * @return el carrito, o vacío si no venció, ya se reclamó o ya no existe.
+     */
+    Optional<Cart> claimExpired(String id, Instant now);
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.cart.cart.infrastructure.messaging;
+
+import com.ecommerce.cart.cart.application.dto.event.CartAbandonedEventDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publica los eventos {@code CartAbandoned} por AMQP en lotes: cada mensaje lleva un arreglo JSON de hasta
+ * {@code cart.expiry.event-batch-size} eventos. Un lote se envía al llenarse o, con los que haya, cada
+ * {@code cart.expiry.amqp.flush-interval}. Si la publicación falla, los eventos del lote se pierden (son
+ * eventos de marketing, no afectan a los carritos).
+ */
+public class AbandonedCartPublisher implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AbandonedCartPublisher.class);
+    // --- Campos constantes ---
+    public static final String EVENT_TYPE_HEADER = "x-event-type";
+    // --- Dependencias ---
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    // --- Estado ---
+    private final String exchange;
+    private final String routingKey;
+    private final int batchSize;
+    private final boolean enabled;
+    private final ConcurrentLinkedQueue<CartAbandonedEventDTO> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Construye el publicador.
+     * @param rabbitTemplate el cliente AMQP.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param exchange el exchange de eventos de carritos.
+     * @param routingKey la clave de enrutamiento de los eventos de abandono.
+     * @param batchSize la cantidad máxima de eventos por mensaje.
+     * @param enabled si se publican los eventos; desactivado, se descartan.
+     */
+    public AbandonedCartPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, String exchange,
+                                  String routingKey, int batchSize, boolean enabled) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Encola un evento; si completa un lote, lo envía.
+     * @param event el evento.
+     */
+    public void publish(CartAbandonedEventDTO event) {
+        if (!enabled) {
+            log.debug("Carrito {} abandonado (publicación de eventos desactivada)", event.cartId());
+            return;
+        }
+        pending.add(event);
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Envía los eventos pendientes, en lotes de hasta {@code batchSize}.
+     */
+    @Scheduled(fixedDelayString = "${cart.expiry.amqp.flush-interval:PT5S}")
+    public void flush() {
+        List<CartAbandonedEventDTO> batch = new ArrayList<>(batchSize);
+        CartAbandonedEventDTO event;
+        while ((event = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                send(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void send(List<CartAbandonedEventDTO> batch) {
+        try {
+            rabbitTemplate.send(exchange, routingKey, MessageBuilder.withBody(objectMapper.writeValueAsBytes(batch))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .setHeader(EVENT_TYPE_HEADER, CartAbandonedEventDTO.TYPE)
+                    .build());
+            log.debug("Publicado un lote de {} eventos {}", batch.size(), CartAbandonedEventDTO.TYPE);
+        } catch (JsonProcessingException | AmqpException e) {
+            log.warn("No se pudo publicar un lote de {} eventos {}: {}", batch.size(), CartAbandonedEventDTO.TYPE,
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.cart.cart.infrastructure.messaging;
+
+import com.ecommerce.cart.cart.application.AbandonedCartService;
+import com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Consumidor de las notificaciones de expiración de claves de Redis ({@code __keyevent@*__:expired}).
+ * Solo atiende las claves de aviso de los carritos ({@code cart:{id}:expiry}) y procesa el vencimiento del carrito;
+ * las demás claves se ignoran. Requiere que el servidor publique los eventos de expiración
+ * ({@code notify-keyspace-events} con {@code Ex}).
+ */
+public class CartExpiryListener implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(CartExpiryListener.class);
+    // --- Campos constantes ---
+    public static final PatternTopic EXPIRED_KEYS = new PatternTopic("__keyevent@*__:expired");
+    // --- Dependencias ---
+    private final AbandonedCartService abandonedCarts;
+
+    /**
+     * Construye el consumidor.
+     * @param abandonedCarts el servicio que procesa los carritos vencidos.
+     */
+    public CartExpiryListener(AbandonedCartService abandonedCarts) {
+        this.abandonedCarts = abandonedCarts;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!key.startsWith(RedisCartRepository.KEY_PREFIX) || !key.endsWith(RedisCartRepository.EXPIRY_SUFFIX)) {
+            return;
+        }
+        String cartId = key.substring(RedisCartRepository.KEY_PREFIX.length(),
+                key.length() - RedisCartRepository.EXPIRY_SUFFIX.length());
+        try {
+            abandonedCarts.expire(cartId);
+        } catch (DataAccessException e) {
+            // El carrito sigue en el índice de vencimientos: lo procesará el barrido
+            log.warn("No se pudo procesar el vencimiento del carrito {}: {}", cartId, e.getMessage());
+        }
+    }
+}
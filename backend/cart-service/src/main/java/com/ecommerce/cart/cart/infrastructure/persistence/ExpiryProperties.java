@@ -0,0 +1,23 @@
+package com.ecommerce.cart.cart.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del vencimiento de carritos ({@code cart.expiry.*}).
+ * @param gracePeriod tiempo durante el que un carrito vencido se conserva en Redis para procesar su abandono.
+ * @param sweepBatchSize cantidad de carritos vencidos que el barrido reclama por lote.
+ * @param eventBatchSize cantidad máxima de eventos {@code CartAbandoned} por mensaje AMQP.
+ * @param keyspaceNotifications valor de {@code notify-keyspace-events} que se aplica al servidor al arrancar;
+ *                              vacío para no modificarlo.
+ */
+@ConfigurationProperties(prefix = "cart.expiry")
+public record ExpiryProperties(
+        @DefaultValue("10m") Duration gracePeriod,
+        @DefaultValue("500") int sweepBatchSize,
+        @DefaultValue("100") int eventBatchSize,
+        @DefaultValue("Ex") String keyspaceNotifications
+) {
+}
@@ -0,0 +1,227 @@
+package com.ecommerce.cart.cart.infrastructure.persistence;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.cart.domain.model.CartMerge;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementación de {@link CartRepository} sobre Redis. Cada carrito es un hash {@code cart:{id}} con los campos:
+ * - {@code currency}: código ISO de la moneda.
+ * - {@code subtotal}: subtotal en unidades menores, que se ajusta en Redis con la diferencia de cada línea.
+ * - {@code updatedAt}: fecha de la última modificación (epoch en milisegundos).
+ * - {@code line:{variantId}}: la línea de la variante en JSON.
+ * <p>
+ * Guardar un carrito es un script Lua ({@code scripts/cart/save.lua}) que escribe solo las líneas que cambiaron y
+ * ajusta el subtotal comparando cada una con la línea guardada en ese momento, no con la que se leyó antes: así dos
+ * escrituras concurrentes sobre el mismo carrito (dos pestañas, una revalidación durante un alta) no desfasan el
+ * subtotal de las líneas. El mismo script elimina el carrito si se queda sin líneas y renueva su expiración
+ * ({@code cart.ttl}). Al leer, el subtotal se recalcula igualmente desde las líneas. La expiración se
+ * registra en dos lugares, para que el carrito todavía se pueda leer cuando vence:
+ * - {@code cart:{id}:expiry}: clave de aviso que expira a los {@code cart.ttl}; su notificación de expiración
+ *   dispara el abandono del carrito. El hash vive un margen más ({@code cart.expiry.grace-period}).
+ * - {@code carts:expiries}: sorted set con el vencimiento de cada carrito, para encontrar los vencidos cuya
+ *   notificación se perdió sin recorrer las claves.
+ * Fusionar dos carritos es un script Lua ({@code scripts/cart/merge.lua}) que lee el origen, combina sus líneas
+ * con las del destino, ajusta el subtotal y elimina el origen en una sola ida y vuelta, sin carreras con otras
+ * pestañas que modifiquen los mismos carritos.
+ */
+@Repository
+public class RedisCartRepository implements CartRepository {
+    private static final Logger log = LoggerFactory.getLogger(RedisCartRepository.class);
+    // --- Campos constantes ---
+    public static final String KEY_PREFIX = "cart:";
+    public static final String LINE_PREFIX = "line:";
+    public static final String CURRENCY = "currency";
+    public static final String SUBTOTAL = "subtotal";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String EXPIRY_SUFFIX = ":expiry";
+    public static final String EXPIRIES = "carts:expiries";
+    private static final RedisScript<List> MERGE =
+            RedisScript.of(new ClassPathResource("scripts/cart/merge.lua"), List.class);
+    private static final RedisScript<Long> SAVE =
+            RedisScript.of(new ClassPathResource("scripts/cart/save.lua"), Long.class);
+    private static final RedisScript<List> CLAIM_EXPIRED =
+            RedisScript.of(new ClassPathResource("scripts/cart/claim-expired.lua"), List.class);
+    // --- Dependencias ---
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    // --- Estado ---
+    private final Duration ttl;
+    private final Duration gracePeriod;
+
+    /**
+     * Construye el repositorio.
+     * @param redis el cliente de Redis.
+     * @param objectMapper el mapper JSON de la aplicación, para las líneas.
+     * @param ttl el tiempo de inactividad tras el cual un carrito expira.
+     * @param gracePeriod el tiempo durante el que un carrito vencido se conserva para procesar su abandono.
+     */
+    public RedisCartRepository(StringRedisTemplate redis, ObjectMapper objectMapper,
+                               @Value("${cart.ttl:P7D}") Duration ttl,
+                               @Value("${cart.expiry.grace-period:PT10M}") Duration gracePeriod) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.gracePeriod = gracePeriod;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Optional<Cart> findById(String id) {
+        Map<Object, Object> hash = redis.opsForHash().entries(key(id));
+        return hash.isEmpty() ? Optional.empty() : Optional.of(toCart(id, hash));
+    }
+
+    @Override
+    public void save(Cart cart) {
+        if (!cart.isDirty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(cart.getCurrency().getCurrencyCode());
+        args.add(Long.toString(cart.getUpdatedAt().toEpochMilli()));
+        args.add(Long.toString(ttl.toMillis()));
+        args.add(Long.toString(gracePeriod.toMillis()));
+        args.add(cart.getId());
+        List<CartLine> changed = cart.getChangedLines().stream().map(cart::line).flatMap(Optional::stream).toList();
+        args.add(Integer.toString(changed.size()));
+        changed.forEach(line -> {
+            args.add(LINE_PREFIX + line.variantId());
+            args.add(writeLine(line));
+        });
+        cart.getRemovedLines().forEach(variantId -> args.add(LINE_PREFIX + variantId));
+        Long result = redis.execute(SAVE, List.of(key(cart.getId()), expiryKey(cart.getId()), EXPIRIES), args.toArray());
+        if (result != null && result == -1) {
+            throw new IllegalStateException("Cart " + cart.getId() + " was saved concurrently in another currency");
+        }
+        cart.markPersisted();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        redis.delete(List.of(key(id), expiryKey(id)));
+        redis.opsForZSet().remove(EXPIRIES, id);
+    }
+
+    @Override
+    public CartMerge merge(String sourceId, String targetId, MergeStrategy strategy, Instant now) {
+        List<?> result = redis.execute(MERGE,
+                List.of(key(sourceId), key(targetId), expiryKey(sourceId), expiryKey(targetId), EXPIRIES),
+                strategy.name(), Long.toString(now.toEpochMilli()), Long.toString(ttl.toMillis()),
+                Long.toString(gracePeriod.toMillis()), sourceId, targetId);
+        long conflicts = (Long) result.get(0);
+        if (conflicts == -2) {
+            return CartMerge.nothing();
+        }
+        if (conflicts == -1) {
+            throw new IllegalStateException("Carts " + sourceId + " and " + targetId + " are priced in different currencies");
+        }
+        Map<String, Integer> lines = new LinkedHashMap<>();
+        for (int i = 1; i < result.size(); i += 2) {
+            lines.put((String) result.get(i), ((Long) result.get(i + 1)).intValue());
+        }
+        return new CartMerge(true, (int) conflicts, lines);
+    }
+
+    @Override
+    public List<String> findExpiredIds(Instant now, int limit) {
+        Set<String> ids = redis.opsForZSet().rangeByScore(EXPIRIES, Double.NEGATIVE_INFINITY, now.toEpochMilli(), 0, limit);
+        return ids == null ? List.of() : List.copyOf(ids);
+    }
+
+    @Override
+    public Optional<Cart> claimExpired(String id, Instant now) {
+        List<?> entries = redis.execute(CLAIM_EXPIRED, List.of(EXPIRIES, key(id), expiryKey(id)),
+                id, Long.toString(now.toEpochMilli()));
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<Object, Object> hash = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            hash.put(entries.get(i), entries.get(i + 1));
+        }
+        return Optional.of(toCart(id, hash));
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * @param id el ID del carrito.
+     * @return la clave de Redis del carrito.
+     */
+    public static String key(String id) {
+        return KEY_PREFIX + id;
+    }
+
+    /**
+     * @param id el ID del carrito.
+     * @return la clave de aviso de expiración del carrito.
+     */
+    public static String expiryKey(String id) {
+        return key(id) + EXPIRY_SUFFIX;
+    }
+
+    private Cart toCart(String id, Map<Object, Object> hash) {
+        List<CartLine> lines = new ArrayList<>();
+        hash.forEach((field, value) -> {
+            if (((String) field).startsWith(LINE_PREFIX)) {
+                lines.add(readLine((String) value));
+            }
+        });
+        String currency = (String) hash.get(CURRENCY);
+        String updatedAt = (String) hash.get(UPDATED_AT);
+        long subtotal = 0L;
+        for (CartLine line : lines) {
+            subtotal = Math.addExact(subtotal, line.total());
+        }
+        String stored = (String) hash.get(SUBTOTAL);
+        if (stored != null && Long.parseLong(stored) != subtotal) {
+            log.warn("El subtotal guardado del carrito {} ({}) no coincide con sus líneas ({})", id, stored, subtotal);
+        }
+        return Cart.restore(id,
+                currency == null ? null : Currencies.of(currency),
+                lines,
+                subtotal,
+                updatedAt == null ? null : Instant.ofEpochMilli(Long.parseLong(updatedAt)));
+    }
+
+    private CartLine readLine(String json) {
+        try {
+            return objectMapper.readValue(json, CartLine.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Invalid cart line: " + json, e);
+        }
+    }
+
+    private String writeLine(CartLine line) {
+        try {
+            return objectMapper.writeValueAsString(line);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot serialize cart line " + line.variantId(), e);
+        }
+    }
+}
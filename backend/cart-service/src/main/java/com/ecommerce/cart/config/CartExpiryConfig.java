@@ -0,0 +1,85 @@
+package com.ecommerce.cart.config;
+
+import com.ecommerce.cart.cart.application.AbandonedCartService;
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.cart.infrastructure.messaging.AbandonedCartPublisher;
+import com.ecommerce.cart.cart.infrastructure.messaging.CartExpiryListener;
+import com.ecommerce.cart.cart.infrastructure.persistence.ExpiryProperties;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Configuración del vencimiento de carritos ({@code cart.expiry.*}): el procesamiento de los carritos abandonados,
+ * la suscripción a las notificaciones de expiración de Redis, el barrido periódico de respaldo y la publicación
+ * por lotes de los eventos {@code CartAbandoned} en el exchange {@code cart.expiry.amqp.exchange}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ExpiryProperties.class)
+public class CartExpiryConfig {
+    private static final Logger log = LoggerFactory.getLogger(CartExpiryConfig.class);
+
+    @Bean
+    public AbandonedCartPublisher abandonedCartPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper,
+                                                         ExpiryProperties properties,
+                                                         @Value("${cart.expiry.amqp.enabled:false}") boolean enabled,
+                                                         @Value("${cart.expiry.amqp.exchange:cart.events}") String exchange,
+                                                         @Value("${cart.expiry.amqp.routing-key:cart.abandoned}") String routingKey) {
+        return new AbandonedCartPublisher(rabbitTemplate, objectMapper, exchange, routingKey,
+                properties.eventBatchSize(), enabled);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cart.expiry.amqp", name = "enabled", havingValue = "true")
+    public TopicExchange cartEventsExchange(@Value("${cart.expiry.amqp.exchange:cart.events}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+
+    @Bean
+    public AbandonedCartService abandonedCartService(CartRepository repository, StockReservationService reservations,
+                                                     AbandonedCartPublisher publisher, CartMapper mapper, Clock clock,
+                                                     ExpiryProperties properties) {
+        return new AbandonedCartService(repository, reservations, publisher, mapper, clock, properties.sweepBatchSize());
+    }
+
+    /**
+     * Suscribe el consumidor de notificaciones de expiración. Si {@code cart.expiry.keyspace-notifications} no está
+     * vacío, se aplica al servidor con {@code CONFIG SET notify-keyspace-events}; en servicios gestionados que no
+     * permiten {@code CONFIG} debe configurarse en el servidor y dejarse vacío. Si no se puede aplicar, los carritos
+     * vencidos los procesa el barrido.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cart.expiry.notifications", name = "enabled", matchIfMissing = true)
+    public RedisMessageListenerContainer cartExpiryListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     AbandonedCartService abandonedCarts,
+                                                                     ExpiryProperties properties) {
+        if (!properties.keyspaceNotifications().isEmpty()) {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.serverCommands().setConfig("notify-keyspace-events", properties.keyspaceNotifications());
+            } catch (DataAccessException e) {
+                log.warn("No se pudieron activar las notificaciones de expiración de Redis: {}", e.getMessage());
+            }
+        }
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new CartExpiryListener(abandonedCarts), CartExpiryListener.EXPIRED_KEYS);
+        return container;
+    }
+}
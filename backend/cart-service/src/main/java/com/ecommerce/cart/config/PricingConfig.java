@@ -0,0 +1,65 @@
+package com.ecommerce.cart.config;
+
+import com.ecommerce.cart.pricing.application.CartPricingService;
+import com.ecommerce.cart.pricing.application.CatalogClient;
+import com.ecommerce.cart.pricing.application.VariantPriceCache;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.cart.pricing.infrastructure.catalog.HttpCatalogClient;
+import com.ecommerce.cart.pricing.infrastructure.catalog.PricingProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+
+/**
+ * Configuración de la valoración de carritos ({@code cart.pricing.*}): el cliente HTTP del catálogo,
+ * la caché local de precios de variantes (con métricas {@code cache.*} bajo el nombre {@code cart.variant-prices})
+ * y el servicio que revalida las líneas de los carritos.
+ */
+@Configuration
+@EnableConfigurationProperties(PricingProperties.class)
+public class PricingConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
+    @Bean
+    public CatalogClient catalogClient(RestClient.Builder builder, PricingProperties properties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(properties.requestTimeout())
+                .build());
+        requestFactory.setReadTimeout(properties.requestTimeout());
+        return new HttpCatalogClient(builder
+                .baseUrl(properties.catalogUrl())
+                .requestFactory(requestFactory)
+                .build(), properties.batchSize());
+    }
+
+    @Bean
+    public VariantPriceCache variantPriceCache(CatalogClient catalogClient, PricingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        Cache<String, VariantSnapshot> cache = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaxSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cart.variant-prices");
+        return new VariantPriceCache(cache, catalogClient);
+    }
+
+    @Bean
+    public CartPricingService cartPricingService(VariantPriceCache variantPriceCache, Clock clock,
+                                                 PricingProperties properties) {
+        return new CartPricingService(variantPriceCache, clock, properties.lineTtl());
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.cart.config;
+
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import com.ecommerce.cart.reservation.domain.repository.ReservationLedger;
+import com.ecommerce.cart.reservation.infrastructure.persistence.ReservationProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuración de las reservas de stock de los carritos ({@code cart.reservations.*}). Las reservas vencen con
+ * el mismo tiempo de inactividad que los carritos ({@code cart.ttl}).
+ */
+@Configuration
+@EnableConfigurationProperties(ReservationProperties.class)
+public class ReservationConfig {
+
+    @Bean
+    public StockReservationService stockReservationService(ReservationLedger ledger, Clock clock,
+                                                           ReservationProperties properties,
+                                                           @Value("${cart.ttl:P7D}") Duration cartTtl) {
+        return new StockReservationService(ledger, clock, cartTtl, properties.enabled());
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.cart.pricing.application;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Valora las líneas de los carritos con los precios del catálogo.
+ * <p>
+ * Leer un carrito no consulta el catálogo por cada línea: solo las líneas cuya valoración venció
+ * ({@code cart.pricing.line-ttl}) se revalidan, todas juntas con una consulta por lote a la caché local
+ * (y, para las variantes que falten en ella, al catálogo). Una línea solo se modifica si la versión de la variante
+ * cambió o dejó de existir, y el subtotal del carrito se ajusta con la diferencia.
+ */
+public class CartPricingService {
+    private static final Logger log = LoggerFactory.getLogger(CartPricingService.class);
+    // --- Dependencias ---
+    private final VariantPriceCache prices;
+    private final Clock clock;
+    // --- Estado ---
+    private final Duration lineTtl;
+
+    /**
+     * Construye el servicio.
+     * @param prices la caché de precios de las variantes.
+     * @param clock el reloj con el que se fechan las valoraciones.
+     * @param lineTtl el tiempo durante el que la valoración de una línea se considera vigente.
+     */
+    public CartPricingService(VariantPriceCache prices, Clock clock, Duration lineTtl) {
+        this.prices = prices;
+        this.clock = clock;
+        this.lineTtl = lineTtl;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @return el momento actual según el reloj del servicio.
+     */
+    public Instant now() {
+        return clock.instant();
+    }
+
+    /**
+     * Busca el precio vigente de una variante.
+     * @param variantId el ID de la variante.
+     * @return la variante.
+     * @throws ResourceNotFoundException si la variante no existe en el catálogo.
+     */
+    public VariantSnapshot quote(String variantId) {
+        return prices.get(variantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Variant", "ID", variantId));
+    }
+
+    /**
+     * Revalida con una sola consulta por lote las líneas del carrito cuya valoración venció.
+     * @param cart el carrito; sus líneas y su subtotal se actualizan en el lugar.
+     * @return los IDs de las variantes cuyo precio o disponibilidad cambió.
+     */
+    public List<String> revalidate(Cart cart) {
+        Instant now = clock.instant();
+        List<CartLine> stale = cart.getLines().stream()
+                .filter(line -> line.isStale(now, lineTtl))
+                .toList();
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+        Map<String, VariantSnapshot> snapshots = prices.getAll(stale.stream().map(CartLine::variantId).toList());
+        List<String> changed = new ArrayList<>();
+        for (CartLine line : stale) {
+            VariantSnapshot snapshot = snapshots.get(line.variantId());
+            // Una variante eliminada, o cuyo precio pasó a otra moneda, deja de sumar al subtotal del carrito
+            CartLine current = snapshot == null || !snapshot.price().currency().equals(cart.getCurrency())
+                    ? line.unavailable(now)
+                    : line.repriced(snapshot, now);
+            if (current.unitPrice() != line.unitPrice() || current.available() != line.available()) {
+                changed.add(line.variantId());
+            }
+            cart.putLine(current, cart.getCurrency(), now);
+        }
+        if (!changed.isEmpty()) {
+            log.debug("Carrito {}: {} de {} líneas revalidadas cambiaron de precio o disponibilidad",
+                    cart.getId(), changed.size(), stale.size());
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.cart.pricing.application;
+
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Puerto de consulta de variantes al servicio de catálogo.
+ */
+public interface CatalogClient {
+    /**
+     * Busca varias variantes en una sola consulta.
+     * @param variantIds los IDs de las variantes.
+     * @return las variantes encontradas, por ID; las que no existen no aparecen en el mapa.
+     */
+    Map<String, VariantSnapshot> findVariants(Collection<? extends String> variantIds);
+}
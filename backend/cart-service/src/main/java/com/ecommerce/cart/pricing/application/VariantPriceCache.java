@@ -0,0 +1,60 @@
+package com.ecommerce.cart.pricing.application;
+
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caché local de lectura directa (read-through) con el precio y la disponibilidad de las variantes del catálogo,
+ * por ID de variante. Cada entrada guarda la versión de la variante de la que se tomó, de modo que una notificación
+ * de cambio solo descarta las copias anteriores a esa versión.
+ * <p>
+ * Las variantes que faltan en la caché se piden al catálogo todas juntas, en una sola consulta por lote.
+ */
+public class VariantPriceCache {
+    // --- Dependencias ---
+    private final Cache<String, VariantSnapshot> cache;
+    private final CatalogClient catalogClient;
+
+    /**
+     * Construye la caché.
+     * @param cache la caché de Caffeine configurada (tamaño y expiración).
+     * @param catalogClient el cliente con el que se cargan las variantes que faltan.
+     */
+    public VariantPriceCache(Cache<String, VariantSnapshot> cache, CatalogClient catalogClient) {
+        this.cache = cache;
+        this.catalogClient = catalogClient;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @param variantId el ID de la variante.
+     * @return la variante, o vacío si no existe en el catálogo.
+     */
+    public Optional<VariantSnapshot> get(String variantId) {
+        return Optional.ofNullable(getAll(List.of(variantId)).get(variantId));
+    }
+
+    /**
+     * Devuelve las variantes pedidas, cargando las que faltan con una sola consulta al catálogo.
+     * @param variantIds los IDs de las variantes.
+     * @return las variantes encontradas, por ID; las que no existen no aparecen en el mapa.
+     */
+    public Map<String, VariantSnapshot> getAll(Collection<String> variantIds) {
+        return cache.getAll(variantIds, catalogClient::findVariants);
+    }
+
+    /**
+     * Descarta la copia de una variante si es anterior a la versión indicada.
+     * @param variantId el ID de la variante modificada.
+     * @param version la versión vigente de la variante.
+     */
+    public void evictOlderThan(String variantId, long version) {
+        cache.asMap().computeIfPresent(variantId, (id, snapshot) -> snapshot.version() < version ? null : snapshot);
+    }
+}
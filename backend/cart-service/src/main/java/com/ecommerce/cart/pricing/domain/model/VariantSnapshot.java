@@ -0,0 +1,40 @@
+package com.ecommerce.cart.pricing.domain.model;
+
+import com.ecommerce.libs.domain.vo.MinorMoney;
+
+import java.util.Objects;
+
+/**
+ * Copia local del precio y la disponibilidad de una variante del catálogo, con la versión de la variante
+ * de la que se tomó. La versión permite saber si una línea de carrito fue valorada con los datos vigentes.
+ * @param variantId el ID de la variante.
+ * @param productId el ID del producto al que pertenece la variante.
+ * @param price el precio unitario en unidades menores.
+ * @param stock las unidades en stock.
+ * @param available si la variante está disponible para la venta.
+ * @param version la versión de la variante en el catálogo.
+ */
+public record VariantSnapshot(
+        String variantId,
+        String productId,
+        MinorMoney price,
+        int stock,
+        boolean available,
+        long version
+) {
+    /**
+     * Constructor canónico. Valida que el ID y el precio no sean nulos.
+     */
+    public VariantSnapshot {
+        Objects.requireNonNull(variantId, "variantId is required");
+        Objects.requireNonNull(price, "price is required");
+    }
+
+    /**
+     * @param quantity la cantidad pedida.
+     * @return true si la variante está disponible y tiene stock suficiente para la cantidad pedida.
+     */
+    public boolean canFulfill(int quantity) {
+        return available && stock >= quantity;
+    }
+}
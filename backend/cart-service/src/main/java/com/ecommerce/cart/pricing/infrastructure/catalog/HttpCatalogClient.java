@@ -0,0 +1,89 @@
+package com.ecommerce.cart.pricing.infrastructure.catalog;
+
+import com.ecommerce.cart.pricing.application.CatalogClient;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación de {@link CatalogClient} sobre la API REST del catálogo ({@code POST /products/variants:batchGet}).
+ * Cada lote se resuelve con una sola petición (o varias, si supera el máximo de IDs por petición del catálogo)
+ * que pide solo los campos que usa la valoración de carritos.
+ */
+public class HttpCatalogClient implements CatalogClient {
+    private static final Logger log = LoggerFactory.getLogger(HttpCatalogClient.class);
+    // --- Campos constantes ---
+    private static final List<String> FIELDS = List.of("productId", "price", "stock", "available", "version");
+    // --- Dependencias ---
+    private final RestClient restClient;
+    // --- Estado ---
+    private final int batchSize;
+
+    /**
+     * Construye el cliente.
+     * @param restClient el cliente HTTP configurado con la URL base del catálogo.
+     * @param batchSize la cantidad máxima de IDs por petición.
+     */
+    public HttpCatalogClient(RestClient restClient, int batchSize) {
+        this.restClient = restClient;
+        this.batchSize = batchSize;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Map<String, VariantSnapshot> findVariants(Collection<? extends String> variantIds) {
+        List<String> ids = new ArrayList<>(variantIds);
+        Map<String, VariantSnapshot> found = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            BatchGetResponseDTO response = restClient.post()
+                    .uri("/products/variants:batchGet")
+                    .body(new BatchGetRequestDTO(ids.subList(from, Math.min(from + batchSize, ids.size())), FIELDS))
+                    .retrieve()
+                    .body(BatchGetResponseDTO.class);
+            if (response != null && response.variants() != null) {
+                response.variants().forEach(variant -> found.put(variant.id(), toSnapshot(variant)));
+            }
+        }
+        log.debug("Catálogo consultado: {} de {} variantes encontradas", found.size(), ids.size());
+        return found;
+    }
+
+    // --- Métodos auxiliares ---
+
+    static VariantSnapshot toSnapshot(CatalogVariantDTO variant) {
+        MinorMoney price = MinorMoney.ofMajor(variant.price().amount(), Currencies.of(variant.price().currencyCode()));
+        return new VariantSnapshot(variant.id(), variant.productId(), price,
+                variant.stock() == null ? 0 : variant.stock(),
+                Boolean.TRUE.equals(variant.available()),
+                variant.version() == null ? 0L : variant.version());
+    }
+
+    /**
+     * Cuerpo de la petición de consulta por lotes del catálogo.
+     */
+    record BatchGetRequestDTO(List<String> ids, List<String> fields) {
+    }
+
+    /**
+     * Respuesta de la consulta por lotes del catálogo.
+     */
+    record BatchGetResponseDTO(List<CatalogVariantDTO> variants, List<String> missingIds) {
+    }
+
+    /**
+     * Los campos de la respuesta de variante del catálogo que usa la valoración de carritos.
+     */
+    record CatalogVariantDTO(String id, String productId, MoneyDTO price, Integer stock, Boolean available, Long version) {
+    }
+}
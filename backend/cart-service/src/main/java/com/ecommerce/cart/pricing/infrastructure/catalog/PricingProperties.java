@@ -0,0 +1,27 @@
+package com.ecommerce.cart.pricing.infrastructure.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la valoración de carritos ({@code cart.pricing.*}).
+ * @param catalogUrl URL base de la API del servicio de catálogo.
+ * @param requestTimeout plazo máximo de cada consulta al catálogo.
+ * @param batchSize cantidad máxima de variantes por consulta al catálogo (el catálogo acepta hasta 500).
+ * @param cacheTtl tiempo durante el que se reutiliza la copia local de una variante.
+ * @param cacheMaxSize cantidad máxima de variantes en la caché local.
+ * @param lineTtl tiempo durante el que la valoración de una línea de carrito se considera vigente; pasado ese tiempo,
+ *                la línea se revalida al leer el carrito.
+ */
+@ConfigurationProperties(prefix = "cart.pricing")
+public record PricingProperties(
+        @DefaultValue("http://localhost:9000/api/v1") String catalogUrl,
+        @DefaultValue("2s") Duration requestTimeout,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("30s") Duration cacheTtl,
+        @DefaultValue("100000") long cacheMaxSize,
+        @DefaultValue("5m") Duration lineTtl
+) {
+}
@@ -0,0 +1,152 @@
+package com.ecommerce.cart.reservation.application;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.cart.reservation.domain.model.Reservation;
+import com.ecommerce.cart.reservation.domain.repository.ReservationLedger;
+import com.ecommerce.libs.application.dto.VariantStockDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Reserva el stock de las variantes que se agregan a los carritos, para no vender más unidades de las que hay
+ * cuando muchos clientes compran la misma variante a la vez.
+ * <p>
+ * Las reservas se llevan en un libro en Redis ({@link ReservationLedger}), no en el catálogo: reservar es una
+ * operación atómica en memoria, y el libro se concilia con el stock del catálogo a medida que este lo publica por
+ * AMQP. Si el libro todavía no conoce una variante, se inicializa con el stock de la copia con la que se valoró
+ * la línea. Cada reserva vence junto con el carrito ({@code cart.ttl}) y se renueva cada vez que el carrito cambia.
+ */
+public class StockReservationService {
+    private static final Logger log = LoggerFactory.getLogger(StockReservationService.class);
+    // --- Dependencias ---
+    private final ReservationLedger ledger;
+    private final Clock clock;
+    // --- Estado ---
+    private final Duration holdTtl;
+    private final boolean enabled;
+
+    /**
+     * Construye el servicio.
+     * @param ledger el libro de reservas.
+     * @param clock el reloj con el que se fechan las reservas.
+     * @param holdTtl el tiempo durante el que se mantiene una reserva (el de expiración de los carritos).
+     * @param enabled si se reservan unidades; desactivado, las operaciones no hacen nada.
+     */
+    public StockReservationService(ReservationLedger ledger, Clock clock, Duration holdTtl, boolean enabled) {
+        this.ledger = ledger;
+        this.clock = clock;
+        this.holdTtl = holdTtl;
+        this.enabled = enabled;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Reserva para un carrito la cantidad total de una variante, reemplazando la reserva anterior del carrito.
+     * @param cartId el ID del carrito.
+     * @param snapshot la variante, con el stock del catálogo con el que se inicializa el libro si no la conoce.
+     * @param quantity la cantidad total de la línea.
+     * @throws IllegalStateException si no hay unidades libres suficientes.
+     */
+    public void reserve(String cartId, VariantSnapshot snapshot, int quantity) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        Reservation reservation = ledger.reserve(snapshot.variantId(), cartId, quantity, now, now.plus(holdTtl));
+        if (reservation.status() == Reservation.Status.UNKNOWN_STOCK) {
+            ledger.updateStock(snapshot.variantId(), sellable(snapshot.stock(), snapshot.available()), snapshot.version());
+            reservation = ledger.reserve(snapshot.variantId(), cartId, quantity, now, now.plus(holdTtl));
+        }
+        if (!reservation.isReserved()) {
+            throw new IllegalStateException("Variant " + snapshot.variantId() + " cannot reserve " + quantity
+                    + " units (free: " + Math.max(reservation.free(), 0) + ")");
+        }
+    }
+
+    /**
+     * Libera la reserva de un carrito sobre una variante.
+     * @param cartId el ID del carrito.
+     * @param variantId el ID de la variante.
+     */
+    public void release(String cartId, String variantId) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        ledger.reserve(variantId, cartId, 0, now, now);
+    }
+
+    /**
+     * Libera todas las reservas de un carrito.
+     * @param cart el carrito.
+     */
+    public void releaseAll(Cart cart) {
+        cart.getLines().forEach(line -> release(cart.getId(), line.variantId()));
+    }
+
+    /**
+     * Traspasa a un carrito las reservas de otro que se fusionó en él. Si la suma de las cantidades supera las unidades
+     * libres, la reserva se limita a las que haya; la línea conserva su cantidad y se vuelve a reservar al modificarla.
+     * @param fromCartId el ID del carrito fusionado.
+     * @param toCartId el ID del carrito que lo recibió.
+     * @param lines la cantidad final de cada variante que aportó el carrito fusionado.
+     */
+    public void transfer(String fromCartId, String toCartId, Map<String, Integer> lines) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        lines.forEach((variantId, quantity) -> {
+            OptionalLong granted = ledger.transfer(variantId, fromCartId, toCartId, quantity, now, now.plus(holdTtl));
+            if (granted.isPresent() && granted.getAsLong() < quantity) {
+                log.warn("Carrito {}: solo {} de {} unidades de la variante {} quedaron reservadas tras la fusión",
+                        toCartId, granted.getAsLong(), quantity, variantId);
+            }
+        });
+    }
+
+    /**
+     * Extiende el vencimiento de todas las reservas de un carrito, que acaba de renovar su propia expiración.
+     * @param cart el carrito.
+     */
+    public void renew(Cart cart) {
+        if (!enabled || cart.isEmpty()) {
+            return;
+        }
+        ledger.renew(cart.getId(), cart.getLines().stream().map(CartLine::variantId).toList(),
+                clock.instant().plus(holdTtl));
+    }
+
+    /**
+     * Concilia el libro con el stock publicado por el catálogo. Las publicaciones más viejas que la ya aplicada
+     * se ignoran. Si el stock nuevo queda por debajo de lo reservado, las reservas existentes se conservan y no se
+     * aceptan nuevas hasta que se liberen o venzan.
+     * @param stock el stock publicado.
+     */
+    public void applyStockLevel(VariantStockDTO stock) {
+        int sellable = sellable(stock.stock(), !Boolean.FALSE.equals(stock.available()));
+        OptionalLong reserved = ledger.updateStock(stock.variantId(), sellable, stock.version());
+        if (reserved.isPresent() && reserved.getAsLong() > sellable) {
+            log.warn("Variante {}: {} unidades reservadas superan el stock del catálogo ({})",
+                    stock.variantId(), reserved.getAsLong(), sellable);
+        }
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Una variante no disponible no tiene unidades vendibles, aunque tenga stock.
+     */
+    private static int sellable(int stock, boolean available) {
+        return available ? stock : 0;
+    }
+}
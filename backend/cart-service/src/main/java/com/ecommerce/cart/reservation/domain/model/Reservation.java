@@ -0,0 +1,28 @@
+package com.ecommerce.cart.reservation.domain.model;
+
+/**
+ * Resultado de reservar las unidades de una variante para un carrito.
+ * @param status el resultado de la operación.
+ * @param free las unidades libres tras la reserva, o las que el carrito podría reservar si no alcanzó el stock.
+ */
+public record Reservation(Status status, long free) {
+
+    /**
+     * Resultados posibles de una reserva.
+     * - RESERVED: las unidades quedaron reservadas.
+     * - INSUFFICIENT_STOCK: no hay unidades libres suficientes; la reserva anterior del carrito se conserva.
+     * - UNKNOWN_STOCK: el libro todavía no conoce el stock de la variante.
+     */
+    public enum Status {
+        RESERVED,
+        INSUFFICIENT_STOCK,
+        UNKNOWN_STOCK
+    }
+
+    /**
+     * @return true si las unidades quedaron reservadas.
+     */
+    public boolean isReserved() {
+        return status == Status.RESERVED;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.cart.reservation.domain.repository;
+
+import com.ecommerce.cart.reservation.domain.model.Reservation;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.OptionalLong;
+
+/**
+ * Libro de reservas de stock: por cada variante, el stock conocido del catálogo, las unidades reservadas
+ * y la reserva de cada carrito con su vencimiento.
+ */
+public interface ReservationLedger {
+    /**
+     * Reserva de forma atómica la cantidad total de una variante para un carrito, reemplazando la reserva anterior
+     * del carrito, solo si el stock libre (sin contar esa reserva anterior) alcanza.
+     * @param variantId el ID de la variante.
+     * @param cartId el ID del carrito.
+     * @param quantity la cantidad total a reservar; 0 libera la reserva.
+     * @param now el momento actual, para descartar las reservas vencidas.
+     * @param expiresAt el vencimiento de la reserva.
+     * @return el resultado de la reserva.
+     */
+    Reservation reserve(String variantId, String cartId, int quantity, Instant now, Instant expiresAt);
+
+    /**
+     * Traspasa de forma atómica la reserva de un carrito sobre una variante a otro carrito, que queda con la cantidad
+     * pedida o, si no alcanzan, con las unidades libres (contando las reservas de ambos carritos).
+     * @param variantId el ID de la variante.
+     * @param fromCartId el ID del carrito que pierde la reserva.
+     * @param toCartId el ID del carrito que recibe la reserva.
+     * @param quantity la cantidad total a reservar para el carrito de destino.
+     * @param now el momento actual, para descartar las reservas vencidas.
+     * @param expiresAt el vencimiento de la reserva.
+     * @return las unidades reservadas para el carrito de destino, o vacío si el libro no conoce el stock.
+     */
+    OptionalLong transfer(String variantId, String fromCartId, String toCartId, int quantity, Instant now,
+                          Instant expiresAt);
+
+    /**
+     * Extiende el vencimiento de las reservas que un carrito tiene sobre las variantes dadas.
+     * Las variantes sin reserva del carrito se ignoran.
+     * @param cartId el ID del carrito.
+     * @param variantIds los IDs de las variantes.
+     * @param expiresAt el nuevo vencimiento.
+     */
+    void renew(String cartId, Collection<String> variantIds, Instant expiresAt);
+
+    /**
+     * Aplica el stock de una variante publicado por el catálogo, si es más nuevo que el conocido.
+     * @param variantId el ID de la variante.
+     * @param stock las unidades vendibles.
+     * @param version la versión de la variante.
+     * @return las unidades reservadas de la variante, o vacío si el libro ya tenía una versión igual o más nueva.
+     */
+    OptionalLong updateStock(String variantId, int stock, long version);
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.cart.reservation.infrastructure.messaging;
+
+import com.ecommerce.cart.pricing.application.VariantPriceCache;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import com.ecommerce.libs.application.dto.VariantStockDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Consumidor AMQP de las publicaciones de stock del catálogo (formato {@link VariantStockDTO}), con las que se
+ * concilia el libro de reservas. Como el catálogo publica cada variante guardada, también se descarta de la caché de
+ * precios la copia de la variante si es anterior a la versión publicada. La cola del carrito se enlaza al exchange fanout del catálogo
+ * ({@code cart.reservations.amqp.exchange}). Solo se registra si {@code cart.reservations.amqp.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cart.reservations.amqp", name = "enabled", havingValue = "true")
+public class StockLevelListener {
+    private static final Logger log = LoggerFactory.getLogger(StockLevelListener.class);
+    // --- Dependencias ---
+    private final StockReservationService reservations;
+    private final VariantPriceCache variantPrices;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construye el consumidor de stock.
+     * @param reservations el servicio de reservas cuyo libro se concilia.
+     * @param variantPrices la caché de precios de variantes.
+     * @param objectMapper el mapper JSON de la aplicación.
+     */
+    public StockLevelListener(StockReservationService reservations, VariantPriceCache variantPrices,
+                              ObjectMapper objectMapper) {
+        this.reservations = reservations;
+        this.variantPrices = variantPrices;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Procesa una publicación de stock. Los mensajes inválidos se descartan sin reencolar.
+     * @param message el mensaje AMQP con el cuerpo JSON del stock.
+     */
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue("${cart.reservations.amqp.queue:cart.stock-levels}"),
+            exchange = @Exchange(value = "${cart.reservations.amqp.exchange:catalog.stock}", type = ExchangeTypes.FANOUT)))
+    public void onStockLevel(Message message) {
+        VariantStockDTO stock;
+        try {
+            stock = objectMapper.readValue(message.getBody(), VariantStockDTO.class);
+        } catch (IOException e) {
+            log.warn("Mensaje de stock inválido descartado: {}", e.getMessage());
+            throw new AmqpRejectAndDontRequeueException("Invalid stock message", e);
+        }
+        if (stock.variantId() == null || stock.stock() == null || stock.version() == null) {
+            log.warn("Mensaje de stock incompleto descartado: {}", stock);
+            throw new AmqpRejectAndDontRequeueException("Incomplete stock message");
+        }
+        variantPrices.evictOlderThan(stock.variantId(), stock.version());
+        reservations.applyStockLevel(stock);
+    }
+}
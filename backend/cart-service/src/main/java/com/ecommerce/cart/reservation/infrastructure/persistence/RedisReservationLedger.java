@@ -0,0 +1,111 @@
+package com.ecommerce.cart.reservation.infrastructure.persistence;
+
+import com.ecommerce.cart.reservation.domain.model.Reservation;
+import com.ecommerce.cart.reservation.domain.repository.ReservationLedger;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Implementación de {@link ReservationLedger} sobre Redis. Cada variante tiene dos claves con la misma hash tag
+ * (y, por lo tanto, el mismo slot en un clúster):
+ * - {@code reservation:{variantId}}: hash con {@code stock} y {@code version} (los del catálogo), {@code reserved}
+ *   (la suma de las reservas) y {@code hold:{cartId}} (la reserva de cada carrito).
+ * - {@code reservation:{variantId}:expiries}: sorted set con el vencimiento de cada reserva.
+ * <p>
+ * Reservar es un script Lua que purga las reservas vencidas, comprueba el stock libre y reserva en una sola
+ * operación atómica, sin bloqueos ni rondas adicionales.
+ */
+@Repository
+public class RedisReservationLedger implements ReservationLedger {
+    // --- Campos constantes ---
+    public static final String KEY_PREFIX = "reservation:";
+    private static final RedisScript<List> RESERVE =
+            RedisScript.of(new ClassPathResource("scripts/reservation/reserve.lua"), List.class);
+    private static final RedisScript<Long> TRANSFER =
+            RedisScript.of(new ClassPathResource("scripts/reservation/transfer.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_STOCK =
+            RedisScript.of(new ClassPathResource("scripts/reservation/update-stock.lua"), Long.class);
+    // --- Dependencias ---
+    private final StringRedisTemplate redis;
+    // --- Estado ---
+    private final int purgeBatchSize;
+
+    /**
+     * Construye el libro de reservas.
+     * @param redis el cliente de Redis.
+     * @param properties la configuración de las reservas.
+     */
+    public RedisReservationLedger(StringRedisTemplate redis, ReservationProperties properties) {
+        this.redis = redis;
+        this.purgeBatchSize = properties.purgeBatchSize();
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Reservation reserve(String variantId, String cartId, int quantity, Instant now, Instant expiresAt) {
+        List<?> result = redis.execute(RESERVE, List.of(key(variantId), expiriesKey(variantId)),
+                cartId, Integer.toString(quantity), Long.toString(now.toEpochMilli()),
+                Long.toString(expiresAt.toEpochMilli()), Integer.toString(purgeBatchSize));
+        long status = (Long) result.get(0);
+        long free = (Long) result.get(1);
+        return new Reservation(status == 1 ? Reservation.Status.RESERVED
+                : status == 0 ? Reservation.Status.INSUFFICIENT_STOCK
+                : Reservation.Status.UNKNOWN_STOCK, free);
+    }
+
+    @Override
+    public OptionalLong transfer(String variantId, String fromCartId, String toCartId, int quantity, Instant now,
+                                 Instant expiresAt) {
+        Long granted = redis.execute(TRANSFER, List.of(key(variantId), expiriesKey(variantId)),
+                fromCartId, toCartId, Integer.toString(quantity), Long.toString(now.toEpochMilli()),
+                Long.toString(expiresAt.toEpochMilli()), Integer.toString(purgeBatchSize));
+        return granted == null || granted < 0 ? OptionalLong.empty() : OptionalLong.of(granted);
+    }
+
+    @Override
+    public void renew(String cartId, Collection<String> variantIds, Instant expiresAt) {
+        if (variantIds.isEmpty()) {
+            return;
+        }
+        byte[] member = cartId.getBytes(StandardCharsets.UTF_8);
+        double score = expiresAt.toEpochMilli();
+        // ZADD XX: solo se actualizan las reservas que existen
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            variantIds.forEach(variantId -> connection.zSetCommands().zAdd(
+                    expiriesKey(variantId).getBytes(StandardCharsets.UTF_8), score, member, ZAddArgs.ifExists()));
+            return null;
+        });
+    }
+
+    @Override
+    public OptionalLong updateStock(String variantId, int stock, long version) {
+        Long reserved = redis.execute(UPDATE_STOCK, List.of(key(variantId)),
+                Integer.toString(stock), Long.toString(version));
+        return reserved == null || reserved < 0 ? OptionalLong.empty() : OptionalLong.of(reserved);
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * @param variantId el ID de la variante.
+     * @return la clave del libro de la variante.
+     */
+    public static String key(String variantId) {
+        return KEY_PREFIX + "{" + variantId + "}";
+    }
+
+    private static String expiriesKey(String variantId) {
+        return key(variantId) + ":expiries";
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.cart.reservation.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de las reservas de stock de los carritos ({@code cart.reservations.*}).
+ * Las reservas vencen junto con el carrito que las tiene ({@code cart.ttl}).
+ * @param enabled si agregar unidades a un carrito las reserva; desactivado, solo se valida el stock del catálogo.
+ * @param purgeBatchSize cantidad máxima de reservas vencidas de una variante que se liberan en cada reserva.
+ */
+@ConfigurationProperties(prefix = "cart.reservations")
+public record ReservationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int purgeBatchSize
+) {
+}
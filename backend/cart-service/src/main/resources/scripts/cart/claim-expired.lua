@@ -0,0 +1,13 @@
+-- Reclama un carrito vencido para procesar su abandono: lo quita del índice de vencimientos, lee su contenido y lo
+-- elimina. Solo una de las instancias que reciben la notificación (o lo encuentran en el índice) lo obtiene.
+-- KEYS[1]: índice de vencimientos; KEYS[2]: hash del carrito; KEYS[3]: clave de aviso de expiración
+-- ARGV[1]: cartId; ARGV[2]: ahora (epoch ms)
+-- Devuelve el contenido del carrito (como HGETALL), o una lista vacía si no venció, ya se reclamó o ya no existe.
+local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not expiresAt or tonumber(expiresAt) > tonumber(ARGV[2]) then
+  return {}
+end
+redis.call('ZREM', KEYS[1], ARGV[1])
+local cart = redis.call('HGETALL', KEYS[2])
+redis.call('DEL', KEYS[2], KEYS[3])
+return cart
@@ -0,0 +1,74 @@
+-- Fusiona un carrito de origen (anónimo) en el carrito de destino (del usuario) y elimina el origen.
+-- Los carritos son hashes con currency, subtotal (unidades menores), updatedAt (epoch ms) y line:{variantId} (JSON).
+-- KEYS[1]: carrito de origen; KEYS[2]: carrito de destino;
+-- KEYS[3] y KEYS[4]: claves de aviso de expiración del origen y del destino; KEYS[5]: índice de vencimientos
+-- ARGV[1]: regla para las variantes que están en ambos carritos:
+--          SUM suma las cantidades; LATEST conserva la línea del carrito modificado más recientemente.
+--          En ambos casos el precio es el de la línea del carrito más reciente.
+-- ARGV[2]: ahora (epoch ms); ARGV[3]: expiración del carrito de destino (ms); ARGV[4]: margen de conservación
+-- del carrito vencido (ms); ARGV[5] y ARGV[6]: IDs de los carritos de origen y de destino
+-- Devuelve {-1} si los carritos tienen monedas distintas (no se modifica nada), {-2} si el origen no existe,
+-- o {conflictos, variantId1, cantidad1, variantId2, cantidad2, ...} con las líneas que aportó el origen.
+local source, target = KEYS[1], KEYS[2]
+local strategy = ARGV[1]
+
+local entries = redis.call('HGETALL', source)
+if #entries == 0 then
+  return {-2}
+end
+local fields = {}
+for i = 1, #entries, 2 do
+  fields[entries[i]] = entries[i + 1]
+end
+
+local currency = redis.call('HGET', target, 'currency')
+if currency and fields['currency'] and currency ~= fields['currency'] then
+  return {-1}
+end
+local sourceIsNewer = tonumber(fields['updatedAt'] or '0') > tonumber(redis.call('HGET', target, 'updatedAt') or '0')
+local subtotal = tonumber(redis.call('HGET', target, 'subtotal') or '0')
+
+local function total(line)
+  if line.available then
+    return line.unitPrice * line.quantity
+  end
+  return 0
+end
+
+local result = {0}
+for field, incoming in pairs(fields) do
+  if string.sub(field, 1, 5) == 'line:' then
+    local merged = incoming
+    local existing = redis.call('HGET', target, field)
+    if existing then
+      result[1] = result[1] + 1
+      local existingLine = cjson.decode(existing)
+      subtotal = subtotal - total(existingLine)
+      local newest = sourceIsNewer and incoming or existing
+      if strategy == 'SUM' then
+        -- Se decodifica la línea más reciente, se cambia su cantidad y se vuelve a codificar. Los importes y las
+        -- versiones son enteros, que cjson escribe sin pérdida hasta 14 cifras
+        local line = cjson.decode(newest)
+        line.quantity = cjson.decode(incoming).quantity + existingLine.quantity
+        merged = cjson.encode(line)
+      else
+        merged = newest
+      end
+    end
+    local line = cjson.decode(merged)
+    subtotal = subtotal + total(line)
+    redis.call('HSET', target, field, merged)
+    table.insert(result, string.sub(field, 6))
+    table.insert(result, line.quantity)
+  end
+end
+
+redis.call('HSET', target, 'currency', currency or fields['currency'],
+    'subtotal', string.format('%.0f', subtotal), 'updatedAt', ARGV[2])
+local ttl = tonumber(ARGV[3])
+redis.call('PEXPIRE', target, string.format('%.0f', ttl + tonumber(ARGV[4])))
+redis.call('SET', KEYS[4], '', 'PX', ARGV[3])
+redis.call('ZADD', KEYS[5], string.format('%.0f', tonumber(ARGV[2]) + ttl), ARGV[6])
+redis.call('DEL', source, KEYS[3])
+redis.call('ZREM', KEYS[5], ARGV[5])
+return result
@@ -0,0 +1,61 @@
+-- Guarda los cambios de un carrito: escribe las líneas modificadas, borra las quitadas y ajusta el subtotal con la
+-- diferencia entre cada línea nueva y la que estaba guardada, leída aquí mismo, para que dos escrituras concurrentes
+-- sobre el mismo carrito (otra pestaña, una revalidación) no desfasen el subtotal de las líneas.
+-- Los carritos son hashes con currency, subtotal (unidades menores), updatedAt (epoch ms) y line:{variantId} (JSON).
+-- KEYS[1]: carrito; KEYS[2]: clave de aviso de expiración; KEYS[3]: índice de vencimientos
+-- ARGV[1]: moneda; ARGV[2]: updatedAt (epoch ms); ARGV[3]: expiración del carrito (ms);
+-- ARGV[4]: margen de conservación del carrito vencido (ms); ARGV[5]: ID del carrito;
+-- ARGV[6]: cantidad n de líneas modificadas; ARGV[7 .. 6 + 2n]: pares campo, línea (JSON); el resto: campos a borrar
+-- Devuelve -1 si el carrito guardado tiene otra moneda (no se modifica nada), 0 si quedó sin líneas y se eliminó,
+-- o 1 si se guardó.
+local cart = KEYS[1]
+
+local currency = redis.call('HGET', cart, 'currency')
+if currency and currency ~= ARGV[1] then
+  return -1
+end
+
+local function total(json)
+  if not json then
+    return 0
+  end
+  local line = cjson.decode(json)
+  if line.available then
+    return line.unitPrice * line.quantity
+  end
+  return 0
+end
+
+local subtotal = tonumber(redis.call('HGET', cart, 'subtotal') or '0')
+local changed = tonumber(ARGV[6])
+for i = 7, 6 + 2 * changed, 2 do
+  subtotal = subtotal - total(redis.call('HGET', cart, ARGV[i])) + total(ARGV[i + 1])
+  redis.call('HSET', cart, ARGV[i], ARGV[i + 1])
+end
+for i = 7 + 2 * changed, #ARGV do
+  local existing = redis.call('HGET', cart, ARGV[i])
+  if existing then
+    subtotal = subtotal - total(existing)
+    redis.call('HDEL', cart, ARGV[i])
+  end
+end
+
+local empty = true
+for _, field in ipairs(redis.call('HKEYS', cart)) do
+  if string.sub(field, 1, 5) == 'line:' then
+    empty = false
+    break
+  end
+end
+if empty then
+  redis.call('DEL', cart, KEYS[2])
+  redis.call('ZREM', KEYS[3], ARGV[5])
+  return 0
+end
+
+redis.call('HSET', cart, 'currency', ARGV[1], 'subtotal', string.format('%.0f', subtotal), 'updatedAt', ARGV[2])
+local ttl = tonumber(ARGV[3])
+redis.call('PEXPIRE', cart, string.format('%.0f', ttl + tonumber(ARGV[4])))
+redis.call('SET', KEYS[2], '', 'PX', ARGV[3])
+redis.call('ZADD', KEYS[3], string.format('%.0f', tonumber(ARGV[2]) + ttl), ARGV[5])
+return 1
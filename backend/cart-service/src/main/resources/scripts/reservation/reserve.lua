@@ -0,0 +1,43 @@
+-- Reserva (o ajusta, o libera con cantidad 0) las unidades de una variante para un carrito, si hay stock libre.
+-- KEYS[1]: hash del libro de la variante: stock, version, reserved (suma de las reservas) y hold:{cartId}
+-- KEYS[2]: sorted set con el vencimiento de cada reserva (miembro: cartId, puntaje: epoch en milisegundos)
+-- ARGV[1]: cartId; ARGV[2]: cantidad total a reservar para el carrito; ARGV[3]: ahora (epoch ms);
+-- ARGV[4]: vencimiento de la reserva (epoch ms); ARGV[5]: máximo de reservas vencidas a purgar en esta llamada
+-- Devuelve {estado, libres}: 1 reservado (libres tras la reserva), 0 sin stock suficiente (libres para el carrito),
+-- -1 stock desconocido (el libro todavía no recibió el stock del catálogo).
+local ledger, expiries = KEYS[1], KEYS[2]
+local cart, requested = ARGV[1], tonumber(ARGV[2])
+
+-- Las reservas vencidas se purgan de a poco en cada llamada, sin recorrer todo el libro
+local expired = redis.call('ZRANGEBYSCORE', expiries, '-inf', ARGV[3], 'LIMIT', 0, tonumber(ARGV[5]))
+for _, holder in ipairs(expired) do
+  local held = tonumber(redis.call('HGET', ledger, 'hold:' .. holder) or '0')
+  redis.call('HDEL', ledger, 'hold:' .. holder)
+  redis.call('HINCRBY', ledger, 'reserved', -held)
+  redis.call('ZREM', expiries, holder)
+end
+
+local stock = redis.call('HGET', ledger, 'stock')
+local reserved = tonumber(redis.call('HGET', ledger, 'reserved') or '0')
+local current = tonumber(redis.call('HGET', ledger, 'hold:' .. cart) or '0')
+
+if requested == 0 then
+  if current > 0 then
+    redis.call('HDEL', ledger, 'hold:' .. cart)
+    redis.call('HINCRBY', ledger, 'reserved', -current)
+  end
+  redis.call('ZREM', expiries, cart)
+  return {1, stock and (tonumber(stock) - reserved + current) or 0}
+end
+
+if not stock then
+  return {-1, 0}
+end
+local free = tonumber(stock) - reserved + current
+if requested > free then
+  return {0, free}
+end
+redis.call('HSET', ledger, 'hold:' .. cart, requested)
+redis.call('HINCRBY', ledger, 'reserved', requested - current)
+redis.call('ZADD', expiries, ARGV[4], cart)
+return {1, free - requested}
@@ -0,0 +1,39 @@
+-- Traspasa la reserva de una variante de un carrito a otro (fusión de carritos): el carrito de destino queda con
+-- la cantidad pedida, o con las unidades libres si no alcanzan, y el de origen sin reserva.
+-- KEYS[1]: hash del libro de la variante; KEYS[2]: sorted set con el vencimiento de cada reserva
+-- ARGV[1]: cartId de origen; ARGV[2]: cartId de destino; ARGV[3]: cantidad total a reservar para el destino;
+-- ARGV[4]: ahora (epoch ms); ARGV[5]: vencimiento de la reserva (epoch ms);
+-- ARGV[6]: máximo de reservas vencidas a purgar en esta llamada
+-- Devuelve las unidades reservadas para el destino, o -1 si el libro no conoce el stock de la variante.
+local ledger, expiries = KEYS[1], KEYS[2]
+local from, to, requested = ARGV[1], ARGV[2], tonumber(ARGV[3])
+
+local expired = redis.call('ZRANGEBYSCORE', expiries, '-inf', ARGV[4], 'LIMIT', 0, tonumber(ARGV[6]))
+for _, holder in ipairs(expired) do
+  local held = tonumber(redis.call('HGET', ledger, 'hold:' .. holder) or '0')
+  redis.call('HDEL', ledger, 'hold:' .. holder)
+  redis.call('HINCRBY', ledger, 'reserved', -held)
+  redis.call('ZREM', expiries, holder)
+end
+
+local stock = redis.call('HGET', ledger, 'stock')
+if not stock then
+  return -1
+end
+local reserved = tonumber(redis.call('HGET', ledger, 'reserved') or '0')
+local fromHeld = tonumber(redis.call('HGET', ledger, 'hold:' .. from) or '0')
+local toHeld = tonumber(redis.call('HGET', ledger, 'hold:' .. to) or '0')
+local free = tonumber(stock) - reserved + fromHeld + toHeld
+local granted = math.max(math.min(requested, free), 0)
+
+redis.call('HDEL', ledger, 'hold:' .. from)
+redis.call('ZREM', expiries, from)
+if granted > 0 then
+  redis.call('HSET', ledger, 'hold:' .. to, granted)
+  redis.call('ZADD', expiries, ARGV[5], to)
+else
+  redis.call('HDEL', ledger, 'hold:' .. to)
+  redis.call('ZREM', expiries, to)
+end
+redis.call('HINCRBY', ledger, 'reserved', granted - fromHeld - toHeld)
+return granted
@@ -0,0 +1,10 @@
+-- Aplica el stock de una variante publicado por el catálogo, si es más nuevo que el que tiene el libro.
+-- KEYS[1]: hash del libro de la variante
+-- ARGV[1]: stock; ARGV[2]: versión de la variante
+-- Devuelve las unidades reservadas si se aplicó, o -1 si el libro ya tenía una versión igual o más nueva.
+local version = redis.call('HGET', KEYS[1], 'version')
+if version and tonumber(version) >= tonumber(ARGV[2]) then
+  return -1
+end
+redis.call('HSET', KEYS[1], 'stock', ARGV[1], 'version', ARGV[2])
+return tonumber(redis.call('HGET', KEYS[1], 'reserved') or '0')
@@ -0,0 +1,70 @@
+package com.ecommerce.cart;
+
+import com.ecommerce.cart.cart.application.AbandonedCartService;
+import com.ecommerce.cart.cart.application.dto.event.CartAbandonedEventDTO;
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.cart.infrastructure.messaging.AbandonedCartPublisher;
+import com.ecommerce.cart.cart.infrastructure.messaging.CartExpiryListener;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AbandonedCartTests {
+
+	private static final Instant NOW = Instant.parse("2026-01-08T00:00:00Z");
+
+	private final CartRepository repository = mock(CartRepository.class);
+	private final StockReservationService reservations = mock(StockReservationService.class);
+	private final AbandonedCartPublisher publisher = mock(AbandonedCartPublisher.class);
+	private final CartMapper mapper = mock(CartMapper.class);
+	private final AbandonedCartService service = new AbandonedCartService(repository, reservations, publisher, mapper,
+			Clock.fixed(NOW, ZoneOffset.UTC), 500);
+
+	@Test
+	void claimedCartsReleaseTheirStockAndPublishTheirEvent() {
+		Cart cart = Cart.restore("cart-1", Currency.getInstance("USD"),
+				List.of(new CartLine("v1", "p1", 2, 1000, 1, true, NOW)), 2000, NOW);
+		CartAbandonedEventDTO event = mock(CartAbandonedEventDTO.class);
+		when(repository.claimExpired("cart-1", NOW)).thenReturn(Optional.of(cart));
+		when(mapper.toAbandonedEvent(cart, NOW)).thenReturn(event);
+
+		new CartExpiryListener(service).onMessage(
+				new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+						"cart:cart-1:expiry".getBytes(StandardCharsets.UTF_8)), null);
+
+		verify(reservations).releaseAll(cart);
+		verify(publisher).publish(event);
+	}
+
+	@Test
+	void cartsClaimedElsewhereAndForeignKeysAreIgnored() {
+		when(repository.claimExpired("cart-2", NOW)).thenReturn(Optional.empty());
+
+		service.expire("cart-2");
+		new CartExpiryListener(service).onMessage(
+				new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+						"session:abc".getBytes(StandardCharsets.UTF_8)), null);
+
+		verify(repository, never()).claimExpired("abc", NOW);
+		verify(reservations, never()).releaseAll(any());
+		verifyNoInteractions(publisher);
+	}
+}
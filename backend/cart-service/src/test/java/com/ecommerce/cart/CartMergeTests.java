@@ -0,0 +1,59 @@
+package com.ecommerce.cart;
+
+import com.ecommerce.cart.cart.application.CartService;
+import com.ecommerce.cart.cart.application.dto.request.MergeCartRequestDTO;
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartMerge;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.pricing.application.CartPricingService;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartMergeTests {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final CartRepository repository = mock(CartRepository.class);
+	private final CartPricingService pricing = mock(CartPricingService.class);
+	private final StockReservationService reservations = mock(StockReservationService.class);
+	private final CartService service = new CartService(repository, pricing, reservations, mock(CartMapper.class),
+			MergeStrategy.SUM);
+
+	@Test
+	void mergedLinesTakeTheirReservationsToTheUserCart() {
+		when(pricing.now()).thenReturn(NOW);
+		when(repository.merge("guest", "user", MergeStrategy.SUM, NOW))
+				.thenReturn(new CartMerge(true, 1, Map.of("v1", 3)));
+		when(repository.findById("user")).thenReturn(Optional.of(new Cart("user")));
+
+		service.merge("user", new MergeCartRequestDTO("guest", null));
+
+		verify(reservations).transfer("guest", "user", Map.of("v1", 3));
+	}
+
+	@Test
+	void missingGuestCartsAndSelfMergesMoveNoReservations() {
+		when(pricing.now()).thenReturn(NOW);
+		when(repository.merge("gone", "user", MergeStrategy.LATEST, NOW)).thenReturn(CartMerge.nothing());
+		when(repository.findById("user")).thenReturn(Optional.empty());
+
+		service.merge("user", new MergeCartRequestDTO("gone", MergeStrategy.LATEST));
+
+		verify(reservations, never()).transfer(any(), any(), any());
+		assertThatThrownBy(() -> service.merge("user", new MergeCartRequestDTO("user", null)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.cart;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.pricing.application.CartPricingService;
+import com.ecommerce.cart.pricing.application.VariantPriceCache;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartPricingTests {
+
+	private static final Currency USD = Currency.getInstance("USD");
+	private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final Map<String, VariantSnapshot> catalog = new HashMap<>();
+	private final List<Set<String>> lookups = new ArrayList<>();
+	private final VariantPriceCache prices = new VariantPriceCache(Caffeine.newBuilder().build(), ids -> {
+		lookups.add(Set.copyOf(ids));
+		Map<String, VariantSnapshot> found = new HashMap<>();
+		ids.forEach(id -> {
+			if (catalog.containsKey(id)) {
+				found.put(id, catalog.get(id));
+			}
+		});
+		return found;
+	});
+
+	@Test
+	void subtotalFollowsLineChangesIncrementally() {
+		Cart cart = new Cart("cart-1");
+		cart.putLine(CartLine.of(variant("a", 1250, 1), 2, START), USD, START);
+		cart.putLine(CartLine.of(variant("b", 300, 1), 1, START), USD, START);
+		assertThat(cart.getSubtotal()).isEqualTo(new MinorMoney(2800, USD));
+
+		cart.putLine(cart.line("a").orElseThrow().withQuantity(1), USD, START);
+		cart.removeLine("b", START);
+
+		assertThat(cart.getSubtotal()).isEqualTo(new MinorMoney(1250, USD));
+		assertThat(cart.getSubtotalDelta()).isEqualTo(1250);
+		assertThat(cart.getChangedLines()).containsExactly("a");
+		assertThat(cart.getRemovedLines()).containsExactly("b");
+	}
+
+	@Test
+	void staleLinesAreRevalidatedInOneBatchedLookup() {
+		Cart cart = new Cart("cart-2");
+		cart.putLine(CartLine.of(variant("a", 1000, 1), 1, START), USD, START);
+		cart.putLine(CartLine.of(variant("b", 500, 1), 2, START), USD, START);
+		cart.putLine(CartLine.of(variant("c", 700, 1), 1, START.plus(Duration.ofMinutes(4))), USD, START);
+		catalog.put("a", variant("a", 1100, 2));
+		catalog.remove("b");
+		catalog.put("c", variant("c", 900, 2));
+
+		List<String> changed = pricingAt(START.plus(Duration.ofMinutes(5))).revalidate(cart);
+
+		assertThat(lookups).containsExactly(Set.of("a", "b"));
+		assertThat(changed).containsExactlyInAnyOrder("a", "b");
+		assertThat(cart.line("b").orElseThrow().available()).isFalse();
+		assertThat(cart.line("c").orElseThrow().unitPrice()).isEqualTo(700);
+		assertThat(cart.getSubtotal()).isEqualTo(new MinorMoney(1100 + 700, USD));
+	}
+
+	@Test
+	void cachedSnapshotsAreOnlyEvictedByNewerVersions() {
+		catalog.put("a", variant("a", 1000, 3));
+		assertThat(prices.get("a")).isPresent();
+		catalog.put("a", variant("a", 1200, 4));
+
+		prices.evictOlderThan("a", 3);
+		assertThat(prices.get("a").orElseThrow().version()).isEqualTo(3);
+		prices.evictOlderThan("a", 4);
+		assertThat(prices.get("a").orElseThrow().price().amount()).isEqualTo(1200);
+		assertThat(lookups).hasSize(2);
+	}
+
+	private CartPricingService pricingAt(Instant now) {
+		return new CartPricingService(prices, Clock.fixed(now, ZoneOffset.UTC), Duration.ofMinutes(5));
+	}
+
+	private static VariantSnapshot variant(String id, long price, long version) {
+		return new VariantSnapshot(id, "product-" + id, new MinorMoney(price, USD), 10, true, version);
+	}
+}
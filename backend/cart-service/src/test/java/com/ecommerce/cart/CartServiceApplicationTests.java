@@ -3,7 +3,7 @@ package com.ecommerce.cart;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "cart.expiry.notifications.enabled=false")
 class CartServiceApplicationTests {
 
 	@Test
@@ -0,0 +1,136 @@
+package com.ecommerce.cart;
+
+import com.ecommerce.cart.cart.application.CartService;
+import com.ecommerce.cart.cart.application.dto.request.AddCartItemRequestDTO;
+import com.ecommerce.cart.cart.application.mapper.CartMapper;
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import com.ecommerce.cart.cart.domain.repository.CartRepository;
+import com.ecommerce.cart.pricing.application.CartPricingService;
+import com.ecommerce.cart.pricing.application.VariantPriceCache;
+import com.ecommerce.cart.pricing.domain.model.VariantSnapshot;
+import com.ecommerce.cart.reservation.application.StockReservationService;
+import com.ecommerce.cart.reservation.domain.model.Reservation;
+import com.ecommerce.cart.reservation.domain.repository.ReservationLedger;
+import com.ecommerce.cart.reservation.infrastructure.messaging.StockLevelListener;
+import com.ecommerce.libs.application.dto.VariantStockDTO;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockReservationTests {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final Duration CART_TTL = Duration.ofDays(7);
+
+	private final ReservationLedger ledger = mock(ReservationLedger.class);
+	private final StockReservationService reservations = new StockReservationService(ledger,
+			Clock.fixed(NOW, ZoneOffset.UTC), CART_TTL, true);
+
+	@Test
+	void unknownVariantsAreSeededWithTheCatalogStockBeforeReserving() {
+		when(ledger.reserve("v1", "cart-1", 2, NOW, NOW.plus(CART_TTL)))
+				.thenReturn(new Reservation(Reservation.Status.UNKNOWN_STOCK, 0))
+				.thenReturn(new Reservation(Reservation.Status.RESERVED, 3));
+		when(ledger.updateStock("v1", 5, 4L)).thenReturn(OptionalLong.of(0));
+
+		reservations.reserve("cart-1", snapshot("v1", 5, true, 4), 2);
+
+		var order = inOrder(ledger);
+		order.verify(ledger).reserve("v1", "cart-1", 2, NOW, NOW.plus(CART_TTL));
+		order.verify(ledger).updateStock("v1", 5, 4L);
+		order.verify(ledger).reserve("v1", "cart-1", 2, NOW, NOW.plus(CART_TTL));
+	}
+
+	@Test
+	void reservationsBeyondTheFreeStockAreRejected() {
+		when(ledger.reserve(eq("v1"), eq("cart-2"), anyInt(), any(), any()))
+				.thenReturn(new Reservation(Reservation.Status.INSUFFICIENT_STOCK, 1));
+
+		assertThatThrownBy(() -> reservations.reserve("cart-2", snapshot("v1", 5, true, 4), 2))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("free: 1");
+	}
+
+	@Test
+	void stockPublicationsAlsoEvictOlderCachedPrices() {
+		VariantPriceCache variantPrices = mock(VariantPriceCache.class);
+		when(ledger.updateStock(any(), anyInt(), any(Long.class))).thenReturn(OptionalLong.empty());
+
+		new StockLevelListener(reservations, variantPrices, new ObjectMapper())
+				.onStockLevel(new Message("{\"variantId\":\"v1\",\"stock\":8,\"available\":true,\"version\":9}".getBytes()));
+
+		verify(variantPrices).evictOlderThan("v1", 9L);
+		verify(ledger).updateStock("v1", 8, 9L);
+	}
+
+	@Test
+	void unavailableVariantsHaveNoSellableStock() {
+		when(ledger.updateStock(any(), anyInt(), any(Long.class))).thenReturn(OptionalLong.empty());
+
+		reservations.applyStockLevel(new VariantStockDTO("v1", 8, false, 9L));
+
+		verify(ledger).updateStock("v1", 0, 9L);
+	}
+
+	@Test
+	void linesInAnotherCurrencyAreRejectedBeforeReservingStock() {
+		CartRepository carts = mock(CartRepository.class);
+		CartPricingService pricing = mock(CartPricingService.class);
+		StockReservationService cartReservations = mock(StockReservationService.class);
+		Cart cart = new Cart("cart-3");
+		cart.putLine(CartLine.of(snapshot("v1", 5, true, 1), 1, NOW), Currencies.of("USD"), NOW);
+		when(carts.findById("cart-3")).thenReturn(Optional.of(cart));
+		when(pricing.quote("v2")).thenReturn(
+				new VariantSnapshot("v2", "p2", MinorMoney.of(1000, "EUR"), 5, true, 1));
+		CartService cartService = new CartService(carts, pricing, cartReservations, mock(CartMapper.class), MergeStrategy.SUM);
+
+		assertThatThrownBy(() -> cartService.addItem("cart-3", new AddCartItemRequestDTO("v2", 1)))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(cartReservations, never()).reserve(any(), any(), anyInt());
+	}
+
+	@Test
+	void holdsAreReleasedWhenTheCartWasSavedMeanwhileInAnotherCurrency() {
+		CartRepository carts = mock(CartRepository.class);
+		CartPricingService pricing = mock(CartPricingService.class);
+		StockReservationService cartReservations = mock(StockReservationService.class);
+		VariantSnapshot variant = snapshot("v1", 5, true, 1);
+		when(carts.findById("cart-4")).thenReturn(Optional.empty());
+		when(pricing.quote("v1")).thenReturn(variant);
+		when(pricing.now()).thenReturn(NOW);
+		doThrow(new IllegalStateException("saved in EUR")).when(carts).save(any());
+		CartService cartService = new CartService(carts, pricing, cartReservations, mock(CartMapper.class), MergeStrategy.SUM);
+
+		assertThatThrownBy(() -> cartService.addItem("cart-4", new AddCartItemRequestDTO("v1", 2)))
+				.isInstanceOf(IllegalStateException.class);
+		var order = inOrder(cartReservations);
+		order.verify(cartReservations).reserve("cart-4", variant, 2);
+		order.verify(cartReservations).release("cart-4", "v1");
+	}
+
+	private static VariantSnapshot snapshot(String id, int stock, boolean available, long version) {
+		return new VariantSnapshot(id, "p1", MinorMoney.of(1000, "USD"), stock, available, version);
+	}
+}
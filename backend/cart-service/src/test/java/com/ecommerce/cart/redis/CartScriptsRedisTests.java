@@ -0,0 +1,200 @@
+package com.ecommerce.cart.redis;
+
+import com.ecommerce.cart.cart.domain.model.Cart;
+import com.ecommerce.cart.cart.domain.model.CartLine;
+import com.ecommerce.cart.cart.domain.model.CartMerge;
+import com.ecommerce.cart.cart.domain.model.MergeStrategy;
+import com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository.CURRENCY;
+import static com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository.EXPIRIES;
+import static com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository.SUBTOTAL;
+import static com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository.expiryKey;
+import static com.ecommerce.cart.cart.infrastructure.persistence.RedisCartRepository.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartScriptsRedisTests extends RedisScriptTestSupport {
+
+	static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	static final Duration CART_TTL = Duration.ofDays(7);
+	// Un precio en unidades menores que no cabe en un int, para comprobar que los scripts no lo redondean
+	private static final long LARGE_PRICE = 12_345_678_901L;
+	private static final RedisScript<List> CLAIM_EXPIRED =
+			RedisScript.of(new ClassPathResource("scripts/cart/claim-expired.lua"), List.class);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	RedisCartRepository repository;
+
+	@BeforeEach
+	void createRepository() {
+		repository = new RedisCartRepository(redis, objectMapper, CART_TTL, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void sumMergeAddsTheQuantitiesToTheNewestLineWithoutTouchingItsOtherFields() {
+		save("user", "USD", NOW, line("v1", 3, LARGE_PRICE - 1, 6));
+		save("guest", "USD", NOW.plusSeconds(60), line("v1", 2, LARGE_PRICE, 7), line("v2", 1, 1000, 1));
+
+		CartMerge merge = repository.merge("guest", "user", MergeStrategy.SUM, NOW.plusSeconds(120));
+
+		assertThat(merge.conflicts()).isEqualTo(1);
+		assertThat(merge.lines()).isEqualTo(Map.of("v1", 5, "v2", 1));
+		Cart merged = repository.findById("user").orElseThrow();
+		assertThat(merged.line("v1")).contains(line("v1", 5, LARGE_PRICE, 7));
+		assertThat(merged.line("v2")).contains(line("v2", 1, 1000, 1));
+		assertThat(storedSubtotal("user")).isEqualTo(5 * LARGE_PRICE + 1000);
+		assertThat(repository.findById("guest")).isEmpty();
+		assertThat(redis.hasKey(expiryKey("guest"))).isFalse();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "guest")).isNull();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "user"))
+				.isEqualTo((double) NOW.plusSeconds(120).plus(CART_TTL).toEpochMilli());
+	}
+
+	@Test
+	void latestMergeKeepsTheLineOfTheNewestCartAndOtherCurrenciesAreRejected() {
+		save("user", "USD", NOW.plusSeconds(60), line("v1", 3, 1500, 2));
+		save("guest", "USD", NOW, line("v1", 2, 1000, 1));
+		save("foreign", "EUR", NOW, line("v9", 1, 900, 1));
+
+		CartMerge merge = repository.merge("guest", "user", MergeStrategy.LATEST, NOW.plusSeconds(120));
+
+		assertThat(merge.lines()).isEqualTo(Map.of("v1", 3));
+		assertThat(repository.findById("user").orElseThrow().line("v1")).contains(line("v1", 3, 1500, 2));
+		assertThat(storedSubtotal("user")).isEqualTo(3 * 1500);
+		assertThatThrownBy(() -> repository.merge("foreign", "user", MergeStrategy.SUM, NOW.plusSeconds(180)))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(repository.findById("foreign")).isPresent();
+		assertThat(repository.merge("gone", "user", MergeStrategy.SUM, NOW)).isEqualTo(CartMerge.nothing());
+	}
+
+	@Test
+	void concurrentSavesAdjustTheSubtotalAgainstTheStoredLines() {
+		save("cart", "USD", NOW, line("v1", 1, 1000, 1));
+		// Dos pestañas leen el mismo carrito y lo modifican por separado
+		Cart firstTab = repository.findById("cart").orElseThrow();
+		Cart secondTab = repository.findById("cart").orElseThrow();
+		firstTab.putLine(line("v1", 4, 1000, 1), Currencies.of("USD"), NOW.plusSeconds(1));
+		secondTab.putLine(line("v1", 2, 1000, 1), Currencies.of("USD"), NOW.plusSeconds(2));
+		secondTab.putLine(line("v2", 1, LARGE_PRICE, 1), Currencies.of("USD"), NOW.plusSeconds(2));
+
+		repository.save(firstTab);
+		repository.save(secondTab);
+
+		assertThat(storedSubtotal("cart")).isEqualTo(2 * 1000 + LARGE_PRICE);
+		assertThat(repository.findById("cart").orElseThrow().getSubtotal().amount()).isEqualTo(2 * 1000 + LARGE_PRICE);
+	}
+
+	@Test
+	void savingInAnotherCurrencyIsRejectedAndRemovingTheLastLineDeletesTheCart() {
+		save("cart", "USD", NOW, line("v1", 1, 1000, 1));
+		Cart stale = new Cart("cart");
+		stale.putLine(line("v9", 1, 900, 1), Currencies.of("EUR"), NOW.plusSeconds(1));
+
+		assertThatThrownBy(() -> repository.save(stale)).isInstanceOf(IllegalStateException.class);
+		assertThat(repository.findById("cart").orElseThrow().line("v9")).isEmpty();
+
+		Cart cart = repository.findById("cart").orElseThrow();
+		cart.removeLine("v1", NOW.plusSeconds(2));
+		repository.save(cart);
+		assertThat(redis.hasKey(key("cart"))).isFalse();
+		assertThat(redis.hasKey(expiryKey("cart"))).isFalse();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "cart")).isNull();
+	}
+
+	@Test
+	void claimingAnExpiredCartReturnsItsContentAndDeletesIt() {
+		save("cart", "USD", NOW, line("v1", 2, LARGE_PRICE, 3));
+
+		Cart claimed = repository.claimExpired("cart", NOW.plus(CART_TTL)).orElseThrow();
+
+		assertThat(claimed.line("v1")).contains(line("v1", 2, LARGE_PRICE, 3));
+		assertThat(redis.hasKey(key("cart"))).isFalse();
+		assertThat(redis.hasKey(expiryKey("cart"))).isFalse();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "cart")).isNull();
+	}
+
+	@Test
+	void concurrentClaimsOfAnExpiredCartReturnItToOnlyOneOfThem() throws Exception {
+		save("cart", "USD", NOW, line("v1", 1, 1000, 1));
+		long due = NOW.plus(CART_TTL).toEpochMilli();
+		List<Callable<List<?>>> claims = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			claims.add(() -> claim("cart", due));
+		}
+
+		List<List<?>> results = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (Future<List<?>> claimed : executor.invokeAll(claims)) {
+				results.add(claimed.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(results).filteredOn(entries -> !entries.isEmpty()).hasSize(1);
+		assertThat(claim("cart", due + 1)).isEmpty();
+	}
+
+	@Test
+	void claimsCompareTheDueScoreAsANumber() {
+		// ZSCORE devuelve texto: como cadenas, "10000" sería anterior a "9999" y el carrito se reclamaría antes de vencer
+		redis.opsForZSet().add(EXPIRIES, "cart", 10_000);
+		redis.opsForHash().put(key("cart"), CURRENCY, "USD");
+
+		assertThat(claim("cart", 9_999)).isEmpty();
+		assertThat(redis.hasKey(key("cart"))).isTrue();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "cart")).isEqualTo(10_000);
+		assertThat(claim("cart", 10_000)).containsExactly(CURRENCY, "USD");
+		assertThat(redis.hasKey(key("cart"))).isFalse();
+		assertThat(redis.opsForZSet().score(EXPIRIES, "cart")).isNull();
+		assertThat(claim("missing", 10_000)).isEmpty();
+	}
+
+	// --- Métodos auxiliares ---
+
+	@SuppressWarnings("unchecked")
+	List<Object> claim(String cartId, long now) {
+		return redis.execute(CLAIM_EXPIRED, List.of(EXPIRIES, key(cartId), expiryKey(cartId)),
+				cartId, Long.toString(now));
+	}
+
+	void save(String cartId, String currency, Instant now, CartLine... lines) {
+		Cart cart = new Cart(cartId);
+		for (CartLine line : lines) {
+			cart.putLine(line, Currencies.of(currency), now);
+		}
+		repository.save(cart);
+	}
+
+	long storedSubtotal(String cartId) {
+		return Long.parseLong((String) redis.opsForHash().get(key(cartId), SUBTOTAL));
+	}
+
+	static CartLine line(String variantId, int quantity, long unitPrice, long priceVersion) {
+		return new CartLine(variantId, "p1", quantity, unitPrice, priceVersion, true, NOW);
+	}
+}
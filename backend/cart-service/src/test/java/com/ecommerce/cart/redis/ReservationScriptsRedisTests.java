@@ -0,0 +1,123 @@
+package com.ecommerce.cart.redis;
+
+import com.ecommerce.cart.reservation.domain.model.Reservation;
+import com.ecommerce.cart.reservation.infrastructure.persistence.RedisReservationLedger;
+import com.ecommerce.cart.reservation.infrastructure.persistence.ReservationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.ecommerce.cart.reservation.infrastructure.persistence.RedisReservationLedger.key;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationScriptsRedisTests extends RedisScriptTestSupport {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final Instant EXPIRES_AT = NOW.plusSeconds(3600);
+
+	private RedisReservationLedger ledger;
+
+	@BeforeEach
+	void createLedger() {
+		ledger = new RedisReservationLedger(redis, new ReservationProperties(true, 100));
+	}
+
+	@Test
+	void concurrentReservesNeverOversell() throws Exception {
+		ledger.updateStock("v1", 10, 1);
+		List<Callable<Reservation>> carts = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			String cartId = "cart-" + i;
+			carts.add(() -> ledger.reserve("v1", cartId, 1, NOW, EXPIRES_AT));
+		}
+
+		long reserved = 0;
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			for (Future<Reservation> reservation : executor.invokeAll(carts)) {
+				reserved += reservation.get().isReserved() ? 1 : 0;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(reserved).isEqualTo(10);
+		assertThat(field("v1", "reserved")).isEqualTo("10");
+		assertThat(redis.opsForHash().keys(key("v1")))
+				.filteredOn(hashField -> ((String) hashField).startsWith("hold:"))
+				.hasSize(10);
+		assertThat(ledger.reserve("v1", "late", 1, NOW, EXPIRES_AT).status())
+				.isEqualTo(Reservation.Status.INSUFFICIENT_STOCK);
+	}
+
+	@Test
+	void reservesReplaceTheCartHoldAndPurgeExpiredOnes() {
+		assertThat(ledger.reserve("v1", "cart-1", 1, NOW, EXPIRES_AT).status())
+				.isEqualTo(Reservation.Status.UNKNOWN_STOCK);
+		ledger.updateStock("v1", 5, 1);
+
+		assertThat(ledger.reserve("v1", "cart-1", 4, NOW, NOW.plusSeconds(1))).isEqualTo(
+				new Reservation(Reservation.Status.RESERVED, 1));
+		assertThat(ledger.reserve("v1", "cart-1", 2, NOW, NOW.plusSeconds(1))).isEqualTo(
+				new Reservation(Reservation.Status.RESERVED, 3));
+		assertThat(ledger.reserve("v1", "cart-2", 4, NOW, EXPIRES_AT)).isEqualTo(
+				new Reservation(Reservation.Status.INSUFFICIENT_STOCK, 3));
+		// Vencida la reserva de cart-1, la siguiente reserva la purga
+		assertThat(ledger.reserve("v1", "cart-2", 4, NOW.plusSeconds(2), EXPIRES_AT)).isEqualTo(
+				new Reservation(Reservation.Status.RESERVED, 1));
+		assertThat(field("v1", "hold:cart-1")).isNull();
+		assertThat(field("v1", "reserved")).isEqualTo("4");
+		assertThat(ledger.reserve("v1", "cart-2", 0, NOW.plusSeconds(2), EXPIRES_AT).status())
+				.isEqualTo(Reservation.Status.RESERVED);
+		assertThat(field("v1", "reserved")).isEqualTo("0");
+	}
+
+	@Test
+	void transfersMoveTheHoldOnceAndCanBeRepeated() {
+		ledger.updateStock("v1", 5, 1);
+		ledger.reserve("v1", "guest", 3, NOW, EXPIRES_AT);
+		ledger.reserve("v1", "other", 1, NOW, EXPIRES_AT);
+
+		assertThat(ledger.transfer("v1", "guest", "user", 3, NOW, EXPIRES_AT)).isEqualTo(OptionalLong.of(3));
+		// Un reintento de la fusión no vuelve a sumar la reserva
+		assertThat(ledger.transfer("v1", "guest", "user", 3, NOW, EXPIRES_AT)).isEqualTo(OptionalLong.of(3));
+
+		assertThat(field("v1", "hold:guest")).isNull();
+		assertThat(field("v1", "hold:user")).isEqualTo("3");
+		assertThat(field("v1", "reserved")).isEqualTo("4");
+		assertThat(redis.opsForZSet().score(key("v1") + ":expiries", "guest")).isNull();
+		assertThat(redis.opsForZSet().score(key("v1") + ":expiries", "user"))
+				.isEqualTo((double) EXPIRES_AT.toEpochMilli());
+		// Sin unidades libres suficientes, el destino queda con las que hay
+		assertThat(ledger.transfer("v1", "guest", "user", 9, NOW, EXPIRES_AT)).isEqualTo(OptionalLong.of(4));
+		assertThat(field("v1", "reserved")).isEqualTo("5");
+		assertThat(ledger.transfer("unknown", "guest", "user", 1, NOW, EXPIRES_AT)).isEmpty();
+	}
+
+	@Test
+	void olderStockPublicationsAreIgnored() {
+		assertThat(ledger.updateStock("v1", 10, 2)).isEqualTo(OptionalLong.of(0));
+		ledger.reserve("v1", "cart-1", 4, NOW, EXPIRES_AT);
+
+		assertThat(ledger.updateStock("v1", 3, 1)).isEmpty();
+		assertThat(ledger.updateStock("v1", 3, 2)).isEmpty();
+		assertThat(field("v1", "stock")).isEqualTo("10");
+		assertThat(ledger.updateStock("v1", 3, 3)).isEqualTo(OptionalLong.of(4));
+		assertThat(ledger.reserve("v1", "cart-2", 1, NOW, EXPIRES_AT)).isEqualTo(
+				new Reservation(Reservation.Status.INSUFFICIENT_STOCK, -1));
+	}
+
+	// --- Métodos auxiliares ---
+
+	private static String field(String variantId, String field) {
+		return (String) redis.opsForHash().get(key(variantId), field);
+	}
+}
@@ -0,0 +1,169 @@
+package com.ecommerce.datagen;
+
+import com.ecommerce.catalog.brand.domain.model.Brand;
+import com.ecommerce.catalog.category.domain.model.Category;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.datagen.DeterministicIds.Kind;
+import com.ecommerce.datagen.sink.CatalogSink;
+import com.ecommerce.libs.domain.vo.Money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generador de catálogos sintéticos, determinista y en streaming, construido sobre los constructores de dominio.
+ * Cada entidad se genera a partir de (semilla, tipo, índice), por lo que los flujos son perezosos y usan memoria
+ * constante sin importar el tamaño del catálogo, y cualquier ID o entidad se puede recalcular de forma aislada
+ * (ej.: para construir peticiones de carga sin guardar listas de IDs).
+ * <ul>
+ *     <li>Las categorías forman un árbol completo con {@code ancestors} correctos ({@link CategoryTree}).</li>
+ *     <li>Cada producto pertenece a una marca y a una categoría hoja, con un esquema de atributos de {@link SchemaTemplate}.</li>
+ *     <li>Las variantes de un producto cumplen el esquema de atributos de su producto.</li>
+ * </ul>
+ */
+public class CatalogGenerator {
+    // --- Campos constantes ---
+    private static final String[] NOUNS = {"camiseta", "pantalón", "chaqueta", "portátil", "auriculares",
+            "teléfono", "novela", "manual", "zapatilla", "reloj", "mochila", "lámpara"};
+    private static final String[] ADJECTIVES = {"básico", "premium", "clásico", "deportivo", "compacto",
+            "ligero", "urbano", "profesional"};
+    private static final List<String> SEARCH_TERMS =
+            Stream.concat(Stream.of(NOUNS), Stream.of(ADJECTIVES)).toList();
+    private static final SchemaTemplate[] TEMPLATES = SchemaTemplate.values();
+    // --- Atributos ---
+    private final CatalogShape shape;
+    private final CategoryTree tree;
+
+    /**
+     * Construye el generador.
+     * @param shape las dimensiones y la semilla del catálogo.
+     */
+    public CatalogGenerator(CatalogShape shape) {
+        this.shape = shape;
+        this.tree = new CategoryTree(shape.categoryDepth(), shape.categoryFanout());
+    }
+
+    // --- Getters ---
+
+    public CatalogShape shape() { return shape; }
+    public CategoryTree categoryTree() { return tree; }
+
+    /**
+     * @return los términos que aparecen en los nombres de productos, útiles para búsquedas por nombre.
+     */
+    public List<String> searchTerms() {
+        return SEARCH_TERMS;
+    }
+
+    // --- Identificadores ---
+
+    public String brandId(long index) { return DeterministicIds.id(shape.seed(), Kind.BRAND, index); }
+    public String categoryId(long index) { return DeterministicIds.id(shape.seed(), Kind.CATEGORY, index); }
+    public String productId(long index) { return DeterministicIds.id(shape.seed(), Kind.PRODUCT, index); }
+
+    /**
+     * @param product el índice del producto.
+     * @param variant el índice de la variante dentro del producto.
+     * @return el ID de la variante.
+     */
+    public String variantId(long product, int variant) {
+        return DeterministicIds.id(shape.seed(), Kind.VARIANT, product * shape.variantsPerProduct() + variant);
+    }
+
+    // --- Flujos ---
+
+    public Stream<Brand> brands() {
+        return LongStream.range(0, shape.brands()).mapToObj(this::brand);
+    }
+
+    public Stream<Category> categories() {
+        return LongStream.range(0, tree.size()).mapToObj(this::category);
+    }
+
+    public Stream<Product> products() {
+        return LongStream.range(0, shape.products()).mapToObj(this::product);
+    }
+
+    public Stream<Variant> variants() {
+        return LongStream.range(0, shape.products())
+                .boxed()
+                .flatMap(product -> LongStream.range(0, shape.variantsPerProduct())
+                        .mapToObj(variant -> variant(product, (int) variant)));
+    }
+
+    /**
+     * Escribe el catálogo completo en un destino: marcas, categorías, productos y variantes, en ese orden.
+     * @param sink el destino.
+     * @return la cantidad de entidades escritas por tipo.
+     * @throws IOException si falla la escritura.
+     */
+    public Counts writeTo(CatalogSink sink) throws IOException {
+        long brands = sink.write(Brand.class, brands());
+        long categories = sink.write(Category.class, categories());
+        long products = sink.write(Product.class, products());
+        long variants = sink.write(Variant.class, variants());
+        return new Counts(brands, categories, products, variants);
+    }
+
+    // --- Entidades ---
+
+    public Brand brand(long index) {
+        return new Brand(brandId(index), "Marca " + index, "Marca sintética " + index,
+                "https://cdn.example.com/brands/" + index + ".png");
+    }
+
+    public Category category(long index) {
+        List<String> ancestors = new ArrayList<>();
+        for (long node : tree.pathOf(index)) {
+            ancestors.add(categoryId(node));
+        }
+        long parent = tree.parentOf(index);
+        return new Category(categoryId(index), tree.nameOf(index), "", parent < 0 ? null : categoryId(parent), ancestors);
+    }
+
+    public Product product(long index) {
+        SplittableRandom random = productRandom(index);
+        SchemaTemplate template = TEMPLATES[random.nextInt(TEMPLATES.length)];
+        String brandId = brandId(random.nextInt(shape.brands()));
+        String categoryId = categoryId(tree.leafIndex(random.nextLong(tree.leafCount())));
+        String name = NOUNS[random.nextInt(NOUNS.length)] + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + index;
+        return new Product(productId(index), name, "Producto sintético " + index, brandId,
+                List.of(categoryId), template.attributes());
+    }
+
+    /**
+     * @param index el índice del producto.
+     * @return el esquema de atributos del producto, sin generar el producto completo.
+     */
+    public SchemaTemplate productTemplate(long index) {
+        return TEMPLATES[productRandom(index).nextInt(TEMPLATES.length)];
+    }
+
+    public Variant variant(long product, int variant) {
+        long index = product * shape.variantsPerProduct() + variant;
+        SplittableRandom random = new SplittableRandom(DeterministicIds.seedFor(shape.seed(), Kind.VARIANT, index));
+        return new Variant(variantId(product, variant), productId(product),
+                Money.of(BigDecimal.valueOf(500 + random.nextInt(500_000), 2), "USD"),
+                random.nextInt(200),
+                List.of("https://cdn.example.com/variants/" + product + "-" + variant + ".jpg"),
+                productTemplate(product).variantAttributes(random));
+    }
+
+    // --- Métodos auxiliares ---
+
+    private SplittableRandom productRandom(long index) {
+        return new SplittableRandom(DeterministicIds.seedFor(shape.seed(), Kind.PRODUCT, index));
+    }
+
+    /**
+     * Cantidad de entidades escritas por tipo.
+     */
+    public record Counts(long brands, long categories, long products, long variants) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.datagen;
+
+/**
+ * Dimensiones de un catálogo sintético. Junto con la semilla, determinan por completo su contenido.
+ * @param seed la semilla; la misma semilla y dimensiones producen exactamente los mismos documentos.
+ * @param brands cantidad de marcas.
+ * @param categoryDepth niveles del árbol de categorías (1 = solo raíces).
+ * @param categoryFanout cantidad de raíces y de hijas por categoría.
+ * @param products cantidad de productos.
+ * @param variantsPerProduct cantidad de variantes por producto.
+ */
+public record CatalogShape(
+        long seed,
+        int brands,
+        int categoryDepth,
+        int categoryFanout,
+        long products,
+        int variantsPerProduct
+) {
+    public CatalogShape {
+        if (brands < 1 || categoryDepth < 1 || categoryFanout < 1 || products < 0 || variantsPerProduct < 1) {
+            throw new IllegalArgumentException("Dimensiones de catálogo inválidas");
+        }
+    }
+
+    /**
+     * @return la cantidad total de variantes.
+     */
+    public long variants() {
+        return products * variantsPerProduct;
+    }
+}
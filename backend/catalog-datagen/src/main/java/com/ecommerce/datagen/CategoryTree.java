@@ -0,0 +1,109 @@
+package com.ecommerce.datagen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árbol de categorías completo de {@code fanout} hijas por nodo y {@code depth} niveles, numerado por niveles
+ * (primero las raíces, luego sus hijas, etc.). Padre, ancestros y nombre de cada nodo se calculan aritméticamente
+ * a partir de su índice, sin materializar el árbol.
+ */
+public final class CategoryTree {
+    // --- Atributos ---
+    private final int depth;
+    private final int fanout;
+    private final long[] levelOffsets; // índice global del primer nodo de cada nivel
+    private final long size;
+
+    /**
+     * Construye el árbol.
+     * @param depth la cantidad de niveles.
+     * @param fanout la cantidad de raíces y de hijas por nodo.
+     * @throws ArithmeticException si el árbol no cabe en un {@code long}.
+     */
+    public CategoryTree(int depth, int fanout) {
+        this.depth = depth;
+        this.fanout = fanout;
+        this.levelOffsets = new long[depth + 1];
+        long levelSize = 1;
+        for (int level = 0; level < depth; level++) {
+            levelSize = Math.multiplyExact(levelSize, fanout);
+            levelOffsets[level + 1] = Math.addExact(levelOffsets[level], levelSize);
+        }
+        this.size = levelOffsets[depth];
+    }
+
+    // --- Getters ---
+
+    public long size() { return size; }
+
+    /**
+     * @return la cantidad de hojas (nodos del último nivel).
+     */
+    public long leafCount() {
+        return size - levelOffsets[depth - 1];
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @param leaf el índice de la hoja, entre 0 y {@link #leafCount()}.
+     * @return el índice global de la hoja.
+     */
+    public long leafIndex(long leaf) {
+        return levelOffsets[depth - 1] + leaf;
+    }
+
+    /**
+     * @param index el índice global del nodo.
+     * @return el nivel del nodo (0 para las raíces).
+     */
+    public int levelOf(long index) {
+        int level = 0;
+        while (index >= levelOffsets[level + 1]) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * @param index el índice global del nodo.
+     * @return el índice global del padre, o -1 si es una raíz.
+     */
+    public long parentOf(long index) {
+        int level = levelOf(index);
+        if (level == 0) {
+            return -1;
+        }
+        long position = index - levelOffsets[level];
+        return levelOffsets[level - 1] + position / fanout;
+    }
+
+    /**
+     * @param index el índice global del nodo.
+     * @return los índices globales desde la raíz hasta el propio nodo, inclusive.
+     */
+    public List<Long> pathOf(long index) {
+        int level = levelOf(index);
+        Long[] path = new Long[level + 1];
+        for (long node = index; node >= 0; node = parentOf(node)) {
+            path[level--] = node;
+        }
+        return List.of(path);
+    }
+
+    /**
+     * Nombre único del nodo, formado por su posición en cada nivel (ej.: {@code Categoría 3.0.4}).
+     * @param index el índice global del nodo.
+     * @return el nombre de la categoría.
+     */
+    public String nameOf(long index) {
+        List<String> positions = new ArrayList<>();
+        for (long node : pathOf(index)) {
+            int level = levelOf(node);
+            long position = node - levelOffsets[level];
+            positions.add(Long.toString(position % fanout));
+        }
+        return "Categoría " + String.join(".", positions);
+    }
+}
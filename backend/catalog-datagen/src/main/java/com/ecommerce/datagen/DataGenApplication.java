@@ -0,0 +1,63 @@
+package com.ecommerce.datagen;
+
+import com.ecommerce.datagen.sink.CatalogSink;
+import com.ecommerce.datagen.sink.EntityDocumentWriter;
+import com.ecommerce.datagen.sink.MongoBulkSink;
+import com.ecommerce.datagen.sink.NdjsonSink;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Línea de comandos del generador de catálogos sintéticos.
+ * <p>
+ * Ejemplos:
+ * <pre>
+ * java -cp ... com.ecommerce.datagen.DataGenApplication --format=ndjson --out=target/catalog --products=1000000
+ * java -cp ... com.ecommerce.datagen.DataGenApplication --format=mongo --mongo-uri=mongodb://localhost --database=Catalogo
+ * </pre>
+ */
+public final class DataGenApplication {
+    private static final Logger log = LoggerFactory.getLogger(DataGenApplication.class);
+
+    private DataGenApplication() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido (se espera --clave=valor): " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        CatalogShape shape = new CatalogShape(
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("brands", "50")),
+                Integer.parseInt(options.getOrDefault("category-depth", "3")),
+                Integer.parseInt(options.getOrDefault("category-fanout", "5")),
+                Long.parseLong(options.getOrDefault("products", "10000")),
+                Integer.parseInt(options.getOrDefault("variants-per-product", "4")));
+        CatalogGenerator generator = new CatalogGenerator(shape);
+        EntityDocumentWriter writer = EntityDocumentWriter.standalone();
+        long start = System.nanoTime();
+        CatalogGenerator.Counts counts;
+        if ("mongo".equals(options.getOrDefault("format", "ndjson"))) {
+            try (MongoClient client = MongoClients.create(options.getOrDefault("mongo-uri", "mongodb://localhost:27017"));
+                 CatalogSink sink = new MongoBulkSink(client.getDatabase(options.getOrDefault("database", "Catalogo")),
+                         writer, Integer.parseInt(options.getOrDefault("batch-size", "1000")))) {
+                counts = generator.writeTo(sink);
+            }
+        } else {
+            try (CatalogSink sink = new NdjsonSink(Path.of(options.getOrDefault("out", "target/catalog")), writer)) {
+                counts = generator.writeTo(sink);
+            }
+        }
+        log.info("Catálogo generado en {} ms: {}", (System.nanoTime() - start) / 1_000_000, counts);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.datagen;
+
+import com.github.f4b6a3.ulid.Ulid;
+
+/**
+ * Identificadores ULID deterministas derivados de (semilla, tipo de entidad, índice).
+ * El componente de tiempo crece con el índice, de modo que los IDs de un mismo tipo quedan ordenados según
+ * su generación (inserciones al final del índice {@code _id}) y se pueden recalcular sin guardar nada en memoria.
+ */
+public final class DeterministicIds {
+    // --- Campos constantes ---
+    /** 2024-01-01T00:00:00Z, origen del componente de tiempo. */
+    private static final long BASE_EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Tipos de entidad, cada uno con su propia sal para que sus IDs no coincidan.
+     */
+    public enum Kind {
+        BRAND, CATEGORY, PRODUCT, VARIANT;
+
+        private final long salt = mix64((ordinal() + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private DeterministicIds() {}
+
+    /**
+     * Calcula el identificador de una entidad.
+     * @param seed la semilla del catálogo.
+     * @param kind el tipo de entidad.
+     * @param index el índice de la entidad dentro de su tipo.
+     * @return el ULID en minúsculas.
+     */
+    public static String id(long seed, Kind kind, long index) {
+        long hash = mix64(seed ^ kind.salt ^ (index * GOLDEN_GAMMA));
+        long msb = ((BASE_EPOCH_MILLIS + index) << 16) | (hash >>> 48);
+        long lsb = mix64(hash);
+        return new Ulid(msb, lsb).toLowerCase();
+    }
+
+    /**
+     * Semilla derivada para el generador aleatorio de una entidad, de modo que cada entidad se pueda regenerar sola.
+     * @param seed la semilla del catálogo.
+     * @param kind el tipo de entidad.
+     * @param index el índice de la entidad.
+     * @return la semilla derivada.
+     */
+    public static long seedFor(long seed, Kind kind, long index) {
+        return mix64(seed + kind.salt + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Función de mezcla de SplitMix64.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.datagen;
+
+import com.ecommerce.catalog.product.domain.constant.AttributeType;
+import com.ecommerce.catalog.product.domain.model.vo.Attribute;
+import com.ecommerce.libs.domain.vo.NonBlankString;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Esquemas de atributos de producto usados por el catálogo sintético, con un generador de valores
+ * de variante que siempre cumple el esquema (tipos, requeridos y opciones de variante).
+ */
+public enum SchemaTemplate {
+    APPAREL {
+        @Override
+        public List<Attribute> attributes() {
+            return List.of(
+                    attribute("color", AttributeType.COLOR_HEX, true, true, null),
+                    attribute("size", AttributeType.STRING, true, true, null),
+                    attribute("material", AttributeType.STRING, false, true, "cotton"));
+        }
+
+        @Override
+        public Map<String, Object> variantAttributes(RandomGenerator random) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("color", COLORS[random.nextInt(COLORS.length)]);
+            values.put("size", SIZES[random.nextInt(SIZES.length)]);
+            if (random.nextInt(4) == 0) {
+                values.put("material", "linen");
+            }
+            return values;
+        }
+    },
+    ELECTRONICS {
+        @Override
+        public List<Attribute> attributes() {
+            return List.of(
+                    attribute("storage", AttributeType.INTEGER, true, true, null),
+                    attribute("color", AttributeType.COLOR_HEX, true, false, null),
+                    attribute("wireless", AttributeType.BOOLEAN, false, false, true),
+                    attribute("weight", AttributeType.DOUBLE, false, false, 0.5));
+        }
+
+        @Override
+        public Map<String, Object> variantAttributes(RandomGenerator random) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("storage", STORAGE[random.nextInt(STORAGE.length)]);
+            values.put("color", COLORS[random.nextInt(COLORS.length)]);
+            if (random.nextBoolean()) {
+                values.put("weight", 0.25 * (1 + random.nextInt(8)));
+            }
+            return values;
+        }
+    },
+    BOOK {
+        @Override
+        public List<Attribute> attributes() {
+            return List.of(
+                    attribute("format", AttributeType.STRING, true, true, null),
+                    attribute("pages", AttributeType.INTEGER, false, false, 300),
+                    attribute("language", AttributeType.STRING, false, true, "es"));
+        }
+
+        @Override
+        public Map<String, Object> variantAttributes(RandomGenerator random) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("format", FORMATS[random.nextInt(FORMATS.length)]);
+            values.put("pages", 100 + random.nextInt(900));
+            return values;
+        }
+    };
+
+    // --- Campos constantes ---
+    private static final String[] COLORS = {"#000000", "#ffffff", "#c0392b", "#2980b9", "#27ae60", "#f1c40f"};
+    private static final String[] SIZES = {"XS", "S", "M", "L", "XL"};
+    private static final Integer[] STORAGE = {64, 128, 256, 512};
+    private static final String[] FORMATS = {"tapa dura", "tapa blanda", "ebook"};
+
+    /**
+     * @return las definiciones de atributos del esquema.
+     */
+    public abstract List<Attribute> attributes();
+
+    /**
+     * Genera los atributos de una variante que cumplen el esquema.
+     * @param random la fuente de aleatoriedad.
+     * @return el mapa de atributos de la variante.
+     */
+    public abstract Map<String, Object> variantAttributes(RandomGenerator random);
+
+    private static Attribute attribute(String key, AttributeType type, boolean variantOption, boolean required,
+                                       Object defaultValue) {
+        return new Attribute(new NonBlankString(key), new NonBlankString(key), type, variantOption, required, defaultValue);
+    }
+}
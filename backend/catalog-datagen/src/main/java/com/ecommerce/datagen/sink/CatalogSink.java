@@ -0,0 +1,23 @@
+package com.ecommerce.datagen.sink;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+/**
+ * Destino de las entidades generadas.
+ */
+public interface CatalogSink extends AutoCloseable {
+
+    /**
+     * Escribe todas las entidades de un flujo, consumiéndolo de forma incremental.
+     * @param type el tipo de entidad del flujo.
+     * @param entities el flujo de entidades.
+     * @param <T> el tipo de entidad.
+     * @return la cantidad de entidades escritas.
+     * @throws IOException si falla la escritura.
+     */
+    <T> long write(Class<T> type, Stream<T> entities) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,87 @@
+package com.ecommerce.datagen.sink;
+
+import org.bson.Document;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.util.List;
+
+/**
+ * Convierte entidades de dominio en documentos BSON tal como los guardaría el servicio: aplica la auditoría
+ * ({@code createdAt}/{@code updatedAt}), inicializa la versión de las entidades versionadas y usa el
+ * {@link MongoConverter} de Spring Data, de modo que los documentos escritos en bloque son indistinguibles
+ * de los creados por los repositorios.
+ */
+public class EntityDocumentWriter {
+    // --- Dependencias ---
+    private final MongoConverter converter;
+    private final IsNewAwareAuditingHandler auditingHandler;
+
+    /**
+     * Construye el escritor a partir del conversor de una aplicación en ejecución.
+     * @param converter el conversor de MongoDB de la aplicación.
+     */
+    public EntityDocumentWriter(MongoConverter converter) {
+        this.converter = converter;
+        this.auditingHandler = new IsNewAwareAuditingHandler(PersistentEntities.of(converter.getMappingContext()));
+    }
+
+    /**
+     * Crea un escritor con un conversor independiente, sin base de datos ni contexto de Spring.
+     * @return el escritor.
+     */
+    public static EntityDocumentWriter standalone() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return new EntityDocumentWriter(converter);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @param type el tipo de entidad.
+     * @return el nombre de la colección donde se guarda.
+     */
+    public String collectionOf(Class<?> type) {
+        return persistentEntity(type).getCollection();
+    }
+
+    /**
+     * Convierte una entidad nueva en su documento.
+     * @param entity la entidad.
+     * @return el documento a insertar.
+     */
+    public Document toDocument(Object entity) {
+        Object audited = auditingHandler.markAudited(entity);
+        MongoPersistentEntity<?> persistentEntity = persistentEntity(audited.getClass());
+        MongoPersistentProperty version = persistentEntity.getVersionProperty();
+        if (version != null) {
+            PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(audited);
+            if (accessor.getProperty(version) == null) {
+                accessor.setProperty(version, 0L);
+            }
+        }
+        Document document = new Document();
+        converter.write(audited, document);
+        return document;
+    }
+
+    // --- Métodos auxiliares ---
+
+    private MongoPersistentEntity<?> persistentEntity(Class<?> type) {
+        return converter.getMappingContext().getRequiredPersistentEntity(type);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.datagen.sink;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Escribe las entidades en MongoDB con inserciones en bloque no ordenadas de tamaño fijo.
+ * Solo se mantiene en memoria el lote en curso.
+ */
+public class MongoBulkSink implements CatalogSink {
+    // --- Dependencias ---
+    private final MongoDatabase database;
+    private final EntityDocumentWriter writer;
+    private final int batchSize;
+
+    /**
+     * Construye el destino.
+     * @param database la base de datos destino.
+     * @param writer el conversor de entidades a documentos.
+     * @param batchSize la cantidad de documentos por inserción.
+     */
+    public MongoBulkSink(MongoDatabase database, EntityDocumentWriter writer, int batchSize) {
+        this.database = database;
+        this.writer = writer;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public <T> long write(Class<T> type, Stream<T> entities) {
+        MongoCollection<Document> collection = database.getCollection(writer.collectionOf(type));
+        InsertManyOptions options = new InsertManyOptions().ordered(false);
+        List<Document> batch = new ArrayList<>(batchSize);
+        long written = 0;
+        Iterator<T> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            batch.add(writer.toDocument(iterator.next()));
+            if (batch.size() == batchSize) {
+                collection.insertMany(batch, options);
+                written += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch, options);
+            written += batch.size();
+        }
+        return written;
+    }
+
+    @Override
+    public void close() {
+        // El cliente de MongoDB pertenece a quien creó el destino.
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.datagen.sink;
+
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Escribe las entidades como NDJSON (un documento JSON extendido relajado por línea), en un archivo por colección
+ * ({@code products.ndjson}, ...), listo para {@code mongoimport --file products.ndjson --collection products}.
+ */
+public class NdjsonSink implements CatalogSink {
+    // --- Campos constantes ---
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+    // --- Dependencias ---
+    private final Path directory;
+    private final EntityDocumentWriter writer;
+
+    /**
+     * Construye el destino.
+     * @param directory el directorio donde se crean los archivos.
+     * @param writer el conversor de entidades a documentos.
+     * @throws IOException si no se puede crear el directorio.
+     */
+    public NdjsonSink(Path directory, EntityDocumentWriter writer) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.writer = writer;
+    }
+
+    @Override
+    public <T> long write(Class<T> type, Stream<T> entities) throws IOException {
+        Path file = directory.resolve(writer.collectionOf(type) + ".ndjson");
+        long written = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            Iterator<T> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.toDocument(iterator.next()).toJson(JSON));
+                out.newLine();
+                written++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written;
+    }
+
+    @Override
+    public void close() {
+        // Cada archivo se cierra al terminar su colección.
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.datagen;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+import com.ecommerce.catalog.product.application.VariantAttributeValidator;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.datagen.sink.EntityDocumentWriter;
+import com.ecommerce.datagen.sink.NdjsonSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogGeneratorTest {
+    private final CatalogGenerator generator = new CatalogGenerator(new CatalogShape(7L, 5, 3, 3, 50, 3));
+
+    @Test
+    void sameSeedProducesSameEntities() {
+        CatalogGenerator other = new CatalogGenerator(generator.shape());
+
+        assertThat(other.products().map(Product::getName).toList())
+                .isEqualTo(generator.products().map(Product::getName).toList());
+        assertThat(other.variantId(10, 2)).isEqualTo(generator.variantId(10, 2));
+        assertThat(generator.products().map(Product::getId).toList()).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void categoryAncestorsFollowTheParentChain() {
+        Map<String, Category> byId = generator.categories()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        assertThat(byId).hasSize(3 + 9 + 27);
+        for (Category category : byId.values()) {
+            List<String> ancestors = category.getAncestors();
+            assertThat(ancestors.get(ancestors.size() - 1)).isEqualTo(category.getId());
+            if (category.getParentId() == null) {
+                assertThat(ancestors).hasSize(1);
+            } else {
+                assertThat(ancestors.subList(0, ancestors.size() - 1))
+                        .isEqualTo(byId.get(category.getParentId()).getAncestors());
+            }
+        }
+    }
+
+    @Test
+    void variantsSatisfyTheirProductSchema() {
+        VariantAttributeValidator validator = new VariantAttributeValidator();
+        for (long p = 0; p < generator.shape().products(); p++) {
+            Product product = generator.product(p);
+            for (int v = 0; v < generator.shape().variantsPerProduct(); v++) {
+                Variant variant = generator.variant(p, v);
+                assertThat(variant.getProductId().value()).isEqualTo(product.getId());
+                validator.validate(variant.getAttributes(), product.getAttributeDefinitions());
+            }
+        }
+    }
+
+    @Test
+    void writesOneNdjsonFilePerCollection(@TempDir Path directory) throws Exception {
+        try (NdjsonSink sink = new NdjsonSink(directory, EntityDocumentWriter.standalone())) {
+            CatalogGenerator.Counts counts = generator.writeTo(sink);
+            assertThat(counts.variants()).isEqualTo(150);
+        }
+
+        List<String> variants = Files.readAllLines(directory.resolve("variants.ndjson"));
+        assertThat(variants).hasSize(150);
+        assertThat(variants.get(0)).contains("\"_id\"", "\"createdAt\"", "\"version\": 0", "\"priceMinorUnits\"");
+        assertThat(Files.readAllLines(directory.resolve("categories.ndjson"))).hasSize(39);
+    }
+}
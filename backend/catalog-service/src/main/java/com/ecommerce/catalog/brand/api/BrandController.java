@@ -3,6 +3,7 @@ package com.ecommerce.catalog.brand.api;
 import com.ecommerce.catalog.brand.application.BrandService;
 import com.ecommerce.catalog.brand.application.dto.request.BrandRequestDTO;
 import com.ecommerce.catalog.brand.application.dto.response.BrandResponseDTO;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
 import com.ecommerce.catalog.sharedkernel.api.DeleteController;
 import com.ecommerce.catalog.sharedkernel.api.ReadController;
 import jakarta.validation.Valid;
@@ -55,8 +56,8 @@ public class BrandController implements ReadController<BrandResponseDTO, String>
     @Override
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable String id) {
-        service.delete(id);
-        return ResponseEntity.noContent().build();
+        DeletionJobResponseDTO job = service.delete(id, null);
+        return ResponseEntity.accepted().location(jobLocation(job)).build();
     }
 
     // --- EndPonts funcionales ---
@@ -111,4 +112,24 @@ public class BrandController implements ReadController<BrandResponseDTO, String>
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Elimina una marca y pasa sus productos a otra marca en segundo plano.
+     * @param id el ID de la marca a eliminar.
+     * @param reassignTo el ID de la marca a la que pasan sus productos.
+     * @return una ResponseEntity 202 (Accepted) con el trabajo que reasigna los productos y su URI en la cabecera Location.
+     */
+    @DeleteMapping(value = "/{id}", params = "reassignTo")
+    public ResponseEntity<DeletionJobResponseDTO> deleteAndReassign(
+            @PathVariable String id, @RequestParam String reassignTo) {
+        DeletionJobResponseDTO job = service.delete(id, reassignTo);
+        return ResponseEntity.accepted().location(jobLocation(job)).body(job);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static URI jobLocation(DeletionJobResponseDTO job) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/jobs/{id}").buildAndExpand(job.id()).toUri();
+    }
 }
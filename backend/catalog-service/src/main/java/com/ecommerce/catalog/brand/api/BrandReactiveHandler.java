@@ -0,0 +1,64 @@
+package com.ecommerce.catalog.brand.api;
+
+import com.ecommerce.catalog.brand.application.mapper.BrandMapper;
+import com.ecommerce.catalog.brand.domain.repository.ReactiveBrandRepository;
+import com.ecommerce.catalog.sharedkernel.api.ReactiveResponses;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handler de la API de lectura reactiva de marcas. Expone las mismas lecturas que {@link BrandController},
+ * sin bloquear hilos mientras se espera a MongoDB.
+ */
+public class BrandReactiveHandler {
+    // --- Dependencias ---
+    private final ReactiveBrandRepository repository;
+    private final BrandMapper mapper;
+
+    /**
+     * Construye el handler.
+     * @param repository el repositorio reactivo de marcas.
+     * @param mapper el mapper de marcas.
+     */
+    public BrandReactiveHandler(ReactiveBrandRepository repository, BrandMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@code GET /brands/{id}}: obtiene una marca por su ID.
+     * @param request la petición.
+     * @return 200 OK con la marca, o 404 Not Found.
+     */
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return ReactiveResponses.single(repository.findById(id).map(mapper::toResponseDTO), "Brand", id);
+    }
+
+    /**
+     * {@code GET /brands}: obtiene una página de marcas.
+     * @param request la petición, con los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(repository.findAllBy(pageable).map(mapper::toResponseDTO),
+                repository.count(), pageable);
+    }
+
+    /**
+     * {@code GET /brands?name=}: obtiene una página de marcas cuyo nombre contiene el texto indicado,
+     * sin distinguir mayúsculas, igual que {@link BrandController#searchByName}.
+     * @param request la petición, con el nombre y los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> searchByName(ServerRequest request) {
+        String name = request.queryParam("name").orElseThrow();
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(
+                repository.findByNameValueContainingIgnoreCase(name, pageable).map(mapper::toResponseDTO),
+                repository.countByNameValueContainingIgnoreCase(name), pageable);
+    }
+}
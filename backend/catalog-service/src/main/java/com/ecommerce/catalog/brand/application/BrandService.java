@@ -5,11 +5,15 @@ import com.ecommerce.catalog.brand.application.dto.request.BrandRequestDTO;
 import com.ecommerce.catalog.brand.application.mapper.BrandMapper;
 import com.ecommerce.catalog.brand.domain.model.Brand;
 import com.ecommerce.catalog.brand.domain.repository.BrandRepository;
+import com.ecommerce.catalog.job.application.DeletionJobService;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
 import com.ecommerce.catalog.sharedkernel.application.DeleteService;
 import com.ecommerce.catalog.sharedkernel.application.ReadService;
 import com.ecommerce.libs.application.exception.ResourceNotFoundException;
 import com.ecommerce.libs.application.util.IdGenerator;
 import com.ecommerce.libs.domain.vo.NonBlankString;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -30,11 +34,13 @@ import java.util.Optional;
  * las interacciones de la capa de persistencia con la capa de presentación o API.
  */
 @Service
+@Timed(value = "catalog.service", description = "Tiempo de ejecución de los métodos de servicio")
 public class BrandService implements ReadService<BrandResponseDTO, String>, DeleteService<String> {
     private static final Logger log = LoggerFactory.getLogger(BrandService.class);
     // --- Dependencias ---
     private final BrandRepository repository;
     private final BrandMapper mapper;
+    private final DeletionJobService deletionJobs;
 
     /**
      * Constructor del servicio de gestión de marcas dentro del catálogo de productos.
@@ -42,10 +48,12 @@ public class BrandService implements ReadService<BrandResponseDTO, String>, Dele
      * mapear datos entre entidades y DTO, y generar slugs únicos para las marcas.
      * @param repository el repositorio utilizado para acceder y persistir datos relacionados con las marcas.
      * @param mapper el mapeador para convertir entre entidades de dominio y objetos de transferencia de datos (DTO).
+     * @param deletionJobs el servicio que limpia en segundo plano los productos de las marcas eliminadas.
      */
-    public BrandService(BrandRepository repository, BrandMapper mapper) {
+    public BrandService(BrandRepository repository, BrandMapper mapper, DeletionJobService deletionJobs) {
         this.repository = repository;
         this.mapper = mapper;
+        this.deletionJobs = deletionJobs;
     }
 
     // --- Métodos heredados ---
@@ -69,17 +77,38 @@ public class BrandService implements ReadService<BrandResponseDTO, String>, Dele
     @Override
     @Transactional
     public void delete(String s) {
-        log.info("Eliminando marca: {}", s);
-        if(!repository.existsById(s)){
-            throw new ResourceNotFoundException("Brand", "ID", s);
-        }
-        // ¿qué pasa con los productos de esta marca?
-        repository.deleteById(s);
-        log.info("Marca eliminada con ID {}", s);
+        delete(s, null);
     }
 
     // --- Métodos funcionales ---
 
+    /**
+     * Elimina una marca y lanza el trabajo en segundo plano que desvincula sus productos o los pasa a otra marca.
+     * @param id el ID de la marca a eliminar.
+     * @param reassignTo el ID de la marca a la que pasan sus productos, o null para dejarlos sin marca.
+     * @return el trabajo que limpia los productos, para consultar su progreso.
+     */
+    @Transactional
+    public DeletionJobResponseDTO delete(String id, String reassignTo) {
+        log.info("Eliminando marca: {}, productos reasignados a: {}", id, reassignTo);
+        if(!repository.existsById(id)){
+            throw new ResourceNotFoundException("Brand", "ID", id);
+        }
+        if(reassignTo != null) {
+            if(reassignTo.equals(id)) {
+                throw new IllegalArgumentException("A brand cannot be reassigned to itself: " + id);
+            }
+            if(!repository.existsById(reassignTo)) {
+                throw new ResourceNotFoundException("Brand", "ID", reassignTo);
+            }
+        }
+        // El trabajo se guarda antes de eliminar; los productos se limpian por lotes fuera de la petición
+        return deletionJobs.start(DeletionTarget.BRAND, id, reassignTo, () -> {
+            repository.deleteById(id);
+            log.info("Marca eliminada con ID {}", id);
+        });
+    }
+
     /**
      * Busca marcas con nombres que contengan la cadena especificada, ignorando mayúsculas y minúsculas,
      * y devuelve los resultados en un formato paginado.
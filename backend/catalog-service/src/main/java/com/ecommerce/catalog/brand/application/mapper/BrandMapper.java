@@ -3,6 +3,8 @@ package com.ecommerce.catalog.brand.application.mapper;
 import com.ecommerce.catalog.brand.application.dto.response.BrandResponseDTO;
 import com.ecommerce.catalog.brand.domain.model.Brand;
 import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.mapstruct.AnnotateWith;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 
@@ -16,6 +18,7 @@ import java.util.List;
  * Es utilizada comúnmente en servicios y controladores para encapsular y devolver
  * datos relevantes sobre marcas en una estructura de datos más conveniente.
  */
+@AnnotateWith(value = Timed.class, elements = @AnnotateWith.Element(name = "value", strings = "catalog.mapper"))
 @Mapper(
         componentModel = "spring",
         uses = {ValueObjectMapper.class} // Usa el mapper común para NonBlankString -> String
@@ -2,7 +2,6 @@ package com.ecommerce.catalog.brand.domain.model;
 
 import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
 import com.ecommerce.libs.domain.vo.NonBlankString;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serial;
@@ -15,8 +14,7 @@ public class Brand extends BaseEntity<String> {
     @Serial
     private static final long serialVersionUID = 1L;
     // --- Atributos básicos ---
-    @Indexed(unique = true, collation = "{'locale: 'es', 'strength: 2}")
-    private NonBlankString name;
+    private NonBlankString name; // Índice único sin distinguir mayúsculas (CatalogIndexes)
     private String description;
     private String logoUrl;
 
@@ -0,0 +1,36 @@
+package com.ecommerce.catalog.brand.domain.repository;
+
+import com.ecommerce.catalog.brand.domain.model.Brand;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo para las lecturas de la entidad Brand en MongoDB, usado por la API de lectura reactiva.
+ */
+@Repository
+public interface ReactiveBrandRepository extends ReactiveMongoRepository<Brand, String> {
+    /**
+     * Recupera una página de marcas.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de marcas de la página solicitada.
+     */
+    Flux<Brand> findAllBy(Pageable pageable);
+
+    /**
+     * Recupera una página de marcas cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de marcas de la página solicitada.
+     */
+    Flux<Brand> findByNameValueContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Cuenta las marcas cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @return la cantidad de marcas.
+     */
+    Mono<Long> countByNameValueContainingIgnoreCase(String name);
+}
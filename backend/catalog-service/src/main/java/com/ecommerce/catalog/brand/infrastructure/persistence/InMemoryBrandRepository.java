@@ -0,0 +1,46 @@
+package com.ecommerce.catalog.brand.infrastructure.persistence;
+
+import com.ecommerce.catalog.brand.domain.model.Brand;
+import com.ecommerce.catalog.brand.domain.repository.BrandRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.DocumentMatchers;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.InMemoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.SecondaryIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementación en memoria de {@link BrandRepository}, activa con el perfil {@code inmemory}.
+ * Mantiene el índice único del nombre sin distinguir mayúsculas, como la collation del índice en MongoDB.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryBrandRepository extends InMemoryRepository<Brand> implements BrandRepository {
+    // --- Campos constantes ---
+    private static final String NAME = "name.value";
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryBrandRepository(MongoConverter converter, ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(Brand.class, converter, auditingHandler, SecondaryIndex.uniqueIgnoreCase(NAME));
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Boolean existsByNameValueIgnoreCase(String name) {
+        return !index(NAME).get(name).isEmpty();
+    }
+
+    @Override
+    public Page<Brand> findByNameValueContainingIgnoreCase(String name, Pageable pageable) {
+        return page(DocumentMatchers.containsIgnoreCase(NAME, name), pageable);
+    }
+}
@@ -2,8 +2,10 @@ package com.ecommerce.catalog.category.api;
 
 import com.ecommerce.catalog.category.application.CategoryService;
 import com.ecommerce.catalog.category.application.dto.request.CreateCategoryRequestDTO;
+import com.ecommerce.catalog.category.application.dto.request.MoveCategoryRequest;
 import com.ecommerce.catalog.category.application.dto.request.UpdateCategoryRequest;
 import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
 import com.ecommerce.catalog.sharedkernel.api.DeleteController;
 import com.ecommerce.catalog.sharedkernel.api.ReadController;
 import jakarta.validation.Valid;
@@ -54,8 +56,8 @@ public class CategoryController implements ReadController<CategoryResponseDTO, S
     @Override
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable String id) {
-        service.delete(id);
-        return ResponseEntity.noContent().build();
+        DeletionJobResponseDTO job = service.delete(id, null);
+        return ResponseEntity.accepted().location(jobLocation(job)).build();
     }
 
     // --- EndPoint funcionales ---
@@ -115,4 +117,38 @@ public class CategoryController implements ReadController<CategoryResponseDTO, S
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Mueve una categoría, con todas sus subcategorías, bajo otro padre o a la raíz.
+     * @param id el identificador único de la categoría a mover.
+     * @param request el objeto con el ID del nuevo padre (vacío para moverla a la raíz).
+     * @return una ResponseEntity con la categoría en su nueva posición.
+     * O 404 No encontrado si la categoría o el padre no existen, o 400 si el padre es una de sus descendientes.
+     */
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<CategoryResponseDTO> moveCategory(
+            @PathVariable String id, @RequestBody MoveCategoryRequest request){
+        return ResponseEntity.ok(service.move(id, request));
+    }
+
+    /**
+     * Elimina una categoría y pasa sus productos a la categoría indicada (en lugar de a su categoría padre)
+     * en segundo plano.
+     * @param id el ID de la categoría a eliminar.
+     * @param reassignTo el ID de la categoría a la que pasan sus productos.
+     * @return una ResponseEntity 202 (Accepted) con el trabajo que reasigna los productos y su URI en la cabecera Location.
+     */
+    @DeleteMapping(value = "/{id}", params = "reassignTo")
+    public ResponseEntity<DeletionJobResponseDTO> deleteAndReassign(
+            @PathVariable String id, @RequestParam String reassignTo) {
+        DeletionJobResponseDTO job = service.delete(id, reassignTo);
+        return ResponseEntity.accepted().location(jobLocation(job)).body(job);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static URI jobLocation(DeletionJobResponseDTO job) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/jobs/{id}").buildAndExpand(job.id()).toUri();
+    }
 }
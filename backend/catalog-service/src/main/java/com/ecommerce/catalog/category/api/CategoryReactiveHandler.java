@@ -0,0 +1,77 @@
+package com.ecommerce.catalog.category.api;
+
+import com.ecommerce.catalog.category.application.mapper.CategoryMapper;
+import com.ecommerce.catalog.category.domain.repository.ReactiveCategoryRepository;
+import com.ecommerce.catalog.sharedkernel.api.ReactiveResponses;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handler de la API de lectura reactiva de categorías. Expone las mismas lecturas que {@link CategoryController},
+ * sin bloquear hilos mientras se espera a MongoDB.
+ */
+public class CategoryReactiveHandler {
+    // --- Dependencias ---
+    private final ReactiveCategoryRepository repository;
+    private final CategoryMapper mapper;
+
+    /**
+     * Construye el handler.
+     * @param repository el repositorio reactivo de categorías.
+     * @param mapper el mapper de categorías.
+     */
+    public CategoryReactiveHandler(ReactiveCategoryRepository repository, CategoryMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@code GET /categories/{id}}: obtiene una categoría por su ID.
+     * @param request la petición.
+     * @return 200 OK con la categoría, o 404 Not Found.
+     */
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return ReactiveResponses.single(repository.findById(id).map(mapper::toResponseDTO), "Category", id);
+    }
+
+    /**
+     * {@code GET /categories}: obtiene una página de categorías.
+     * @param request la petición, con los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(repository.findAllBy(pageable).map(mapper::toResponseDTO),
+                repository.count(), pageable);
+    }
+
+    /**
+     * {@code GET /categories?name=}: obtiene una página de categorías cuyo nombre contiene el texto indicado,
+     * sin distinguir mayúsculas, igual que {@link CategoryController#searchByName}.
+     * @param request la petición, con el nombre y los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> searchByName(ServerRequest request) {
+        String name = request.queryParam("name").orElseThrow();
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(
+                repository.findByNameValueContainingIgnoreCase(name, pageable).map(mapper::toResponseDTO),
+                repository.countByNameValueContainingIgnoreCase(name), pageable);
+    }
+
+    /**
+     * {@code GET /categories/{id}/categories}: obtiene una página de las subcategorías directas de una categoría.
+     * @param request la petición, con los parámetros de paginación.
+     * @return 200 OK con la página, o 404 Not Found si la categoría padre no existe.
+     */
+    public Mono<ServerResponse> getSubcategories(ServerRequest request) {
+        String id = request.pathVariable("id");
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(repository.existsById(id), "Category", id,
+                repository.findByParentId(id, pageable).map(mapper::toResponseDTO),
+                repository.countByParentId(id), pageable);
+    }
+}
@@ -0,0 +1,201 @@
+package com.ecommerce.catalog.category.application;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
+import com.ecommerce.catalog.category.domain.repository.CategoryRepositoryCustom.ProductCountCorrection;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Mantiene los contadores desnormalizados de productos de cada categoría ({@code directProductCount} y
+ * {@code subtreeProductCount}).
+ * <p>
+ * Los contadores se actualizan de forma incremental cuando un producto se crea, cambia de categorías o se elimina,
+ * usando las cadenas de ancestros de sus categorías: un producto cuenta una vez en cada categoría asignada (directo) y
+ * una vez en cada ancestro de cualquiera de ellas (subárbol), aunque varias de sus categorías compartan ancestros.
+ * Como las actualizaciones incrementales no son atómicas con la escritura del producto, un trabajo periódico recalcula
+ * los contadores desde la colección de productos y corrige las diferencias.
+ */
+@Service
+@Timed(value = "catalog.service", description = "Tiempo de ejecución de los métodos de servicio")
+public class CategoryProductCountService {
+    private static final Logger log = LoggerFactory.getLogger(CategoryProductCountService.class);
+    private static final int RECOUNT_ATTEMPTS = 3;
+    // --- Dependencias ---
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * Constructor con todas las dependencias del servicio.
+     * @param categoryRepository la interfaz del repositorio para acceder a los datos de las categorías.
+     * @param productRepository la interfaz del repositorio para acceder a los datos de los productos.
+     */
+    public CategoryProductCountService(CategoryRepository categoryRepository, ProductRepository productRepository) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Cuenta un producto nuevo en sus categorías.
+     * @param categories las categorías del producto, con sus ancestros.
+     */
+    public void productAdded(List<Category> categories) {
+        productRecategorized(List.of(), categories);
+    }
+
+    /**
+     * Descuenta un producto eliminado de sus categorías.
+     * @param categories las categorías que tenía el producto, con sus ancestros.
+     */
+    public void productRemoved(List<Category> categories) {
+        productRecategorized(categories, List.of());
+    }
+
+    /**
+     * Actualiza los contadores de un producto que cambió de categorías. Solo se tocan las categorías cuya pertenencia
+     * cambió: una categoría que sigue en la rama del producto por otra de sus categorías no se modifica.
+     * @param before las categorías que tenía el producto, con sus ancestros.
+     * @param after las categorías que tiene ahora, con sus ancestros.
+     */
+    public void productRecategorized(List<Category> before, List<Category> after) {
+        Set<String> directBefore = direct(before);
+        Set<String> directAfter = direct(after);
+        Set<String> subtreeBefore = subtree(before);
+        Set<String> subtreeAfter = subtree(after);
+        categoryRepository.incrementProductCounts(
+                difference(directAfter, directBefore), difference(subtreeAfter, subtreeBefore), 1);
+        categoryRepository.incrementProductCounts(
+                difference(directBefore, directAfter), difference(subtreeBefore, subtreeAfter), -1);
+    }
+
+    /**
+     * Recalcula el contador de subárbol de los ancestros que ganó o perdió un subárbol movido. No traslada una
+     * cantidad leída antes del movimiento: un {@code $inc} concurrente sobre el subárbol la dejaría desfasada, y un
+     * producto que también pertenece a otra rama del mismo ancestro no debe descontarse. Cada ancestro se cuenta desde
+     * los productos de su rama actual y se corrige solo si sus contadores no cambiaron durante el conteo; si otra
+     * escritura los cambia en todos los intentos, queda para la reconciliación periódica.
+     * @param oldAncestors los ancestros que tenía la categoría movida (sin incluirla).
+     * @param newAncestors los ancestros que tiene ahora (sin incluirla).
+     */
+    public void subtreeMoved(List<String> oldAncestors, List<String> newAncestors) {
+        Set<String> before = new LinkedHashSet<>(oldAncestors);
+        Set<String> after = new LinkedHashSet<>(newAncestors);
+        Set<String> affected = new LinkedHashSet<>(difference(before, after));
+        affected.addAll(difference(after, before));
+        for (String ancestorId : affected) {
+            if (!recountSubtree(ancestorId)) {
+                log.warn("No se pudo recalcular el contador de subárbol de la categoría {}; "
+                        + "lo corregirá la reconciliación", ancestorId);
+            }
+        }
+    }
+    /**
+     * Recalcula los contadores de todas las categorías recorriendo los productos (solo sus categorías) y corrige
+     * las que difieran. Se ejecuta periódicamente ({@code catalog.categories.product-counts.reconcile-interval}).
+     * Una categoría modificada por un {@code $inc} durante el recorrido no se corrige; queda para la siguiente ejecución.
+     * @return la cantidad de categorías corregidas.
+     */
+    @Scheduled(initialDelayString = "${catalog.categories.product-counts.reconcile-interval:PT1H}",
+            fixedDelayString = "${catalog.categories.product-counts.reconcile-interval:PT1H}")
+    public long reconcile() {
+        List<Category> categories = categoryRepository.findAll();
+        Map<String, Category> byId = new HashMap<>();
+        categories.forEach(category -> byId.put(category.getId(), category));
+        Map<String, Long> direct = new HashMap<>();
+        Map<String, Long> subtree = new HashMap<>();
+        long products = 0;
+        try (Stream<Product> stream = productRepository.streamCategoriesIdBy()) {
+            for (Product product : (Iterable<Product>) stream::iterator) {
+                List<Category> assigned = product.getCategoriesId().stream()
+                        .map(byId::get)
+                        .filter(category -> category != null)
+                        .toList();
+                direct(assigned).forEach(id -> direct.merge(id, 1L, Long::sum));
+                subtree(assigned).forEach(id -> subtree.merge(id, 1L, Long::sum));
+                products++;
+            }
+        }
+        List<ProductCountCorrection> corrections = new ArrayList<>();
+        for (Category category : categories) {
+            long expectedDirect = direct.getOrDefault(category.getId(), 0L);
+            long expectedSubtree = subtree.getOrDefault(category.getId(), 0L);
+            if (category.getDirectProductCount() != expectedDirect || category.getSubtreeProductCount() != expectedSubtree) {
+                corrections.add(new ProductCountCorrection(category.getId(),
+                        category.getDirectProductCount(), category.getSubtreeProductCount(), expectedDirect, expectedSubtree));
+            }
+        }
+        long corrected = categoryRepository.correctProductCounts(corrections);
+        if (corrected > 0) {
+            log.warn("Contadores de productos corregidos en {} de {} categorías ({} productos recorridos)",
+                    corrected, categories.size(), products);
+        } else {
+            log.debug("Contadores de productos al día en {} categorías ({} productos recorridos)", categories.size(), products);
+        }
+        return corrected;
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Cuenta los productos de la rama de una categoría y corrige su contador de subárbol si sus contadores siguen
+     * como se leyeron antes del conteo.
+     * @return {@code true} si el contador quedó corregido (o ya era correcto), o la categoría ya no existe.
+     */
+    private boolean recountSubtree(String categoryId) {
+        for (int attempt = 0; attempt < RECOUNT_ATTEMPTS; attempt++) {
+            List<Category> branch = categoryRepository.findByAncestors(categoryId);
+            Category category = branch.stream()
+                    .filter(candidate -> candidate.getId().equals(categoryId))
+                    .findFirst()
+                    .orElse(null);
+            if (category == null) {
+                return true;
+            }
+            long subtree = productRepository.countByCategoriesIdIn(direct(branch));
+            if (category.getSubtreeProductCount() == subtree) {
+                return true;
+            }
+            long direct = category.getDirectProductCount();
+            if (categoryRepository.correctProductCounts(List.of(new ProductCountCorrection(
+                    categoryId, direct, category.getSubtreeProductCount(), direct, subtree))) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> direct(Collection<Category> categories) {
+        Set<String> ids = new LinkedHashSet<>();
+        categories.forEach(category -> ids.add(category.getId()));
+        return ids;
+    }
+
+    private static Set<String> subtree(Collection<Category> categories) {
+        Set<String> ids = new LinkedHashSet<>();
+        categories.forEach(category -> ids.addAll(category.getAncestors()));
+        return ids;
+    }
+
+    private static Set<String> difference(Set<String> left, Set<String> right) {
+        Set<String> result = new HashSet<>(left);
+        result.removeAll(right);
+        return result;
+    }
+}
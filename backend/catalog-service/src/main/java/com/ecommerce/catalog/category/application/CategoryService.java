@@ -1,17 +1,22 @@
 package com.ecommerce.catalog.category.application;
 
 import com.ecommerce.catalog.category.application.dto.request.CreateCategoryRequestDTO;
+import com.ecommerce.catalog.category.application.dto.request.MoveCategoryRequest;
 import com.ecommerce.catalog.category.application.dto.request.UpdateCategoryRequest;
 import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
 import com.ecommerce.catalog.category.application.mapper.CategoryMapper;
 import com.ecommerce.catalog.category.domain.exception.CategoryNotEmptyException;
 import com.ecommerce.catalog.category.domain.model.Category;
 import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
+import com.ecommerce.catalog.job.application.DeletionJobService;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
 import com.ecommerce.catalog.sharedkernel.application.DeleteService;
 import com.ecommerce.catalog.sharedkernel.application.ReadService;
 import com.ecommerce.libs.application.exception.ResourceNotFoundException;
 import com.ecommerce.libs.application.util.IdGenerator;
 import com.ecommerce.libs.domain.vo.NonBlankString;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -22,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -31,20 +37,28 @@ import java.util.Optional;
  * Implementa las interfaces ReadService y DeleteService para proporcionar métodos genéricos de recuperación y eliminación.
  */
 @Service
+@Timed(value = "catalog.service", description = "Tiempo de ejecución de los métodos de servicio")
 public class CategoryService implements ReadService<CategoryResponseDTO, String>, DeleteService<String> {
     private static final Logger log = LoggerFactory.getLogger(CategoryService.class);
     // --- Dependencias ---
     private final CategoryRepository repository;
     private final CategoryMapper mapper;
+    private final CategoryProductCountService productCounts;
+    private final DeletionJobService deletionJobs;
 
     /**
      * Clase de servicio para gestionar operaciones relacionadas con categorías.
      * @param repository la interfaz del repositorio para acceder a los datos de categorías.
      * @param categoryMapper el asignador utilizado para convertir entre objetos de dominio y DTO.
+     * @param productCounts el servicio que mantiene los contadores de productos de las categorías.
+     * @param deletionJobs el servicio que limpia en segundo plano los productos de las categorías eliminadas.
      */
-    public CategoryService(CategoryRepository repository, CategoryMapper categoryMapper) {
+    public CategoryService(CategoryRepository repository, CategoryMapper categoryMapper,
+                           CategoryProductCountService productCounts, DeletionJobService deletionJobs) {
         this.repository = repository;
         this.mapper = categoryMapper;
+        this.productCounts = productCounts;
+        this.deletionJobs = deletionJobs;
     }
 
     // --- Métodos heredados ---
@@ -68,21 +82,44 @@ public class CategoryService implements ReadService<CategoryResponseDTO, String>
     @Override
     @Transactional
     public void delete(String id) {
-        log.info("Intentando eliminar categoría ID: {}", id);
-        if(!repository.existsById(id)){
-            throw new ResourceNotFoundException("Category", "ID", id);
-        }
+        delete(id, null);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Elimina una categoría sin subcategorías y lanza el trabajo en segundo plano que pasa sus productos
+     * a otra categoría: la indicada o, si no se indica, su categoría padre. Los productos de una categoría raíz
+     * eliminada sin reemplazo solo se desvinculan.
+     * @param id el ID de la categoría a eliminar.
+     * @param reassignTo el ID de la categoría a la que pasan sus productos, o null para usar la categoría padre.
+     * @return el trabajo que limpia los productos, para consultar su progreso.
+     */
+    @Transactional
+    public DeletionJobResponseDTO delete(String id, String reassignTo) {
+        log.info("Intentando eliminar categoría ID: {}, productos reasignados a: {}", id, reassignTo);
+        Category category = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "ID", id));
         // Verificar que no tenga hijos
         if(repository.countByParentId(id) > 0){
             throw new CategoryNotEmptyException(id);
         }
-        // ¿Qué pasa con los productos de esta categoría?
-        repository.deleteById(id);
-        log.info("Categoría eliminada ID: {}", id);
+        String replacementId = reassignTo != null ? reassignTo : category.getParentId();
+        if(reassignTo != null) {
+            if(reassignTo.equals(id)) {
+                throw new IllegalArgumentException("A category cannot be reassigned to itself: " + id);
+            }
+            if(!repository.existsById(reassignTo)) {
+                throw new ResourceNotFoundException("Category", "ID", reassignTo);
+            }
+        }
+        // El trabajo se guarda antes de eliminar; los productos se limpian por lotes fuera de la petición
+        return deletionJobs.start(DeletionTarget.CATEGORY, id, replacementId, () -> {
+            repository.deleteById(id);
+            log.info("Categoría eliminada ID: {}", id);
+        });
     }
 
-    // --- Métodos funcionales ---
-
     /**
      * Busca categorías por nombre y devuelve un resultado paginado.
      * @param name el nombre de la categoría o parte del nombre para filtrar los resultados.
@@ -175,18 +212,59 @@ public class CategoryService implements ReadService<CategoryResponseDTO, String>
         if(currentName.equalsIgnoreCase(originalName)){
             throw new DataIntegrityViolationException("There is ready a category with name " + currentName);
         }
-        // Modificar la instancia
+        // Normalizar los valores con las reglas de la entidad
         category.setName(request.name());
         category.setDescription(request.description());
-        // Guardar la instancia modificada
+        // Guardar solo el nombre y la descripción: guardar el documento leído desharía un movimiento del subárbol
+        // o los $inc de los contadores de productos ocurridos entretanto
         try{
-            Category savedCategory = repository.save(category);
-            log.info("Categoría actualizada ID {}", savedCategory.getId());
-            return Optional.of(mapper.toResponseDTO(savedCategory));
+            if(!repository.updateDetails(id, category.getName().value(), category.getDescription())){
+                throw new ResourceNotFoundException("Category", "ID", id);
+            }
+            log.info("Categoría actualizada ID {}", id);
+            return repository.findById(id).map(mapper::toResponseDTO);
         } catch (DataIntegrityViolationException e){
             throw new IllegalArgumentException(
                     "Category conflict: (possible name repeated)" + request.name(), e
             );
         }
     }
+
+    /**
+     * Mueve una categoría, con todas sus descendientes, bajo un nuevo padre (o a la raíz).
+     * Los ancestros de todo el subárbol se reescriben con una única actualización múltiple en el repositorio;
+     * los productos no se modifican porque la rama de una categoría se resuelve por {@code ancestors}.
+     * @param id el identificador único de la categoría a mover.
+     * @param request la solicitud con el ID del nuevo padre, o vacío para moverla a la raíz.
+     * @return un objeto de transferencia de datos (DTO) con la categoría en su nueva posición.
+     */
+    @Transactional
+    public CategoryResponseDTO move(String id, MoveCategoryRequest request) {
+        String parentId = request.parentId() == null || request.parentId().isBlank() ? null : request.parentId().trim();
+        log.info("Moviendo categoría ID: {} bajo el padre ID: {}", id, parentId);
+        Category category = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "ID", id));
+        if (Objects.equals(category.getParentId(), parentId)) {
+            return mapper.toResponseDTO(category);
+        }
+        // Validar el nuevo padre: debe existir y no pertenecer al subárbol que se mueve
+        List<String> parentAncestors = new ArrayList<>();
+        if (parentId != null) {
+            Category parent = repository.findAncestorsOnlyById(parentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category", "ID", parentId));
+            if (parent.getAncestors().contains(id)) {
+                throw new IllegalArgumentException("Cannot move category " + id + " under its own descendant " + parentId);
+            }
+            parentAncestors.addAll(parent.getAncestors());
+        }
+        // Reescribir los ancestros de todo el subárbol
+        long moved = repository.moveSubtree(category, parentId, parentAncestors);
+        // Recalcular el contador de subárbol de los ancestros anteriores y nuevos desde los productos de su rama
+        List<String> previousAncestors = category.getAncestors().subList(0, category.getAncestors().indexOf(id));
+        productCounts.subtreeMoved(previousAncestors, parentAncestors);
+        log.info("Categoría movida ID {}. Categorías reescritas: {}", id, moved);
+        return repository.findById(id)
+                .map(mapper::toResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "ID", id));
+    }
 }
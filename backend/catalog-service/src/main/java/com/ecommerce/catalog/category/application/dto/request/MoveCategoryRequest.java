@@ -0,0 +1,17 @@
+package com.ecommerce.catalog.category.application.dto.request;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Representa una solicitud para mover una categoría (con todo su subárbol) bajo otro padre.
+ * Los campos incluyen:
+ * - parentId: El identificador del nuevo padre; nulo o vacío para convertir la categoría en raíz.
+ * Implementa Serializable para la serialización de objetos.
+ */
+public record MoveCategoryRequest(
+        String parentId
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
@@ -14,6 +14,8 @@ import java.util.List;
  * - nombre: El nombre de la categoría.
  * - descripción: Una breve descripción de la categoría.
  * - ancestors: Una lista que representa la jerarquía de categorías antecesoras para esta categoría.
+ * - directProductCount: La cantidad de productos asignados directamente a la categoría.
+ * - subtreeProductCount: La cantidad de productos distintos en la categoría y todas sus descendientes.
  * - createdAt: La fecha y hora de creación de la categoría.
  * - updatedAt: Fecha y hora de la última actualización de la categoría.
  */
@@ -23,6 +25,8 @@ public record CategoryResponseDTO (
         String description,
         String parentId,
         List<String> ancestors, // Mostrar la jerarquía completa
+        long directProductCount,
+        long subtreeProductCount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) implements Serializable {
@@ -3,6 +3,8 @@ package com.ecommerce.catalog.category.application.mapper;
 import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
 import com.ecommerce.catalog.category.domain.model.Category;
 import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.mapstruct.AnnotateWith;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 
@@ -15,6 +17,7 @@ import java.util.List;
  * El mapeador aprovecha MapStruct para generar automáticamente la implementación basada en los mapeos definidos.
  * Está diseñado para ser utilizado en un contexto Spring y utiliza mapeadores adicionales como {@link ValueObjectMapper} para la transformación de valores personalizados.
  */
+@AnnotateWith(value = Timed.class, elements = @AnnotateWith.Element(name = "value", strings = "catalog.mapper"))
 @Mapper(
         componentModel = "spring",
         uses = {ValueObjectMapper.class} // Usa el mapper común para NonBlankString -> String
@@ -2,7 +2,6 @@ package com.ecommerce.catalog.category.domain.model;
 
 import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
 import com.ecommerce.libs.domain.vo.NonBlankString;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serial;
@@ -13,18 +12,22 @@ import java.util.List;
 /**
  * Entidad que representa una Categoría en la jerarquía del catálogo (Array of Ancestors).
  * El nombre debe ser único (ignorando mayúsculas/minúsculas).
+ * Guarda además cuántos productos tiene asignados directamente y cuántos productos distintos hay en todo su subárbol,
+ * para mostrar los contadores de los menús de navegación sin consultar la colección de productos.
  */
 @Document(collection = "categories")
 public class Category extends BaseEntity<String> {
     @Serial
     private static final long serialVersionUID = 1L;
     // --- Atributos básicos ---
-    @Indexed(unique = true, collation = "{'locale': 'es', 'strength': 2}")
-    private NonBlankString name;
+    private NonBlankString name; // Índice único sin distinguir mayúsculas (CatalogIndexes)
     private String description;
     // --- Atributos referentes a otros documentos ---
-    @Indexed private String parentId;
-    @Indexed private List<String> ancestors;
+    private String parentId;
+    private List<String> ancestors;
+    // --- Contadores desnormalizados (los mantiene el repositorio con $inc, no el servicio) ---
+    private long directProductCount;
+    private long subtreeProductCount;
 
     /**
      * Constructor sin argumentos
@@ -55,6 +58,8 @@ public class Category extends BaseEntity<String> {
     public String getDescription() { return description; }
     public String getParentId() { return parentId; }
     public List<String> getAncestors() { return Collections.unmodifiableList(ancestors); }
+    public long getDirectProductCount() { return directProductCount; }
+    public long getSubtreeProductCount() { return subtreeProductCount; }
 
     // --- Setters ---
 
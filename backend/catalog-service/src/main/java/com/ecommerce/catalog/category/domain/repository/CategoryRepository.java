@@ -9,6 +9,7 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +17,7 @@ import java.util.Optional;
  * Repositorio para acceder a los datos de la entidad Category en MongoDB.
  */
 @Repository
-public interface CategoryRepository extends MongoRepository<Category, String> {
+public interface CategoryRepository extends MongoRepository<Category, String>, CategoryRepositoryCustom {
     /**
      * Comprueba si existe en la base de datos una entidad Category con el nombre especificado.
      * @param name el nombre de la categoría cuya existencia se comprueba. No debe ser nulo ni estar en blanco.
@@ -74,4 +75,13 @@ public interface CategoryRepository extends MongoRepository<Category, String> {
      */
     @Query("{ 'ancestors' : ?0 }")
     List<Category> findByAncestors(String ancestorId);
+
+    /**
+     * Obtiene solo los ancestros de varias categorías, para calcular sobre qué ramas cuenta un producto.
+     * Las categorías que no existen se omiten.
+     * @param categoriesId los IDs de las categorías.
+     * @return las categorías encontradas, con solo {@code _id} y {@code ancestors}.
+     */
+    @Query(value = "{ '_id' : { $in: ?0 } }", fields = "{ 'ancestors' : 1 }")
+    List<Category> findAncestorsOnlyByIdIn(Collection<String> categoriesId);
 }
@@ -0,0 +1,63 @@
+package com.ecommerce.catalog.category.domain.repository;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Operaciones sobre el árbol de categorías que no pueden expresarse como métodos derivados de Spring Data.
+ * La implementación para MongoDB es {@code CategoryRepositoryCustomImpl}.
+ */
+public interface CategoryRepositoryCustom {
+    /**
+     * Mueve una categoría con todo su subárbol bajo un nuevo padre, reescribiendo en una sola actualización múltiple
+     * el prefijo de {@code ancestors} de la categoría y de todas sus descendientes. Los productos no se modifican:
+     * referencian categorías por ID y la rama de una categoría se resuelve siempre por {@code ancestors}.
+     * @param category la categoría a mover, con sus ancestros actuales.
+     * @param newParentId el ID del nuevo padre, o null para convertirla en raíz.
+     * @param newParentAncestors los ancestros del nuevo padre (incluido él mismo); vacía si la categoría pasa a ser raíz.
+     * @return la cantidad de categorías reescritas (la propia categoría más sus descendientes).
+     */
+    long moveSubtree(Category category, String newParentId, List<String> newParentAncestors);
+
+    /**
+     * Modifica el nombre y la descripción de una categoría con un {@code $set} de solo esos campos, sin reescribir el
+     * documento: así no pisa una reescritura concurrente de {@code ancestors} ({@link #moveSubtree}) ni los contadores
+     * de productos que se mantienen con {@code $inc}.
+     * @param id el ID de la categoría.
+     * @param name el nombre nuevo.
+     * @param description la descripción nueva, o null para quitarla.
+     * @return true si la categoría existe.
+     * @throws org.springframework.dao.DuplicateKeyException si el nombre ya lo usa otra categoría.
+     */
+    boolean updateDetails(String id, String name, String description);
+
+    /**
+     * Suma {@code delta} a los contadores de productos de las categorías indicadas, con {@code $inc} en una sola
+     * operación en bloque.
+     * @param directIds las categorías cuyo {@code directProductCount} cambia.
+     * @param subtreeIds las categorías cuyo {@code subtreeProductCount} cambia.
+     * @param delta la variación (positiva al asignar productos, negativa al quitarlos).
+     */
+    void incrementProductCounts(Collection<String> directIds, Collection<String> subtreeIds, long delta);
+
+    /**
+     * Corrige los contadores de productos de varias categorías en una sola operación en bloque. Cada corrección solo se
+     * aplica si los contadores guardados siguen siendo los esperados, de modo que no pisa un {@code $inc} concurrente.
+     * @param corrections las correcciones a aplicar.
+     * @return la cantidad de categorías corregidas.
+     */
+    long correctProductCounts(List<ProductCountCorrection> corrections);
+
+    /**
+     * Corrección de los contadores de productos de una categoría.
+     * @param categoryId el ID de la categoría.
+     * @param expectedDirect el {@code directProductCount} leído antes de recalcular.
+     * @param expectedSubtree el {@code subtreeProductCount} leído antes de recalcular.
+     * @param direct el {@code directProductCount} recalculado.
+     * @param subtree el {@code subtreeProductCount} recalculado.
+     */
+    record ProductCountCorrection(String categoryId, long expectedDirect, long expectedSubtree, long direct, long subtree) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecommerce.catalog.category.domain.repository;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación para MongoDB de {@link CategoryRepositoryCustom}, que Spring Data combina con
+ * {@code CategoryRepository} por la convención del sufijo {@code Impl}. Spring Data busca la implementación en el
+ * paquete de la interfaz del repositorio, por eso vive junto a ella y no en {@code infrastructure}.
+ */
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+    // --- Campos constantes ---
+    private static final String ANCESTORS = "ancestors";
+    private static final String NAME = "name.value";
+    private static final String DESCRIPTION = "description";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DIRECT_COUNT = "directProductCount";
+    private static final String SUBTREE_COUNT = "subtreeProductCount";
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Construye la implementación.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     */
+    public CategoryRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // --- Métodos heredados ---
+
+    /**
+     * Equivale a un {@code $pull} del prefijo antiguo seguido de un {@code $push} con {@code $position: 0} del nuevo,
+     * pero en una sola actualización con pipeline (MongoDB no admite {@code $pull} y {@code $push} sobre el mismo campo
+     * en una actualización): {@code ancestors = nuevoPrefijo ++ ancestors[prefijoAntiguo..]}. La consulta usa
+     * el índice multiclave de {@code ancestors}, por lo que el coste es proporcional al tamaño del subárbol.
+     */
+    @Override
+    public long moveSubtree(Category category, String newParentId, List<String> newParentAncestors) {
+        String id = category.getId();
+        int oldPrefixSize = category.getAncestors().indexOf(id);
+        Document rewrite = new Document(ANCESTORS, new Document("$concatArrays", List.of(
+                        newParentAncestors,
+                        new Document("$slice", List.of("$" + ANCESTORS, oldPrefixSize, new Document("$size", "$" + ANCESTORS))))))
+                .append("parentId", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$_id", id)),
+                        newParentId == null ? "$$REMOVE" : newParentId,
+                        "$parentId")))
+                .append(UPDATED_AT, "$$NOW");
+        AggregationUpdate update = AggregationUpdate.from(List.of(context -> new Document("$set", rewrite)));
+        Query subtree = Query.query(Criteria.where(ANCESTORS).is(id));
+        return mongoTemplate.updateMulti(subtree, update, Category.class).getModifiedCount();
+    }
+
+    @Override
+    public boolean updateDetails(String id, String name, String description) {
+        Update update = new Update().set(NAME, name).currentDate(UPDATED_AT);
+        if (description == null) {
+            update.unset(DESCRIPTION);
+        } else {
+            update.set(DESCRIPTION, description);
+        }
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), update, Category.class)
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public void incrementProductCounts(Collection<String> directIds, Collection<String> subtreeIds, long delta) {
+        if (directIds.isEmpty() && subtreeIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Category.class);
+        if (!directIds.isEmpty()) {
+            bulk.updateMulti(Query.query(Criteria.where("_id").in(directIds)), new Update().inc(DIRECT_COUNT, delta));
+        }
+        if (!subtreeIds.isEmpty()) {
+            bulk.updateMulti(Query.query(Criteria.where("_id").in(subtreeIds)), new Update().inc(SUBTREE_COUNT, delta));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public long correctProductCounts(List<ProductCountCorrection> corrections) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Category.class);
+        for (ProductCountCorrection correction : corrections) {
+            Query unchanged = Query.query(new Criteria().andOperator(
+                    Criteria.where("_id").is(correction.categoryId()),
+                    countIs(DIRECT_COUNT, correction.expectedDirect()),
+                    countIs(SUBTREE_COUNT, correction.expectedSubtree())));
+            bulk.updateOne(unchanged, new Update()
+                    .set(DIRECT_COUNT, correction.direct())
+                    .set(SUBTREE_COUNT, correction.subtree()));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Condición sobre un contador; un contador en 0 también coincide con documentos anteriores que no tienen el campo.
+     */
+    private static Criteria countIs(String field, long value) {
+        return value == 0 ? Criteria.where(field).in(0L, null) : Criteria.where(field).is(value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.catalog.category.domain.repository;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo para las lecturas de la entidad Category en MongoDB, usado por la API de lectura reactiva.
+ */
+@Repository
+public interface ReactiveCategoryRepository extends ReactiveMongoRepository<Category, String> {
+    /**
+     * Recupera una página de categorías.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de categorías de la página solicitada.
+     */
+    Flux<Category> findAllBy(Pageable pageable);
+
+    /**
+     * Recupera una página de categorías cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de categorías de la página solicitada.
+     */
+    Flux<Category> findByNameValueContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Cuenta las categorías cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @return la cantidad de categorías.
+     */
+    Mono<Long> countByNameValueContainingIgnoreCase(String name);
+
+    /**
+     * Recupera una página de las subcategorías directas de una categoría.
+     * @param parentId el identificador de la categoría padre.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de subcategorías de la página solicitada.
+     */
+    Flux<Category> findByParentId(String parentId, Pageable pageable);
+
+    /**
+     * Cuenta las subcategorías directas de una categoría.
+     * @param parentId el identificador de la categoría padre.
+     * @return la cantidad de subcategorías.
+     */
+    Mono<Long> countByParentId(String parentId);
+
+    /**
+     * Obtiene solo los IDs de la rama de una categoría: la propia categoría y todas sus descendientes.
+     * @param ancestorId el ID de la categoría raíz de la rama.
+     * @return el flujo de categorías de la rama, con solo el campo {@code _id}.
+     */
+    @Query(value = "{ 'ancestors' : ?0 }", fields = "{ '_id' : 1 }")
+    Flux<Category> findIdsByAncestors(String ancestorId);
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.catalog.category.infrastructure.persistence;
+
+import com.ecommerce.catalog.category.domain.model.Category;
+import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.DocumentMatchers;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.InMemoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.SecondaryIndex;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación en memoria de {@link CategoryRepository}, activa con el perfil {@code inmemory}.
+ * Replica los índices de la colección: nombre único sin distinguir mayúsculas, padre y ancestros (multiclave).
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryCategoryRepository extends InMemoryRepository<Category> implements CategoryRepository {
+    // --- Campos constantes ---
+    private static final String NAME = "name.value";
+    private static final String PARENT_ID = "parentId";
+    private static final String ANCESTORS = "ancestors";
+    private static final String DIRECT_COUNT = "directProductCount";
+    private static final String SUBTREE_COUNT = "subtreeProductCount";
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryCategoryRepository(MongoConverter converter, ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(Category.class, converter, auditingHandler,
+                SecondaryIndex.uniqueIgnoreCase(NAME), SecondaryIndex.on(PARENT_ID), SecondaryIndex.on(ANCESTORS));
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Boolean existsByNameValueIgnoreCase(String name) {
+        return !index(NAME).get(name).isEmpty();
+    }
+
+    @Override
+    public Page<Category> findByNameValueContainingIgnoreCase(String name, Pageable pageable) {
+        return page(DocumentMatchers.containsIgnoreCase(NAME, name), pageable);
+    }
+
+    @Override
+    public Page<Category> findByParentIdIsNull(Pageable pageable) {
+        return page(index(PARENT_ID).get(null), pageable);
+    }
+
+    @Override
+    public Page<Category> findByParentId(String parentId, Pageable pageable) {
+        return page(index(PARENT_ID).get(parentId), pageable);
+    }
+
+    @Override
+    public Long countByParentId(String parentId) {
+        return (long) index(PARENT_ID).get(parentId).size();
+    }
+
+    /**
+     * En memoria no hay ahorro de transferencia, por lo que se devuelve la categoría completa.
+     */
+    @Override
+    public Optional<Category> findAncestorsOnlyById(String categoryId) {
+        return findById(categoryId);
+    }
+
+    @Override
+    public List<Category> findByAncestors(String ancestorId) {
+        return list(documents(index(ANCESTORS).get(ancestorId)));
+    }
+
+    /**
+     * En memoria no hay ahorro de transferencia, por lo que se devuelven las categorías completas.
+     */
+    @Override
+    public List<Category> findAncestorsOnlyByIdIn(Collection<String> categoriesId) {
+        return findAllById(categoriesId);
+    }
+
+    @Override
+    public long moveSubtree(Category category, String newParentId, List<String> newParentAncestors) {
+        String id = category.getId();
+        return updateIds(index(ANCESTORS).get(id), document -> {
+            List<String> ancestors = document.getList(ANCESTORS, String.class);
+            List<String> moved = new ArrayList<>(newParentAncestors);
+            moved.addAll(ancestors.subList(ancestors.indexOf(id), ancestors.size()));
+            document.put(ANCESTORS, moved);
+            if (id.equals(document.get("_id")) && newParentId == null) {
+                document.remove(PARENT_ID);
+            } else if (id.equals(document.get("_id"))) {
+                document.put(PARENT_ID, newParentId);
+            }
+            document.put("updatedAt", new Date());
+            return document;
+        });
+    }
+
+    @Override
+    public boolean updateDetails(String id, String name, String description) {
+        return updateIds(List.of(id), document -> {
+            document.put("name", new Document("value", name));
+            if (description == null) {
+                document.remove("description");
+            } else {
+                document.put("description", description);
+            }
+            document.put("updatedAt", new Date());
+            return document;
+        }) > 0;
+    }
+
+    @Override
+    public void incrementProductCounts(Collection<String> directIds, Collection<String> subtreeIds, long delta) {
+        updateIds(directIds, document -> increment(document, DIRECT_COUNT, delta));
+        updateIds(subtreeIds, document -> increment(document, SUBTREE_COUNT, delta));
+    }
+
+    @Override
+    public long correctProductCounts(List<ProductCountCorrection> corrections) {
+        long corrected = 0;
+        for (ProductCountCorrection correction : corrections) {
+            boolean[] applied = {false};
+            updateIds(List.of(correction.categoryId()), document -> {
+                if (count(document, DIRECT_COUNT) == correction.expectedDirect()
+                        && count(document, SUBTREE_COUNT) == correction.expectedSubtree()) {
+                    document.put(DIRECT_COUNT, correction.direct());
+                    document.put(SUBTREE_COUNT, correction.subtree());
+                    applied[0] = true;
+                }
+                return document;
+            });
+            corrected += applied[0] ? 1 : 0;
+        }
+        return corrected;
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static Document increment(Document document, String field, long delta) {
+        document.put(field, count(document, field) + delta);
+        return document;
+    }
+
+    private static long count(Document document, String field) {
+        return document.get(field) instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.catalog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita la ejecución asíncrona de métodos {@code @Async}, incluidos los {@code @EventListener} asíncronos.
+ * Las tareas usan el {@code applicationTaskExecutor} de Spring Boot, que con {@code spring.threads.virtual.enabled=true}
+ * crea un hilo virtual por tarea y, en caso contrario, es un pool de hilos de plataforma
+ * (configurable con {@code spring.task.execution.*}).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
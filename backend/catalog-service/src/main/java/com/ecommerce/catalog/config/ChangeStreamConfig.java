@@ -0,0 +1,56 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.CatalogChangeListener;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.CatalogChangePublisher;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ChangeStreamProperties;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ChangeStreamWatcher;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ResumeTokenStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuración del consumidor del change stream de las colecciones del catálogo ({@code catalog.change-stream.*}).
+ * Cada {@link CatalogChangeListener} registrado como bean recibe los cambios en orden; con
+ * {@code catalog.change-stream.amqp.enabled=true} se registra además el publicador AMQP de cambios.
+ * Requiere MongoDB como replica set, por lo que no aplica con el perfil {@code inmemory}.
+ */
+@Configuration
+@Profile("!inmemory")
+@EnableConfigurationProperties(ChangeStreamProperties.class)
+@ConditionalOnProperty(prefix = "catalog.change-stream", name = "enabled", havingValue = "true")
+public class ChangeStreamConfig {
+
+    @Bean
+    public ResumeTokenStore resumeTokenStore(MongoTemplate mongoTemplate) {
+        return new ResumeTokenStore(mongoTemplate);
+    }
+
+    @Bean
+    public ChangeStreamWatcher changeStreamWatcher(MongoTemplate mongoTemplate, ResumeTokenStore tokens,
+                                                   ObjectProvider<CatalogChangeListener> listeners,
+                                                   ChangeStreamProperties properties) {
+        return new ChangeStreamWatcher(mongoTemplate, tokens, listeners.orderedStream().toList(), properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog.change-stream.amqp", name = "enabled", havingValue = "true")
+    public CatalogChangePublisher catalogChangePublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper,
+                                                         @Value("${catalog.change-stream.amqp.exchange:catalog.changes}") String exchange) {
+        return new CatalogChangePublisher(rabbitTemplate, objectMapper, exchange);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog.change-stream.amqp", name = "enabled", havingValue = "true")
+    public TopicExchange catalogChangesExchange(@Value("${catalog.change-stream.amqp.exchange:catalog.changes}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+}
@@ -3,11 +3,14 @@ package com.ecommerce.catalog.config;
 import com.ecommerce.libs.application.dto.ErrorResponseDTO;
 import com.ecommerce.catalog.category.domain.exception.CategoryNotEmptyException;
 import com.ecommerce.catalog.product.application.exception.InvalidVariantAttributesException;
+import com.ecommerce.catalog.sharedkernel.application.exception.IdempotencyKeyReusedException;
+import com.ecommerce.catalog.sharedkernel.application.exception.IdempotentRequestInProgressException;
 import com.ecommerce.libs.application.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -37,6 +40,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     private static final String CONFLICT_MSG = "La operación no pudo completarse debido a un conflicto de datos.";
     private static final String OPTIMISTIC_LOCK_MSG = "El recurso fue modificado concurrentemente. Intente la operación de nuevo.";
     private static final String VALIDATION_ERROR_MSG = "La validación de la petición falló.";
+    private static final String TIMEOUT_MSG = "La consulta tardó demasiado. Intente la operación de nuevo.";
 
     // --- Administradores Específicos ---
 
@@ -128,6 +132,27 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Maneja {@link QueryTimeoutException}, lanzada cuando las consultas de una operación no terminan dentro del plazo.
+     * Devuelve una respuesta HTTP 503 Service Unavailable.
+     * @param ex la excepción lanzada al vencer el plazo.
+     * @param request la petición web actual durante la cual se lanzó la excepción.
+     * @return  una {@code ResponseEntity} que contiene una {@code ErrorResponse} con los detalles del error.
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ErrorResponseDTO> handleQueryTimeout(
+            QueryTimeoutException ex, WebRequest request) {
+
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                TIMEOUT_MSG,
+                getRequestPath(request)
+        );
+        log.warn("Plazo de consulta vencido [{}]: {}", getRequestPath(request), ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Maneja errores de validación de argumentos de método construyendo un {@code ErrorResponse} estructurado
      * y devolviendo una {@code ResponseEntity} con un estado HTTP 400 Bad Request.
@@ -206,6 +231,41 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Maneja {@link IdempotentRequestInProgressException} (409 Conflict).
+     * Ocurre cuando un reintento llega mientras la petición original con la misma {@code Idempotency-Key}
+     * todavía se está ejecutando; el cliente puede reintentar más tarde.
+     */
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIdempotentRequestInProgress(
+            IdempotentRequestInProgressException ex, WebRequest request) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                getRequestPath(request)
+        );
+        log.warn("Petición idempotente en curso [{}]: {}", getRequestPath(request), ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja {@link IdempotencyKeyReusedException} (422 Unprocessable Entity).
+     * Ocurre cuando el cliente reutiliza una {@code Idempotency-Key} con un cuerpo distinto del original.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIdempotencyKeyReused(
+            IdempotencyKeyReusedException ex, WebRequest request) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(),
+                ex.getMessage(),
+                getRequestPath(request)
+        );
+        log.warn("Clave de idempotencia reutilizada [{}]: {}", getRequestPath(request), ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     /**
      * Maneja cualquier excepción inesperada durante la ejecución de la aplicación y proporciona
      * una respuesta de error JSON estandarizada con un estado HTTP 500 Internal Server Error.
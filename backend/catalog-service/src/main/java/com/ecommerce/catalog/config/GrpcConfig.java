@@ -0,0 +1,36 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.product.api.ProductGrpcService;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.sharedkernel.infrastructure.grpc.GrpcProperties;
+import com.ecommerce.catalog.sharedkernel.infrastructure.grpc.GrpcServer;
+import io.grpc.BindableService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuración de la API gRPC interna ({@code ecommerce.catalog.v1.CatalogService}) para las llamadas entre servicios,
+ * servida por Netty en su propio puerto ({@code catalog.grpc.port}). Reutiliza los servicios de aplicación, por lo que
+ * también funciona con el perfil {@code inmemory}; se desactiva con {@code catalog.grpc.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+@ConditionalOnProperty(prefix = "catalog.grpc", name = "enabled", matchIfMissing = true)
+public class GrpcConfig {
+
+    @Bean
+    public ProductGrpcService productGrpcService(ProductService productService) {
+        return new ProductGrpcService(productService);
+    }
+
+    @Bean
+    public GrpcServer grpcServer(List<BindableService> services, GrpcProperties properties,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new GrpcServer(services, properties, virtualThreads);
+    }
+}
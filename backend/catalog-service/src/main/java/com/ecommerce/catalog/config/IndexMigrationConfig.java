@@ -0,0 +1,31 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.CatalogIndexes;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.IndexMigrator;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.IndexesEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuración de la gestión de índices de MongoDB mediante migraciones versionadas ({@code catalog.indexes.*}).
+ * Al arrancar se aplican las migraciones pendientes de {@link CatalogIndexes} y se verifican los índices;
+ * {@code /actuator/indexes} informa de las diferencias. No aplica con el perfil {@code inmemory}.
+ */
+@Configuration
+@Profile("!inmemory")
+public class IndexMigrationConfig {
+
+    @Bean
+    public IndexMigrator indexMigrator(MongoTemplate mongoTemplate,
+                                       @Value("${catalog.indexes.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return new IndexMigrator(mongoTemplate, CatalogIndexes.MIGRATIONS, migrateOnStartup);
+    }
+
+    @Bean
+    public IndexesEndpoint indexesEndpoint(IndexMigrator migrator) {
+        return new IndexesEndpoint(migrator);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.FirstRequestListener;
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.MongoCommandMetricsListener;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la instrumentación con Micrometer del microservicio de Catálogo.
+ * Habilita {@code @Timed} en servicios y mappers, registra el listener de comandos de MongoDB y mide el tiempo
+ * hasta la primera petición.
+ * Los tiempos de los repositorios ({@code spring.data.repository.invocations}) los publica Spring Boot automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspecto que convierte las clases y métodos anotados con {@code @Timed} en temporizadores.
+     * @param registry el registro de métricas.
+     * @return el aspecto de temporización.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Añade al cliente de MongoDB el listener que mide latencia y documentos devueltos por colección.
+     * @param registry el registro de métricas.
+     * @return el personalizador de la configuración del cliente.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MeterRegistry registry) {
+        return builder -> builder.addCommandListener(new MongoCommandMetricsListener(registry));
+    }
+
+    /**
+     * Listener que publica el tiempo desde el arranque hasta la primera petición atendida.
+     * @param registry el registro de métricas.
+     * @return el listener.
+     */
+    @Bean
+    public FirstRequestListener firstRequestListener(MeterRegistry registry) {
+        return new FirstRequestListener(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.catalog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Habilita la creación de los repositorios de MongoDB del catálogo, bloqueantes y reactivos
+ * (cada extensión de Spring Data toma solo las interfaces de su tipo).
+ * Con el perfil {@code inmemory} no se crean, y en su lugar se usan las implementaciones en memoria
+ * de cada {@code infrastructure.persistence}; la API reactiva no está disponible en ese perfil.
+ */
+@Configuration
+@Profile("!inmemory")
+@EnableMongoRepositories(basePackages = "com.ecommerce.catalog")
+@EnableReactiveMongoRepositories(basePackages = "com.ecommerce.catalog")
+public class MongoRepositoriesConfig {
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.concurrent.ParallelQueryExecutor;
+import com.ecommerce.catalog.sharedkernel.infrastructure.concurrent.ParallelQueryProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del ejecutor con el que los servicios lanzan en paralelo las consultas independientes
+ * de sus operaciones compuestas ({@code catalog.parallel.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(ParallelQueryProperties.class)
+public class ParallelQueryConfig {
+
+    @Bean
+    public ParallelQueryExecutor parallelQueryExecutor(ParallelQueryProperties properties,
+                                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new ParallelQueryExecutor(properties, virtualThreads);
+    }
+}
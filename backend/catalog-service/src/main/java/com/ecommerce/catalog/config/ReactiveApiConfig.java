@@ -0,0 +1,127 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.brand.api.BrandReactiveHandler;
+import com.ecommerce.catalog.brand.application.mapper.BrandMapper;
+import com.ecommerce.catalog.brand.domain.repository.ReactiveBrandRepository;
+import com.ecommerce.catalog.category.api.CategoryReactiveHandler;
+import com.ecommerce.catalog.category.application.mapper.CategoryMapper;
+import com.ecommerce.catalog.category.domain.repository.ReactiveCategoryRepository;
+import com.ecommerce.catalog.product.api.ProductReactiveHandler;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.mapper.ProductMapper;
+import com.ecommerce.catalog.product.application.mapper.VariantMapper;
+import com.ecommerce.catalog.product.domain.repository.ReactiveProductRepository;
+import com.ecommerce.catalog.product.domain.repository.ReactiveVariantRepository;
+import com.ecommerce.catalog.sharedkernel.api.ReactiveResponses;
+import com.ecommerce.catalog.sharedkernel.infrastructure.reactive.ReactiveApiProperties;
+import com.ecommerce.catalog.sharedkernel.infrastructure.reactive.ReactiveReadServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+
+/**
+ * Configuración de la API de lectura reactiva: handlers funcionales de WebFlux sobre repositorios reactivos de MongoDB,
+ * servidos por un Reactor Netty en su propio puerto ({@code catalog.reactive.port}) con el mismo context-path que la
+ * API principal. Cubre las lecturas de alto tráfico de la tienda (productos, variantes, marcas y categorías);
+ * las escrituras siguen en la API principal. Requiere MongoDB, por lo que no se activa con el perfil {@code inmemory};
+ * se desactiva con {@code catalog.reactive.enabled=false}.
+ */
+@Configuration
+@Profile("!inmemory")
+@EnableConfigurationProperties(ReactiveApiProperties.class)
+@ConditionalOnProperty(prefix = "catalog.reactive", name = "enabled", matchIfMissing = true)
+public class ReactiveApiConfig {
+
+    @Bean
+    public BrandReactiveHandler brandReactiveHandler(ReactiveBrandRepository repository, BrandMapper mapper) {
+        return new BrandReactiveHandler(repository, mapper);
+    }
+
+    @Bean
+    public CategoryReactiveHandler categoryReactiveHandler(ReactiveCategoryRepository repository, CategoryMapper mapper) {
+        return new CategoryReactiveHandler(repository, mapper);
+    }
+
+    @Bean
+    public ProductReactiveHandler productReactiveHandler(ReactiveProductRepository productRepository,
+                                                         ReactiveVariantRepository variantRepository,
+                                                         ReactiveBrandRepository brandRepository,
+                                                         ReactiveCategoryRepository categoryRepository,
+                                                         ProductMapper productMapper, VariantMapper variantMapper,
+                                                         ProductService productService) {
+        return new ProductReactiveHandler(productRepository, variantRepository, brandRepository, categoryRepository,
+                productMapper, variantMapper, productService);
+    }
+
+    /**
+     * Define las rutas de la API reactiva. Las rutas literales van antes que las que tienen variables de ruta,
+     * y las búsquedas por {@code ?name=} antes que los listados, ya que en las rutas funcionales gana la primera
+     * que coincide (equivale al {@code params = "name"} de los controladores).
+     * @param contextPath el context-path de la API principal, que también se antepone a estas rutas.
+     * @return las rutas, con la traducción de errores a {@code ErrorResponseDTO}.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(BrandReactiveHandler brands,
+                                                             CategoryReactiveHandler categories,
+                                                             ProductReactiveHandler products,
+                                                             @Value("${server.servlet.context-path:}") String contextPath) {
+        return RouterFunctions.route()
+                .path(contextPath, api -> api
+                        .GET("/brands/{id}", brands::getById)
+                        .GET("/brands", queryParam("name", name -> true), brands::searchByName)
+                        .GET("/brands", brands::getAll)
+                        .GET("/categories/{id}/categories", categories::getSubcategories)
+                        .GET("/categories/{id}", categories::getById)
+                        .GET("/categories", queryParam("name", name -> true), categories::searchByName)
+                        .GET("/categories", categories::getAll)
+                        .GET("/products/brand", products::searchByBrand)
+                        .GET("/products/categories", products::searchByCategory)
+                        .GET("/products/variants/{id}", products::getVariantById)
+                        .GET("/products/{id}/variants/stream", products::streamVariants)
+                        .GET("/products/{id}/variants", products::getVariants)
+                        .GET("/products/{id}", products::getById)
+                        .GET("/products", queryParam("name", name -> true), products::searchByName)
+                        .GET("/products", products::getAll))
+                // Mono.defer también captura las excepciones lanzadas al interpretar la petición, antes de crear el Mono
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(error -> ReactiveResponses.error(error, request)))
+                .build();
+    }
+
+    /**
+     * Registra el servidor reactivo, con códecs JSON que usan el {@link ObjectMapper} de la aplicación
+     * para que las respuestas sean idénticas a las de la API principal.
+     * @param routes las rutas de la API reactiva.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param properties la configuración del servidor.
+     * @return el servidor reactivo.
+     */
+    @Bean
+    public ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> routes, ObjectMapper objectMapper,
+                                                 ReactiveApiProperties properties) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper,
+                            MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+        return new ReactiveReadServer(httpHandler, properties);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.catalog.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita los trabajos periódicos {@code @Scheduled} (ej.: la reconciliación de los contadores de productos
+ * de las categorías). Se desactivan con {@code catalog.scheduling.enabled=false}, por ejemplo en instancias
+ * de solo lectura que no deben escribir correcciones.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "catalog.scheduling", name = "enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.catalog.config;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.SlowQueriesEndpoint;
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.SlowQueryListener;
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.SlowQueryProperties;
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.SlowQueryRegistry;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del detector de operaciones lentas de MongoDB.
+ * Se desactiva con {@code catalog.monitoring.slow-queries.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "catalog.monitoring.slow-queries", name = "enabled", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryRegistry slowQueryRegistry(SlowQueryProperties properties) {
+        return new SlowQueryRegistry(properties.maxEntries());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(SlowQueryProperties properties, SlowQueryRegistry registry,
+                                               MeterRegistry meterRegistry, ObjectProvider<MongoClient> mongoClient) {
+        return new SlowQueryListener(properties, registry, meterRegistry, mongoClient);
+    }
+
+    /**
+     * Registra el detector en el cliente de MongoDB.
+     * @param listener el detector de operaciones lentas.
+     * @return el personalizador de la configuración del cliente.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryCustomizer(SlowQueryListener listener) {
+        return builder -> builder.addCommandListener(listener);
+    }
+
+    @Bean
+    public SlowQueriesEndpoint slowQueriesEndpoint(SlowQueryRegistry registry) {
+        return new SlowQueriesEndpoint(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.catalog.config;
+
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la publicación del stock de las variantes por AMQP ({@code catalog.stock.amqp.*}).
+ * Declara el exchange fanout al que cada servicio interesado enlaza su propia cola.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.stock.amqp", name = "enabled", havingValue = "true")
+public class StockAmqpConfig {
+
+    @Bean
+    public FanoutExchange stockExchange(@Value("${catalog.stock.amqp.exchange:catalog.stock}") String exchange) {
+        return new FanoutExchange(exchange, true, false);
+    }
+}
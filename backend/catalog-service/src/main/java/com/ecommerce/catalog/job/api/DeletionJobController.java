@@ -0,0 +1,49 @@
+package com.ecommerce.catalog.job.api;
+
+import com.ecommerce.catalog.job.application.DeletionJobService;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para consultar el estado de los trabajos en segundo plano que limpian los productos
+ * de las marcas y categorías eliminadas.
+ */
+@RestController
+@RequestMapping("/jobs")
+public class DeletionJobController {
+    // --- Dependencias ---
+    private final DeletionJobService service;
+
+    /**
+     * Construye un nuevo DeletionJobController con el servicio especificado.
+     * @param service el servicio de los trabajos de eliminación.
+     */
+    public DeletionJobController(DeletionJobService service) {
+        this.service = service;
+    }
+
+    // --- EndPoints funcionales ---
+
+    /**
+     * Recupera el estado y el progreso de un trabajo.
+     * @param id el ID del trabajo.
+     * @return una ResponseEntity con el estado del trabajo, o 404 (Not Found) si no existe.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<DeletionJobResponseDTO> getById(@PathVariable String id) {
+        return service.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Relanza un trabajo fallido.
+     * @param id el ID del trabajo.
+     * @return una ResponseEntity 202 (Accepted) con el estado del trabajo antes de relanzarlo.
+     */
+    @PostMapping("/{id}/retry")
+    public ResponseEntity<DeletionJobResponseDTO> retry(@PathVariable String id) {
+        return ResponseEntity.accepted().body(service.retry(id));
+    }
+}
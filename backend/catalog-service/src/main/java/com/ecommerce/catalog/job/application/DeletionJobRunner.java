@@ -0,0 +1,152 @@
+package com.ecommerce.catalog.job.application;
+
+import com.ecommerce.catalog.brand.domain.repository.BrandRepository;
+import com.ecommerce.catalog.category.application.CategoryProductCountService;
+import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import com.ecommerce.catalog.job.domain.repository.DeletionJobRepository;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ejecuta en segundo plano los trabajos de limpieza de productos tras eliminar una marca o categoría.
+ * <p>
+ * Cada lote toma los primeros {@code catalog.jobs.deletion.batch-size} productos que todavía referencian la entidad
+ * eliminada y los modifica con una única actualización masiva; el progreso se guarda después de cada lote. Como los
+ * lotes se eligen siempre entre los productos pendientes, un trabajo interrumpido se reanuda sin repetir trabajo y
+ * termina cuando no queda ningún producto que referencie la entidad. El bloqueo optimista del trabajo evita que
+ * dos instancias del servicio procesen el mismo trabajo a la vez.
+ * <p>
+ * Antes de empezar se elimina otra vez la entidad: el trabajo se guarda antes de eliminarla, y un trabajo reanudado
+ * tras un reinicio entre ambos pasos no debe reasignar los productos de una entidad que sigue existiendo.
+ */
+@Component
+public class DeletionJobRunner {
+    private static final Logger log = LoggerFactory.getLogger(DeletionJobRunner.class);
+    // --- Dependencias ---
+    private final DeletionJobRepository jobRepository;
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryProductCountService productCounts;
+    // --- Estado ---
+    private final Pageable batch;
+
+    /**
+     * Constructor con todas las dependencias del ejecutor.
+     * @param jobRepository la interfaz del repositorio para acceder a los trabajos.
+     * @param productRepository la interfaz del repositorio para acceder a los datos de los productos.
+     * @param brandRepository la interfaz del repositorio para acceder a los datos de las marcas.
+     * @param categoryRepository la interfaz del repositorio para acceder a los datos de las categorías.
+     * @param productCounts el servicio que mantiene los contadores de productos de las categorías.
+     * @param batchSize la cantidad de productos modificados por lote.
+     */
+    public DeletionJobRunner(DeletionJobRepository jobRepository, ProductRepository productRepository,
+                             BrandRepository brandRepository, CategoryRepository categoryRepository,
+                             CategoryProductCountService productCounts,
+                             @Value("${catalog.jobs.deletion.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.productCounts = productCounts;
+        this.batch = PageRequest.ofSize(batchSize);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Procesa un trabajo hasta terminarlo o hasta que falle.
+     * @param jobId el ID del trabajo.
+     */
+    @Async
+    public void run(String jobId) {
+        DeletionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            log.warn("Trabajo de eliminación {} no encontrado", jobId);
+            return;
+        }
+        try {
+            deleteTarget(job);
+            job.start();
+            job = jobRepository.save(job);
+            log.info("Trabajo de eliminación {} iniciado: {} {} -> {}",
+                    jobId, job.getTarget(), job.getTargetId(), job.getReplacementId());
+            while (true) {
+                long modified = processBatch(job);
+                if (modified == 0) {
+                    break;
+                }
+                job.recordBatch(modified);
+                job = jobRepository.save(job);
+                log.debug("Trabajo de eliminación {}: {}/{} productos", jobId,
+                        job.getProcessedProducts(), job.getTotalProducts());
+            }
+            if (job.getTarget() == DeletionTarget.CATEGORY) {
+                // Los productos pasaron a otra categoría (o a ninguna): se recalculan los contadores
+                productCounts.reconcile();
+            }
+            job.complete();
+            jobRepository.save(job);
+            log.info("Trabajo de eliminación {} completado: {} productos en {} lotes",
+                    jobId, job.getProcessedProducts(), job.getBatches());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Trabajo de eliminación {} modificado por otra instancia; se abandona", jobId);
+        } catch (RuntimeException e) {
+            log.error("Trabajo de eliminación {} fallido tras {} productos", jobId, job.getProcessedProducts(), e);
+            fail(jobId, e);
+        }
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Elimina la entidad del trabajo si todavía existe.
+     */
+    private void deleteTarget(DeletionJob job) {
+        switch (job.getTarget()) {
+            case BRAND -> brandRepository.deleteById(job.getTargetId());
+            case CATEGORY -> categoryRepository.deleteById(job.getTargetId());
+        }
+    }
+
+    /**
+     * Modifica el siguiente lote de productos que referencian la entidad eliminada.
+     * @return la cantidad de productos modificados; 0 si no quedaban.
+     */
+    private long processBatch(DeletionJob job) {
+        return switch (job.getTarget()) {
+            case BRAND -> {
+                List<String> ids = ids(productRepository.findIdsByBrandIdValue(job.getTargetId(), batch));
+                yield ids.isEmpty() ? 0 : productRepository.replaceBrand(ids, job.getTargetId(), job.getReplacementId());
+            }
+            case CATEGORY -> {
+                List<String> ids = ids(productRepository.findIdsByCategoriesId(job.getTargetId(), batch));
+                yield ids.isEmpty() ? 0 : productRepository.replaceCategory(ids, job.getTargetId(), job.getReplacementId());
+            }
+        };
+    }
+
+    private void fail(String jobId, RuntimeException error) {
+        // Se relee el trabajo para no perder el error por un conflicto de versión con el último lote guardado
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.fail(error.getClass().getSimpleName() + ": " + error.getMessage());
+            jobRepository.save(job);
+        });
+    }
+
+    private static List<String> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.catalog.job.application;
+
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import com.ecommerce.catalog.job.application.mapper.DeletionJobMapper;
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import com.ecommerce.catalog.job.domain.repository.DeletionJobRepository;
+import com.ecommerce.catalog.product.domain.repository.ProductRepository;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import com.ecommerce.libs.application.util.IdGenerator;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Servicio de aplicación para crear y consultar los trabajos que limpian los productos de una marca o categoría
+ * eliminada. El procesamiento de los lotes lo hace {@link DeletionJobRunner} en segundo plano.
+ */
+@Service
+@Timed(value = "catalog.service", description = "Tiempo de ejecución de los métodos de servicio")
+public class DeletionJobService {
+    private static final Logger log = LoggerFactory.getLogger(DeletionJobService.class);
+    // --- Dependencias ---
+    private final DeletionJobRepository repository;
+    private final ProductRepository productRepository;
+    private final DeletionJobMapper mapper;
+    private final DeletionJobRunner runner;
+
+    /**
+     * Constructor con todas las dependencias del servicio.
+     * @param repository la interfaz del repositorio para acceder a los trabajos.
+     * @param productRepository la interfaz del repositorio para acceder a los datos de los productos.
+     * @param mapper el mapper para convertir los trabajos en DTO.
+     * @param runner el ejecutor en segundo plano de los trabajos.
+     */
+    public DeletionJobService(DeletionJobRepository repository, ProductRepository productRepository,
+                              DeletionJobMapper mapper, DeletionJobRunner runner) {
+        this.repository = repository;
+        this.productRepository = productRepository;
+        this.mapper = mapper;
+        this.runner = runner;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Elimina una entidad y lanza el trabajo que desvincula o reasigna sus productos.
+     * <p>
+     * El trabajo se guarda como pendiente antes de eliminar la entidad: si el servicio se detiene entre ambos pasos,
+     * el trabajo se reanuda al arrancar y el ejecutor vuelve a eliminar la entidad, de modo que nunca queda una
+     * entidad eliminada con productos que la referencian y sin trabajo que los limpie. Si la eliminación falla,
+     * el trabajo se descarta.
+     * @param target el tipo de entidad a eliminar.
+     * @param targetId el ID de la entidad a eliminar.
+     * @param replacementId el ID de la entidad que la sustituye en los productos, o null para solo desvincularla.
+     * @param deleteTarget la eliminación de la entidad.
+     * @return el trabajo creado, todavía pendiente.
+     */
+    public DeletionJobResponseDTO start(DeletionTarget target, String targetId, String replacementId,
+                                        Runnable deleteTarget) {
+        long products = switch (target) {
+            case BRAND -> productRepository.countByBrandIdValue(targetId);
+            case CATEGORY -> productRepository.countByCategoriesId(targetId);
+        };
+        DeletionJob job = repository.save(
+                new DeletionJob(IdGenerator.generateId(), target, targetId, replacementId, products));
+        log.info("Trabajo de eliminación {} creado para {} {} ({} productos)", job.getId(), target, targetId, products);
+        try {
+            deleteTarget.run();
+        } catch (RuntimeException e) {
+            repository.delete(job);
+            throw e;
+        }
+        runner.run(job.getId());
+        return mapper.toResponseDTO(job);
+    }
+
+    /**
+     * Busca un trabajo por su ID.
+     * @param id el ID del trabajo.
+     * @return el estado del trabajo, o vacío si no existe.
+     */
+    public Optional<DeletionJobResponseDTO> findById(String id) {
+        return repository.findById(id).map(mapper::toResponseDTO);
+    }
+
+    /**
+     * Relanza un trabajo fallido; continúa con los productos que todavía referencian la entidad eliminada.
+     * @param id el ID del trabajo.
+     * @return el estado del trabajo antes de relanzarlo.
+     * @throws IllegalStateException si el trabajo no está en estado FAILED.
+     */
+    public DeletionJobResponseDTO retry(String id) {
+        DeletionJob job = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("DeletionJob", "ID", id));
+        if (job.getStatus() != JobStatus.FAILED) {
+            throw new IllegalStateException("Only failed jobs can be retried, job " + id + " is " + job.getStatus());
+        }
+        runner.run(id);
+        return mapper.toResponseDTO(job);
+    }
+
+    /**
+     * Reanuda al arrancar los trabajos que quedaron sin terminar por un reinicio del servicio. Se ejecuta en segundo
+     * plano para no retrasar (ni hacer fallar) el arranque si la base de datos todavía no está disponible.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<DeletionJob> unfinished;
+        try {
+            unfinished = repository.findByStatusInOrderByIdAsc(EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING));
+        } catch (DataAccessException e) {
+            log.error("No se pudieron buscar los trabajos de eliminación sin terminar", e);
+            return;
+        }
+        if (!unfinished.isEmpty()) {
+            log.info("Reanudando {} trabajos de eliminación sin terminar", unfinished.size());
+        }
+        unfinished.forEach(job -> runner.run(job.getId()));
+    }
+}
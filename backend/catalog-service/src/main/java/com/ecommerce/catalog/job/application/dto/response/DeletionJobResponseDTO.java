@@ -0,0 +1,39 @@
+package com.ecommerce.catalog.job.application.dto.response;
+
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Objeto de transferencia de datos (DTO) con el estado de un trabajo de limpieza tras eliminar una marca o categoría.
+ * @param id Identificador único del trabajo.
+ * @param target Tipo de entidad eliminada.
+ * @param targetId ID de la entidad eliminada.
+ * @param replacementId ID de la entidad que la sustituye en los productos, o null si solo se desvincula.
+ * @param status Estado del trabajo.
+ * @param totalProducts Cantidad estimada de productos que referenciaban la entidad.
+ * @param processedProducts Cantidad de productos ya modificados.
+ * @param batches Cantidad de lotes procesados.
+ * @param progress Fracción de productos procesados, entre 0 y 1.
+ * @param lastError Descripción del último error, si el trabajo falló.
+ * @param createdAt Fecha de creación del trabajo.
+ * @param updatedAt Fecha del último progreso registrado.
+ * @param finishedAt Fecha en la que terminó (con éxito o no), o null si sigue en curso.
+ */
+public record DeletionJobResponseDTO(
+        String id,
+        DeletionTarget target,
+        String targetId,
+        String replacementId,
+        JobStatus status,
+        long totalProducts,
+        long processedProducts,
+        int batches,
+        double progress,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.catalog.job.application.mapper;
+
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import io.micrometer.core.annotation.Timed;
+import org.mapstruct.AnnotateWith;
+import org.mapstruct.Mapper;
+
+/**
+ * Interfaz que define un mapper para convertir la entidad {@link DeletionJob} en el DTO
+ * {@link DeletionJobResponseDTO} que expone el endpoint de estado de los trabajos.
+ */
+@AnnotateWith(value = Timed.class, elements = @AnnotateWith.Element(name = "value", strings = "catalog.mapper"))
+@Mapper(componentModel = "spring")
+public interface DeletionJobMapper {
+    /**
+     * Convierte una entidad {@link DeletionJob} en un objeto de transferencia de datos {@link DeletionJobResponseDTO}.
+     * @param job la entidad con el estado y el progreso del trabajo.
+     * @return una instancia de {@link DeletionJobResponseDTO} con los datos del trabajo.
+     */
+    DeletionJobResponseDTO toResponseDTO(DeletionJob job);
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.catalog.job.domain.constant;
+
+/**
+ * Tipo de entidad cuya eliminación limpia un trabajo en segundo plano, junto con el campo de los productos
+ * que la referencia:
+ * - BRAND: una marca, referenciada por {@code Product.brandId}.
+ * - CATEGORY: una categoría, referenciada por {@code Product.categoriesId}.
+ */
+public enum DeletionTarget {
+    BRAND,
+    CATEGORY
+}
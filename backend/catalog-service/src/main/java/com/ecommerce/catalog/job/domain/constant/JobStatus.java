@@ -0,0 +1,22 @@
+package com.ecommerce.catalog.job.domain.constant;
+
+/**
+ * Estados de un trabajo en segundo plano:
+ * - PENDING: creado, todavía no empezó a procesar lotes.
+ * - RUNNING: procesando lotes; si el servicio se reinicia, se reanuda al arrancar.
+ * - COMPLETED: terminó sin productos pendientes.
+ * - FAILED: se detuvo por un error (ver {@code lastError}); puede reintentarse con {@code POST /jobs/{id}/retry}.
+ */
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    /**
+     * @return true si el trabajo no terminó y debe reanudarse al arrancar el servicio.
+     */
+    public boolean isUnfinished() {
+        return this == PENDING || this == RUNNING;
+    }
+}
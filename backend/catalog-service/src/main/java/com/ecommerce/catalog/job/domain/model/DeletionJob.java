@@ -0,0 +1,115 @@
+package com.ecommerce.catalog.job.domain.model;
+
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un trabajo en segundo plano que desvincula (o reasigna) los productos que referencian
+ * una marca o categoría eliminada. El progreso se guarda después de cada lote, de modo que el trabajo puede
+ * reanudarse tras un reinicio: los lotes siempre se eligen entre los productos que todavía referencian la entidad.
+ */
+@Document(collection = "deletion_jobs")
+public class DeletionJob extends BaseEntity<String> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    // --- Atributos básicos ---
+    private DeletionTarget target;
+    private String targetId;
+    private String replacementId;
+    private JobStatus status;
+    // --- Progreso ---
+    private long totalProducts;
+    private long processedProducts;
+    private int batches;
+    private String lastError;
+    private LocalDateTime finishedAt;
+    // --- Atributos adicionales ---
+    @Version private Long version; // Bloqueo optimista
+
+    /**
+     * Constructor sin argumentos
+     */
+    public DeletionJob() { super(); }
+
+    /**
+     * Construye un trabajo pendiente.
+     * @param id el identificador único del trabajo.
+     * @param target el tipo de entidad eliminada.
+     * @param targetId el ID de la entidad eliminada.
+     * @param replacementId el ID de la entidad que la sustituye en los productos, o null para solo desvincularla.
+     * @param totalProducts la cantidad de productos que la referenciaban al crear el trabajo.
+     */
+    public DeletionJob(String id, DeletionTarget target, String targetId, String replacementId, long totalProducts) {
+        super(id);
+        this.target = target;
+        this.targetId = targetId;
+        this.replacementId = replacementId;
+        this.totalProducts = totalProducts;
+        this.status = JobStatus.PENDING;
+    }
+
+    // --- Getters ---
+
+    public DeletionTarget getTarget() { return target; }
+    public String getTargetId() { return targetId; }
+    public String getReplacementId() { return replacementId; }
+    public JobStatus getStatus() { return status; }
+    public long getTotalProducts() { return totalProducts; }
+    public long getProcessedProducts() { return processedProducts; }
+    public int getBatches() { return batches; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public Long getVersion() { return version; }
+
+    /**
+     * @return la fracción de productos procesados, entre 0 y 1 (1 si la entidad no tenía productos).
+     */
+    public double getProgress() {
+        return totalProducts == 0 ? 1.0 : (double) processedProducts / totalProducts;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Marca el trabajo como en ejecución, limpiando el error de un intento anterior.
+     */
+    public void start() {
+        this.status = JobStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    /**
+     * Registra un lote procesado.
+     * @param products la cantidad de productos modificados en el lote.
+     */
+    public void recordBatch(long products) {
+        this.processedProducts += products;
+        this.batches++;
+        // Pueden haberse asignado productos a la entidad mientras se eliminaba
+        this.totalProducts = Math.max(totalProducts, processedProducts);
+    }
+
+    /**
+     * Marca el trabajo como terminado.
+     */
+    public void complete() {
+        this.status = JobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marca el trabajo como fallido.
+     * @param error la descripción del error.
+     */
+    public void fail(String error) {
+        this.status = JobStatus.FAILED;
+        this.lastError = error;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
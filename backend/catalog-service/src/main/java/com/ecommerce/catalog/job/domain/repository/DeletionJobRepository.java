@@ -0,0 +1,22 @@
+package com.ecommerce.catalog.job.domain.repository;
+
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para acceder a los datos de la entidad DeletionJob en MongoDB.
+ */
+@Repository
+public interface DeletionJobRepository extends MongoRepository<DeletionJob, String> {
+    /**
+     * Busca los trabajos que están en alguno de los estados indicados.
+     * @param statuses los estados buscados.
+     * @return los trabajos encontrados, en orden de creación.
+     */
+    List<DeletionJob> findByStatusInOrderByIdAsc(Collection<JobStatus> statuses);
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.catalog.job.infrastructure.persistence;
+
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import com.ecommerce.catalog.job.domain.repository.DeletionJobRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.InMemoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.SecondaryIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Implementación en memoria de {@link DeletionJobRepository}, activa con el perfil {@code inmemory}.
+ * Los trabajos no sobreviven a un reinicio, por lo que aquí no hay nada que reanudar al arrancar.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryDeletionJobRepository extends InMemoryRepository<DeletionJob> implements DeletionJobRepository {
+    // --- Campos constantes ---
+    private static final String STATUS = "status";
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryDeletionJobRepository(MongoConverter converter, ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(DeletionJob.class, converter, auditingHandler, SecondaryIndex.on(STATUS));
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public List<DeletionJob> findByStatusInOrderByIdAsc(Collection<JobStatus> statuses) {
+        TreeSet<String> ids = new TreeSet<>();
+        statuses.forEach(status -> ids.addAll(index(STATUS).get(status.name())));
+        return list(documents(ids));
+    }
+}
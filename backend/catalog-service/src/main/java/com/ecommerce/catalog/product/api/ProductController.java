@@ -1,14 +1,18 @@
 package com.ecommerce.catalog.product.api;
 
 import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.dto.request.BatchGetVariantsRequestDTO;
 import com.ecommerce.catalog.product.application.dto.request.CreateProductRequestDTO;
 import com.ecommerce.catalog.product.application.dto.request.CreateVariantRequestDTO;
 import com.ecommerce.catalog.product.application.dto.request.UpdateProductRequestDTO;
 import com.ecommerce.catalog.product.application.dto.request.UpdateVariantRequestDTO;
+import com.ecommerce.catalog.product.application.dto.response.BatchGetVariantsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.ProductDetailsResponseDTO;
 import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
 import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
 import com.ecommerce.catalog.sharedkernel.api.DeleteController;
 import com.ecommerce.catalog.sharedkernel.api.ReadController;
+import com.ecommerce.catalog.sharedkernel.application.IdempotencyService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.math.BigDecimal;
 import java.net.URI;
 
 /**
@@ -28,13 +33,16 @@ import java.net.URI;
 public class ProductController implements ReadController<ProductResponseDTO, String>, DeleteController<String> {
     // --- Dependencias ---
     private final ProductService service;
+    private final IdempotencyService idempotency;
 
     /**
      * Construye un nuevo ProductController con el ProductService especificado.
      * @param service la instancia de ProductService que proporciona la lógica de negocio para las operaciones de productos.
+     * @param idempotency el servicio que evita repetir las creaciones reintentadas con la misma {@code Idempotency-Key}.
      */
-    public ProductController(ProductService service) {
+    public ProductController(ProductService service, IdempotencyService idempotency) {
         this.service = service;
+        this.idempotency = idempotency;
     }
 
     // --- EndPoints heredados ---
@@ -105,37 +113,89 @@ public class ProductController implements ReadController<ProductResponseDTO, Str
     /**
      * Obtiene las variantes de un producto específico, paginado.
      * @param id El ID del producto padre.
+     * @param currency Código ISO opcional de la moneda en la que se expresan los precios.
      * @param pageable Objeto de paginación y ordenación inyectado por Spring.
      * @return ResponseEntity con 200 OK y un objeto Page de VariantResponseDTO.
      */
     @GetMapping("/{id}/variants")
     public ResponseEntity<Page<VariantResponseDTO>> getProductVariants(
-            @PathVariable String id, Pageable pageable) {
-        Page<VariantResponseDTO> variantPage = service.findVariantsByProductId(id, pageable);
+            @PathVariable String id, @RequestParam(required = false) String currency, Pageable pageable) {
+        Page<VariantResponseDTO> variantPage = service.findVariantsByProductId(id, pageable, currency);
+        return ResponseEntity.ok(variantPage);
+    }
+
+    /**
+     * Obtiene el detalle de un producto: sus datos base, su marca, sus categorías y una página de sus variantes.
+     * @param id El ID del producto.
+     * @param currency Código ISO opcional de la moneda en la que se expresan los precios.
+     * @param pageable Paginación y ordenación de las variantes.
+     * @return ResponseEntity con 200 OK y el detalle si se encuentra, o 404 Not Found.
+     */
+    @GetMapping("/{id}/details")
+    public ResponseEntity<ProductDetailsResponseDTO> getProductDetails(
+            @PathVariable String id, @RequestParam(required = false) String currency, Pageable pageable) {
+        return service.findDetails(id, pageable, currency)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Busca las variantes cuyo precio en una moneda está dentro de un rango, ambos extremos incluidos.
+     * @param currency Código ISO de la moneda en la que están expresados los precios.
+     * @param minPrice El precio mínimo.
+     * @param maxPrice El precio máximo.
+     * @param pageable Objeto de paginación y ordenación inyectado por Spring.
+     * @return ResponseEntity con 200 OK y un objeto Page de VariantResponseDTO.
+     */
+    @GetMapping(value = "/variants", params = {"currency", "minPrice", "maxPrice"})
+    public ResponseEntity<Page<VariantResponseDTO>> searchVariantsByPriceRange(
+            @RequestParam String currency, @RequestParam BigDecimal minPrice, @RequestParam BigDecimal maxPrice,
+            Pageable pageable) {
+        Page<VariantResponseDTO> variantPage = service.findVariantsByPriceRange(currency, minPrice, maxPrice, pageable);
         return ResponseEntity.ok(variantPage);
     }
 
     /**
      * Obtiene una variante específica por su ID.
      * @param id El ID único de la variante.
+     * @param currency Código ISO opcional de la moneda en la que se expresa el precio.
      * @return ResponseEntity con 200 OK y VariantResponseDTO si se encuentra, o 404 Not Found.
      */
     @GetMapping("/variants/{id}")
-    public ResponseEntity<VariantResponseDTO> getVariantById(@PathVariable String id) {
-        return service.findVariantById(id)
+    public ResponseEntity<VariantResponseDTO> getVariantById(
+            @PathVariable String id, @RequestParam(required = false) String currency) {
+        return service.findVariantById(id, currency)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Obtiene varias variantes en una sola petición, pensado para las llamadas entre servicios.
+     * @param request los IDs de las variantes (como máximo {@value BatchGetVariantsRequestDTO#MAX_IDS})
+     *                y los campos a devolver además del ID.
+     * @param currency Código ISO opcional de la moneda en la que se expresan los precios.
+     * @return ResponseEntity con 200 OK, las variantes encontradas en el orden pedido y los IDs que no existen.
+     */
+    @PostMapping("/variants:batchGet")
+    public ResponseEntity<BatchGetVariantsResponseDTO> batchGetVariants(
+            @Valid @RequestBody BatchGetVariantsRequestDTO request, @RequestParam(required = false) String currency) {
+        return ResponseEntity.ok(service.batchGetVariants(request, currency));
+    }
+
     /**
      * Crea un nuevo producto base junto con su variante inicial.
+     * Con la cabecera {@code Idempotency-Key}, un reintento con la misma clave y el mismo cuerpo devuelve el
+     * producto creado por la petición original en vez de crear otro.
      * @param request DTO con la información del producto y la variante inicial.
+     * @param idempotencyKey la clave de idempotencia opcional enviada por el cliente.
      * @return ResponseEntity con status 201 Created, cabecera Location y el DTO del producto creado.
      */
     @PostMapping
     public ResponseEntity<ProductResponseDTO> createProduct(
-            @Valid @RequestBody CreateProductRequestDTO request) {
-        ProductResponseDTO product = service.saveProduct(request);
+            @Valid @RequestBody CreateProductRequestDTO request,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        ProductResponseDTO product = idempotency.execute(idempotencyKey, "POST /products", request,
+                ProductResponseDTO.class, () -> service.saveProduct(request));
         URI location = ServletUriComponentsBuilder
                 .fromCurrentContextPath().path("/api/v1/products/{id}")
                 .buildAndExpand(product.id()).toUri();
@@ -159,13 +219,17 @@ public class ProductController implements ReadController<ProductResponseDTO, Str
 
     /**
      * Crea una nueva variante para un producto existente.
+     * Admite la cabecera {@code Idempotency-Key} igual que la creación de productos.
      * @param requestDto DTO con los datos de la nueva variante.
+     * @param idempotencyKey la clave de idempotencia opcional enviada por el cliente.
      * @return ResponseEntity con 201 Created, cabecera Location y el DTO de la variante creada.
      */
     @PostMapping("/{id}/variants")
     public ResponseEntity<VariantResponseDTO> createProductVariant(
-            @PathVariable String id, @Valid @RequestBody CreateVariantRequestDTO requestDto) {
-        VariantResponseDTO createdVariant = service.saveVariant(id, requestDto);
+            @PathVariable String id, @Valid @RequestBody CreateVariantRequestDTO requestDto,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        VariantResponseDTO createdVariant = idempotency.execute(idempotencyKey, "POST /products/" + id + "/variants",
+                requestDto, VariantResponseDTO.class, () -> service.saveVariant(id, requestDto));
         URI location = ServletUriComponentsBuilder
                 .fromCurrentContextPath().path("/api/v1/products/variants/{id}")
                 .buildAndExpand(createdVariant.id()).toUri();
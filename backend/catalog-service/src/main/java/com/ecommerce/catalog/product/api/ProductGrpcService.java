@@ -0,0 +1,197 @@
+package com.ecommerce.catalog.product.api;
+
+import com.ecommerce.catalog.grpc.v1.Attribute;
+import com.ecommerce.catalog.grpc.v1.BatchGetVariantsRequest;
+import com.ecommerce.catalog.grpc.v1.BatchGetVariantsResponse;
+import com.ecommerce.catalog.grpc.v1.CatalogServiceGrpc;
+import com.ecommerce.catalog.grpc.v1.GetProductRequest;
+import com.ecommerce.catalog.grpc.v1.GetVariantRequest;
+import com.ecommerce.catalog.grpc.v1.ListProductVariantsRequest;
+import com.ecommerce.catalog.grpc.v1.ListProductVariantsResponse;
+import com.ecommerce.catalog.grpc.v1.Product;
+import com.ecommerce.catalog.grpc.v1.Variant;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.dto.request.BatchGetVariantsRequestDTO;
+import com.ecommerce.catalog.product.application.dto.response.AttributeResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.BatchGetVariantsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
+import com.ecommerce.catalog.sharedkernel.api.GrpcResponses;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import io.grpc.stub.StreamObserver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * Servicio gRPC interno del catálogo ({@code ecommerce.catalog.v1.CatalogService}), pensado para las llamadas entre
+ * servicios (carrito, pedidos). Expone las lecturas de productos y variantes de {@link ProductController} sobre
+ * {@link ProductService}, con mensajes protobuf e importes en unidades menores en lugar de JSON con HATEOAS.
+ */
+public class ProductGrpcService extends CatalogServiceGrpc.CatalogServiceImplBase {
+    // --- Campos constantes ---
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+    // --- Dependencias ---
+    private final ProductService service;
+
+    /**
+     * Construye el servicio gRPC con el ProductService especificado.
+     * @param service la instancia de ProductService que proporciona la lógica de negocio para los productos.
+     */
+    public ProductGrpcService(ProductService service) {
+        this.service = service;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<Product> observer) {
+        GrpcResponses.reply(observer, () -> service.findById(request.getId())
+                .map(ProductGrpcService::toProto)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "ID", request.getId())));
+    }
+
+    @Override
+    public void getVariant(GetVariantRequest request, StreamObserver<Variant> observer) {
+        GrpcResponses.reply(observer, () -> service.findVariantById(request.getId(), currency(request.getCurrency()))
+                .map(ProductGrpcService::toProto)
+                .orElseThrow(() -> new ResourceNotFoundException("Variant", "ID", request.getId())));
+    }
+
+    @Override
+    public void batchGetVariants(BatchGetVariantsRequest request, StreamObserver<BatchGetVariantsResponse> observer) {
+        GrpcResponses.reply(observer, () -> {
+            if (request.getIdsCount() == 0 || request.getIdsCount() > BatchGetVariantsRequestDTO.MAX_IDS) {
+                throw new IllegalArgumentException(
+                        "Between 1 and " + BatchGetVariantsRequestDTO.MAX_IDS + " ids per request.");
+            }
+            // Las rutas de la máscara usan los nombres protobuf (product_id); VariantField usa los nombres JSON
+            List<String> fields = request.getReadMask().getPathsList().stream()
+                    .filter(path -> !path.equals("id"))
+                    .map(ProductGrpcService::camelCase)
+                    .toList();
+            BatchGetVariantsResponseDTO result = service.batchGetVariants(
+                    new BatchGetVariantsRequestDTO(request.getIdsList(), fields), currency(request.getCurrency()));
+            return BatchGetVariantsResponse.newBuilder()
+                    .addAllVariants(result.variants().stream().map(ProductGrpcService::toProto).toList())
+                    .addAllMissingIds(result.missingIds())
+                    .build();
+        });
+    }
+
+    @Override
+    public void listProductVariants(ListProductVariantsRequest request,
+                                    StreamObserver<ListProductVariantsResponse> observer) {
+        GrpcResponses.reply(observer, () -> {
+            int size = request.getPageSize() == 0 ? DEFAULT_PAGE_SIZE : request.getPageSize();
+            if (request.getPage() < 0 || size < 1) {
+                throw new IllegalArgumentException(
+                        "Invalid page request: page=" + request.getPage() + ", size=" + request.getPageSize());
+            }
+            Page<VariantResponseDTO> page = service.findVariantsByProductId(request.getProductId(),
+                    PageRequest.of(request.getPage(), Math.min(size, MAX_PAGE_SIZE)), currency(request.getCurrency()));
+            return ListProductVariantsResponse.newBuilder()
+                    .addAllVariants(page.getContent().stream().map(ProductGrpcService::toProto).toList())
+                    .setTotalElements(page.getTotalElements())
+                    .setTotalPages(page.getTotalPages())
+                    .build();
+        });
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static String currency(String currency) {
+        return currency.isBlank() ? null : currency;
+    }
+
+    private static String camelCase(String snakeCase) {
+        StringBuilder result = new StringBuilder(snakeCase.length());
+        boolean upper = false;
+        for (char c : snakeCase.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                result.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return result.toString();
+    }
+
+    private static Product toProto(ProductResponseDTO product) {
+        Product.Builder builder = Product.newBuilder().setId(product.id());
+        if (product.name() != null) {
+            builder.setName(product.name());
+        }
+        if (product.description() != null) {
+            builder.setDescription(product.description());
+        }
+        if (product.brandId() != null) {
+            builder.setBrandId(product.brandId());
+        }
+        if (product.categoriesId() != null) {
+            builder.addAllCategoriesId(product.categoriesId());
+        }
+        if (product.attributeDefinitions() != null) {
+            product.attributeDefinitions().forEach(attribute -> builder.addAttributeDefinitions(toProto(attribute)));
+        }
+        if (product.createdAt() != null) {
+            builder.setCreatedAt(GrpcResponses.timestamp(product.createdAt()));
+        }
+        if (product.updatedAt() != null) {
+            builder.setUpdatedAt(GrpcResponses.timestamp(product.updatedAt()));
+        }
+        return builder.build();
+    }
+
+    private static Attribute toProto(AttributeResponseDTO attribute) {
+        Attribute.Builder builder = Attribute.newBuilder()
+                .setKey(attribute.key())
+                .setIsVariantOption(Boolean.TRUE.equals(attribute.isVariantOption()))
+                .setIsRequired(Boolean.TRUE.equals(attribute.isRequired()));
+        if (attribute.label() != null) {
+            builder.setLabel(attribute.label());
+        }
+        if (attribute.type() != null) {
+            builder.setType(attribute.type().name());
+        }
+        if (attribute.defaultValue() != null) {
+            builder.setDefaultValue(GrpcResponses.value(attribute.defaultValue()));
+        }
+        return builder.build();
+    }
+
+    private static Variant toProto(VariantResponseDTO variant) {
+        Variant.Builder builder = Variant.newBuilder().setId(variant.id());
+        if (variant.productId() != null) {
+            builder.setProductId(variant.productId());
+        }
+        if (variant.price() != null) {
+            builder.setPrice(GrpcResponses.money(variant.price()));
+        }
+        if (variant.stock() != null) {
+            builder.setStock(variant.stock());
+        }
+        if (variant.available() != null) {
+            builder.setAvailable(variant.available());
+        }
+        if (variant.images() != null) {
+            builder.addAllImages(variant.images());
+        }
+        if (variant.attributes() != null) {
+            builder.setAttributes(GrpcResponses.struct(variant.attributes()));
+        }
+        if (variant.version() != null) {
+            builder.setVersion(variant.version());
+        }
+        if (variant.createdAt() != null) {
+            builder.setCreatedAt(GrpcResponses.timestamp(variant.createdAt()));
+        }
+        if (variant.updatedAt() != null) {
+            builder.setUpdatedAt(GrpcResponses.timestamp(variant.updatedAt()));
+        }
+        return builder.build();
+    }
+}
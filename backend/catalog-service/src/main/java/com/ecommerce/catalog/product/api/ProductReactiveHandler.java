@@ -0,0 +1,186 @@
+package com.ecommerce.catalog.product.api;
+
+import com.ecommerce.catalog.brand.domain.repository.ReactiveBrandRepository;
+import com.ecommerce.catalog.category.domain.model.Category;
+import com.ecommerce.catalog.category.domain.repository.ReactiveCategoryRepository;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
+import com.ecommerce.catalog.product.application.mapper.ProductMapper;
+import com.ecommerce.catalog.product.application.mapper.VariantMapper;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.catalog.product.domain.repository.ReactiveProductRepository;
+import com.ecommerce.catalog.product.domain.repository.ReactiveVariantRepository;
+import com.ecommerce.catalog.sharedkernel.api.ReactiveResponses;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handler de la API de lectura reactiva de productos y variantes. Expone las lecturas de {@link ProductController}
+ * sin bloquear hilos mientras se espera a MongoDB, y además un flujo NDJSON con todas las variantes de un producto.
+ */
+public class ProductReactiveHandler {
+    // --- Campos constantes ---
+    private static final int STREAM_PREFETCH = 256;
+    // --- Dependencias ---
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveVariantRepository variantRepository;
+    private final ReactiveBrandRepository brandRepository;
+    private final ReactiveCategoryRepository categoryRepository;
+    private final ProductMapper productMapper;
+    private final VariantMapper variantMapper;
+    private final ProductService productService;
+
+    /**
+     * Construye el handler.
+     * @param productRepository el repositorio reactivo de productos.
+     * @param variantRepository el repositorio reactivo de variantes.
+     * @param brandRepository el repositorio reactivo de marcas.
+     * @param categoryRepository el repositorio reactivo de categorías.
+     * @param productMapper el mapper de productos.
+     * @param variantMapper el mapper de variantes.
+     * @param productService el servicio de productos, usado para la conversión de precios.
+     */
+    public ProductReactiveHandler(ReactiveProductRepository productRepository, ReactiveVariantRepository variantRepository,
+                                  ReactiveBrandRepository brandRepository, ReactiveCategoryRepository categoryRepository,
+                                  ProductMapper productMapper, VariantMapper variantMapper, ProductService productService) {
+        this.productRepository = productRepository;
+        this.variantRepository = variantRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.productMapper = productMapper;
+        this.variantMapper = variantMapper;
+        this.productService = productService;
+    }
+
+    /**
+     * {@code GET /products/{id}}: obtiene un producto por su ID.
+     * @param request la petición.
+     * @return 200 OK con el producto, o 404 Not Found.
+     */
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return ReactiveResponses.single(productRepository.findById(id).map(productMapper::toResponseDTO), "Product", id);
+    }
+
+    /**
+     * {@code GET /products}: obtiene una página de productos.
+     * @param request la petición, con los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(productRepository.findAllBy(pageable).map(productMapper::toResponseDTO),
+                productRepository.count(), pageable);
+    }
+
+    /**
+     * {@code GET /products?name=}: obtiene una página de productos cuyo nombre contiene el texto indicado,
+     * sin distinguir mayúsculas, igual que {@link ProductController#searchByName}.
+     * @param request la petición, con el nombre y los parámetros de paginación.
+     * @return 200 OK con la página.
+     */
+    public Mono<ServerResponse> searchByName(ServerRequest request) {
+        String name = request.queryParam("name").orElseThrow();
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(
+                productRepository.findByNameValueContainingIgnoreCase(name, pageable).map(productMapper::toResponseDTO),
+                productRepository.countByNameValueContainingIgnoreCase(name), pageable);
+    }
+
+    /**
+     * {@code GET /products/brand?id=}: obtiene una página de los productos de una marca.
+     * @param request la petición, con el ID de la marca y los parámetros de paginación.
+     * @return 200 OK con la página, o 404 Not Found si la marca no existe.
+     */
+    public Mono<ServerResponse> searchByBrand(ServerRequest request) {
+        String id = requiredParam(request, "id");
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(brandRepository.existsById(id), "Brand", id,
+                productRepository.findByBrandIdValue(id, pageable).map(productMapper::toResponseDTO),
+                productRepository.countByBrandIdValue(id), pageable);
+    }
+
+    /**
+     * {@code GET /products/categories?id=}: obtiene una página de los productos de una categoría y sus descendientes.
+     * La rama incluye siempre a la propia categoría, por lo que una rama vacía significa que la categoría no existe.
+     * @param request la petición, con el ID de la categoría y los parámetros de paginación.
+     * @return 200 OK con la página, o 404 Not Found si la categoría no existe.
+     */
+    public Mono<ServerResponse> searchByCategory(ServerRequest request) {
+        String id = requiredParam(request, "id");
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return categoryRepository.findIdsByAncestors(id)
+                .map(Category::getId)
+                .collectList()
+                .flatMap(branch -> branch.isEmpty()
+                        ? Mono.error(new ResourceNotFoundException("Category", "ID", id))
+                        : ReactiveResponses.page(
+                                productRepository.findByCategoriesIdIn(branch, pageable).map(productMapper::toResponseDTO),
+                                productRepository.countByCategoriesIdIn(branch), pageable));
+    }
+
+    /**
+     * {@code GET /products/{id}/variants}: obtiene una página de las variantes de un producto.
+     * @param request la petición, con la moneda opcional ({@code currency}) y los parámetros de paginación.
+     * @return 200 OK con la página, o 404 Not Found si el producto no existe.
+     */
+    public Mono<ServerResponse> getVariants(ServerRequest request) {
+        String id = request.pathVariable("id");
+        String currency = request.queryParam("currency").orElse(null);
+        Pageable pageable = ReactiveResponses.pageable(request);
+        return ReactiveResponses.page(productRepository.existsById(id), "Product", id,
+                variantRepository.findByProductIdValue(id, pageable).map(variant -> toResponse(variant, currency)),
+                variantRepository.countByProductIdValue(id), pageable);
+    }
+
+    /**
+     * {@code GET /products/{id}/variants/stream}: transmite todas las variantes de un producto como NDJSON
+     * (un objeto JSON por línea), sin paginar. El flujo respeta la contrapresión de la conexión: se piden nuevos lotes
+     * al cursor de MongoDB solo a medida que el cliente consume, por lo que un producto con miles de variantes
+     * no se carga completo en memoria.
+     * @param request la petición, con la moneda opcional ({@code currency}).
+     * @return 200 OK con el flujo de variantes, o 404 Not Found si el producto no existe.
+     */
+    public Mono<ServerResponse> streamVariants(ServerRequest request) {
+        String id = request.pathVariable("id");
+        String currency = request.queryParam("currency").orElse(null);
+        Flux<VariantResponseDTO> variants = variantRepository.findByProductIdValue(id, Sort.by("id"))
+                .limitRate(STREAM_PREFETCH)
+                .map(variant -> toResponse(variant, currency));
+        return productRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+                                .body(variants, VariantResponseDTO.class)
+                        : Mono.error(new ResourceNotFoundException("Product", "ID", id)));
+    }
+
+    /**
+     * {@code GET /products/variants/{id}}: obtiene una variante por su ID.
+     * @param request la petición, con la moneda opcional ({@code currency}).
+     * @return 200 OK con la variante, o 404 Not Found.
+     */
+    public Mono<ServerResponse> getVariantById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        String currency = request.queryParam("currency").orElse(null);
+        return ReactiveResponses.single(variantRepository.findById(id).map(variant -> toResponse(variant, currency)),
+                "Variant", id);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private VariantResponseDTO toResponse(Variant variant, String currency) {
+        return productService.convertPrice(variantMapper.toResponseDTO(variant), currency);
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .filter(value -> !value.isBlank())
+                .orElseThrow(() -> new IllegalArgumentException("Required request parameter '" + name + "' is missing"));
+    }
+}
@@ -1,16 +1,22 @@
 package com.ecommerce.catalog.product.application;
 
+import com.ecommerce.catalog.brand.application.dto.response.BrandResponseDTO;
+import com.ecommerce.catalog.brand.application.mapper.BrandMapper;
 import com.ecommerce.catalog.brand.domain.repository.BrandRepository;
+import com.ecommerce.catalog.category.application.CategoryProductCountService;
+import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
+import com.ecommerce.catalog.category.application.mapper.CategoryMapper;
 import com.ecommerce.catalog.category.domain.model.Category;
 import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
 import com.ecommerce.catalog.product.application.dto.request.*;
 import com.ecommerce.catalog.product.application.dto.request.AttributeRequestDTO;
+import com.ecommerce.catalog.product.application.dto.response.BatchGetVariantsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.ProductDetailsResponseDTO;
 import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
 import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
 import com.ecommerce.catalog.product.application.mapper.ProductMapper;
 import com.ecommerce.catalog.product.application.mapper.VariantMapper;
 import com.ecommerce.catalog.product.application.exception.InvalidVariantAttributesException;
-import com.ecommerce.catalog.product.domain.constant.AttributeType;
 import com.ecommerce.catalog.product.domain.model.Product;
 import com.ecommerce.catalog.product.domain.model.Variant;
 import com.ecommerce.catalog.product.domain.model.vo.Attribute;
@@ -18,22 +24,28 @@ import com.ecommerce.catalog.product.domain.repository.ProductRepository;
 import com.ecommerce.catalog.product.domain.repository.VariantRepository;
 import com.ecommerce.catalog.sharedkernel.application.DeleteService;
 import com.ecommerce.catalog.sharedkernel.application.ReadService;
+import com.ecommerce.catalog.sharedkernel.infrastructure.concurrent.ParallelQueryExecutor;
 import com.ecommerce.libs.application.exception.ResourceNotFoundException;
 import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import com.ecommerce.libs.application.service.CurrencyConversionService;
 import com.ecommerce.libs.application.util.IdGenerator;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.MinorMoney;
 import com.ecommerce.libs.domain.vo.Money;
 import com.ecommerce.libs.domain.vo.NonBlankString;
 import com.ecommerce.libs.domain.vo.NonNegativeInteger;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +55,7 @@ import java.util.stream.Collectors;
  * Implementa las interfaces ReadService y DeleteService para proporcionar métodos genéricos de recuperación y eliminación.
  */
 @Service
+@Timed(value = "catalog.service", description = "Tiempo de ejecución de los métodos de servicio")
 public class ProductService implements ReadService<ProductResponseDTO, String>, DeleteService<String> {
     private static final Logger log = LoggerFactory.getLogger(ProductService.class);
     // --- Dependencias ---
@@ -53,6 +66,12 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     private final ProductMapper productMapper;
     private final VariantMapper variantMapper;
     private final ValueObjectMapper valueObjectMapper;
+    private final CurrencyConversionService conversionService;
+    private final VariantAttributeValidator attributeValidator;
+    private final BrandMapper brandMapper;
+    private final CategoryMapper categoryMapper;
+    private final ParallelQueryExecutor parallelQueries;
+    private final CategoryProductCountService productCounts;
 
     /**
      * Constructor con todas las dependencias del servicio.
@@ -62,10 +81,19 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
      * @param categoryRepository la interfaz del repositorio para acceder a los datos de las categorías.
      * @param productMapper el asignador utilizado para convertir entre objetos de producto y DTO.
      * @param variantMapper el asignador utilizado para convertir entre objetos de variante y DTO.
+     * @param conversionService el servicio de conversión de precios entre monedas.
+     * @param attributeValidator el validador de atributos de variantes contra el esquema del producto.
+     * @param brandMapper el asignador de marcas, usado en la vista de detalle.
+     * @param categoryMapper el asignador de categorías, usado en la vista de detalle.
+     * @param parallelQueries el ejecutor de las consultas independientes de las operaciones compuestas.
+     * @param productCounts el servicio que mantiene los contadores de productos de las categorías.
      */
     public ProductService(ProductRepository productRepository, VariantRepository variantRepository,
                           BrandRepository brandRepository, CategoryRepository categoryRepository,
-                          ProductMapper productMapper, VariantMapper variantMapper, ValueObjectMapper objectMapper) {
+                          ProductMapper productMapper, VariantMapper variantMapper, ValueObjectMapper objectMapper,
+                          CurrencyConversionService conversionService, VariantAttributeValidator attributeValidator,
+                          BrandMapper brandMapper, CategoryMapper categoryMapper, ParallelQueryExecutor parallelQueries,
+                          CategoryProductCountService productCounts) {
         this.productRepository = productRepository;
         this.variantRepository = variantRepository;
         this.brandRepository = brandRepository;
@@ -73,6 +101,12 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
         this.productMapper = productMapper;
         this.variantMapper = variantMapper;
         this.valueObjectMapper = objectMapper;
+        this.conversionService = conversionService;
+        this.attributeValidator = attributeValidator;
+        this.brandMapper = brandMapper;
+        this.categoryMapper = categoryMapper;
+        this.parallelQueries = parallelQueries;
+        this.productCounts = productCounts;
     }
 
     // --- Métodos heredados ---
@@ -97,13 +131,14 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     @Transactional
     public void delete(String id) {
         log.info("Intentando eliminar producto ID: {}", id);
-        if(!productRepository.existsById(id)){
-            throw new ResourceNotFoundException("Product", "ID", id);
-        }
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "ID", id));
         // Eliminar todas sus variantes existentes.
         Long exist = variantRepository.deleteByProductIdValue(id);
         // Eliminar el producto en sí.
         productRepository.deleteById(id);
+        // Descontarlo de sus categorías
+        productCounts.productRemoved(categoryRepository.findAncestorsOnlyByIdIn(product.getCategoriesId()));
         log.info("Producto eliminado ID: {}. Tenía {} variantes.", id, exist);
     }
 
@@ -131,11 +166,15 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> searchByBrand(String id, Pageable pageable) {
         log.debug("Buscando productos por marca: {}", id);
-        if(!brandRepository.existsById(id)){
+        // La existencia de la marca y la página no dependen entre sí
+        CompletableFuture<Boolean> brandExists = parallelQueries.fork(() -> brandRepository.existsById(id));
+        CompletableFuture<Page<Product>> productPage = parallelQueries.fork(
+                () -> productRepository.findByBrandIdValue(id, pageable));
+        parallelQueries.joinAll(brandExists, productPage);
+        if(!brandExists.join()){
             throw new ResourceNotFoundException("Brand", "ID", id);
         }
-        Page<Product> productPage = productRepository.findByBrandIdValue(id, pageable);
-        return productMapper.toProductResponseDTOPage(productPage);
+        return productMapper.toProductResponseDTOPage(productPage.join());
     }
 
     /**
@@ -147,12 +186,13 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> searchByCategory(String id, Pageable pageable) {
         log.debug("Buscando productos por categoría: {}, paginado {}", id, pageable);
-        if(!categoryRepository.existsById(id)){
-            throw new ResourceNotFoundException("Category", "ID", id);
-        }
+        // La rama incluye siempre a la propia categoría: si está vacía, la categoría no existe.
         List<String> categoriesId = categoryRepository.findByAncestors(id).stream()
                 .map(Category::getId)
                 .toList();
+        if(categoriesId.isEmpty()){
+            throw new ResourceNotFoundException("Category", "ID", id);
+        }
         log.debug("IDs de categoría encontrados: [{}]", categoriesId);
         Page<Product> productPage = productRepository.findByCategoriesIdIn(categoriesId, pageable);
         return productMapper.toProductResponseDTOPage(productPage);
@@ -162,28 +202,128 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
      * Busca las variantes de un producto en específico.
      * @param id el identificador del producto a filtrar.
      * @param pageable a información de paginación y ordenamiento.
+     * @param currency código ISO de la moneda en la que se expresan los precios, o null para la moneda original.
      * @return una página de variantes que pertenecen a un producto.
      */
     @Transactional(readOnly = true)
-    public Page<VariantResponseDTO> findVariantsByProductId(String id, Pageable pageable) {
+    public Page<VariantResponseDTO> findVariantsByProductId(String id, Pageable pageable, String currency) {
         log.debug("Buscando variantes para producto ID {} paginado: {}", id, pageable);
-        if(!productRepository.existsById(id)){
+        CompletableFuture<Boolean> productExists = parallelQueries.fork(() -> productRepository.existsById(id));
+        CompletableFuture<Page<Variant>> variantPage = parallelQueries.fork(
+                () -> variantRepository.findByProductIdValue(id, pageable));
+        parallelQueries.joinAll(productExists, variantPage);
+        if(!productExists.join()){
             throw new ResourceNotFoundException("Product", "ID", id);
         }
-        Page<Variant> variantPage = variantRepository.findByProductIdValue(id, pageable);
-        return variantMapper.toProductResponseDTOPage(variantPage);
+        return variantMapper.toProductResponseDTOPage(variantPage.join())
+                .map(variant -> convertPrice(variant, currency));
     }
 
     /**
      * Busca una variante en específico.
      * @param id el identificador de la variante.
+     * @param currency código ISO de la moneda en la que se expresa el precio, o null para la moneda original.
      * @return La variante encontrada o un Optional.empty() si no se encontró la variante.
      */
     @Transactional(readOnly = true)
-    public Optional<VariantResponseDTO> findVariantById(String id) {
+    public Optional<VariantResponseDTO> findVariantById(String id, String currency) {
         log.debug("Buscando variante por ID: {}", id);
         return variantRepository.findById(id)
-                .map(variantMapper::toResponseDTO);
+                .map(variantMapper::toResponseDTO)
+                .map(variant -> convertPrice(variant, currency));
+    }
+
+    /**
+     * Busca las variantes con precio en una moneda dentro de un rango, ambos extremos incluidos.
+     * @param currency código ISO de la moneda en la que están expresados los precios.
+     * @param minPrice el precio mínimo, en unidades mayores.
+     * @param maxPrice el precio máximo, en unidades mayores.
+     * @param pageable la información de paginación y ordenamiento.
+     * @return una página de variantes cuyo precio está dentro del rango.
+     * @throws IllegalArgumentException si la moneda no es válida o el precio mínimo supera al máximo.
+     */
+    @Transactional(readOnly = true)
+    public Page<VariantResponseDTO> findVariantsByPriceRange(String currency, BigDecimal minPrice, BigDecimal maxPrice,
+                                                             Pageable pageable) {
+        log.debug("Buscando variantes en {} con precio entre {} y {}", currency, minPrice, maxPrice);
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("El precio mínimo no puede ser mayor que el máximo");
+        }
+        Currency priceCurrency = Currencies.of(currency);
+        Page<Variant> variantPage = variantRepository.findByPriceRange(priceCurrency.getCurrencyCode(),
+                MinorMoney.ofMajor(minPrice, priceCurrency).amount(),
+                MinorMoney.ofMajor(maxPrice, priceCurrency).amount(), pageable);
+        return variantMapper.toProductResponseDTOPage(variantPage);
+    }
+
+    /**
+     * Busca varias variantes con una sola consulta ({@code $in} sobre el ID), devolviendo solo los campos pedidos.
+     * @param request los IDs de las variantes y los campos a devolver.
+     * @param currency código ISO de la moneda en la que se expresan los precios, o null para la moneda original.
+     * @return las variantes encontradas, en el orden pedido, y los IDs que no existen.
+     * @throws IllegalArgumentException si se pide un campo desconocido.
+     */
+    @Transactional(readOnly = true)
+    public BatchGetVariantsResponseDTO batchGetVariants(BatchGetVariantsRequestDTO request, String currency) {
+        Set<VariantField> fields = VariantField.parse(request.fields());
+        List<String> ids = request.ids().stream().distinct().toList();
+        log.debug("Buscando {} variantes por lote, campos: {}", ids.size(), fields);
+        Map<String, VariantResponseDTO> found = new HashMap<>();
+        for (Variant variant : variantRepository.findAllById(ids)) {
+            VariantResponseDTO dto = variantMapper.toResponseDTO(variant);
+            if (fields.contains(VariantField.PRICE)) {
+                dto = convertPrice(dto, currency);
+            }
+            found.put(variant.getId(), variantMapper.select(dto, fields));
+        }
+        List<VariantResponseDTO> variants = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            VariantResponseDTO variant = found.get(id);
+            if (variant == null) {
+                missingIds.add(id);
+            } else {
+                variants.add(variant);
+            }
+        }
+        return new BatchGetVariantsResponseDTO(variants, missingIds);
+    }
+
+    /**
+     * Obtiene en una sola operación el producto, su marca, sus categorías y una página de sus variantes.
+     * Las variantes se piden junto con el producto, y la marca y las categorías en cuanto se conocen sus IDs,
+     * por lo que la operación cuesta dos rondas de consultas en paralelo en lugar de cuatro secuenciales.
+     * @param id el identificador del producto.
+     * @param variantsPageable la paginación de las variantes.
+     * @param currency código ISO de la moneda en la que se expresan los precios, o null para la moneda original.
+     * @return el detalle del producto, o un Optional vacío si el producto no existe.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProductDetailsResponseDTO> findDetails(String id, Pageable variantsPageable, String currency) {
+        log.debug("Buscando detalle del producto ID: {}", id);
+        CompletableFuture<Optional<Product>> product = parallelQueries.fork(() -> productRepository.findById(id));
+        CompletableFuture<Page<Variant>> variantPage = parallelQueries.fork(
+                () -> variantRepository.findByProductIdValue(id, variantsPageable));
+        parallelQueries.joinAll(product, variantPage);
+        if(product.join().isEmpty()){
+            return Optional.empty();
+        }
+        Product found = product.join().get();
+        // La marca puede faltar si se eliminó y sus productos quedaron sin marca
+        CompletableFuture<Optional<BrandResponseDTO>> brand = found.getBrandId() == null
+                ? CompletableFuture.completedFuture(Optional.empty())
+                : parallelQueries.fork(() -> brandRepository.findById(found.getBrandId().value()).map(brandMapper::toResponseDTO));
+        CompletableFuture<List<CategoryResponseDTO>> categories = parallelQueries.fork(
+                () -> categoryMapper.toResponseDTOs(categoryRepository.findAllById(found.getCategoriesId())));
+        parallelQueries.joinAll(brand, categories);
+        Page<VariantResponseDTO> variants = variantMapper.toProductResponseDTOPage(variantPage.join())
+                .map(variant -> convertPrice(variant, currency));
+        return Optional.of(new ProductDetailsResponseDTO(
+                productMapper.toResponseDTO(found),
+                brand.join().orElse(null),
+                categories.join(),
+                new PagedModel<>(variants)
+        ));
     }
 
     /**
@@ -195,8 +335,7 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     public ProductResponseDTO saveProduct(CreateProductRequestDTO request) {
         log.info("Creando producto: {}", request.name());
         // Validar las entidades obtenidas
-        validateBrand(request.brandId());
-        validateCategory(request.categoriesId());
+        List<Category> categories = validateReferences(request.brandId(), request.categoriesId());
         // Generar un identificador aleatorio para el producto
         String id = IdGenerator.generateId();
         log.debug("ID generado para el nuevo producto: {}", id);
@@ -209,17 +348,24 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
                 request.categoriesId(),
                 validateAttributes(request.attributeDefinitions())
         );
-        // Guardar la nueva instancia
+        // Crear la variante inicial antes de guardar nada, para no tener que deshacer un error de validación
+        Variant variant;
+        try{
+            variant = buildVariant(product, request.initialVariant());
+        } catch (InvalidVariantAttributesException | IllegalArgumentException | NullPointerException e){
+            throw new RuntimeException("Error al crear la variante inicial requerida: " + e.getMessage(), e);
+        }
+        // Guardar el producto y luego su variante, en el hilo de la petición: las escrituras no pasan por el plazo de
+        // las consultas en paralelo, que no detiene una escritura en curso y dejaría la compensación compitiendo con ella
         Product savedProduct = productRepository.save(product);
-        log.info("Producto base creado con ID {}", savedProduct.getId());
-        // Crear la variante inicial
         try{
-            Variant variant = createVariantInternal(savedProduct, request.initialVariant());
-        } catch (DataIntegrityViolationException | InvalidVariantAttributesException | IllegalArgumentException | NullPointerException e){
+            variantRepository.save(variant);
+        } catch (RuntimeException e){
+            compensateProductCreation(product.getId(), variant.getId());
             throw new RuntimeException("Error al crear la variante inicial requerida: " + e.getMessage(), e);
-        } catch (Exception e) {
-            throw new RuntimeException("Error inesperado al crear la variante inicial.", e);
         }
+        log.info("Producto base creado con ID {} y variante inicial {}", id, variant.getId());
+        productCounts.productAdded(categories);
         return productMapper.toResponseDTO(savedProduct);
     }
 
@@ -232,11 +378,13 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
     @Transactional
     public Optional<ProductResponseDTO> updateProduct(String id, UpdateProductRequestDTO request) {
         log.info("Actualizando datos base del producto ID: {}", id);
-        Product product = productRepository.findById(id)
+        // Leer el producto mientras se validan las entidades obtenidas (que ya consultan en paralelo)
+        CompletableFuture<Optional<Product>> current = parallelQueries.fork(() -> productRepository.findById(id));
+        List<Category> references = validateReferences(request.brandId(), request.categoriesId());
+        parallelQueries.joinAll(current);
+        Product product = current.join()
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "ID", id));
-        // Validar las entidades obtenidas
-        validateBrand(request.brandId());
-        validateCategory(request.categoriesId());
+        List<String> previousCategories = List.copyOf(product.getCategoriesId());
         // Modificar la instancia
         product.setName(request.name());
         product.setDescription(request.description());
@@ -245,6 +393,11 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
         // Guardar la instancia modificada
         Product savedProduct = productRepository.save(product);
         log.info("Producto base actualizado ID {}", savedProduct.getId());
+        // Actualizar los contadores de las categorías solo si cambiaron
+        if (!new HashSet<>(previousCategories).equals(new HashSet<>(savedProduct.getCategoriesId()))) {
+            productCounts.productRecategorized(
+                    categoryRepository.findAncestorsOnlyByIdIn(previousCategories), references);
+        }
         return Optional.of(productMapper.toResponseDTO(savedProduct));
     }
 
@@ -299,8 +452,34 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
         log.info("Variante eliminada ID: {}", id);
     }
 
+    /**
+     * Expresa el precio de una variante en la moneda solicitada usando la tabla de tasas en memoria.
+     * @param variant la variante a convertir.
+     * @param currency código ISO de la moneda destino, o null/vacío para conservar la moneda original.
+     * @return la variante con el precio convertido.
+     * @throws IllegalArgumentException si la moneda no es válida o no hay tasa de cambio para ella.
+     */
+    public VariantResponseDTO convertPrice(VariantResponseDTO variant, String currency) {
+        if (currency == null || currency.isBlank()) {
+            return variant;
+        }
+        return new VariantResponseDTO(
+                variant.id(),
+                variant.productId(),
+                conversionService.convert(variant.price(), currency.trim().toUpperCase(Locale.ROOT)),
+                variant.stock(),
+                variant.available(),
+                variant.images(),
+                variant.attributes(),
+                variant.version(),
+                variant.createdAt(),
+                variant.updatedAt()
+        );
+    }
+
     // --- Métodos auxiliares ---
 
+
     /**
      * Valida y mapea la lista de definiciones de atributos de DTO a objetos de Dominio.
      * Asegura que las claves sean únicas y que los defaults sean válidos para el tipo.
@@ -336,6 +515,16 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
      * @param dto representa un DTO de tipo request con los datos para crear una nueva variante.
      */
     private Variant createVariantInternal(Product product, CreateVariantRequestDTO dto) {
+        return variantRepository.save(buildVariant(product, dto));
+    }
+
+    /**
+     * Valida los atributos definitorios de una variante contra el schema del producto y construye la variante,
+     * sin guardarla.
+     * @param product el producto al que pertenecerá la variante.
+     * @param dto representa un DTO de tipo request con los datos para crear una nueva variante.
+     */
+    private Variant buildVariant(Product product, CreateVariantRequestDTO dto) {
         // Normalizar las claves de los atributos de la variante
         Map<String, Object> normalizedAttributes = dto.attributes() == null ? Collections.emptyMap() :
         dto.attributes().entrySet().stream()
@@ -346,7 +535,7 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
                         (v1, v2) -> v1 // En caso de claves duplicadas normalizadas
                 ));
         // Verificar que los atributos de la variante su cumplan con el esquema del producto.
-        Map<String, Object> attributes = validateVariantDefiningAttributes(
+        Map<String, Object> attributes = attributeValidator.validate(
                 normalizedAttributes, product.getAttributeDefinitions()
         );
         // Obtener los campos faltantes
@@ -354,7 +543,7 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
         Integer stock = new NonNegativeInteger(dto.stock()).value();
         String id = IdGenerator.generateId();
         // Crear la instancia
-        Variant variant = new Variant(
+        return new Variant(
                 id,
                 product.getId(),
                 price,
@@ -362,95 +551,53 @@ public class ProductService implements ReadService<ProductResponseDTO, String>,
                 dto.images(),
                 attributes
         );
-        // Guardar la instancia
-        return variantRepository.save(variant);
     }
 
     /**
-     * Valida los atributos definitorios de una variante contra el schema del producto.
-     * @param proposedAttributes Propuesta de mapa de pares (clave-valor) definidos por la variante.
-     * @param schemaDefinitions Esquema de atributos definidos en el producto.
-     * @return Un mapa de pares (clave-valor) con los atributos válidos del esquema.
-     */
-    private Map<String, Object> validateVariantDefiningAttributes(
-            Map<String, Object> proposedAttributes, List<Attribute> schemaDefinitions) {
-        List<Attribute> schema = schemaDefinitions == null ? Collections.emptyList() : schemaDefinitions;
-        Map<String, Object> inputAttrs = proposedAttributes == null ? Collections.emptyMap() : proposedAttributes;
-        // Convertir schema a mapa para búsqueda rápida por clave normalizada
-        final Map<String, Attribute> schemaMap = schema.stream()
-                .collect(Collectors.toMap(
-                        def -> def.getKey().value(), // Clave ya normalizada en la definición
-                        Function.identity()
-                ));
-        Map<String, Object> attributesToStore = new HashMap<>();
-        // Validar cada atributo propuesto por el cliente
-        for(Map.Entry<String, Object> entry : inputAttrs.entrySet()) {
-            String key = entry.getKey().toLowerCase(Locale.ROOT);
-            Object value = Objects.requireNonNull(entry.getValue(), "Value for attribute key: {" + key + "} cannot be null.");
-            // ¿Clave definida en el schema?
-            Attribute attribute = schemaMap.get(key);
-            if(attribute == null) {
-                throw new InvalidVariantAttributesException("Key {" + key + "} not defined in schema definitions");
-            }
-            // ¿Tipo de valor correcto?
-            AttributeType attributeType = attribute.getType();
-            try{
-                attributeType.validate(value);
-            } catch (Exception e){
-                throw new InvalidVariantAttributesException("Value {" + key + "} not defined in schema definitions");
-            }
-            // Decidir si guardar ese atributo en la variante
-            if(attribute.getIsVariantOption()){
-                // Siempre se guarda si es una opción que define la variante
-                attributesToStore.put(key, value);
-            } else {
-                Object defaultValue = attribute.getDefaultValue();
-                if(!Objects.equals(defaultValue, value)){
-                    // Es un override del valor, por lo tanto se guarda
-                    attributesToStore.put(key, value);
-                }
-            }
-        }
-        // Verificar que todos los atributos requeridos tengan un valor
-        for(Attribute attribute : schema) {
-            if(attribute.getIsRequired()){
-                String requiredKey = attribute.getKey().value();
-                // ¿Tiene un valor específico guardado O tiene un valor por defecto definido?
-                boolean hasValue = attributesToStore.containsKey(requiredKey) || attribute.getDefaultValue() != null;
-                if(!hasValue){
-                    throw new InvalidVariantAttributesException(
-                            "Attribute key {" + requiredKey + "} is required and not defined in schema definitions");
-                }
-            }
-        }
-        log.debug("Atributos validados para guardar en variante: {}", attributesToStore);
-        return attributesToStore;
-    }
-
-    /**
-     * Valida que la marca obtenida por el request exista.
+     * Valida que la marca y las categorías obtenidas por el request existan, consultándolas en paralelo.
+     * Las categorías se leen en una sola consulta que devuelve también sus ancestros, necesarios para los contadores.
      * @param brandId una cadena de caracteres con el identificador de la marca.
-     */
-    private void validateBrand(String brandId) {
-        String id = new NonBlankString(brandId).value();
-        if (!brandRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Brand", "ID", id);
-        }
-    }
-
-    /**
-     * Valida que las categorías obtenidas por el request existan.
      * @param categoriesId lista de identificadores de categorías.
+     * @return las categorías, con solo sus ancestros.
      */
-    private void validateCategory(List<String> categoriesId) {
+    private List<Category> validateReferences(String brandId, List<String> categoriesId) {
+        String brand = new NonBlankString(brandId).value();
         if (categoriesId == null || categoriesId.isEmpty()) {
             throw new IllegalArgumentException("Is required at least one category");
         }
-        for (String categoryId : categoriesId) {
-            String id = new NonBlankString(categoryId).value();
-            if (!categoryRepository.existsById(id)) {
+        List<String> ids = categoriesId.stream()
+                .map(categoryId -> new NonBlankString(categoryId).value())
+                .distinct()
+                .toList();
+        CompletableFuture<Boolean> brandExists = parallelQueries.fork(() -> brandRepository.existsById(brand));
+        CompletableFuture<List<Category>> categories = parallelQueries.fork(
+                () -> categoryRepository.findAncestorsOnlyByIdIn(ids));
+        parallelQueries.joinAll(brandExists, categories);
+        if (!brandExists.join()) {
+            throw new ResourceNotFoundException("Brand", "ID", brand);
+        }
+        Set<String> found = categories.join().stream().map(Category::getId).collect(Collectors.toSet());
+        for (String id : ids) {
+            if (!found.contains(id)) {
                 throw new ResourceNotFoundException("Category", "ID", id);
             }
         }
+        return categories.join();
+    }
+
+    /**
+     * Deshace la creación de un producto cuya variante inicial no se pudo guardar: borra el producto y la variante,
+     * por si la escritura fallida llegó a aplicarse. Borrar un ID que no llegó a guardarse no tiene efecto.
+     * @param productId el identificador del producto.
+     * @param variantId el identificador de la variante inicial.
+     */
+    private void compensateProductCreation(String productId, String variantId) {
+        log.warn("Deshaciendo la creación del producto ID {} (variante {})", productId, variantId);
+        try {
+            variantRepository.deleteById(variantId);
+            productRepository.deleteById(productId);
+        } catch (RuntimeException e) {
+            log.error("No se pudo deshacer la creación del producto ID {}: {}", productId, e.getMessage(), e);
+        }
     }
 }
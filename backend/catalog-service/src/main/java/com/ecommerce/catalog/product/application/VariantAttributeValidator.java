@@ -0,0 +1,87 @@
+package com.ecommerce.catalog.product.application;
+
+import com.ecommerce.catalog.product.application.exception.InvalidVariantAttributesException;
+import com.ecommerce.catalog.product.domain.constant.AttributeType;
+import com.ecommerce.catalog.product.domain.model.vo.Attribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Componente que valida los atributos definitorios de una variante contra el esquema de atributos de su producto.
+ * Decide además qué atributos se almacenan en la variante: las opciones que la definen y los valores que
+ * sobrescriben un valor por defecto.
+ */
+@Component
+public class VariantAttributeValidator {
+    private static final Logger log = LoggerFactory.getLogger(VariantAttributeValidator.class);
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Valida los atributos definitorios de una variante contra el schema del producto.
+     * @param proposedAttributes Propuesta de mapa de pares (clave-valor) definidos por la variante.
+     * @param schemaDefinitions Esquema de atributos definidos en el producto.
+     * @return Un mapa de pares (clave-valor) con los atributos válidos del esquema.
+     * @throws InvalidVariantAttributesException si un atributo no está en el esquema, su valor no es del tipo
+     * esperado o falta un atributo requerido.
+     */
+    public Map<String, Object> validate(
+            Map<String, Object> proposedAttributes, List<Attribute> schemaDefinitions) {
+        List<Attribute> schema = schemaDefinitions == null ? Collections.emptyList() : schemaDefinitions;
+        Map<String, Object> inputAttrs = proposedAttributes == null ? Collections.emptyMap() : proposedAttributes;
+        // Convertir schema a mapa para búsqueda rápida por clave normalizada
+        final Map<String, Attribute> schemaMap = schema.stream()
+                .collect(Collectors.toMap(
+                        def -> def.getKey().value(), // Clave ya normalizada en la definición
+                        Function.identity()
+                ));
+        Map<String, Object> attributesToStore = new HashMap<>();
+        // Validar cada atributo propuesto por el cliente
+        for(Map.Entry<String, Object> entry : inputAttrs.entrySet()) {
+            String key = entry.getKey().toLowerCase(Locale.ROOT);
+            Object value = Objects.requireNonNull(entry.getValue(), "Value for attribute key: {" + key + "} cannot be null.");
+            // ¿Clave definida en el schema?
+            Attribute attribute = schemaMap.get(key);
+            if(attribute == null) {
+                throw new InvalidVariantAttributesException("Key {" + key + "} not defined in schema definitions");
+            }
+            // ¿Tipo de valor correcto?
+            AttributeType attributeType = attribute.getType();
+            try{
+                attributeType.validate(value);
+            } catch (Exception e){
+                throw new InvalidVariantAttributesException("Value {" + key + "} not defined in schema definitions");
+            }
+            // Decidir si guardar ese atributo en la variante
+            if(attribute.getIsVariantOption()){
+                // Siempre se guarda si es una opción que define la variante
+                attributesToStore.put(key, value);
+            } else {
+                Object defaultValue = attribute.getDefaultValue();
+                if(!Objects.equals(defaultValue, value)){
+                    // Es un override del valor, por lo tanto se guarda
+                    attributesToStore.put(key, value);
+                }
+            }
+        }
+        // Verificar que todos los atributos requeridos tengan un valor
+        for(Attribute attribute : schema) {
+            if(attribute.getIsRequired()){
+                String requiredKey = attribute.getKey().value();
+                // ¿Tiene un valor específico guardado O tiene un valor por defecto definido?
+                boolean hasValue = attributesToStore.containsKey(requiredKey) || attribute.getDefaultValue() != null;
+                if(!hasValue){
+                    throw new InvalidVariantAttributesException(
+                            "Attribute key {" + requiredKey + "} is required and not defined in schema definitions");
+                }
+            }
+        }
+        log.debug("Atributos validados para guardar en variante: {}", attributesToStore);
+        return attributesToStore;
+    }
+}
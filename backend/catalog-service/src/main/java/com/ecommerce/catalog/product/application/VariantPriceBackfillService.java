@@ -0,0 +1,71 @@
+package com.ecommerce.catalog.product.application;
+
+import com.ecommerce.catalog.product.domain.repository.VariantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Completa el precio en unidades menores ({@code priceMinorUnits}) de las variantes guardadas antes de que existiera
+ * el campo, para que la búsqueda por rango de precio también las encuentre. Las variantes nuevas o con el precio
+ * modificado ya lo reciben al guardarse, por lo que tras la primera ejecución completa no queda nada pendiente.
+ */
+@Service
+public class VariantPriceBackfillService {
+    private static final Logger log = LoggerFactory.getLogger(VariantPriceBackfillService.class);
+    // --- Dependencias ---
+    private final VariantRepository variantRepository;
+    // --- Estado ---
+    private final boolean onStartup;
+    private final int batchSize;
+
+    /**
+     * Constructor con todas las dependencias del servicio.
+     * @param variantRepository la interfaz del repositorio para acceder a los datos de las variantes.
+     * @param onStartup si se completan las variantes pendientes al arrancar.
+     * @param batchSize la cantidad de variantes que se actualizan por escritura en bloque.
+     */
+    public VariantPriceBackfillService(VariantRepository variantRepository,
+                                       @Value("${catalog.variants.price-backfill.on-startup:true}") boolean onStartup,
+                                       @Value("${catalog.variants.price-backfill.batch-size:500}") int batchSize) {
+        this.variantRepository = variantRepository;
+        this.onStartup = onStartup;
+        this.batchSize = batchSize;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Al arrancar, completa las variantes pendientes sin bloquear el arranque: mientras tanto, la búsqueda por rango
+     * de precio no las encuentra.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!onStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (DataAccessException e) {
+            log.error("No se pudo completar el precio en unidades menores de las variantes", e);
+        }
+    }
+
+    /**
+     * Completa el precio en unidades menores de las variantes que no lo tienen.
+     * @return la cantidad de variantes completadas.
+     */
+    public long backfill() {
+        long updated = variantRepository.backfillPriceMinorUnits(batchSize);
+        if (updated > 0) {
+            log.info("Precio en unidades menores completado en {} variantes", updated);
+        }
+        return updated;
+    }
+}
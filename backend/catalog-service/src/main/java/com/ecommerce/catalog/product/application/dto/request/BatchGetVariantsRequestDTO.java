@@ -0,0 +1,25 @@
+package com.ecommerce.catalog.product.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Objeto de transferencia de datos (DTO) para consultar varias variantes en una sola petición,
+ * pensado para las llamadas entre servicios (carrito, pedidos, búsqueda).
+ * @param ids IDs de las variantes; como máximo {@value #MAX_IDS}. Los repetidos se consultan una vez.
+ * @param fields Nombres de los campos a devolver además del ID (ver {@link VariantField}); vacío para todos.
+ */
+public record BatchGetVariantsRequestDTO(
+        @NotEmpty(message = "Ids cannot be empty.")
+        @Size(max = BatchGetVariantsRequestDTO.MAX_IDS, message = "At most " + BatchGetVariantsRequestDTO.MAX_IDS + " ids per request.")
+        List<String> ids,
+
+        List<String> fields
+) {
+    /**
+     * Cantidad máxima de IDs por petición; acota el tamaño del {@code $in} y de la respuesta.
+     */
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.catalog.product.application.dto.request;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de {@code VariantResponseDTO} que un cliente puede pedir en una consulta por lotes de variantes.
+ * El ID de la variante siempre se devuelve. Los nombres son los de la respuesta JSON:
+ * - PRODUCT_ID ({@code productId}), PRICE ({@code price}), STOCK ({@code stock}), AVAILABLE ({@code available}),
+ * - IMAGES ({@code images}), ATTRIBUTES ({@code attributes}), VERSION ({@code version}),
+ * - CREATED_AT ({@code createdAt}), UPDATED_AT ({@code updatedAt}).
+ */
+public enum VariantField {
+    PRODUCT_ID("productId"),
+    PRICE("price"),
+    STOCK("stock"),
+    AVAILABLE("available"),
+    IMAGES("images"),
+    ATTRIBUTES("attributes"),
+    VERSION("version"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String jsonName;
+
+    VariantField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() { return jsonName; }
+
+    /**
+     * Convierte los nombres JSON pedidos en campos.
+     * @param names los nombres de los campos, o null/vacío para todos.
+     * @return los campos pedidos.
+     * @throws IllegalArgumentException si algún nombre no corresponde a un campo.
+     */
+    public static Set<VariantField> parse(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(VariantField.class);
+        }
+        Set<VariantField> fields = EnumSet.noneOf(VariantField.class);
+        for (String name : names) {
+            fields.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown variant field: " + name)));
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.catalog.product.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Objeto de transferencia de datos (DTO) con el resultado de una consulta por lotes de variantes.
+ * @param variants Variantes encontradas, en el orden de los IDs pedidos y solo con los campos pedidos.
+ * @param missingIds IDs pedidos que no corresponden a ninguna variante.
+ */
+public record BatchGetVariantsResponseDTO(
+        List<VariantResponseDTO> variants,
+        List<String> missingIds
+) {
+}
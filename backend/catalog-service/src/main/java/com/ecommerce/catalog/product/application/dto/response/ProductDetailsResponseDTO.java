@@ -0,0 +1,23 @@
+package com.ecommerce.catalog.product.application.dto.response;
+
+import com.ecommerce.catalog.brand.application.dto.response.BrandResponseDTO;
+import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+/**
+ * Objeto de transferencia de datos (DTO) que agrega en una sola respuesta todo lo necesario para mostrar
+ * la página de detalle de un producto.
+ * @param product Datos base del producto.
+ * @param brand Marca del producto, o null si ya no existe.
+ * @param categories Categorías a las que pertenece el producto que todavía existen.
+ * @param variants Primera página (según la paginación pedida) de las variantes del producto.
+ */
+public record ProductDetailsResponseDTO(
+        ProductResponseDTO product,
+        BrandResponseDTO brand,
+        List<CategoryResponseDTO> categories,
+        PagedModel<VariantResponseDTO> variants
+) {
+}
@@ -5,6 +5,8 @@ import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO
 import com.ecommerce.catalog.product.domain.model.Product;
 import com.ecommerce.catalog.product.domain.model.vo.Attribute;
 import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.mapstruct.AnnotateWith;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 
@@ -15,6 +17,7 @@ import java.util.List;
  * {@link ProductResponseDTO}. Se utiliza para facilitar la transformación de datos de categoría entre el dominio de la aplicación y su capa de representación.
  * dominio de la aplicación y su capa de representación.
  */
+@AnnotateWith(value = Timed.class, elements = @AnnotateWith.Element(name = "value", strings = "catalog.mapper"))
 @Mapper(
         componentModel = "spring",
         uses = {ValueObjectMapper.class}
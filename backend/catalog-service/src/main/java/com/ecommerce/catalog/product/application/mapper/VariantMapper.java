@@ -1,18 +1,23 @@
 package com.ecommerce.catalog.product.application.mapper;
 
+import com.ecommerce.catalog.product.application.dto.request.VariantField;
 import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
 import com.ecommerce.catalog.product.domain.model.Variant;
 import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.mapstruct.AnnotateWith;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interfaz de mapeo para la conversión entre la entidad {@link Variant} y su correspondiente Objeto de Transferencia de Datos (DTO),
  * {@link VariantResponseDTO}. Se utiliza para facilitar la transformación de datos de categoría entre el dominio de la aplicación y su capa de representación.
  * dominio de la aplicación y su capa de representación.
  */
+@AnnotateWith(value = Timed.class, elements = @AnnotateWith.Element(name = "value", strings = "catalog.mapper"))
 @Mapper(
         componentModel = "spring",
         uses = {ValueObjectMapper.class}
@@ -43,4 +48,28 @@ public interface VariantMapper {
         }
         return variantPage.map(this::toResponseDTO);
     }
+
+    /**
+     * Deja en un {@link VariantResponseDTO} solo los campos pedidos; los demás quedan nulos y no se serializan.
+     * @param variant la variante completa.
+     * @param fields los campos pedidos además del ID.
+     * @return la variante con los campos pedidos.
+     */
+    default VariantResponseDTO select(VariantResponseDTO variant, Set<VariantField> fields) {
+        if (fields.size() == VariantField.values().length) {
+            return variant;
+        }
+        return new VariantResponseDTO(
+                variant.id(),
+                fields.contains(VariantField.PRODUCT_ID) ? variant.productId() : null,
+                fields.contains(VariantField.PRICE) ? variant.price() : null,
+                fields.contains(VariantField.STOCK) ? variant.stock() : null,
+                fields.contains(VariantField.AVAILABLE) ? variant.available() : null,
+                fields.contains(VariantField.IMAGES) ? variant.images() : null,
+                fields.contains(VariantField.ATTRIBUTES) ? variant.attributes() : null,
+                fields.contains(VariantField.VERSION) ? variant.version() : null,
+                fields.contains(VariantField.CREATED_AT) ? variant.createdAt() : null,
+                fields.contains(VariantField.UPDATED_AT) ? variant.updatedAt() : null
+        );
+    }
 }
@@ -3,7 +3,6 @@ package com.ecommerce.catalog.product.domain.model;
 import com.ecommerce.catalog.product.domain.model.vo.Attribute;
 import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
 import com.ecommerce.libs.domain.vo.NonBlankString;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serial;
@@ -17,13 +16,12 @@ public class Product extends BaseEntity<String> {
     @Serial
     private static final long serialVersionUID = 1L;
     // --- Atributos básicos ---
-    @Indexed(collation = "{'locale': 'es', 'strength': 2}")
     private NonBlankString name;
     private String description;
     private List<Attribute> attributeDefinitions; // Cuyas opciones generan las variantes
     // --- Atributos referentes a otros documentos ---
-    @Indexed private NonBlankString brandId;
-    @Indexed private List<String> categoriesId;
+    private NonBlankString brandId;
+    private List<String> categoriesId;
 
     /**
      * Constructor por defecto para la entidad Product.
@@ -1,11 +1,11 @@
 package com.ecommerce.catalog.product.domain.model;
 
 import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
+import com.ecommerce.libs.domain.vo.MinorMoney;
 import com.ecommerce.libs.domain.vo.Money;
 import com.ecommerce.libs.domain.vo.NonBlankString;
 import com.ecommerce.libs.domain.vo.NonNegativeInteger;
 import org.springframework.data.annotation.Version;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serial;
@@ -19,8 +19,9 @@ public class Variant extends BaseEntity<String> {
     @Serial
     private static final long serialVersionUID = 1L;
     // --- Atributos básicos ---
-    @Indexed private NonBlankString productId;
+    private NonBlankString productId;
     private Money price;
+    private Long priceMinorUnits; // Copia del precio en unidades menores para consultas por rango
     private NonNegativeInteger stock;
     private Boolean available;
     private List<String> images;
@@ -57,6 +58,7 @@ public class Variant extends BaseEntity<String> {
 
     public NonBlankString getProductId() { return productId; }
     public Money getPrice() { return price; }
+    public MinorMoney getMinorPrice() { return priceMinorUnits == null ? MinorMoney.fromMoney(price) : new MinorMoney(priceMinorUnits, price.currency()); }
     public NonNegativeInteger getStock() { return stock; }
     public Boolean getAvailable() { return available; }
     public List<String> getImages() { return Collections.unmodifiableList(images); }
@@ -65,7 +67,10 @@ public class Variant extends BaseEntity<String> {
 
     // --- Setters ---
 
-    public void setPrice(Money price) { this.price = Objects.requireNonNull(price, "Price cannot be null"); }
+    public void setPrice(Money price) {
+        this.price = Objects.requireNonNull(price, "Price cannot be null");
+        this.priceMinorUnits = MinorMoney.fromMoney(price).amount();
+    }
     public void setStock(Integer stock) { this.stock = new NonNegativeInteger(stock); }
     public void setAvailable(Boolean available) { this.available = available != null && available; }
     public void setImages(List<String> images) { this.images = images == null ? new ArrayList<>() : new ArrayList<>(images); }
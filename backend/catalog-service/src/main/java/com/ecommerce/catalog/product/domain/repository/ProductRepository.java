@@ -12,12 +12,13 @@ import org.springframework.stereotype.Repository;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para acceder a los datos de la entidad Product en MongoDB.
  */
 @Repository
-public interface ProductRepository extends MongoRepository<Product, String> {
+public interface ProductRepository extends MongoRepository<Product, String>, ProductRepositoryCustom {
     /**
      * Busca Productos cuyos nombres contengan la subcadena especificada, ignorando mayúsculas y minúsculas.
      * @param name la subcadena a buscar dentro de los nombres de producto. Debe ser no nulo y no estar en blanco.
@@ -44,4 +45,53 @@ public interface ProductRepository extends MongoRepository<Product, String> {
      */
     @Query("{ 'categoriesId' : { $in: ?0 } }")
     Page<Product> findByCategoriesIdIn(Collection<String> categoriesId, Pageable pageable);
+
+    /**
+     * Recorre todos los productos trayendo solo sus categorías, para recalcular los contadores de productos
+     * de las categorías. El cursor debe cerrarse (try-with-resources).
+     * @return el flujo de productos, con solo {@code _id} y {@code categoriesId}.
+     */
+    @Query(value = "{}", fields = "{ 'categoriesId' : 1 }")
+    Stream<Product> streamCategoriesIdBy();
+
+    /**
+     * Obtiene un lote de IDs de productos de una marca, para procesarlos por lotes.
+     * @param brandId identificador de la marca.
+     * @param pageable el tamaño del lote (se usa siempre la primera página, porque el lote se modifica).
+     * @return los productos del lote, con solo {@code _id}.
+     */
+    @Query(value = "{ 'brandId.value' : ?0 }", fields = "{ '_id' : 1 }")
+    List<Product> findIdsByBrandIdValue(String brandId, Pageable pageable);
+
+    /**
+     * Obtiene un lote de IDs de productos asignados a una categoría, para procesarlos por lotes.
+     * @param categoryId identificador de la categoría.
+     * @param pageable el tamaño del lote (se usa siempre la primera página, porque el lote se modifica).
+     * @return los productos del lote, con solo {@code _id}.
+     */
+    @Query(value = "{ 'categoriesId' : ?0 }", fields = "{ '_id' : 1 }")
+    List<Product> findIdsByCategoriesId(String categoryId, Pageable pageable);
+
+    /**
+     * Cuenta los productos de una marca.
+     * @param brandId identificador de la marca.
+     * @return la cantidad de productos.
+     */
+    long countByBrandIdValue(String brandId);
+
+    /**
+     * Cuenta los productos asignados directamente a una categoría.
+     * @param categoryId identificador de la categoría.
+     * @return la cantidad de productos.
+     */
+    @Query(value = "{ 'categoriesId' : ?0 }", count = true)
+    long countByCategoriesId(String categoryId);
+
+    /**
+     * Cuenta los productos asignados a alguna de las categorías; un producto en varias de ellas cuenta una vez.
+     * @param categoriesId los IDs de las categorías.
+     * @return la cantidad de productos distintos.
+     */
+    @Query(value = "{ 'categoriesId' : { $in: ?0 } }", count = true)
+    long countByCategoriesIdIn(Collection<String> categoriesId);
 }
@@ -0,0 +1,30 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+import java.util.Collection;
+
+/**
+ * Actualizaciones en bloque de productos que no pueden expresarse como métodos derivados de Spring Data.
+ * La implementación para MongoDB es {@code ProductRepositoryCustomImpl}.
+ */
+public interface ProductRepositoryCustom {
+    /**
+     * Sustituye la marca de un lote de productos con una sola actualización múltiple. Solo se modifican los productos
+     * del lote que todavía referencian la marca, por lo que repetir un lote no tiene efecto.
+     * @param productIds los IDs del lote.
+     * @param brandId el ID de la marca a sustituir.
+     * @param replacementId el ID de la nueva marca, o null para quitar la marca de los productos.
+     * @return la cantidad de productos modificados.
+     */
+    long replaceBrand(Collection<String> productIds, String brandId, String replacementId);
+
+    /**
+     * Sustituye una categoría por otra en un lote de productos con una sola actualización múltiple ({@code $pull} de
+     * la anterior y, si no estaba, alta de la nueva). Solo se modifican los productos del lote que todavía tienen
+     * la categoría, por lo que repetir un lote no tiene efecto.
+     * @param productIds los IDs del lote.
+     * @param categoryId el ID de la categoría a sustituir.
+     * @param replacementId el ID de la nueva categoría, o null para solo quitar la categoría de los productos.
+     * @return la cantidad de productos modificados.
+     */
+    long replaceCategory(Collection<String> productIds, String categoryId, String replacementId);
+}
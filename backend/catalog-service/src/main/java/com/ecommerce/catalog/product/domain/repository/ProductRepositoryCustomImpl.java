@@ -0,0 +1,67 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+import com.ecommerce.catalog.product.domain.model.Product;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementación para MongoDB de {@link ProductRepositoryCustom}, que Spring Data combina con
+ * {@code ProductRepository} por la convención del sufijo {@code Impl}. Spring Data busca la implementación en el
+ * paquete de la interfaz del repositorio, por eso vive junto a ella y no en {@code infrastructure}.
+ */
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    // --- Campos constantes ---
+    private static final String BRAND_ID = "brandId";
+    private static final String CATEGORIES_ID = "categoriesId";
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Construye la implementación.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     */
+    public ProductRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public long replaceBrand(Collection<String> productIds, String brandId, String replacementId) {
+        Query batch = Query.query(Criteria.where("_id").in(productIds).and(BRAND_ID + ".value").is(brandId));
+        Update update = replacementId == null
+                ? new Update().unset(BRAND_ID)
+                : new Update().set(BRAND_ID + ".value", replacementId);
+        return mongoTemplate.updateMulti(batch, update.currentDate("updatedAt"), Product.class).getModifiedCount();
+    }
+
+    /**
+     * Sin sustituta es un {@code $pull}. Con sustituta, una actualización con pipeline equivalente a
+     * {@code $pull} + {@code $addToSet} (que MongoDB no admite sobre el mismo campo en una actualización):
+     * {@code categoriesId = categoriesId sin la anterior ++ [nueva si no estaba]}, conservando el orden.
+     */
+    @Override
+    public long replaceCategory(Collection<String> productIds, String categoryId, String replacementId) {
+        Query batch = Query.query(Criteria.where("_id").in(productIds).and(CATEGORIES_ID).is(categoryId));
+        if (replacementId == null) {
+            Update pull = new Update().pull(CATEGORIES_ID, categoryId).currentDate("updatedAt");
+            return mongoTemplate.updateMulti(batch, pull, Product.class).getModifiedCount();
+        }
+        String field = "$" + CATEGORIES_ID;
+        Document remaining = new Document("$filter", new Document("input", field)
+                .append("cond", new Document("$ne", List.of("$$this", categoryId))));
+        Document added = new Document("$cond", List.of(
+                new Document("$in", List.of(replacementId, field)), List.of(), List.of(replacementId)));
+        Document rewrite = new Document(CATEGORIES_ID, new Document("$concatArrays", List.of(remaining, added)))
+                .append("updatedAt", "$$NOW");
+        AggregationUpdate update = AggregationUpdate.from(List.of(context -> new Document("$set", rewrite)));
+        return mongoTemplate.updateMulti(batch, update, Product.class).getModifiedCount();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+import com.ecommerce.catalog.product.domain.model.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo para las lecturas de la entidad Product en MongoDB, usado por la API de lectura reactiva.
+ */
+@Repository
+public interface ReactiveProductRepository extends ReactiveMongoRepository<Product, String> {
+    /**
+     * Recupera una página de productos.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de productos de la página solicitada.
+     */
+    Flux<Product> findAllBy(Pageable pageable);
+
+    /**
+     * Recupera una página de productos cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @param pageable información de paginación y ordenación. Debe ser no nulo.
+     * @return el flujo de productos de la página solicitada.
+     */
+    Flux<Product> findByNameValueContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Cuenta los productos cuyo nombre contiene la subcadena indicada, sin distinguir mayúsculas.
+     * @param name la subcadena a buscar.
+     * @return la cantidad de productos.
+     */
+    Mono<Long> countByNameValueContainingIgnoreCase(String name);
+
+    /**
+     * Recupera una página de los productos de una marca.
+     * @param brandId identificador de la marca.
+     * @param pageable información de paginación y ordenación.
+     * @return el flujo de productos de la página solicitada.
+     */
+    Flux<Product> findByBrandIdValue(String brandId, Pageable pageable);
+
+    /**
+     * Cuenta los productos de una marca.
+     * @param brandId identificador de la marca.
+     * @return la cantidad de productos.
+     */
+    Mono<Long> countByBrandIdValue(String brandId);
+
+    /**
+     * Recupera una página de los productos asignados a cualquiera de las categorías indicadas.
+     * @param categoriesId colección de IDs de categorías.
+     * @param pageable información de paginación y ordenación.
+     * @return el flujo de productos de la página solicitada.
+     */
+    Flux<Product> findByCategoriesIdIn(Collection<String> categoriesId, Pageable pageable);
+
+    /**
+     * Cuenta los productos asignados a cualquiera de las categorías indicadas.
+     * @param categoriesId colección de IDs de categorías.
+     * @return la cantidad de productos.
+     */
+    Mono<Long> countByCategoriesIdIn(Collection<String> categoriesId);
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+import com.ecommerce.catalog.product.domain.model.Variant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo para las lecturas de la entidad Variant en MongoDB, usado por la API de lectura reactiva.
+ */
+@Repository
+public interface ReactiveVariantRepository extends ReactiveMongoRepository<Variant, String> {
+    /**
+     * Recupera una página de las variantes de un producto.
+     * @param productId identificador del producto padre.
+     * @param pageable información de paginación y ordenación.
+     * @return el flujo de variantes de la página solicitada.
+     */
+    Flux<Variant> findByProductIdValue(String productId, Pageable pageable);
+
+    /**
+     * Recupera todas las variantes de un producto como un flujo con contrapresión: el cursor de MongoDB
+     * solo pide nuevos lotes a medida que el consumidor solicita más elementos.
+     * @param productId identificador del producto padre.
+     * @param sort el orden de las variantes.
+     * @return el flujo de variantes del producto.
+     */
+    Flux<Variant> findByProductIdValue(String productId, Sort sort);
+
+    /**
+     * Cuenta las variantes de un producto.
+     * @param productId identificador del producto padre.
+     * @return la cantidad de variantes.
+     */
+    Mono<Long> countByProductIdValue(String productId);
+}
@@ -4,13 +4,14 @@ import com.ecommerce.catalog.product.domain.model.Variant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repositorio para acceder a los datos de la entidad Variant en MongoDB.
  */
 @Repository
-public interface VariantRepository extends MongoRepository<Variant, String> {
+public interface VariantRepository extends MongoRepository<Variant, String>, VariantRepositoryCustom {
     /**
      * Busca todas las variantes asociadas a un producto padre, paginado.
      * @param productId identificador del producto padre.
@@ -25,4 +26,17 @@ public interface VariantRepository extends MongoRepository<Variant, String> {
      * @return El total de variables eliminadas.
      */
     Long deleteByProductIdValue(String productId);
+
+    /**
+     * Busca las variantes de una moneda cuyo precio está dentro del rango indicado (ambos extremos incluidos).
+     * La comparación se hace sobre el campo entero {@code priceMinorUnits}, cubierto por el índice {@code price_range};
+     * las variantes anteriores al campo lo reciben al arrancar ({@link #backfillPriceMinorUnits}).
+     * @param currencyCode el código ISO de la moneda del precio.
+     * @param minMinorUnits el precio mínimo, en unidades menores.
+     * @param maxMinorUnits el precio máximo, en unidades menores.
+     * @param pageable detalles de paginación que especifican el número de página.
+     * @return una lista paginada de variantes dentro del rango de precio.
+     */
+    @Query("{ 'price.currency': ?0, 'priceMinorUnits': { $gte: ?1, $lte: ?2 } }")
+    Page<Variant> findByPriceRange(String currencyCode, long minMinorUnits, long maxMinorUnits, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+/**
+ * Actualizaciones en bloque de variantes que no pueden expresarse como métodos derivados de Spring Data.
+ * La implementación para MongoDB es {@code VariantRepositoryCustomImpl}.
+ */
+public interface VariantRepositoryCustom {
+    /**
+     * Completa {@code priceMinorUnits} en las variantes guardadas antes de que existiera el campo, calculándolo desde
+     * su precio. Solo se modifican las variantes que todavía no lo tienen: repetirlo no tiene efecto y no pisa el
+     * valor de una variante cuyo precio cambió entretanto.
+     * @param batchSize la cantidad de variantes que se actualizan por escritura en bloque.
+     * @return la cantidad de variantes completadas.
+     */
+    long backfillPriceMinorUnits(int batchSize);
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.catalog.product.domain.repository;
+
+import com.ecommerce.catalog.product.domain.model.Variant;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementación para MongoDB de {@link VariantRepositoryCustom}, que Spring Data combina con
+ * {@code VariantRepository} por la convención del sufijo {@code Impl}.
+ */
+public class VariantRepositoryCustomImpl implements VariantRepositoryCustom {
+    // --- Campos constantes ---
+    private static final String PRICE = "price";
+    private static final String PRICE_MINOR_UNITS = "priceMinorUnits";
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Construye la implementación.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     */
+    public VariantRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public long backfillPriceMinorUnits(int batchSize) {
+        // El precio se convierte en Java con la misma regla que Variant#setPrice, no en el servidor
+        Query missing = Query.query(Criteria.where(PRICE_MINOR_UNITS).exists(false));
+        missing.fields().include(PRICE);
+        long updated = 0;
+        List<Variant> batch = new ArrayList<>(batchSize);
+        try (Stream<Variant> variants = mongoTemplate.stream(missing, Variant.class)) {
+            for (Variant variant : (Iterable<Variant>) variants::iterator) {
+                batch.add(variant);
+                if (batch.size() == batchSize) {
+                    updated += write(batch);
+                    batch.clear();
+                }
+            }
+        }
+        return updated + write(batch);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private long write(List<Variant> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Variant.class);
+        for (Variant variant : batch) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(variant.getId()).and(PRICE_MINOR_UNITS).exists(false)),
+                    Update.update(PRICE_MINOR_UNITS, variant.getMinorPrice().amount()));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+}
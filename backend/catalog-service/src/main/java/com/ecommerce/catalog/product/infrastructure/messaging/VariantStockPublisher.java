@@ -0,0 +1,64 @@
+package com.ecommerce.catalog.product.infrastructure.messaging;
+
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.libs.application.dto.VariantStockDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica por AMQP el stock de cada variante guardada (formato {@link VariantStockDTO}) en un exchange fanout
+ * ({@code catalog.stock.amqp.exchange}), para que los servicios que reservan unidades (carrito) concilien su libro
+ * de reservas con el inventario del catálogo sin consultarlo en cada operación.
+ * Un fallo al publicar no revierte la escritura: la siguiente publicación de la variante lo corrige.
+ * Solo se registra si {@code catalog.stock.amqp.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "catalog.stock.amqp", name = "enabled", havingValue = "true")
+public class VariantStockPublisher extends AbstractMongoEventListener<Variant> {
+    private static final Logger log = LoggerFactory.getLogger(VariantStockPublisher.class);
+    // --- Dependencias ---
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    // --- Estado ---
+    private final String exchange;
+
+    /**
+     * Construye el publicador.
+     * @param rabbitTemplate el cliente AMQP.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param exchange el nombre del exchange fanout de stock.
+     */
+    public VariantStockPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper,
+                                 @Value("${catalog.stock.amqp.exchange:catalog.stock}") String exchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Variant> event) {
+        Variant variant = event.getSource();
+        VariantStockDTO message = new VariantStockDTO(variant.getId(), variant.getStock().value(),
+                variant.getAvailable(), variant.getVersion());
+        try {
+            rabbitTemplate.send(exchange, "", MessageBuilder.withBody(objectMapper.writeValueAsBytes(message))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .build());
+        } catch (JsonProcessingException | AmqpException e) {
+            log.warn("No se pudo publicar el stock de la variante {}: {}", variant.getId(), e.getMessage());
+        }
+    }
+}
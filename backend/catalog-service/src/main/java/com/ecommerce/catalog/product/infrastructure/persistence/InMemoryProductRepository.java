@@ -0,0 +1,141 @@
+package com.ecommerce.catalog.product.infrastructure.persistence;
+
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.repository.ProductRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.DocumentMatchers;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.InMemoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.SecondaryIndex;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Implementación en memoria de {@link ProductRepository}, activa con el perfil {@code inmemory}.
+ * Replica los índices de marca y categorías (multiclave) de la colección.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryProductRepository extends InMemoryRepository<Product> implements ProductRepository {
+    // --- Campos constantes ---
+    private static final String NAME = "name.value";
+    private static final String BRAND_ID = "brandId.value";
+    private static final String CATEGORIES_ID = "categoriesId";
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryProductRepository(MongoConverter converter, ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(Product.class, converter, auditingHandler, SecondaryIndex.on(BRAND_ID), SecondaryIndex.on(CATEGORIES_ID));
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Page<Product> findByNameValueContainingIgnoreCase(String name, Pageable pageable) {
+        return page(DocumentMatchers.containsIgnoreCase(NAME, name), pageable);
+    }
+
+    @Override
+    public Page<Product> findByBrandIdValue(String brandId, Pageable pageable) {
+        return page(index(BRAND_ID).get(brandId), pageable);
+    }
+
+    /**
+     * Une los IDs de cada categoría en un conjunto ordenado, de modo que un producto asignado a varias categorías
+     * de la colección aparece una sola vez, como con {@code $in}.
+     */
+    @Override
+    public Page<Product> findByCategoriesIdIn(Collection<String> categoriesId, Pageable pageable) {
+        SecondaryIndex index = index(CATEGORIES_ID);
+        NavigableSet<String> ids = new TreeSet<>();
+        for (String categoryId : categoriesId) {
+            ids.addAll(index.get(categoryId));
+        }
+        return page(ids, pageable);
+    }
+
+    @Override
+    public Stream<Product> streamCategoriesIdBy() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Product> findIdsByBrandIdValue(String brandId, Pageable pageable) {
+        return list(documents(index(BRAND_ID).get(brandId)).limit(pageable.getPageSize()));
+    }
+
+    @Override
+    public List<Product> findIdsByCategoriesId(String categoryId, Pageable pageable) {
+        return list(documents(index(CATEGORIES_ID).get(categoryId)).limit(pageable.getPageSize()));
+    }
+
+    @Override
+    public long countByBrandIdValue(String brandId) {
+        return index(BRAND_ID).get(brandId).size();
+    }
+
+    @Override
+    public long countByCategoriesId(String categoryId) {
+        return index(CATEGORIES_ID).get(categoryId).size();
+    }
+
+    @Override
+    public long countByCategoriesIdIn(Collection<String> categoriesId) {
+        Set<String> ids = new TreeSet<>();
+        categoriesId.forEach(categoryId -> ids.addAll(index(CATEGORIES_ID).get(categoryId)));
+        return ids.size();
+    }
+
+    @Override
+    public long replaceBrand(Collection<String> productIds, String brandId, String replacementId) {
+        return updateIds(referencing(productIds, BRAND_ID, brandId), document -> {
+            if (replacementId == null) {
+                document.remove("brandId");
+            } else {
+                document.put("brandId", new Document("value", replacementId));
+            }
+            document.put("updatedAt", new Date());
+            return document;
+        });
+    }
+
+    @Override
+    public long replaceCategory(Collection<String> productIds, String categoryId, String replacementId) {
+        return updateIds(referencing(productIds, CATEGORIES_ID, categoryId), document -> {
+            List<String> categories = new ArrayList<>(document.getList(CATEGORIES_ID, String.class));
+            categories.remove(categoryId);
+            if (replacementId != null && !categories.contains(replacementId)) {
+                categories.add(replacementId);
+            }
+            document.put(CATEGORIES_ID, categories);
+            document.put("updatedAt", new Date());
+            return document;
+        });
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Filtra un lote de IDs dejando solo los productos que todavía tienen el valor en el campo indexado.
+     */
+    private List<String> referencing(Collection<String> productIds, String path, String value) {
+        Set<String> matching = index(path).get(value);
+        return productIds.stream().filter(matching::contains).toList();
+    }
+}
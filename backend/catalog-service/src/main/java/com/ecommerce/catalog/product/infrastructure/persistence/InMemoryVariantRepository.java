@@ -0,0 +1,68 @@
+package com.ecommerce.catalog.product.infrastructure.persistence;
+
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.catalog.product.domain.repository.VariantRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.DocumentMatchers;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.InMemoryRepository;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.SecondaryIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Implementación en memoria de {@link VariantRepository}, activa con el perfil {@code inmemory}.
+ * Indexa las variantes por producto; la búsqueda por rango de precio recorre la colección.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryVariantRepository extends InMemoryRepository<Variant> implements VariantRepository {
+    // --- Campos constantes ---
+    private static final String PRODUCT_ID = "productId.value";
+    private static final String PRICE_MINOR_UNITS = "priceMinorUnits";
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryVariantRepository(MongoConverter converter, ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(Variant.class, converter, auditingHandler, SecondaryIndex.on(PRODUCT_ID));
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public Page<Variant> findByProductIdValue(String productId, Pageable pageable) {
+        return page(index(PRODUCT_ID).get(productId), pageable);
+    }
+
+    @Override
+    public Long deleteByProductIdValue(String productId) {
+        return deleteIds(index(PRODUCT_ID).get(productId));
+    }
+
+    @Override
+    public Page<Variant> findByPriceRange(String currencyCode, long minMinorUnits, long maxMinorUnits, Pageable pageable) {
+        return page(DocumentMatchers.equalTo("price.currency", currencyCode)
+                .and(DocumentMatchers.between(PRICE_MINOR_UNITS, minMinorUnits, maxMinorUnits)), pageable);
+    }
+
+    @Override
+    public long backfillPriceMinorUnits(int batchSize) {
+        long updated = 0;
+        for (Variant variant : list(scan(document -> !document.containsKey(PRICE_MINOR_UNITS)))) {
+            long minorUnits = variant.getMinorPrice().amount();
+            updated += updateIds(List.of(variant.getId()), document -> {
+                document.putIfAbsent(PRICE_MINOR_UNITS, minorUnits);
+                return document;
+            });
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.catalog.sharedkernel.api;
+
+import com.ecommerce.catalog.grpc.v1.Money;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.Value;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Utilidades compartidas por los servicios gRPC: conversión de los tipos de los DTOs a los mensajes protobuf
+ * (importes en unidades menores, fechas, atributos dinámicos) y traducción de excepciones a {@link Status},
+ * con el mismo criterio que {@code GlobalExceptionHandler} usa para los códigos HTTP.
+ */
+public final class GrpcResponses {
+    private static final Logger log = LoggerFactory.getLogger(GrpcResponses.class);
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private GrpcResponses() {}
+
+    /**
+     * Ejecuta una llamada unaria y envía su resultado, o el error traducido a {@link Status}.
+     * @param observer el observador de la respuesta.
+     * @param call la lógica de la llamada.
+     * @param <T> el tipo del mensaje de respuesta.
+     */
+    public static <T> void reply(StreamObserver<T> observer, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e));
+            return;
+        }
+        observer.onNext(response);
+        observer.onCompleted();
+    }
+
+    /**
+     * Traduce una excepción de la aplicación a un error gRPC.
+     * @param error la excepción lanzada.
+     * @return el error con el código correspondiente.
+     */
+    public static StatusRuntimeException toStatus(Throwable error) {
+        if (error instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (error instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(error.getMessage()).asRuntimeException();
+        }
+        if (error instanceof IllegalArgumentException || error instanceof IllegalStateException) {
+            return Status.INVALID_ARGUMENT.withDescription(error.getMessage()).asRuntimeException();
+        }
+        if (error instanceof QueryTimeoutException) {
+            return Status.UNAVAILABLE.withDescription(error.getMessage()).asRuntimeException();
+        }
+        log.error("Error inesperado en una llamada gRPC", error);
+        return Status.INTERNAL.withDescription("An unexpected error occurred.").asRuntimeException();
+    }
+
+    /**
+     * Convierte un importe a unidades menores de su moneda, redondeando a la escala de la moneda.
+     * @param money el importe en unidades mayores.
+     * @return el importe en unidades menores.
+     */
+    public static Money money(MoneyDTO money) {
+        MinorMoney minor = MinorMoney.ofMajor(money.amount(), Currencies.of(money.currencyCode()));
+        return Money.newBuilder()
+                .setMinorUnits(minor.amount())
+                .setCurrencyCode(minor.currency().getCurrencyCode())
+                .build();
+    }
+
+    /**
+     * Convierte una fecha local (zona del servidor, como la asigna la auditoría de Spring Data) a un instante.
+     * @param dateTime la fecha local.
+     * @return el instante equivalente.
+     */
+    public static Timestamp timestamp(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    /**
+     * Convierte un mapa de atributos dinámicos a un {@link Struct}.
+     * @param attributes los atributos.
+     * @return la estructura equivalente.
+     */
+    public static Struct struct(Map<String, ?> attributes) {
+        Struct.Builder struct = Struct.newBuilder();
+        attributes.forEach((key, value) -> struct.putFields(key, value(value)));
+        return struct.build();
+    }
+
+    /**
+     * Convierte un valor dinámico (texto, número, booleano, lista o mapa) a un {@link Value}.
+     * Los valores de otros tipos se envían como texto.
+     * @param value el valor, o null.
+     * @return el valor equivalente.
+     */
+    public static Value value(Object value) {
+        return switch (value) {
+            case null -> Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+            case String text -> Value.newBuilder().setStringValue(text).build();
+            case Boolean bool -> Value.newBuilder().setBoolValue(bool).build();
+            case Number number -> Value.newBuilder().setNumberValue(number.doubleValue()).build();
+            case Map<?, ?> map -> {
+                Struct.Builder struct = Struct.newBuilder();
+                map.forEach((key, item) -> struct.putFields(String.valueOf(key), value(item)));
+                yield Value.newBuilder().setStructValue(struct).build();
+            }
+            case Collection<?> items -> {
+                ListValue.Builder list = ListValue.newBuilder();
+                items.forEach(item -> list.addValues(value(item)));
+                yield Value.newBuilder().setListValue(list).build();
+            }
+            default -> Value.newBuilder().setStringValue(value.toString()).build();
+        };
+    }
+}
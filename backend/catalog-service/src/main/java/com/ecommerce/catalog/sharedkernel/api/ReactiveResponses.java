@@ -0,0 +1,131 @@
+package com.ecommerce.catalog.sharedkernel.api;
+
+import com.ecommerce.libs.application.dto.ErrorResponseDTO;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidades compartidas por los handlers de la API de lectura reactiva: interpretación de la paginación con los mismos
+ * parámetros que Spring Data Web ({@code page}, {@code size}, {@code sort=campo,dir}), respuestas paginadas con el mismo
+ * formato JSON que la API principal ({@link PagedModel}) y traducción de errores a {@link ErrorResponseDTO}.
+ */
+public final class ReactiveResponses {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveResponses.class);
+    // --- Campos constantes ---
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private ReactiveResponses() {}
+
+    /**
+     * Construye la paginación solicitada en los parámetros de la petición.
+     * @param request la petición.
+     * @return la paginación; página 0 y tamaño 20 si no se indican.
+     * @throws IllegalArgumentException si algún parámetro no es válido.
+     */
+    public static Pageable pageable(ServerRequest request) {
+        int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page request: page=" + page + ", size=" + size);
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String sort : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = sort.split(",");
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromString(parts[parts.length - 1]) : Sort.Direction.ASC;
+            orders.add(new Sort.Order(direction, parts[0]));
+        }
+        return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(orders));
+    }
+
+    /**
+     * Responde con una página, consultando el contenido y el total en paralelo.
+     * @param content el flujo con el contenido de la página.
+     * @param total la cantidad total de elementos.
+     * @param pageable la paginación solicitada.
+     * @return la respuesta 200 OK con la página.
+     * @param <T> el tipo de los elementos.
+     */
+    public static <T> Mono<ServerResponse> page(Flux<T> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(content.collectList(), total)
+                .map(tuple -> new PagedModel<>(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())))
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page));
+    }
+
+    /**
+     * Responde con una página de recursos que dependen de otro (ej.: las variantes de un producto). La existencia del
+     * recurso padre, el contenido y el total se consultan en paralelo; si el padre no existe se descarta el resto.
+     * @param parentExists si el recurso padre existe.
+     * @param parentName el nombre del tipo del recurso padre (para el mensaje de error).
+     * @param parentId el identificador del recurso padre.
+     * @param content el flujo con el contenido de la página.
+     * @param total la cantidad total de elementos.
+     * @param pageable la paginación solicitada.
+     * @return la respuesta 200 OK con la página, o la excepción de recurso no encontrado.
+     * @param <T> el tipo de los elementos.
+     */
+    public static <T> Mono<ServerResponse> page(Mono<Boolean> parentExists, String parentName, String parentId,
+                                                Flux<T> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(parentExists, content.collectList(), total)
+                .flatMap(tuple -> tuple.getT1()
+                        ? ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(new PagedModel<>(new PageImpl<>(tuple.getT2(), pageable, tuple.getT3())))
+                        : Mono.error(new ResourceNotFoundException(parentName, "ID", parentId)));
+    }
+
+    /**
+     * Responde con un recurso o con 404 si no existe.
+     * @param resource el recurso, vacío si no existe.
+     * @param name el nombre del tipo de recurso (para el mensaje de error).
+     * @param id el identificador buscado.
+     * @return la respuesta 200 OK con el recurso, o la excepción de recurso no encontrado.
+     */
+    public static Mono<ServerResponse> single(Mono<?> resource, String name, String id) {
+        return resource
+                .flatMap(value -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(value))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(name, "ID", id)));
+    }
+
+    /**
+     * Traduce una excepción a una respuesta de error, con los mismos códigos que el manejador global de la API principal.
+     * @param error la excepción.
+     * @param request la petición durante la cual se produjo.
+     * @return la respuesta de error.
+     */
+    public static Mono<ServerResponse> error(Throwable error, ServerRequest request) {
+        HttpStatus status;
+        String message;
+        if (error instanceof ResourceNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+            message = error.getMessage();
+        } else if (error instanceof IllegalArgumentException || error instanceof IllegalStateException) {
+            status = HttpStatus.BAD_REQUEST;
+            message = error.getMessage();
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            message = "Ocurrió un error interno inesperado en el servidor.";
+            log.error("Error no controlado en la API reactiva [{}]", request.path(), error);
+        }
+        ErrorResponseDTO body = new ErrorResponseDTO(status.value(), status.getReasonPhrase(), message, request.path());
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.catalog.sharedkernel.application;
+
+import com.ecommerce.catalog.sharedkernel.application.exception.IdempotencyKeyReusedException;
+import com.ecommerce.catalog.sharedkernel.application.exception.IdempotentRequestInProgressException;
+import com.ecommerce.catalog.sharedkernel.domain.model.IdempotencyRecord;
+import com.ecommerce.catalog.sharedkernel.domain.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Hace idempotentes las operaciones de escritura que el cliente identifica con la cabecera {@code Idempotency-Key}:
+ * la primera petición con una clave se ejecuta y su respuesta se guarda durante {@code catalog.idempotency.ttl};
+ * los reintentos con la misma clave y el mismo cuerpo reciben esa respuesta sin volver a ejecutar la operación.
+ * <p>
+ * La clave se registra antes de ejecutar la operación, de modo que un reintento que llega mientras la original
+ * sigue en curso se rechaza en vez de ejecutarse dos veces. Si la operación falla, el registro se elimina y el
+ * reintento la ejecuta de nuevo; si la instancia cae a mitad de la operación, el registro vence tras
+ * {@code catalog.idempotency.lock-timeout}.
+ */
+@Service
+public class IdempotencyService {
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    // --- Campos constantes ---
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+    // --- Dependencias ---
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    // --- Estado ---
+    private final Duration ttl;
+    private final Duration lockTimeout;
+
+    /**
+     * Constructor con todas las dependencias del servicio.
+     * @param repository la interfaz del repositorio para acceder a los registros de idempotencia.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param ttl el tiempo durante el que se conserva la respuesta de una petición completada.
+     * @param lockTimeout el tiempo tras el que una petición sin completar se considera abandonada.
+     */
+    public IdempotencyService(IdempotencyRecordRepository repository, ObjectMapper objectMapper,
+                              @Value("${catalog.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${catalog.idempotency.lock-timeout:1m}") Duration lockTimeout) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Ejecuta una operación de escritura una sola vez por clave de idempotencia.
+     * @param key la clave enviada por el cliente, o null para ejecutar la operación sin registrarla.
+     * @param operation la operación y el recurso sobre el que actúa (p. ej. {@code POST /products}); la misma clave
+     *                  puede usarse en operaciones distintas.
+     * @param request el cuerpo de la petición; un reintento debe enviar el mismo.
+     * @param responseType el tipo de la respuesta.
+     * @param action la operación.
+     * @return la respuesta de la operación, o la de la petición original si es un reintento.
+     * @param <T> el tipo de la respuesta.
+     * @throws IllegalArgumentException si la clave está vacía o es demasiado larga.
+     * @throws IdempotencyKeyReusedException si la clave ya se usó con otro cuerpo.
+     * @throws IdempotentRequestInProgressException si la petición original con la clave sigue en curso.
+     */
+    public <T> T execute(String key, String operation, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "La cabecera " + HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+        String id = operation + " " + key;
+        String requestHash = hash(request);
+        Optional<T> replay = replay(id, key, requestHash, responseType);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+        IdempotencyRecord record;
+        try {
+            record = repository.insert(new IdempotencyRecord(id, requestHash, Instant.now().plus(lockTimeout)));
+        } catch (DuplicateKeyException e) {
+            // Otra petición con la misma clave se registró entre la búsqueda y la inserción
+            return replay(id, key, requestHash, responseType).orElseThrow(() -> inProgress(key));
+        }
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            repository.delete(record);
+            throw e;
+        }
+        try {
+            record.complete(objectMapper.writeValueAsString(response), Instant.now().plus(ttl));
+            repository.save(record);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // La operación ya se completó: un reintento tras el vencimiento del bloqueo la repetiría
+            log.warn("No se pudo guardar la respuesta de la petición idempotente {}: {}", id, e.getMessage());
+        }
+        return response;
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Busca la petición original con la clave. Un registro vencido se elimina y se trata como inexistente.
+     * @return la respuesta guardada, o vacío si la clave no está registrada.
+     * @throws IdempotencyKeyReusedException si la clave se usó con otro cuerpo.
+     * @throws IdempotentRequestInProgressException si la petición original sigue en curso.
+     */
+    private <T> Optional<T> replay(String id, String key, String requestHash, Class<T> responseType) {
+        Optional<IdempotencyRecord> found = repository.findById(id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        IdempotencyRecord record = found.get();
+        if (record.isExpired(Instant.now())) {
+            repository.delete(record);
+            return Optional.empty();
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(
+                    "La clave de idempotencia " + key + " ya se usó con una petición distinta");
+        }
+        if (!record.isCompleted()) {
+            throw inProgress(key);
+        }
+        try {
+            return Optional.of(objectMapper.readValue(record.getResponse(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer la respuesta guardada de la petición " + id, e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo calcular el hash de la petición", e);
+        }
+    }
+
+    private static IdempotentRequestInProgressException inProgress(String key) {
+        return new IdempotentRequestInProgressException(
+                "La petición con la clave de idempotencia " + key + " todavía está en curso");
+    }
+}
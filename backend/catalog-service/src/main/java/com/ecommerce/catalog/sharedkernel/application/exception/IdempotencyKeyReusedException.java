@@ -0,0 +1,10 @@
+package com.ecommerce.catalog.sharedkernel.application.exception;
+
+/**
+ * Excepción ocurrida si una clave de idempotencia se reutiliza con una petición distinta de la original.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
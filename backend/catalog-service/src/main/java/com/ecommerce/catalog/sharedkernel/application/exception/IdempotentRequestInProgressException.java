@@ -0,0 +1,11 @@
+package com.ecommerce.catalog.sharedkernel.application.exception;
+
+/**
+ * Excepción ocurrida si llega un reintento mientras la petición original con la misma clave de idempotencia
+ * todavía se está ejecutando.
+ */
+public class IdempotentRequestInProgressException extends RuntimeException {
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.catalog.sharedkernel.domain.model;
+
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.Serial;
+import java.time.Instant;
+
+/**
+ * Registro de una petición de escritura identificada con la cabecera {@code Idempotency-Key}. Guarda el hash del
+ * cuerpo de la petición y, una vez completada, la respuesta que se devolvió, para repetirla ante los reintentos
+ * sin volver a ejecutar la operación.
+ * <p>
+ * Mientras la operación está en curso, {@code expiresAt} actúa como plazo del bloqueo; al completarse pasa a ser
+ * el fin de la retención. El índice TTL sobre {@code expiresAt} elimina en ambos casos los registros vencidos.
+ */
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord extends BaseEntity<String> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    // --- Atributos básicos ---
+    private String requestHash;
+    private boolean completed;
+    private String response;
+    private Instant expiresAt; // Índice TTL (CatalogIndexes)
+    // --- Atributos adicionales ---
+    @Version private Long version; // Bloqueo optimista
+
+    /**
+     * Constructor sin argumentos
+     */
+    public IdempotencyRecord() { super(); }
+
+    /**
+     * Construye el registro de una petición en curso.
+     * @param id la operación y la clave de idempotencia.
+     * @param requestHash el hash del cuerpo de la petición.
+     * @param lockedUntil el momento hasta el que la petición se considera en curso.
+     */
+    public IdempotencyRecord(String id, String requestHash, Instant lockedUntil) {
+        super(id);
+        this.requestHash = requestHash;
+        this.expiresAt = lockedUntil;
+    }
+
+    // --- Getters ---
+
+    public String getRequestHash() { return requestHash; }
+    public boolean isCompleted() { return completed; }
+    public String getResponse() { return response; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Long getVersion() { return version; }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Indica si el registro ya venció (aunque el índice TTL todavía no lo haya eliminado).
+     * @param now el momento actual.
+     * @return true si venció.
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Marca la petición como completada.
+     * @param response la respuesta serializada en JSON.
+     * @param retainUntil el momento hasta el que se conserva la respuesta.
+     */
+    public void complete(String response, Instant retainUntil) {
+        this.completed = true;
+        this.response = response;
+        this.expiresAt = retainUntil;
+    }
+}
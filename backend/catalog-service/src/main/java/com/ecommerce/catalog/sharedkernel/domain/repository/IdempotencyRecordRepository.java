@@ -0,0 +1,13 @@
+package com.ecommerce.catalog.sharedkernel.domain.repository;
+
+import com.ecommerce.catalog.sharedkernel.domain.model.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder a los registros de idempotencia de las peticiones de escritura en MongoDB.
+ * {@code insert} falla con {@code DuplicateKeyException} si la clave ya está registrada.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String> {
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cambio de un documento del catálogo leído del change stream, sea cual sea su origen (API, trabajos masivos o
+ * scripts directos contra la base de datos).
+ * @param collection la colección del documento.
+ * @param operation el tipo de operación ({@code insert}, {@code update}, {@code replace}, {@code delete}) o el
+ *                  evento de colección ({@code drop}, {@code rename}).
+ * @param documentId el ID del documento, o null en los eventos de colección.
+ * @param updatedFields los campos modificados en un {@code update}; vacío en las demás operaciones.
+ * @param removedFields los campos eliminados en un {@code update}; vacío en las demás operaciones.
+ * @param clusterTime el momento en que se aplicó el cambio en el servidor.
+ */
+public record CatalogChange(
+        String collection,
+        String operation,
+        String documentId,
+        List<String> updatedFields,
+        List<String> removedFields,
+        Instant clusterTime
+) {
+}
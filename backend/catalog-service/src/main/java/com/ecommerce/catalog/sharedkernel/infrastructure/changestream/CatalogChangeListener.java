@@ -0,0 +1,21 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+/**
+ * Consumidor de los cambios del catálogo. Los cambios llegan en el orden del change stream, desde un único hilo.
+ * La entrega es al menos una vez: tras un reinicio pueden repetirse los cambios posteriores al último resume token
+ * guardado, por lo que cada consumidor debe tolerar duplicados.
+ */
+public interface CatalogChangeListener {
+    /**
+     * Procesa un cambio.
+     * @param change el cambio.
+     */
+    void onChange(CatalogChange change);
+
+    /**
+     * Avisa de que se perdieron cambios (el resume token ya no está en el oplog) y el stream se reanudó desde
+     * el momento actual. Un consumidor con estado derivado debe reconstruirlo por completo.
+     */
+    default void onReset() {
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Publica por AMQP cada cambio del catálogo (formato {@link CatalogChange}) en un exchange topic
+ * ({@code catalog.change-stream.amqp.exchange}) con la clave {@code {colección}.{operación}}, p. ej.
+ * {@code products.update}, para que otros servicios invaliden sus copias o reindexen sin consultar el catálogo.
+ * Un fallo al publicar se registra y el stream continúa; el cambio no se reintenta.
+ */
+public class CatalogChangePublisher implements CatalogChangeListener {
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangePublisher.class);
+    // --- Dependencias ---
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    // --- Estado ---
+    private final String exchange;
+
+    /**
+     * Construye el publicador.
+     * @param rabbitTemplate el cliente AMQP.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param exchange el nombre del exchange topic de cambios.
+     */
+    public CatalogChangePublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, String exchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void onChange(CatalogChange change) {
+        try {
+            rabbitTemplate.send(exchange, change.collection() + "." + change.operation(),
+                    MessageBuilder.withBody(objectMapper.writeValueAsBytes(change))
+                            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                            .build());
+        } catch (JsonProcessingException | AmqpException e) {
+            log.warn("No se pudo publicar el cambio {} de {}/{}: {}", change.operation(), change.collection(),
+                    change.documentId(), e.getMessage());
+        }
+    }
+}
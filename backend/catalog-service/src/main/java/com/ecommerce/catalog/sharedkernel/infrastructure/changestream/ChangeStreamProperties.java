@@ -0,0 +1,28 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Propiedades del consumidor del change stream de MongoDB ({@code catalog.change-stream.*}).
+ * @param consumerName nombre con el que se guarda el resume token; instancias con el mismo nombre comparten la posición.
+ * @param collections colecciones observadas.
+ * @param batchSize cantidad máxima de cambios que el servidor devuelve por lote.
+ * @param maxAwaitTime tiempo máximo que el servidor espera nuevos cambios antes de responder con un lote vacío.
+ * @param tokenSaveInterval frecuencia con la que se guarda el resume token; un reinicio repite como mucho los cambios
+ *                          de este intervalo.
+ * @param retryDelay espera antes de reabrir el stream tras un error.
+ */
+@ConfigurationProperties(prefix = "catalog.change-stream")
+public record ChangeStreamProperties(
+        @DefaultValue("catalog") String consumerName,
+        @DefaultValue({"products", "variants", "brands", "categories"}) List<String> collections,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration maxAwaitTime,
+        @DefaultValue("1s") Duration tokenSaveInterval,
+        @DefaultValue("5s") Duration retryDelay
+) {
+}
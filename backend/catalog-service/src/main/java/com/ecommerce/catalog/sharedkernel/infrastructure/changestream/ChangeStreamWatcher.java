@@ -0,0 +1,215 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consume el change stream de MongoDB de las colecciones del catálogo ({@code catalog.change-stream.collections})
+ * y entrega cada cambio, en orden y desde un único hilo, a todos los {@link CatalogChangeListener}. Así los cambios
+ * hechos por los trabajos masivos o por scripts directos contra la base de datos llegan igual que los de la API.
+ * <p>
+ * El resume token del último cambio entregado se guarda cada {@code token-save-interval} (también cuando no hay
+ * cambios, para que no envejezca), de modo que tras un reinicio o un error el stream se reanuda donde quedó.
+ * Si el token ya no está en el oplog, el stream empieza desde el momento actual y se avisa a los consumidores
+ * con {@link CatalogChangeListener#onReset()}. Requiere que MongoDB se ejecute como replica set.
+ */
+public class ChangeStreamWatcher implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamWatcher.class);
+    // --- Campos constantes ---
+    /** Errores del servidor que indican que el resume token no se puede usar (historial perdido, token inválido). */
+    private static final Set<Integer> UNRESUMABLE_CODES = Set.of(260, 280, 286);
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+    private final ResumeTokenStore tokens;
+    private final List<CatalogChangeListener> listeners;
+    private final ChangeStreamProperties properties;
+    // --- Estado ---
+    private volatile boolean running;
+    private volatile Thread thread;
+    private BsonDocument resumeToken;
+    private BsonDocument savedToken;
+    private long lastSave;
+
+    /**
+     * Construye el consumidor.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     * @param tokens el almacén de resume tokens.
+     * @param listeners los consumidores de los cambios, en el orden en que se les entrega cada cambio.
+     * @param properties la configuración del stream.
+     */
+    public ChangeStreamWatcher(MongoTemplate mongoTemplate, ResumeTokenStore tokens,
+                               List<CatalogChangeListener> listeners, ChangeStreamProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.tokens = tokens;
+        this.listeners = listeners;
+        this.properties = properties;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.join(properties.maxAwaitTime().plusSeconds(5).toMillis());
+            thread = null;
+        }
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Inicia el consumo en su propio hilo cuando la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("catalog-change-stream").daemon().start(this::run);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void run() {
+        try {
+            resumeToken = savedToken = tokens.load(properties.consumerName());
+        } catch (DataAccessException | MongoException e) {
+            log.error("No se pudo leer el resume token del change stream; se empieza desde el momento actual", e);
+        }
+        log.info("Change stream del catálogo iniciado sobre {} ({})", properties.collections(),
+                resumeToken == null ? "desde el momento actual" : "reanudado desde el último token");
+        while (running) {
+            try {
+                consume();
+            } catch (MongoException e) {
+                if (UNRESUMABLE_CODES.contains(e.getCode())) {
+                    log.error("El change stream no se puede reanudar (código {}); se reinicia desde el momento actual",
+                            e.getCode());
+                    reset();
+                } else if (running) {
+                    log.warn("Change stream interrumpido, se reabre en {}: {}", properties.retryDelay(), e.getMessage());
+                    pause();
+                }
+            } catch (RuntimeException e) {
+                log.error("Error inesperado en el change stream, se reabre en {}", properties.retryDelay(), e);
+                pause();
+            }
+        }
+        saveToken(true);
+    }
+
+    private void consume() {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.in("ns.coll", properties.collections()))))
+                .batchSize(properties.batchSize())
+                .maxAwaitTime(properties.maxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            // startAfter (a diferencia de resumeAfter) también permite continuar tras un evento invalidate
+            stream = stream.startAfter(resumeToken);
+        }
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null && change.getOperationType() != OperationType.INVALIDATE) {
+                    dispatch(toChange(change));
+                }
+                BsonDocument token = cursor.getResumeToken();
+                if (token != null) {
+                    resumeToken = token;
+                }
+                saveToken(false);
+                if (change != null && change.getOperationType() == OperationType.INVALIDATE) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(CatalogChange change) {
+        for (CatalogChangeListener listener : listeners) {
+            try {
+                listener.onChange(change);
+            } catch (RuntimeException e) {
+                log.warn("El consumidor {} falló con el cambio {} de {}/{}: {}", listener.getClass().getSimpleName(),
+                        change.operation(), change.collection(), change.documentId(), e.getMessage());
+            }
+        }
+    }
+
+    private void reset() {
+        resumeToken = savedToken = null;
+        try {
+            tokens.clear(properties.consumerName());
+        } catch (DataAccessException | MongoException e) {
+            log.warn("No se pudo eliminar el resume token del change stream: {}", e.getMessage());
+        }
+        listeners.forEach(CatalogChangeListener::onReset);
+    }
+
+    private void saveToken(boolean force) {
+        long now = System.nanoTime();
+        if (resumeToken == null || resumeToken.equals(savedToken)
+                || (!force && now - lastSave < properties.tokenSaveInterval().toNanos())) {
+            return;
+        }
+        try {
+            tokens.save(properties.consumerName(), resumeToken);
+            savedToken = resumeToken;
+            lastSave = now;
+        } catch (DataAccessException | MongoException e) {
+            log.warn("No se pudo guardar el resume token del change stream: {}", e.getMessage());
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.retryDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static CatalogChange toChange(ChangeStreamDocument<Document> change) {
+        UpdateDescription update = change.getUpdateDescription();
+        BsonDocument key = change.getDocumentKey();
+        return new CatalogChange(
+                change.getNamespace() == null ? null : change.getNamespace().getCollectionName(),
+                change.getOperationTypeString(),
+                key == null ? null : idOf(key.get("_id")),
+                update == null || update.getUpdatedFields() == null ? List.of() : List.copyOf(update.getUpdatedFields().keySet()),
+                update == null || update.getRemovedFields() == null ? List.of() : List.copyOf(update.getRemovedFields()),
+                change.getClusterTime() == null ? null : Instant.ofEpochSecond(change.getClusterTime().getTime()));
+    }
+
+    private static String idOf(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        return id.isString() ? id.asString().getValue() : id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.changestream;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+
+/**
+ * Guarda en la colección {@code change_stream_tokens} el resume token de cada consumidor del change stream,
+ * para reanudarlo tras un reinicio desde el último cambio procesado.
+ */
+public class ResumeTokenStore {
+    // --- Campos constantes ---
+    public static final String COLLECTION = "change_stream_tokens";
+    private static final String TOKEN = "token";
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Construye el almacén.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     */
+    public ResumeTokenStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @param consumer el nombre del consumidor.
+     * @return el último resume token guardado, o null si el consumidor nunca guardó uno.
+     */
+    public BsonDocument load(String consumer) {
+        BsonDocument saved = collection().find(Filters.eq("_id", consumer)).first();
+        return saved == null || !saved.containsKey(TOKEN) ? null : saved.getDocument(TOKEN);
+    }
+
+    /**
+     * Guarda el resume token de un consumidor, reemplazando el anterior.
+     * @param consumer el nombre del consumidor.
+     * @param token el resume token.
+     */
+    public void save(String consumer, BsonDocument token) {
+        BsonDocument document = new BsonDocument("_id", new BsonString(consumer))
+                .append(TOKEN, token)
+                .append("updatedAt", new BsonDateTime(Instant.now().toEpochMilli()));
+        collection().replaceOne(Filters.eq("_id", consumer), document, new ReplaceOptions().upsert(true));
+    }
+
+    /**
+     * Elimina el resume token de un consumidor, para que el stream empiece desde el momento actual.
+     * @param consumer el nombre del consumidor.
+     */
+    public void clear(String consumer) {
+        collection().deleteOne(Filters.eq("_id", consumer));
+    }
+
+    // --- Métodos auxiliares ---
+
+    private MongoCollection<BsonDocument> collection() {
+        return mongoTemplate.getDb().getCollection(COLLECTION, BsonDocument.class);
+    }
+}
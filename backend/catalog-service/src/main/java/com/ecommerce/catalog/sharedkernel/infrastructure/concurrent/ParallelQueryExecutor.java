@@ -0,0 +1,162 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.concurrent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en paralelo las consultas independientes de una operación compuesta de un servicio (validaciones,
+ * lecturas de agregados) y las espera con un plazo común, para que la latencia sea la de la consulta más lenta
+ * y no la suma de todas.
+ * <p>
+ * El pool está acotado para no agotar el pool de conexiones de MongoDB: cuando está ocupado y la cola llena,
+ * el hilo que pide la consulta la ejecuta él mismo, de modo que bajo saturación la operación se degrada a secuencial
+ * en vez de fallar. Las excepciones de las consultas se propagan sin envolver, igual que si se hubieran
+ * ejecutado en el hilo de la petición.
+ * <p>
+ * Una consulta lanzada desde un hilo del pool (una tarea que a su vez paraleliza) se ejecuta en ese mismo hilo:
+ * si se encolara, todos los hilos podrían quedar bloqueados esperando subtareas que nadie atiende hasta el plazo.
+ */
+public class ParallelQueryExecutor implements DisposableBean {
+    // --- Campos constantes ---
+    private static final ThreadLocal<Boolean> POOL_THREAD = ThreadLocal.withInitial(() -> false);
+    // --- Estado ---
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    /**
+     * Construye el ejecutor.
+     * @param properties la configuración del pool y del plazo.
+     * @param virtualThreads si las consultas corren en hilos virtuales ({@code spring.threads.virtual.enabled}).
+     */
+    public ParallelQueryExecutor(ParallelQueryProperties properties, boolean virtualThreads) {
+        ThreadFactory baseFactory = virtualThreads
+                ? Thread.ofVirtual().name("catalog-query-", 0).factory()
+                : Thread.ofPlatform().name("catalog-query-", 0).daemon().factory();
+        ThreadFactory threadFactory = task -> baseFactory.newThread(() -> {
+            POOL_THREAD.set(true);
+            task.run();
+        });
+        this.executor = new ThreadPoolExecutor(properties.maxThreads(), properties.maxThreads(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.queueCapacity()), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeout = properties.timeout();
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Lanza una consulta en el pool, o la ejecuta en el hilo actual si ya es un hilo del pool.
+     * @param query la consulta a ejecutar.
+     * @return la consulta en curso; su resultado se lee con {@link CompletableFuture#join()} después de {@link #joinAll}.
+     * @param <T> el tipo del resultado.
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> query) {
+        if (POOL_THREAD.get()) {
+            try {
+                return CompletableFuture.completedFuture(query.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    /**
+     * Lanza una consulta sin resultado en el pool (típicamente una validación), o la ejecuta en el hilo actual
+     * si ya es un hilo del pool.
+     * @param query la consulta a ejecutar.
+     * @return la consulta en curso.
+     */
+    public CompletableFuture<Void> fork(Runnable query) {
+        return fork(() -> {
+            query.run();
+            return null;
+        });
+    }
+
+    /**
+     * Espera a que terminen todas las consultas, como máximo el plazo configurado. Se espera a todas aunque una falle,
+     * para no dejar consultas de la operación ejecutándose después de responder.
+     * @param queries las consultas en curso.
+     * @throws RuntimeException la excepción de la primera consulta fallida, en el orden de los argumentos.
+     * @throws QueryTimeoutException si no terminaron todas dentro del plazo. Las pendientes se marcan como canceladas,
+     * pero {@link CompletableFuture#cancel} no interrumpe una consulta que ya se está ejecutando: puede terminar después
+     * de la excepción, por lo que aquí solo deben lanzarse lecturas.
+     */
+    public void joinAll(CompletableFuture<?>... queries) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(queries);
+        try {
+            all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ignored) {
+            // Se reporta abajo la primera en el orden de los argumentos, no la primera en fallar.
+        } catch (TimeoutException e) {
+            cancel(queries);
+            throw new QueryTimeoutException("Las consultas no terminaron en " + timeout.toMillis() + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(queries);
+            throw new QueryTimeoutException("Interrumpido mientras se esperaban las consultas", e);
+        }
+        for (CompletableFuture<?> query : queries) {
+            if (query.isCompletedExceptionally()) {
+                throw unwrap(query);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta las consultas en paralelo y espera a que terminen todas.
+     * @param queries las consultas a ejecutar.
+     * @see #joinAll(CompletableFuture[])
+     */
+    public void runAll(Runnable... queries) {
+        CompletableFuture<?>[] running = new CompletableFuture<?>[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            running[i] = fork(queries[i]);
+        }
+        joinAll(running);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static void cancel(CompletableFuture<?>[] queries) {
+        for (CompletableFuture<?> query : queries) {
+            query.cancel(true);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletableFuture<?> failed) {
+        try {
+            failed.join();
+            throw new IllegalStateException("La consulta no falló");
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                return runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return e;
+        }
+    }
+}
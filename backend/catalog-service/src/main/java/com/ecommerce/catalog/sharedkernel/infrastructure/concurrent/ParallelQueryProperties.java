@@ -0,0 +1,21 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.concurrent;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del ejecutor de consultas en paralelo de los servicios ({@code catalog.parallel.*}).
+ * @param maxThreads cantidad máxima de consultas que se ejecutan a la vez; acota la presión sobre el pool de
+ *                   conexiones de MongoDB.
+ * @param queueCapacity cantidad de consultas en espera; con la cola llena, el hilo que la pide la ejecuta él mismo.
+ * @param timeout plazo máximo para completar todas las consultas de una operación compuesta.
+ */
+@ConfigurationProperties(prefix = "catalog.parallel")
+public record ParallelQueryProperties(
+        @DefaultValue("32") int maxThreads,
+        @DefaultValue("256") int queueCapacity,
+        @DefaultValue("5s") Duration timeout
+) {
+}
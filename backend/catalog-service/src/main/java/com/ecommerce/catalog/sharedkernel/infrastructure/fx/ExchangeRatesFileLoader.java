@@ -0,0 +1,66 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.fx;
+
+import com.ecommerce.libs.application.dto.ExchangeRatesDTO;
+import com.ecommerce.libs.application.service.CurrencyConversionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Carga la tabla inicial de tasas de cambio desde un archivo JSON al arrancar el servicio.
+ * El archivo sigue el formato de {@link ExchangeRatesDTO} y su ubicación se define con
+ * {@code catalog.fx.rates-file} (ej.: {@code file:/etc/catalog/fx-rates.json} o {@code classpath:fx-rates.json}).
+ * Si la propiedad está vacía, el servicio arranca sin tasas y solo sirve precios en su moneda original.
+ */
+@Component
+public class ExchangeRatesFileLoader {
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRatesFileLoader.class);
+    // --- Dependencias ---
+    private final CurrencyConversionService conversionService;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String ratesFile;
+
+    /**
+     * Construye el cargador de tasas.
+     * @param conversionService el servicio cuya instantánea de tasas se inicializa.
+     * @param resourceLoader el cargador de recursos de Spring para resolver la ubicación del archivo.
+     * @param objectMapper el mapper JSON de la aplicación.
+     * @param ratesFile la ubicación del archivo de tasas; vacía si no se debe cargar ninguno.
+     */
+    public ExchangeRatesFileLoader(CurrencyConversionService conversionService, ResourceLoader resourceLoader,
+                                   ObjectMapper objectMapper, @Value("${catalog.fx.rates-file:}") String ratesFile) {
+        this.conversionService = conversionService;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.ratesFile = ratesFile;
+    }
+
+    /**
+     * Lee el archivo configurado y publica su contenido como la instantánea de tasas vigente.
+     * Un archivo ausente o inválido no impide el arranque: se registra el error y se mantiene la tabla vacía.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        if (ratesFile == null || ratesFile.isBlank()) {
+            log.info("No se configuró archivo de tasas de cambio (catalog.fx.rates-file)");
+            return;
+        }
+        Resource resource = resourceLoader.getResource(ratesFile);
+        try (InputStream in = resource.getInputStream()) {
+            ExchangeRatesDTO dto = objectMapper.readValue(in, ExchangeRatesDTO.class);
+            conversionService.updateRates(dto);
+        } catch (IOException | RuntimeException e) {
+            log.error("No fue posible cargar las tasas de cambio desde {}: {}", ratesFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.fx;
+
+import com.ecommerce.libs.application.dto.ExchangeRatesDTO;
+import com.ecommerce.libs.application.service.CurrencyConversionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Consumidor AMQP de publicaciones de tasas de cambio.
+ * Cada mensaje contiene la tabla completa (formato {@link ExchangeRatesDTO}) y reemplaza la instantánea vigente.
+ * Solo se registra si {@code catalog.fx.amqp.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "catalog.fx.amqp", name = "enabled", havingValue = "true")
+public class ExchangeRatesListener {
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRatesListener.class);
+    // --- Dependencias ---
+    private final CurrencyConversionService conversionService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construye el consumidor de tasas.
+     * @param conversionService el servicio cuya instantánea de tasas se actualiza.
+     * @param objectMapper el mapper JSON de la aplicación.
+     */
+    public ExchangeRatesListener(CurrencyConversionService conversionService, ObjectMapper objectMapper) {
+        this.conversionService = conversionService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Procesa una publicación de tasas. Los mensajes inválidos se descartan sin reencolar.
+     * @param message el mensaje AMQP con el cuerpo JSON de las tasas.
+     */
+    @RabbitListener(queuesToDeclare = @Queue("${catalog.fx.amqp.queue:catalog.fx-rates}"))
+    public void onRates(Message message) {
+        try {
+            ExchangeRatesDTO dto = objectMapper.readValue(message.getBody(), ExchangeRatesDTO.class);
+            conversionService.updateRates(dto);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Mensaje de tasas de cambio inválido descartado: {}", e.getMessage());
+            throw new AmqpRejectAndDontRequeueException("Invalid exchange rates message", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.grpc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del servidor gRPC interno ({@code catalog.grpc.*}).
+ * @param enabled si se levanta el servidor gRPC.
+ * @param port el puerto del servidor gRPC (0 = puerto libre aleatorio).
+ * @param maxInboundMessageSize tamaño máximo de un mensaje recibido.
+ * @param keepAliveTime intervalo de los pings de keep-alive a los clientes inactivos.
+ * @param shutdownGracePeriod plazo para terminar las llamadas en curso al detener el servidor.
+ * @param maxThreads cantidad máxima de hilos de plataforma que atienden llamadas cuando no se usan hilos virtuales;
+ *                   las llamadas que los exceden esperan en cola.
+ */
+@ConfigurationProperties(prefix = "catalog.grpc")
+public record GrpcProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("9090") int port,
+        @DefaultValue("4MB") DataSize maxInboundMessageSize,
+        @DefaultValue("2h") Duration keepAliveTime,
+        @DefaultValue("10s") Duration shutdownGracePeriod,
+        @DefaultValue("200") int maxThreads
+) {
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor gRPC (Netty) que atiende la API interna del catálogo en un puerto propio, junto al Tomcat principal.
+ * Los clientes mantienen un único canal HTTP/2 multiplexado; cada llamada se ejecuta en un hilo del ejecutor
+ * (virtual si {@code spring.threads.virtual.enabled}; si no, de un grupo acotado), ya que los servicios consultan
+ * MongoDB de forma bloqueante.
+ * <p>
+ * Se inicia cuando arranca el servidor web principal, de modo que no se levanta en pruebas sin servidor
+ * ({@code @SpringBootTest} con entorno simulado), y se detiene con el contexto.
+ */
+public class GrpcServer implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+    // --- Dependencias ---
+    private final List<BindableService> services;
+    private final GrpcProperties properties;
+    private final boolean virtualThreads;
+    // --- Estado ---
+    private volatile Server server;
+    private volatile ExecutorService executor;
+
+    /**
+     * Construye el servidor.
+     * @param services los servicios gRPC a publicar.
+     * @param properties la configuración del servidor.
+     * @param virtualThreads si las llamadas corren en hilos virtuales ({@code spring.threads.virtual.enabled}).
+     */
+    public GrpcServer(List<BindableService> services, GrpcProperties properties, boolean virtualThreads) {
+        this.services = services;
+        this.properties = properties;
+        this.virtualThreads = virtualThreads;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void destroy() throws InterruptedException {
+        Server current = server;
+        if (current != null) {
+            current.shutdown();
+            if (!current.awaitTermination(properties.shutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Inicia el servidor cuando el servidor web principal está listo.
+     * @param event el evento de inicio del servidor principal.
+     */
+    @EventListener
+    public synchronized void start(ServletWebServerInitializedEvent event) {
+        if (server != null) {
+            return;
+        }
+        executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("catalog-grpc-", 0).factory())
+                : platformExecutor();
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.port())
+                .executor(executor)
+                .maxInboundMessageSize((int) properties.maxInboundMessageSize().toBytes())
+                .keepAliveTime(properties.keepAliveTime().toMillis(), TimeUnit.MILLISECONDS);
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo iniciar el servidor gRPC en el puerto " + properties.port(), e);
+        }
+        log.info("API gRPC interna escuchando en el puerto {} con {} servicios", port(), services.size());
+    }
+
+    /**
+     * @return el puerto en el que escucha el servidor, o -1 si no está iniciado.
+     */
+    public int port() {
+        Server current = server;
+        return current == null ? -1 : current.getPort();
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Ejecutor de hilos de plataforma acotado a {@code catalog.grpc.max-threads}: una ráfaga de llamadas espera en
+     * cola en lugar de crear un hilo por llamada. Los hilos inactivos se liberan al minuto.
+     */
+    private ExecutorService platformExecutor() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.maxThreads(), properties.maxThreads(),
+                1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("catalog-grpc-", 0).daemon().factory());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
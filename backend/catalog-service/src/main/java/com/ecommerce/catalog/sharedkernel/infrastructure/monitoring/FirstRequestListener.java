@@ -0,0 +1,55 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mide el tiempo desde el arranque de la JVM hasta que se atiende la primera petición HTTP y lo publica como
+ * {@code catalog.startup.time-to-first-request}, junto a {@code application.started.time} y
+ * {@code application.ready.time} que publica Spring Boot. Es la métrica que importa al escalar: el tiempo hasta
+ * que la nueva instancia sirve tráfico.
+ */
+public class FirstRequestListener {
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestListener.class);
+    // --- Campos constantes ---
+    public static final String METRIC = "catalog.startup.time-to-first-request";
+    // --- Dependencias ---
+    private final MeterRegistry registry;
+    // --- Estado ---
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    /**
+     * Construye el listener.
+     * @param registry el registro de métricas.
+     */
+    public FirstRequestListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Registra la métrica con la primera petición atendida; las siguientes se ignoran.
+     * @param event el evento de petición atendida que publica el {@code DispatcherServlet}.
+     */
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (recorded.get() || !recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long elapsed = event.getTimestamp() - jvmStart;
+        TimeGauge.builder(METRIC, () -> elapsed, TimeUnit.MILLISECONDS)
+                .description("Tiempo desde el arranque de la JVM hasta la primera petición HTTP atendida")
+                .register(registry);
+        log.info("Primera petición atendida {} ms después del arranque de la JVM ({})", elapsed, event.getRequestUrl());
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CommandListener} de MongoDB que registra, por comando y colección, la latencia de cada comando
+ * ({@code catalog.mongo.commands}), la cantidad de documentos devueltos por las lecturas con cursor
+ * ({@code catalog.mongo.documents.returned}) y la cantidad de documentos afectados por las escrituras
+ * ({@code catalog.mongo.documents.affected}). Complementa la métrica {@code mongodb.driver.commands} de Spring Boot, que no expone el tamaño de los resultados.
+ */
+public class MongoCommandMetricsListener implements CommandListener {
+    // --- Campos constantes ---
+    static final String COMMANDS_METRIC = "catalog.mongo.commands";
+    static final String DOCUMENTS_METRIC = "catalog.mongo.documents.returned";
+    static final String AFFECTED_DOCUMENTS_METRIC = "catalog.mongo.documents.affected";
+    private static final Set<String> WRITE_COMMANDS = Set.of("insert", "update", "delete");
+    private static final String UNKNOWN = "unknown";
+    // --- Dependencias ---
+    private final MeterRegistry registry;
+    // --- Estado ---
+    private final Map<Integer, String> collectionsByRequest = new ConcurrentHashMap<>();
+
+    /**
+     * Construye el listener de métricas.
+     * @param registry el registro de métricas donde se publican los medidores.
+     */
+    public MongoCommandMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        collectionsByRequest.put(event.getRequestId(), collectionOf(event.getCommandName(), event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = collectionsByRequest.getOrDefault(event.getRequestId(), UNKNOWN);
+        collectionsByRequest.remove(event.getRequestId());
+        record(event.getCommandName(), collection, "SUCCESS", event.getElapsedTime(TimeUnit.NANOSECONDS));
+        int returned = documentsReturned(event.getResponse());
+        if (returned >= 0) {
+            summary(DOCUMENTS_METRIC, "Documentos devueltos por comando de MongoDB", event.getCommandName(), collection)
+                    .record(returned);
+        } else if (WRITE_COMMANDS.contains(event.getCommandName())) {
+            BsonValue n = event.getResponse().get("n");
+            if (n != null && n.isNumber()) {
+                summary(AFFECTED_DOCUMENTS_METRIC, "Documentos afectados por escritura de MongoDB",
+                        event.getCommandName(), collection).record(n.asNumber().intValue());
+            }
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String collection = collectionsByRequest.getOrDefault(event.getRequestId(), UNKNOWN);
+        collectionsByRequest.remove(event.getRequestId());
+        record(event.getCommandName(), collection, "FAILED", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Registra la duración de un comando.
+     * @param command el nombre del comando (find, aggregate, insert...).
+     * @param collection la colección sobre la que se ejecutó.
+     * @param status el resultado del comando.
+     * @param nanos la duración en nanosegundos.
+     */
+    private void record(String command, String collection, String status, long nanos) {
+        Timer.builder(COMMANDS_METRIC)
+                .description("Latencia de comandos de MongoDB por colección")
+                .tag("command", command)
+                .tag("collection", collection)
+                .tag("status", status)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Obtiene el resumen de documentos de un comando sobre una colección.
+     * @param name el nombre de la métrica.
+     * @param description la descripción de la métrica.
+     * @param command el nombre del comando.
+     * @param collection la colección sobre la que se ejecutó.
+     * @return el resumen registrado.
+     */
+    private DistributionSummary summary(String name, String description, String command, String collection) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("documents")
+                .tag("command", command)
+                .tag("collection", collection)
+                .register(registry);
+    }
+
+    /**
+     * Obtiene la colección objetivo de un comando. En la mayoría de comandos es el valor del propio nombre del comando;
+     * en {@code getMore} viene en el campo {@code collection}.
+     * @param commandName el nombre del comando.
+     * @param command el documento del comando.
+     * @return el nombre de la colección o "unknown" si no aplica.
+     */
+    static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue value = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : UNKNOWN;
+    }
+
+    /**
+     * Cuenta los documentos devueltos en el lote de la respuesta de un comando con cursor ({@code find},
+     * {@code aggregate}, {@code getMore}). El campo {@code n} de las escrituras y de {@code count} no cuenta documentos
+     * devueltos, por lo que aquí se ignora.
+     * @param response la respuesta del servidor.
+     * @return la cantidad de documentos, o -1 si la respuesta no tiene cursor.
+     */
+    private static int documentsReturned(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonDocument cursorDocument = cursor.asDocument();
+            BsonValue batch = cursorDocument.containsKey("firstBatch")
+                    ? cursorDocument.get("firstBatch") : cursorDocument.get("nextBatch");
+            return batch instanceof BsonArray array ? array.size() : -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/slowqueries}) que expone las operaciones de MongoDB más costosas
+ * detectadas por {@link SlowQueryListener}, junto con su plan de ejecución cuando está disponible.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+    // --- Campos constantes ---
+    private static final int DEFAULT_LIMIT = 20;
+    // --- Dependencias ---
+    private final SlowQueryRegistry registry;
+
+    /**
+     * Construye el endpoint.
+     * @param registry el registro de operaciones lentas.
+     */
+    public SlowQueriesEndpoint(SlowQueryRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Lista las operaciones lentas con mayor tiempo acumulado.
+     * @param limit cantidad máxima de resultados (20 por defecto).
+     * @return las operaciones lentas ordenadas por tiempo total.
+     */
+    @ReadOperation
+    public List<SlowQueryRegistry.SlowQuery> top(@Nullable Integer limit) {
+        return registry.top(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * Reinicia el registro de operaciones lentas.
+     */
+    @DeleteOperation
+    public void reset() {
+        registry.clear();
+    }
+}
@@ -0,0 +1,250 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CommandListener} de MongoDB que detecta operaciones cuya duración supera un umbral configurable.
+ * Cada operación lenta se registra en el log con su colección y la forma de su filtro (valores reemplazados por {@code ?}),
+ * se acumula en {@link SlowQueryRegistry} y, si está habilitado, se ejecuta {@code explain} en segundo plano la primera
+ * vez que aparece la forma, para saber si el plan ganador usa un índice (IXSCAN) o recorre la colección (COLLSCAN).
+ */
+public class SlowQueryListener implements CommandListener, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+    // --- Campos constantes ---
+    static final String SLOW_OPERATIONS_METRIC = "catalog.mongo.slow.operations";
+    private static final Set<String> WATCHED_COMMANDS =
+            Set.of("find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+    private static final Set<String> NON_EXPLAINABLE_FIELDS =
+            Set.of("lsid", "txnNumber", "autocommit", "startTransaction", "$clusterTime", "$readPreference", "$db");
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    // --- Dependencias ---
+    private final SlowQueryProperties properties;
+    private final SlowQueryRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<MongoClient> mongoClient;
+    // --- Estado ---
+    private final Map<Integer, PendingCommand> pending = new ConcurrentHashMap<>();
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor explainExecutor;
+
+    /**
+     * Construye el detector.
+     * @param properties la configuración del detector.
+     * @param registry el registro donde se acumulan las operaciones lentas.
+     * @param meterRegistry el registro de métricas.
+     * @param mongoClient proveedor perezoso del cliente de MongoDB, usado solo para ejecutar {@code explain}.
+     */
+    public SlowQueryListener(SlowQueryProperties properties, SlowQueryRegistry registry, MeterRegistry meterRegistry,
+                             ObjectProvider<MongoClient> mongoClient) {
+        this.properties = properties;
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.mongoClient = mongoClient;
+        this.thresholdNanos = properties.threshold().toNanos();
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!WATCHED_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        // El documento del comando solo es válido durante el evento. clone() lo copia una sola vez como bytes
+        // (RawBsonDocument), sin decodificarlo; solo se decodifica si la operación resulta lenta.
+        pending.put(event.getRequestId(), new PendingCommand(event.getDatabaseName(), event.getCommand().clone()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Evalúa una operación finalizada y la registra si superó el umbral.
+     * @param requestId el identificador de la petición en el driver.
+     * @param commandName el nombre del comando.
+     * @param elapsedNanos la duración de la operación.
+     */
+    private void complete(int requestId, String commandName, long elapsedNanos) {
+        PendingCommand command = pending.remove(requestId);
+        if (command == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+        String collection = MongoCommandMetricsListener.collectionOf(commandName, command.document());
+        String shape = shapeOf(commandName, command.document()).toJson();
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        log.warn("Operación lenta en MongoDB ({} ms): {}.{} {}", millis, collection, commandName, shape);
+        meterRegistry.counter(SLOW_OPERATIONS_METRIC, "collection", collection, "command", commandName).increment();
+        boolean firstTime = registry.record(collection, commandName, shape, millis);
+        if (firstTime && properties.explain()) {
+            explainExecutor.execute(() -> explain(command, collection, commandName, shape));
+        }
+    }
+
+    /**
+     * Ejecuta {@code explain} en modo queryPlanner (sin ejecutar la operación) y guarda el resumen del plan ganador.
+     */
+    private void explain(PendingCommand command, String collection, String commandName, String shape) {
+        try {
+            BsonDocument explainable = new BsonDocument();
+            command.document().forEach((key, value) -> {
+                if (!NON_EXPLAINABLE_FIELDS.contains(key)) {
+                    explainable.put(key, value);
+                }
+            });
+            BsonDocument explainCommand = new BsonDocument("explain", explainable)
+                    .append("verbosity", new BsonString("queryPlanner"));
+            BsonDocument result = mongoClient.getObject()
+                    .getDatabase(command.database())
+                    .runCommand(explainCommand, BsonDocument.class);
+            String plan = summarizePlan(result);
+            registry.attachPlan(collection, commandName, shape, plan);
+            log.warn("Plan de la operación lenta {}.{} {}: {}", collection, commandName, shape, plan);
+        } catch (RuntimeException e) {
+            log.debug("No fue posible obtener el plan de {}.{}: {}", collection, commandName, e.getMessage());
+        }
+    }
+
+    /**
+     * Construye la forma de una operación: su filtro (o pipeline) con los valores sustituidos y su orden.
+     * @param commandName el nombre del comando.
+     * @param command el documento del comando.
+     * @return un documento con la forma de la operación.
+     */
+    static BsonDocument shapeOf(String commandName, BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        switch (commandName) {
+            case "find" -> {
+                shape.put("filter", mask(command.get("filter", new BsonDocument())));
+                if (command.containsKey("sort")) {
+                    shape.put("sort", command.get("sort"));
+                }
+            }
+            case "aggregate" -> shape.put("pipeline", mask(command.get("pipeline", new BsonArray())));
+            case "count", "distinct", "findAndModify" -> shape.put("filter", mask(command.get("query", new BsonDocument())));
+            case "update", "delete" -> {
+                BsonArray statements = command.getArray(commandName + "s", new BsonArray());
+                BsonValue first = statements.isEmpty() ? new BsonDocument() : statements.get(0);
+                shape.put("filter", first.isDocument() ? mask(first.asDocument().get("q", new BsonDocument())) : PLACEHOLDER);
+            }
+            default -> { }
+        }
+        return shape;
+    }
+
+    /**
+     * Reemplaza recursivamente los valores literales por {@code ?}, conservando campos y operadores.
+     * Los arreglos de literales ({@code $in}, {@code $all}) se reducen a un único {@code ?}.
+     */
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument masked = new BsonDocument();
+            value.asDocument().forEach((key, inner) -> masked.put(key, mask(inner)));
+            return masked;
+        }
+        if (value.isArray()) {
+            BsonArray masked = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                if (element.isDocument() || element.isArray()) {
+                    masked.add(mask(element));
+                } else if (masked.isEmpty()) {
+                    masked.add(PLACEHOLDER);
+                }
+            }
+            return masked;
+        }
+        return PLACEHOLDER;
+    }
+
+    /**
+     * Resume el plan ganador de una respuesta de {@code explain} como la cadena de etapas desde la hoja hasta la raíz,
+     * incluyendo el patrón de índice de las etapas IXSCAN (ej.: {@code IXSCAN {"ancestors": 1} -> FETCH}).
+     */
+    static String summarizePlan(BsonDocument explainResult) {
+        BsonDocument planner = findQueryPlanner(explainResult);
+        if (planner == null || !planner.containsKey("winningPlan")) {
+            return "desconocido";
+        }
+        List<String> stages = new ArrayList<>();
+        collectStages(planner.getDocument("winningPlan"), stages);
+        return String.join(" -> ", stages);
+    }
+
+    /**
+     * Localiza la sección queryPlanner, que en los pipelines de agregación aparece dentro de la primera etapa.
+     */
+    private static BsonDocument findQueryPlanner(BsonDocument explainResult) {
+        if (explainResult.containsKey("queryPlanner")) {
+            return explainResult.getDocument("queryPlanner");
+        }
+        BsonArray stages = explainResult.getArray("stages", new BsonArray());
+        for (BsonValue stage : stages) {
+            BsonValue cursor = stage.asDocument().get("$cursor");
+            if (cursor != null && cursor.isDocument() && cursor.asDocument().containsKey("queryPlanner")) {
+                return cursor.asDocument().getDocument("queryPlanner");
+            }
+        }
+        return null;
+    }
+
+    private static void collectStages(BsonDocument plan, List<String> stages) {
+        // En MongoDB 7+ el plan de SBE está envuelto en queryPlan.
+        BsonDocument node = plan.containsKey("queryPlan") ? plan.getDocument("queryPlan") : plan;
+        if (node.containsKey("inputStage")) {
+            collectStages(node.getDocument("inputStage"), stages);
+        }
+        for (BsonValue input : node.getArray("inputStages", new BsonArray())) {
+            collectStages(input.asDocument(), stages);
+        }
+        String stage = node.getString("stage", new BsonString("?")).getValue();
+        stages.add(node.containsKey("keyPattern") ? stage + " " + node.getDocument("keyPattern").toJson() : stage);
+    }
+
+    /**
+     * Comando en curso pendiente de finalizar.
+     * @param database la base de datos del comando.
+     * @param document la copia del comando, con los campos de sesión.
+     */
+    private record PendingCommand(String database, BsonDocument document) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del detector de operaciones lentas de MongoDB ({@code catalog.monitoring.slow-queries.*}).
+ * @param enabled si el detector está activo.
+ * @param threshold duración a partir de la cual una operación se considera lenta.
+ * @param explain si se ejecuta {@code explain} (modo queryPlanner) la primera vez que aparece una forma de filtro lenta.
+ * @param maxEntries cantidad máxima de formas de filtro distintas que se conservan en memoria.
+ */
+@ConfigurationProperties(prefix = "catalog.monitoring.slow-queries")
+public record SlowQueryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100ms") Duration threshold,
+        @DefaultValue("false") boolean explain,
+        @DefaultValue("500") int maxEntries
+) {
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.monitoring;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de las operaciones lentas de MongoDB agrupadas por colección, comando y forma del filtro.
+ * Conserva, por cada forma, cuántas veces fue lenta, su tiempo máximo y acumulado, y el último plan obtenido con {@code explain}.
+ */
+public class SlowQueryRegistry {
+    // --- Estado ---
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    /**
+     * Construye el registro.
+     * @param maxEntries cantidad máxima de formas distintas; las nuevas formas que excedan el límite se descartan.
+     */
+    public SlowQueryRegistry(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Registra una ejecución lenta.
+     * @param collection la colección consultada.
+     * @param command el comando ejecutado.
+     * @param shape la forma del filtro, con los valores reemplazados por {@code ?}.
+     * @param millis la duración de la operación en milisegundos.
+     * @return {@code true} si es la primera vez que se registra esta forma (y por tanto aún no tiene plan).
+     */
+    public boolean record(String collection, String command, String shape, long millis) {
+        String key = collection + '|' + command + '|' + shape;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxEntries) {
+                return false;
+            }
+            Entry created = new Entry(collection, command, shape);
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                created.add(millis);
+                return true;
+            }
+        }
+        entry.add(millis);
+        return false;
+    }
+
+    /**
+     * Asocia el resumen del plan de ejecución a una forma registrada.
+     * @param collection la colección consultada.
+     * @param command el comando ejecutado.
+     * @param shape la forma del filtro.
+     * @param plan el resumen del plan ganador (ej.: {@code IXSCAN { name.value: 1 } -> FETCH} o {@code COLLSCAN}).
+     */
+    public void attachPlan(String collection, String command, String shape, String plan) {
+        Entry entry = entries.get(collection + '|' + command + '|' + shape);
+        if (entry != null) {
+            entry.plan = plan;
+        }
+    }
+
+    /**
+     * Devuelve las formas con mayor tiempo acumulado.
+     * @param limit la cantidad máxima de resultados.
+     * @return la lista de operaciones lentas ordenada de mayor a menor tiempo total.
+     */
+    public List<SlowQuery> top(int limit) {
+        return entries.values().stream()
+                .map(Entry::snapshot)
+                .sorted(Comparator.comparingLong(SlowQuery::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Elimina todas las formas registradas.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Vista inmutable de una operación lenta.
+     * @param collection la colección consultada.
+     * @param command el comando ejecutado.
+     * @param shape la forma del filtro.
+     * @param count cantidad de ejecuciones lentas.
+     * @param maxMillis duración máxima observada.
+     * @param totalMillis duración acumulada.
+     * @param lastSeen instante de la última ejecución lenta.
+     * @param plan resumen del plan de ejecución, o {@code null} si no se ejecutó {@code explain}.
+     */
+    public record SlowQuery(String collection, String command, String shape, long count, long maxMillis,
+                            long totalMillis, Instant lastSeen, String plan) {
+    }
+
+    /**
+     * Acumulador mutable de una forma de consulta.
+     */
+    private static final class Entry {
+        private final String collection;
+        private final String command;
+        private final String shape;
+        private long count;
+        private long maxMillis;
+        private long totalMillis;
+        private Instant lastSeen;
+        private volatile String plan;
+
+        private Entry(String collection, String command, String shape) {
+            this.collection = collection;
+            this.command = command;
+            this.shape = shape;
+        }
+
+        private synchronized void add(long millis) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            lastSeen = Instant.now();
+        }
+
+        private synchronized SlowQuery snapshot() {
+            return new SlowQuery(collection, command, shape, count, maxMillis, totalMillis, lastSeen, plan);
+        }
+    }
+}
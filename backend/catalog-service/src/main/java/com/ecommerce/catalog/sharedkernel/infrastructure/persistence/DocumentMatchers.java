@@ -0,0 +1,126 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import org.bson.Document;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Condiciones sobre documentos equivalentes a los operadores de consulta que generan los métodos derivados
+ * de los repositorios del catálogo.
+ */
+public final class DocumentMatchers {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private DocumentMatchers() {}
+
+    /**
+     * Equivalente a {@code ...ContainingIgnoreCase}: el campo de texto contiene la subcadena sin distinguir mayúsculas.
+     * @param path la ruta del campo.
+     * @param text la subcadena buscada.
+     * @return la condición.
+     */
+    public static Predicate<Document> containsIgnoreCase(String path, String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        return document -> Documents.valueAt(document, path) instanceof String value
+                && value.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    /**
+     * Equivalente a {@code { path: { $gte: min, $lte: max } }} sobre un campo numérico entero.
+     * @param path la ruta del campo.
+     * @param min el mínimo incluido.
+     * @param max el máximo incluido.
+     * @return la condición.
+     */
+    public static Predicate<Document> between(String path, long min, long max) {
+        return document -> Documents.valueAt(document, path) instanceof Number value
+                && value.longValue() >= min && value.longValue() <= max;
+    }
+
+    /**
+     * Equivalente a {@code { path: value }} sobre un campo escalar.
+     * @param path la ruta del campo.
+     * @param value el valor esperado.
+     * @return la condición.
+     */
+    public static Predicate<Document> equalTo(String path, Object value) {
+        return document -> value.equals(Documents.valueAt(document, path));
+    }
+
+    /**
+     * Equivalente a una consulta por ejemplo de Spring Data: compara cada campo del documento del ejemplo según
+     * el {@link ExampleMatcher} (rutas ignoradas, comparación de textos, mayúsculas y transformación de valores).
+     * Los documentos embebidos se comparan campo a campo y el resto de valores, listas incluidas, por igualdad;
+     * un campo nulo en el ejemplo exige que el campo falte o sea nulo.
+     * @param probe el ejemplo convertido a documento.
+     * @param matcher la configuración de la comparación.
+     * @return la condición.
+     */
+    public static Predicate<Document> example(Document probe, ExampleMatcher matcher) {
+        List<Predicate<Document>> conditions = new ArrayList<>();
+        addExampleConditions(probe, "", new ExampleMatcherAccessor(matcher), conditions);
+        if (matcher.isAllMatching()) {
+            return document -> conditions.stream().allMatch(condition -> condition.test(document));
+        }
+        return document -> conditions.isEmpty() || conditions.stream().anyMatch(condition -> condition.test(document));
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static void addExampleConditions(Document probe, String prefix, ExampleMatcherAccessor matcher,
+                                             List<Predicate<Document>> conditions) {
+        for (Map.Entry<String, Object> field : probe.entrySet()) {
+            if ("_class".equals(field.getKey())) {
+                continue;
+            }
+            // Las rutas del matcher usan el nombre de la propiedad; Documents.valueAt traduce id a _id
+            String path = prefix + (prefix.isEmpty() && "_id".equals(field.getKey()) ? "id" : field.getKey());
+            if (matcher.isIgnoredPath(path)) {
+                continue;
+            }
+            Object value = matcher.getValueTransformerForPath(path).apply(Optional.ofNullable(field.getValue()))
+                    .orElse(null);
+            if (value instanceof Document embedded) {
+                addExampleConditions(embedded, path + ".", matcher, conditions);
+            } else if (value instanceof String text) {
+                conditions.add(textMatches(path, text, matcher.getStringMatcherForPath(path),
+                        matcher.isIgnoreCaseForPath(path)));
+            } else if (value == null) {
+                conditions.add(document -> Documents.valueAt(document, path) == null);
+            } else {
+                conditions.add(equalTo(path, value));
+            }
+        }
+    }
+
+    private static Predicate<Document> textMatches(String path, String text, ExampleMatcher.StringMatcher matcher,
+                                                   boolean ignoreCase) {
+        if (matcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(text, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+            return document -> Documents.valueAt(document, path) instanceof String value && pattern.matcher(value).find();
+        }
+        String expected = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        return document -> {
+            if (!(Documents.valueAt(document, path) instanceof String value)) {
+                return false;
+            }
+            String actual = ignoreCase ? value.toLowerCase(Locale.ROOT) : value;
+            return switch (matcher) {
+                case STARTING -> actual.startsWith(expected);
+                case ENDING -> actual.endsWith(expected);
+                case CONTAINING -> actual.contains(expected);
+                default -> actual.equals(expected);
+            };
+        };
+    }
+}
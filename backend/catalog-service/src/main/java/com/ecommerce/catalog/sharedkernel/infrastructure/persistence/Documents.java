@@ -0,0 +1,81 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Utilidades para leer y ordenar documentos BSON en los repositorios en memoria.
+ */
+final class Documents {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private Documents() {}
+
+    /**
+     * Obtiene el valor de un campo siguiendo una ruta con puntos (ej.: {@code name.value}).
+     * @param document el documento.
+     * @param path la ruta del campo; {@code id} se interpreta como {@code _id}.
+     * @return el valor, o {@code null} si algún tramo de la ruta no existe.
+     */
+    @Nullable
+    static Object valueAt(Document document, String path) {
+        Object current = document;
+        for (String segment : path.split("\\.")) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get("id".equals(segment) && current == document ? "_id" : segment);
+        }
+        return current;
+    }
+
+    /**
+     * Construye un comparador de documentos equivalente al orden de MongoDB para los tipos usados por el catálogo:
+     * los valores nulos van primero en orden ascendente y el empate se resuelve por {@code _id}.
+     * @param sort el orden solicitado.
+     * @return el comparador.
+     */
+    static Comparator<Document> comparator(Sort sort) {
+        Comparator<Document> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Document> byField = (a, b) ->
+                    compareValues(valueAt(a, order.getProperty()), valueAt(b, order.getProperty()), order.isIgnoreCase());
+            comparator = comparator.thenComparing(order.isAscending() ? byField : byField.reversed());
+        }
+        return comparator.thenComparing(document -> (String) document.get("_id"));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(@Nullable Object a, @Nullable Object b, boolean ignoreCase) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null) {
+            return -1;
+        }
+        if (b == null) {
+            return 1;
+        }
+        if (a instanceof Number x && b instanceof Number y) {
+            return new BigDecimal(x.toString()).compareTo(new BigDecimal(y.toString()));
+        }
+        if (a instanceof String x && b instanceof String y) {
+            return ignoreCase ? x.compareToIgnoreCase(y) : x.compareTo(y);
+        }
+        if (a instanceof Date x && b instanceof Date y) {
+            return x.compareTo(y);
+        }
+        if (a instanceof Comparable x && a.getClass().isInstance(b)) {
+            return x.compareTo(b);
+        }
+        return a.toString().compareTo(b.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Precarga los repositorios en memoria desde un directorio con un archivo NDJSON por colección
+ * ({@code brands.ndjson}, {@code categories.ndjson}, ...), el formato que produce {@code catalog-datagen --format=ndjson}.
+ * El directorio se define con {@code catalog.inmemory.data-dir}; si está vacío, el catálogo arranca sin datos.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryDataLoader {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryDataLoader.class);
+    // --- Dependencias ---
+    private final List<InMemoryRepository<?>> repositories;
+    private final String dataDir;
+
+    /**
+     * Construye el cargador.
+     * @param repositories los repositorios en memoria de la aplicación.
+     * @param dataDir el directorio con los archivos NDJSON; vacío si no se debe cargar ninguno.
+     */
+    public InMemoryDataLoader(List<InMemoryRepository<?>> repositories,
+                              @Value("${catalog.inmemory.data-dir:}") String dataDir) {
+        this.repositories = repositories;
+        this.dataDir = dataDir;
+    }
+
+    /**
+     * Carga el archivo de cada colección presente en el directorio. Un archivo ausente deja la colección vacía;
+     * un archivo ilegible impide el arranque, ya que el servicio quedaría con un catálogo parcial.
+     * @throws IOException si no se puede leer alguno de los archivos.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() throws IOException {
+        if (dataDir == null || dataDir.isBlank()) {
+            log.info("No se configuró directorio de datos para el catálogo en memoria (catalog.inmemory.data-dir)");
+            return;
+        }
+        for (InMemoryRepository<?> repository : repositories) {
+            Path file = Path.of(dataDir).resolve(repository.collectionName() + ".ndjson");
+            if (!Files.isRegularFile(file)) {
+                log.info("No existe {}; la colección {} queda vacía", file, repository.collectionName());
+                continue;
+            }
+            long loaded = 0;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        repository.load(Document.parse(line));
+                        loaded++;
+                    }
+                }
+            }
+            log.info("Cargados {} documentos en la colección en memoria {}", loaded, repository.collectionName());
+        }
+    }
+}
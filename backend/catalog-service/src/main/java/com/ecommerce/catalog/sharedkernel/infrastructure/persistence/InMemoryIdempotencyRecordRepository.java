@@ -0,0 +1,29 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import com.ecommerce.catalog.sharedkernel.domain.model.IdempotencyRecord;
+import com.ecommerce.catalog.sharedkernel.domain.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementación en memoria de {@link IdempotencyRecordRepository}, activa con el perfil {@code inmemory}.
+ * No hay índice TTL: los registros vencidos se reemplazan al volver a usar su clave y desaparecen al reiniciar.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryIdempotencyRecordRepository extends InMemoryRepository<IdempotencyRecord>
+        implements IdempotencyRecordRepository {
+
+    /**
+     * Construye el repositorio.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría de la aplicación.
+     */
+    public InMemoryIdempotencyRecordRepository(MongoConverter converter,
+                                               ObjectProvider<IsNewAwareAuditingHandler> auditingHandler) {
+        super(IdempotencyRecord.class, converter, auditingHandler);
+    }
+}
@@ -0,0 +1,567 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import com.ecommerce.catalog.sharedkernel.domain.model.BaseEntity;
+import com.ecommerce.libs.application.util.IdGenerator;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementación base de {@link MongoRepository} que guarda los documentos en memoria, para ejecutar el catálogo
+ * sin MongoDB (perfil {@code inmemory}): pruebas de carga del servicio aislado, demos y desarrollo local.
+ * <p>
+ * Las entidades se guardan como {@link Document} producidos por el {@link MongoConverter} de la aplicación, de modo que
+ * cada lectura devuelve una copia independiente y las rutas de los campos coinciden con las de MongoDB
+ * (ej.: {@code name.value}). Se respetan la auditoría, el bloqueo optimista por {@code @Version} y los índices únicos.
+ * Los documentos se ordenan por {@code _id}, que al ser ULID equivale al orden de creación.
+ * <p>
+ * Las escrituras se serializan con un cerrojo; las lecturas no bloquean y ven el último documento confirmado.
+ * Las consultas por ejemplo ({@link Example}) recorren todos los documentos y los comparan con el ejemplo convertido
+ * por el mismo {@link MongoConverter} (ver {@link DocumentMatchers#example}).
+ * @param <T> el tipo de entidad.
+ */
+public abstract class InMemoryRepository<T extends BaseEntity<String>> implements MongoRepository<T, String> {
+    // --- Campos constantes ---
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+    // --- Dependencias ---
+    private final Class<T> type;
+    private final MongoConverter converter;
+    private final ObjectProvider<IsNewAwareAuditingHandler> auditingHandler;
+    private final MongoPersistentEntity<?> persistentEntity;
+    // --- Estado ---
+    private final ConcurrentSkipListMap<String, Document> documents = new ConcurrentSkipListMap<>();
+    private final List<SecondaryIndex> indexes;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Construye el repositorio.
+     * @param type el tipo de entidad.
+     * @param converter el conversor de MongoDB de la aplicación.
+     * @param auditingHandler el manejador de auditoría registrado por {@code @EnableMongoAuditing}, si existe.
+     * @param indexes los índices secundarios a mantener sobre los documentos.
+     */
+    protected InMemoryRepository(Class<T> type, MongoConverter converter,
+                                 ObjectProvider<IsNewAwareAuditingHandler> auditingHandler, SecondaryIndex... indexes) {
+        this.type = type;
+        this.converter = converter;
+        this.auditingHandler = auditingHandler;
+        this.persistentEntity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        this.indexes = List.of(indexes);
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public <S extends T> S save(S entity) {
+        writeLock.lock();
+        try {
+            return doSave(entity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        writeLock.lock();
+        try {
+            if (entity.getId() != null && documents.containsKey(entity.getId())) {
+                throw duplicateId(entity.getId());
+            }
+            return doSave(entity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(insert(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(documents.get(id)).map(this::read);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return documents.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return list(documents.values().stream());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return list(StreamSupport.stream(ids.spliterator(), false).distinct().map(documents::get));
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return list(documents.values().stream().sorted(Documents.comparator(sort)));
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(documents.values().stream(), pageable, documents::size);
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        writeLock.lock();
+        try {
+            Document removed = documents.remove(id);
+            if (removed != null) {
+                indexes.forEach(index -> index.remove(id, removed));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            documents.clear();
+            indexes.forEach(SecondaryIndex::clear);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return query(example).one();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return query(example).all();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return query(example).sortBy(sort).all();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return query(example).page(pageable);
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return query(example).count();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return query(example).exists();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(query(example));
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @return el nombre de la colección de MongoDB equivalente, usado para localizar los archivos de importación.
+     */
+    public String collectionName() {
+        return persistentEntity.getCollection();
+    }
+
+    /**
+     * Incorpora un documento tal como está guardado en MongoDB (ej.: importado desde un volcado NDJSON),
+     * sin aplicar auditoría ni versionado. Si ya existe un documento con el mismo {@code _id}, se reemplaza.
+     * @param document el documento a incorporar; debe tener {@code _id}.
+     * @throws DuplicateKeyException si el documento viola un índice único.
+     */
+    public void load(Document document) {
+        String id = document.get("_id").toString();
+        writeLock.lock();
+        try {
+            store(id, document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // --- Métodos auxiliares ---
+
+    /**
+     * Devuelve el índice secundario sobre un campo.
+     * @param path la ruta del campo con el que se declaró el índice.
+     * @return el índice.
+     * @throws IllegalArgumentException si no se declaró un índice sobre ese campo.
+     */
+    protected SecondaryIndex index(String path) {
+        return indexes.stream()
+                .filter(index -> index.path().equals(path))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No existe un índice sobre " + path));
+    }
+
+    /**
+     * Recorre todos los documentos y devuelve los que cumplen la condición, en orden de {@code _id}.
+     * @param condition la condición sobre el documento.
+     * @return el flujo de documentos coincidentes.
+     */
+    protected Stream<Document> scan(Predicate<Document> condition) {
+        return documents.values().stream().filter(condition);
+    }
+
+    /**
+     * Resuelve un conjunto de IDs (típicamente de un índice) a sus documentos, omitiendo los eliminados entretanto.
+     * @param ids los IDs.
+     * @return el flujo de documentos en el orden de los IDs.
+     */
+    protected Stream<Document> documents(Collection<String> ids) {
+        return ids.stream().map(documents::get).filter(document -> document != null);
+    }
+
+    /**
+     * Convierte un flujo de documentos en una lista de entidades.
+     */
+    protected List<T> list(Stream<Document> matches) {
+        return matches.filter(document -> document != null).map(this::read).toList();
+    }
+
+    /**
+     * Pagina un flujo de documentos. Sin orden explícito se conserva el orden del flujo y solo se convierten los
+     * documentos de la página; con orden, se ordenan todas las coincidencias antes de recortar.
+     * @param matches los documentos coincidentes.
+     * @param pageable la paginación solicitada.
+     * @param total proveedor del total de coincidencias, consultado solo si la página no permite deducirlo.
+     * @return la página de entidades.
+     */
+    protected Page<T> page(Stream<Document> matches, Pageable pageable, LongSupplier total) {
+        if (pageable.isUnpaged()) {
+            List<T> content = list(pageable.getSort().isSorted()
+                    ? matches.sorted(Documents.comparator(pageable.getSort())) : matches);
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+        Stream<Document> ordered = pageable.getSort().isSorted()
+                ? matches.sorted(Documents.comparator(pageable.getSort())) : matches;
+        List<T> content = list(ordered.skip(pageable.getOffset()).limit(pageable.getPageSize()));
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    /**
+     * Pagina los documentos de un conjunto de IDs, usando su tamaño como total.
+     * @param ids los IDs coincidentes.
+     * @param pageable la paginación solicitada.
+     * @return la página de entidades.
+     */
+    protected Page<T> page(Collection<String> ids, Pageable pageable) {
+        return page(documents(ids), pageable, ids::size);
+    }
+
+    /**
+     * Pagina el resultado de un recorrido completo; el total se obtiene con un segundo recorrido solo si hace falta.
+     * @param condition la condición sobre el documento.
+     * @param pageable la paginación solicitada.
+     * @return la página de entidades.
+     */
+    protected Page<T> page(Predicate<Document> condition, Pageable pageable) {
+        return page(scan(condition), pageable, () -> scan(condition).count());
+    }
+
+    /**
+     * Modifica los documentos indicados en una sola operación de escritura, actualizando los índices
+     * (el equivalente a un {@code updateMany}). No aplica auditoría ni versionado.
+     * @param ids los IDs a modificar (se copian antes de modificar, por lo que pueden venir de un índice).
+     * @param change la modificación; recibe una copia del documento y devuelve el documento a guardar.
+     * @return la cantidad de documentos modificados.
+     */
+    protected long updateIds(Collection<String> ids, UnaryOperator<Document> change) {
+        writeLock.lock();
+        try {
+            long updated = 0;
+            for (String id : List.copyOf(ids)) {
+                Document current = documents.get(id);
+                if (current != null) {
+                    store(id, change.apply(new Document(current)));
+                    updated++;
+                }
+            }
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Elimina los documentos indicados.
+     * @param ids los IDs a eliminar (se copian antes de eliminar, por lo que pueden venir de un índice).
+     * @return la cantidad de documentos eliminados.
+     */
+    protected long deleteIds(Collection<String> ids) {
+        writeLock.lock();
+        try {
+            long deleted = 0;
+            for (String id : List.copyOf(ids)) {
+                Document removed = documents.remove(id);
+                if (removed != null) {
+                    indexes.forEach(index -> index.remove(id, removed));
+                    deleted++;
+                }
+            }
+            return deleted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Guarda una entidad siguiendo la semántica de {@code SimpleMongoRepository}: las entidades nuevas se insertan
+     * (con versión 0) y las existentes se reemplazan comprobando la versión si la entidad es versionada.
+     * Debe invocarse con el cerrojo de escritura tomado.
+     */
+    @SuppressWarnings("unchecked")
+    private <S extends T> S doSave(S entity) {
+        boolean isNew = entity.isNew();
+        if (entity.getId() == null) {
+            entity.setId(IdGenerator.generateId());
+        }
+        String id = entity.getId();
+        Document current = documents.get(id);
+        if (isNew && current != null) {
+            throw duplicateId(id);
+        }
+        IsNewAwareAuditingHandler handler = auditingHandler.getIfAvailable();
+        S audited = entity;
+        if (handler != null) {
+            audited = (S) handler.markAudited(entity);
+        }
+        MongoPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        if (versionProperty != null) {
+            PersistentPropertyAccessor<S> accessor = persistentEntity.getPropertyAccessor(audited);
+            Number version = (Number) accessor.getProperty(versionProperty);
+            if (isNew || version == null) {
+                accessor.setProperty(versionProperty, 0L);
+            } else {
+                Object stored = current == null ? null : current.get(versionProperty.getFieldName());
+                if (!(stored instanceof Number storedVersion) || storedVersion.longValue() != version.longValue()) {
+                    throw new OptimisticLockingFailureException("No se pudo guardar la entidad %s con id %s y versión %d; fue modificada o eliminada"
+                            .formatted(type.getSimpleName(), id, version.longValue()));
+                }
+                accessor.setProperty(versionProperty, version.longValue() + 1);
+            }
+            audited = accessor.getBean();
+        }
+        Document document = new Document();
+        converter.write(audited, document);
+        store(id, document);
+        return audited;
+    }
+
+    /**
+     * Guarda un documento y actualiza los índices, comprobando antes las restricciones de unicidad.
+     * Debe invocarse con el cerrojo de escritura tomado.
+     */
+    private void store(String id, Document document) {
+        for (SecondaryIndex index : indexes) {
+            if (index.isUnique() && index.conflictWith(id, document) != null) {
+                throw new DuplicateKeyException("Valor duplicado en el índice único %s.%s"
+                        .formatted(collectionName(), index.path()));
+            }
+        }
+        Document previous = documents.put(id, document);
+        indexes.forEach(index -> index.replace(id, previous, document));
+    }
+
+    private T read(Document document) {
+        return converter.read(type, document);
+    }
+
+    private DuplicateKeyException duplicateId(String id) {
+        return new DuplicateKeyException("Ya existe un documento con _id %s en %s".formatted(id, collectionName()));
+    }
+
+    /**
+     * Construye la consulta de un ejemplo. Con {@link ExampleMatcher.NullHandler#INCLUDE} las propiedades nulas del
+     * ejemplo, que el conversor no escribe, se agregan al documento como nulas; el ID y la versión nunca se comparan
+     * si son nulos.
+     */
+    private <S extends T> ExampleQuery<S> query(Example<S> example) {
+        Document probe = new Document();
+        converter.write(example.getProbe(), probe);
+        if (example.getMatcher().getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+            persistentEntity.doWithProperties((MongoPersistentProperty property) -> {
+                if (!property.isIdProperty() && !property.isVersionProperty()) {
+                    probe.putIfAbsent(property.getFieldName(), null);
+                }
+            });
+        }
+        return new ExampleQuery<>(DocumentMatchers.example(probe, example.getMatcher()), example.getProbeType(),
+                Sort.unsorted(), 0);
+    }
+
+    /**
+     * Consulta fluida sobre los documentos que cumplen una condición. Las proyecciones por nombre de campo
+     * ({@code project}) no reducen lo leído, porque los documentos completos ya están en memoria; las proyecciones
+     * por tipo ({@code as}) se convierten con el {@link MongoConverter} o, si son interfaces, con un proxy.
+     * @param <R> el tipo de resultado.
+     */
+    private final class ExampleQuery<R> implements FluentQuery.FetchableFluentQuery<R> {
+        private final Predicate<Document> condition;
+        private final Class<R> resultType;
+        private final Sort sort;
+        private final int limit;
+
+        private ExampleQuery(Predicate<Document> condition, Class<R> resultType, Sort sort, int limit) {
+            this.condition = condition;
+            this.resultType = resultType;
+            this.sort = sort;
+            this.limit = limit;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+            return new ExampleQuery<>(condition, resultType, this.sort.and(sort), limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative: " + limit);
+            }
+            return new ExampleQuery<>(condition, resultType, sort, limit);
+        }
+
+        @Override
+        public <P> FluentQuery.FetchableFluentQuery<P> as(Class<P> resultType) {
+            return new ExampleQuery<>(condition, resultType, sort, limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public R oneValue() {
+            List<R> matches = stream().limit(2).toList();
+            if (matches.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, matches.size());
+            }
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+
+        @Override
+        public R firstValue() {
+            return stream().findFirst().orElse(null);
+        }
+
+        @Override
+        public List<R> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<R> page(Pageable pageable) {
+            Sort order = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            Stream<Document> matches = order.isSorted() ? scan(condition).sorted(Documents.comparator(order))
+                    : scan(condition);
+            if (pageable.isPaged()) {
+                matches = matches.skip(pageable.getOffset()).limit(pageable.getPageSize());
+            }
+            List<R> content = matches.map(this::read).toList();
+            return PageableExecutionUtils.getPage(content, pageable, () -> scan(condition).count());
+        }
+
+        @Override
+        public Stream<R> stream() {
+            Stream<Document> matches = sort.isSorted() ? scan(condition).sorted(Documents.comparator(sort))
+                    : scan(condition);
+            return (limit > 0 ? matches.limit(limit) : matches).map(this::read);
+        }
+
+        @Override
+        public long count() {
+            return scan(condition).count();
+        }
+
+        @Override
+        public boolean exists() {
+            return scan(condition).findAny().isPresent();
+        }
+
+        private R read(Document document) {
+            if (resultType.isInterface()) {
+                return PROJECTIONS.createProjection(resultType, InMemoryRepository.this.read(document));
+            }
+            return converter.read(resultType, document);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Índice secundario en memoria sobre un campo de los documentos (ruta con puntos, ej.: {@code brandId.value}).
+ * Asocia cada valor del campo al conjunto ordenado de IDs que lo contienen; si el campo es un arreglo, el documento
+ * se indexa por cada elemento (índice multiclave, como en MongoDB). Los valores nulos o ausentes también se indexan.
+ * Las lecturas no bloquean; las modificaciones las serializa el {@link InMemoryRepository} propietario.
+ */
+public final class SecondaryIndex {
+    // --- Campos constantes ---
+    private static final Object NULL_KEY = new Object();
+    // --- Atributos ---
+    private final String path;
+    private final boolean ignoreCase;
+    private final boolean unique;
+    private final ConcurrentHashMap<Object, NavigableSet<String>> entries = new ConcurrentHashMap<>();
+
+    private SecondaryIndex(String path, boolean ignoreCase, boolean unique) {
+        this.path = path;
+        this.ignoreCase = ignoreCase;
+        this.unique = unique;
+    }
+
+    /**
+     * Crea un índice sobre un campo.
+     * @param path la ruta del campo en el documento.
+     * @return el índice.
+     */
+    public static SecondaryIndex on(String path) {
+        return new SecondaryIndex(path, false, false);
+    }
+
+    /**
+     * Crea un índice único que compara cadenas sin distinguir mayúsculas y minúsculas
+     * (equivalente a un índice con collation de fuerza 2).
+     * @param path la ruta del campo en el documento.
+     * @return el índice.
+     */
+    public static SecondaryIndex uniqueIgnoreCase(String path) {
+        return new SecondaryIndex(path, true, true);
+    }
+
+    // --- Getters ---
+
+    public String path() { return path; }
+    public boolean isUnique() { return unique; }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Devuelve los IDs de los documentos cuyo campo contiene el valor.
+     * @param value el valor buscado; {@code null} busca los documentos sin valor.
+     * @return un conjunto ordenado e inmodificable de IDs (vacío si no hay coincidencias).
+     */
+    public NavigableSet<String> get(@Nullable Object value) {
+        NavigableSet<String> ids = entries.get(normalize(value));
+        return ids == null ? Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet(ids);
+    }
+
+    /**
+     * Devuelve el ID de otro documento que ya ocupa alguno de los valores del documento dado.
+     * @param id el ID del documento que se va a guardar.
+     * @param document el documento que se va a guardar.
+     * @return el ID en conflicto, o {@code null} si no hay conflicto.
+     */
+    @Nullable
+    String conflictWith(String id, Document document) {
+        for (Object key : keysOf(document)) {
+            if (key == NULL_KEY) {
+                continue;
+            }
+            NavigableSet<String> ids = entries.get(key);
+            if (ids != null) {
+                for (String other : ids) {
+                    if (!other.equals(id)) {
+                        return other;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Actualiza las entradas de un documento: primero agrega las claves nuevas y luego retira las que dejó de tener,
+     * para que una lectura concurrente nunca deje de encontrar un documento cuyo valor no cambió.
+     * @param id el ID del documento.
+     * @param previous la versión anterior del documento, o {@code null} si es nuevo.
+     * @param document la versión nueva del documento.
+     */
+    void replace(String id, @Nullable Document previous, Document document) {
+        Collection<Object> keys = keysOf(document);
+        for (Object key : keys) {
+            entries.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(id);
+        }
+        if (previous != null) {
+            removeKeys(id, keysOf(previous).stream().filter(key -> !keys.contains(key)).toList());
+        }
+    }
+
+    void remove(String id, Document document) {
+        removeKeys(id, keysOf(document));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void removeKeys(String id, Collection<Object> keys) {
+        for (Object key : keys) {
+            entries.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private Collection<Object> keysOf(Document document) {
+        Object value = Documents.valueAt(document, path);
+        if (value instanceof Collection<?> values) {
+            if (values.isEmpty()) {
+                return List.of(NULL_KEY);
+            }
+            List<Object> keys = new ArrayList<>(values.size());
+            for (Object element : values) {
+                keys.add(normalize(element));
+            }
+            return keys;
+        }
+        return Set.of(normalize(value));
+    }
+
+    private Object normalize(@Nullable Object value) {
+        if (value == null) {
+            return NULL_KEY;
+        }
+        return ignoreCase && value instanceof String text ? text.toLowerCase(Locale.ROOT) : value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índices de las colecciones del catálogo, declarados como migraciones versionadas. Es la única fuente de los
+ * índices: las entidades no llevan {@code @Indexed} y la creación automática de índices de Spring Data está
+ * desactivada. Para cambiar un índice se añade una migración al final de {@link #MIGRATIONS}.
+ */
+public final class CatalogIndexes {
+    // --- Campos constantes ---
+    private static final String ES = "es";
+    private static final int CASE_INSENSITIVE = 2;
+
+    /** Migraciones en orden de versión. */
+    public static final List<IndexMigration> MIGRATIONS = List.of(
+            new IndexMigration(1, "Índices de las entidades, sobre las rutas reales de los value objects", List.of(
+                    IndexSpec.on("brands", "name_ci", "name.value").withUnique().withCollation(ES, CASE_INSENSITIVE),
+                    IndexSpec.on("categories", "name_ci", "name.value").withUnique().withCollation(ES, CASE_INSENSITIVE),
+                    IndexSpec.on("categories", "parentId", "parentId"),
+                    IndexSpec.on("categories", "ancestors", "ancestors"),
+                    IndexSpec.on("products", "name_ci", "name.value").withCollation(ES, CASE_INSENSITIVE),
+                    IndexSpec.on("products", "brandId", "brandId.value"),
+                    IndexSpec.on("products", "categoriesId", "categoriesId"),
+                    IndexSpec.on("variants", "productId", "productId.value"),
+                    IndexSpec.on("variants", "price_range", "price.currency", "priceMinorUnits"),
+                    IndexSpec.on("deletion_jobs", "status", "status"),
+                    IndexSpec.on("idempotency_keys", "expiresAt_ttl", "expiresAt").withExpireAfter(Duration.ZERO)
+            ), List.of()),
+            new IndexMigration(2, "Índices compuestos para las consultas paginadas y por lotes", List.of(
+                    // Productos de una categoría o marca paginados por _id (listados y trabajos de eliminación)
+                    IndexSpec.on("products", "categoriesId_id", "categoriesId", "_id"),
+                    IndexSpec.on("products", "brandId_id", "brandId.value", "_id"),
+                    // Variantes de un producto, filtrables por disponibilidad y ordenables por precio
+                    IndexSpec.on("variants", "productId_available_price", "productId.value", "available", "priceMinorUnits")
+            ), List.of("products.categoriesId", "products.brandId", "variants.productId")),
+            // La búsqueda de productos por nombre es un "contiene" (regex sin anclar, insensible a mayúsculas),
+            // que no puede usar un índice con collation: solo le costaba espacio y escrituras
+            new IndexMigration(3, "Elimina el índice con collation de los nombres de productos, sin uso",
+                    List.of(), List.of("products.name_ci"))
+    );
+
+    private CatalogIndexes() {
+    }
+
+    /**
+     * Calcula los índices que deben existir tras aplicar todas las migraciones.
+     * @param migrations las migraciones, en orden de versión.
+     * @return los índices esperados, por {@code colección.nombre}.
+     */
+    public static Map<String, IndexSpec> expected(Collection<IndexMigration> migrations) {
+        Map<String, IndexSpec> indexes = new LinkedHashMap<>();
+        for (IndexMigration migration : migrations) {
+            migration.create().forEach(index -> indexes.put(index.collection() + "." + index.name(), index));
+            migration.drop().forEach(indexes::remove);
+        }
+        return indexes;
+    }
+
+    /**
+     * @param migrations las migraciones.
+     * @return las colecciones con algún índice declarado.
+     */
+    public static List<String> collections(Collection<IndexMigration> migrations) {
+        List<String> collections = new ArrayList<>();
+        migrations.forEach(migration -> migration.create().stream()
+                .map(IndexSpec::collection)
+                .filter(collection -> !collections.contains(collection))
+                .forEach(collections::add));
+        return collections;
+    }
+}
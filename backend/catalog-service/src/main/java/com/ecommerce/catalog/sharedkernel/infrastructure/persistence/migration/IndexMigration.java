@@ -0,0 +1,43 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Migración versionada de índices: crea y elimina índices una sola vez, en orden de versión. Una migración ya
+ * aplicada no debe modificarse; los cambios se declaran en una migración nueva.
+ * @param version el número de versión, creciente.
+ * @param description la descripción del cambio.
+ * @param create los índices que crea (antes de eliminar).
+ * @param drop los índices que elimina, como {@code colección.nombre}.
+ */
+public record IndexMigration(
+        int version,
+        String description,
+        List<IndexSpec> create,
+        List<String> drop
+) {
+    /**
+     * Constructor canónico. Copia las listas.
+     */
+    public IndexMigration {
+        create = List.copyOf(create);
+        drop = List.copyOf(drop);
+    }
+
+    /**
+     * @return el resumen de la definición, con el que se detecta una migración modificada después de aplicarla.
+     */
+    public String checksum() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String definition = create + "|" + drop;
+            return HexFormat.of().formatHex(digest.digest(definition.getBytes(StandardCharsets.UTF_8)), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aplica las migraciones de índices pendientes y compara los índices existentes con los declarados.
+ * <p>
+ * Cada migración aplicada se registra en la colección {@code index_migrations} con su versión y el resumen de su
+ * definición, de modo que se aplica una sola vez aunque haya varias instancias (crear un índice que ya existe con
+ * la misma definición no tiene efecto). Si una migración falla (p. ej. un índice único con valores duplicados),
+ * no se registra ni se aplican las siguientes; se reintenta en el siguiente arranque.
+ */
+public class IndexMigrator {
+    private static final Logger log = LoggerFactory.getLogger(IndexMigrator.class);
+    // --- Campos constantes ---
+    public static final String COLLECTION = "index_migrations";
+    private static final String ID_INDEX = "_id_";
+    private static final int INDEX_NOT_FOUND = 27;
+    private static final int NAMESPACE_NOT_FOUND = 26;
+    // --- Dependencias ---
+    private final MongoTemplate mongoTemplate;
+    // --- Estado ---
+    private final List<IndexMigration> migrations;
+    private final boolean migrateOnStartup;
+
+    /**
+     * Construye el migrador.
+     * @param mongoTemplate la plantilla de MongoDB de la aplicación.
+     * @param migrations las migraciones declaradas.
+     * @param migrateOnStartup si al arrancar se aplican las pendientes; si no, solo se verifican.
+     */
+    public IndexMigrator(MongoTemplate mongoTemplate, List<IndexMigration> migrations, boolean migrateOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations.stream().sorted(Comparator.comparingInt(IndexMigration::version)).toList();
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Al arrancar, aplica las migraciones pendientes (si está habilitado) y registra las diferencias encontradas.
+     * No bloquea el arranque: las consultas funcionan sin los índices, solo que más lentas.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAndVerify() {
+        try {
+            if (migrateOnStartup) {
+                migrate();
+            }
+            IndexReport report = report();
+            if (report.isInSync()) {
+                log.info("Índices al día (versión {})", report.appliedVersion());
+            } else {
+                log.warn("Índices desincronizados: versión aplicada {} de {}, pendientes {}, diferencias {}",
+                        report.appliedVersion(), report.latestVersion(), report.pending(), report.drift());
+            }
+        } catch (MongoException | DataAccessException e) {
+            log.error("No se pudieron migrar o verificar los índices", e);
+        }
+    }
+
+    /**
+     * Aplica, en orden, las migraciones que todavía no se aplicaron.
+     * @return las versiones aplicadas por esta llamada.
+     * @throws MongoException si una migración falla; las anteriores quedan aplicadas y registradas.
+     */
+    public synchronized List<Integer> migrate() {
+        Map<Integer, String> applied = applied();
+        List<Integer> versions = new ArrayList<>();
+        for (IndexMigration migration : migrations) {
+            if (applied.containsKey(migration.version())) {
+                continue;
+            }
+            log.info("Aplicando la migración de índices {}: {}", migration.version(), migration.description());
+            apply(migration);
+            register(migration);
+            versions.add(migration.version());
+        }
+        return versions;
+    }
+
+    /**
+     * Compara el estado de la base de datos con las migraciones declaradas.
+     * @return el informe con las migraciones pendientes y las diferencias.
+     */
+    public IndexReport report() {
+        Map<Integer, String> applied = applied();
+        List<Integer> pending = new ArrayList<>();
+        List<IndexReport.Drift> drift = new ArrayList<>();
+        for (IndexMigration migration : migrations) {
+            String checksum = applied.get(migration.version());
+            if (checksum == null) {
+                pending.add(migration.version());
+            } else if (!checksum.equals(migration.checksum())) {
+                drift.add(new IndexReport.Drift(IndexReport.Kind.MODIFIED_MIGRATION, null,
+                        String.valueOf(migration.version()),
+                        "resumen " + migration.checksum() + " en vez del aplicado " + checksum));
+            }
+        }
+        Map<String, IndexSpec> expected = CatalogIndexes.expected(migrations);
+        for (String collection : CatalogIndexes.collections(migrations)) {
+            Map<String, Document> actual = new HashMap<>();
+            database().getCollection(collection).listIndexes().forEach(index -> actual.put(index.getString("name"), index));
+            expected.values().stream()
+                    .filter(index -> index.collection().equals(collection))
+                    .forEach(index -> {
+                        Document existing = actual.remove(index.name());
+                        if (existing == null) {
+                            drift.add(new IndexReport.Drift(IndexReport.Kind.MISSING, collection, index.name(),
+                                    "falta el índice " + index.keysDocument().toJson()));
+                        } else {
+                            String differences = index.differencesWith(existing);
+                            if (!differences.isEmpty()) {
+                                drift.add(new IndexReport.Drift(IndexReport.Kind.DIFFERENT, collection, index.name(),
+                                        differences));
+                            }
+                        }
+                    });
+            actual.remove(ID_INDEX);
+            actual.forEach((name, index) -> drift.add(new IndexReport.Drift(IndexReport.Kind.UNEXPECTED, collection,
+                    name, "índice no declarado " + index.get("key", Document.class).toJson())));
+        }
+        int appliedVersion = applied.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        int latestVersion = migrations.isEmpty() ? 0 : migrations.getLast().version();
+        return new IndexReport(appliedVersion, latestVersion, pending, drift);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void apply(IndexMigration migration) {
+        for (IndexSpec index : migration.create()) {
+            database().getCollection(index.collection()).createIndex(index.keysDocument(), index.options());
+        }
+        for (String dropped : migration.drop()) {
+            int separator = dropped.indexOf('.');
+            try {
+                database().getCollection(dropped.substring(0, separator)).dropIndex(dropped.substring(separator + 1));
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() != INDEX_NOT_FOUND && e.getErrorCode() != NAMESPACE_NOT_FOUND) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void register(IndexMigration migration) {
+        try {
+            migrations().insertOne(new Document("_id", migration.version())
+                    .append("description", migration.description())
+                    .append("checksum", migration.checksum())
+                    .append("appliedAt", new Date()));
+        } catch (MongoWriteException e) {
+            // Otra instancia la aplicó y registró a la vez
+            if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                throw e;
+            }
+        }
+    }
+
+    private Map<Integer, String> applied() {
+        Map<Integer, String> applied = new HashMap<>();
+        migrations().find().forEach(document -> applied.put(document.getInteger("_id"), document.getString("checksum")));
+        return applied;
+    }
+
+    private MongoCollection<Document> migrations() {
+        return database().getCollection(COLLECTION);
+    }
+
+    private MongoDatabase database() {
+        return mongoTemplate.getDb();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import java.util.List;
+
+/**
+ * Estado de los índices del catálogo frente a las migraciones declaradas.
+ * @param appliedVersion la última versión aplicada, o 0 si no se aplicó ninguna.
+ * @param latestVersion la última versión declarada.
+ * @param pending las versiones declaradas que no se aplicaron.
+ * @param drift las diferencias entre los índices esperados y los que existen.
+ */
+public record IndexReport(
+        int appliedVersion,
+        int latestVersion,
+        List<Integer> pending,
+        List<Drift> drift
+) {
+    /**
+     * Tipo de diferencia.
+     */
+    public enum Kind {
+        /** Un índice declarado no existe. */
+        MISSING,
+        /** Existe un índice que ninguna migración declara (p. ej. creado a mano). */
+        UNEXPECTED,
+        /** El índice existe con otros campos u opciones. */
+        DIFFERENT,
+        /** Una migración aplicada se modificó después de aplicarse. */
+        MODIFIED_MIGRATION
+    }
+
+    /**
+     * Diferencia entre lo declarado y lo que existe.
+     * @param kind el tipo de diferencia.
+     * @param collection la colección (null en las migraciones modificadas).
+     * @param index el nombre del índice, o la versión de la migración modificada.
+     * @param detail la descripción de la diferencia.
+     */
+    public record Drift(Kind kind, String collection, String index, String detail) {
+    }
+
+    /**
+     * @return true si todas las migraciones están aplicadas y no hay diferencias.
+     */
+    public boolean isInSync() {
+        return pending.isEmpty() && drift.isEmpty();
+    }
+}
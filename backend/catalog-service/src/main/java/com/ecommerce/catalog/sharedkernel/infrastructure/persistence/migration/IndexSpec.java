@@ -0,0 +1,144 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Definición de un índice de MongoDB tal como lo declara una {@link IndexMigration}.
+ * @param collection la colección.
+ * @param name el nombre del índice, con el que se compara con el que existe en la base de datos.
+ * @param keys los campos del índice, en orden, con su dirección (1 o -1).
+ * @param unique si el índice es único.
+ * @param collationLocale la configuración regional de la collation, o null si el índice no tiene collation.
+ * @param collationStrength la fuerza de la collation (2 ignora mayúsculas y minúsculas).
+ * @param expireAfter el tiempo tras el que MongoDB elimina los documentos (índice TTL), o null.
+ */
+public record IndexSpec(
+        String collection,
+        String name,
+        Map<String, Integer> keys,
+        boolean unique,
+        String collationLocale,
+        int collationStrength,
+        Duration expireAfter
+) {
+    /**
+     * Constructor canónico. Copia los campos conservando su orden.
+     */
+    public IndexSpec {
+        keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+    }
+
+    /**
+     * Crea la definición de un índice ascendente simple o compuesto.
+     * @param collection la colección.
+     * @param name el nombre del índice.
+     * @param fields los campos, en orden.
+     * @return la definición.
+     */
+    public static IndexSpec on(String collection, String name, String... fields) {
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        for (String field : fields) {
+            keys.put(field, 1);
+        }
+        return new IndexSpec(collection, name, keys, false, null, 0, null);
+    }
+
+    /**
+     * @return una copia de este índice que además es único.
+     */
+    public IndexSpec withUnique() {
+        return new IndexSpec(collection, name, keys, true, collationLocale, collationStrength, expireAfter);
+    }
+
+    /**
+     * @param locale la configuración regional.
+     * @param strength la fuerza de la comparación.
+     * @return una copia de este índice con la collation indicada.
+     */
+    public IndexSpec withCollation(String locale, int strength) {
+        return new IndexSpec(collection, name, keys, unique, locale, strength, expireAfter);
+    }
+
+    /**
+     * @param after el tiempo tras el que se eliminan los documentos (sobre un campo de fecha).
+     * @return una copia de este índice como índice TTL.
+     */
+    public IndexSpec withExpireAfter(Duration after) {
+        return new IndexSpec(collection, name, keys, unique, collationLocale, collationStrength, after);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * @return los campos del índice en el formato de {@code createIndexes}.
+     */
+    public Document keysDocument() {
+        return new Document(keys);
+    }
+
+    /**
+     * @return las opciones del índice para {@code createIndex}.
+     */
+    public IndexOptions options() {
+        IndexOptions options = new IndexOptions().name(name).unique(unique);
+        if (collationLocale != null) {
+            options.collation(Collation.builder()
+                    .locale(collationLocale)
+                    .collationStrength(CollationStrength.fromInt(collationStrength))
+                    .build());
+        }
+        if (expireAfter != null) {
+            options.expireAfter(expireAfter.toSeconds(), TimeUnit.SECONDS);
+        }
+        return options;
+    }
+
+    /**
+     * Compara esta definición con la que devuelve {@code listIndexes} para el índice del mismo nombre.
+     * De la collation solo se comparan la configuración regional y la fuerza.
+     * @param actual la descripción del índice existente.
+     * @return la lista de diferencias, vacía si coinciden.
+     */
+    public String differencesWith(Document actual) {
+        StringBuilder differences = new StringBuilder();
+        Document actualKeys = actual.get("key", Document.class);
+        if (actualKeys == null || !new ArrayList<>(keys.keySet()).equals(new ArrayList<>(actualKeys.keySet()))
+                || keys.entrySet().stream().anyMatch(key -> !numberEquals(actualKeys.get(key.getKey()), key.getValue()))) {
+            differences.append("campos ").append(actualKeys).append(" en vez de ").append(keysDocument()).append("; ");
+        }
+        if (actual.getBoolean("unique", false) != unique) {
+            differences.append(unique ? "no es único; " : "es único; ");
+        }
+        Document collation = actual.get("collation", Document.class);
+        String locale = collation == null ? null : collation.getString("locale");
+        Object strength = collation == null ? null : collation.get("strength");
+        if (!Objects.equals(locale, collationLocale)
+                || (collationLocale != null && !numberEquals(strength, collationStrength))) {
+            differences.append("collation ").append(locale).append("/").append(strength)
+                    .append(" en vez de ").append(collationLocale).append("/").append(collationStrength).append("; ");
+        }
+        Object ttl = actual.get("expireAfterSeconds");
+        if (expireAfter == null ? ttl != null : !numberEquals(ttl, expireAfter.toSeconds())) {
+            differences.append("expireAfterSeconds ").append(ttl).append(" en vez de ")
+                    .append(expireAfter == null ? null : expireAfter.toSeconds()).append("; ");
+        }
+        return differences.isEmpty() ? "" : differences.substring(0, differences.length() - 2);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static boolean numberEquals(Object actual, long expected) {
+        return actual instanceof Number number && number.doubleValue() == expected;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/indexes}) que compara los índices de MongoDB con las migraciones
+ * declaradas en {@link CatalogIndexes}: versión aplicada, migraciones pendientes y diferencias.
+ */
+@Endpoint(id = "indexes")
+public class IndexesEndpoint {
+    // --- Dependencias ---
+    private final IndexMigrator migrator;
+
+    /**
+     * Construye el endpoint.
+     * @param migrator el migrador de índices.
+     */
+    public IndexesEndpoint(IndexMigrator migrator) {
+        this.migrator = migrator;
+    }
+
+    /**
+     * @return el estado actual de los índices.
+     */
+    @ReadOperation
+    public IndexReport report() {
+        return migrator.report();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de la API de lectura reactiva ({@code catalog.reactive.*}).
+ * @param enabled si se levanta el servidor reactivo.
+ * @param port el puerto del servidor reactivo (0 = puerto libre aleatorio).
+ * @param eventLoopThreads cantidad de hilos del event loop; 0 usa el valor por defecto de Reactor Netty
+ *                         (uno por procesador, mínimo 4).
+ */
+@ConfigurationProperties(prefix = "catalog.reactive")
+public record ReactiveApiProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("9100") int port,
+        @DefaultValue("0") int eventLoopThreads
+) {
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.catalog.sharedkernel.infrastructure.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * Servidor Reactor Netty que atiende la API de lectura reactiva en un puerto propio, junto al Tomcat principal.
+ * Las peticiones se procesan en un número reducido de hilos de event loop que nunca se bloquean: mientras una lectura
+ * espera a MongoDB, el hilo atiende otras conexiones.
+ * <p>
+ * Se inicia cuando arranca el servidor web principal, de modo que no se levanta en pruebas sin servidor
+ * ({@code @SpringBootTest} con entorno simulado), y se detiene con el contexto.
+ */
+public class ReactiveReadServer implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+    // --- Campos constantes ---
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    // --- Dependencias ---
+    private final HttpHandler httpHandler;
+    private final ReactiveApiProperties properties;
+    // --- Estado ---
+    private volatile DisposableServer server;
+    private volatile LoopResources loops;
+
+    /**
+     * Construye el servidor.
+     * @param httpHandler el handler HTTP construido a partir de las rutas reactivas.
+     * @param properties la configuración del servidor.
+     */
+    public ReactiveReadServer(HttpHandler httpHandler, ReactiveApiProperties properties) {
+        this.httpHandler = httpHandler;
+        this.properties = properties;
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public void destroy() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+        if (loops != null) {
+            loops.dispose();
+            loops = null;
+        }
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Inicia el servidor cuando el servidor web principal está listo.
+     * @param event el evento de inicio del servidor principal.
+     */
+    @EventListener
+    public synchronized void start(ServletWebServerInitializedEvent event) {
+        if (server != null) {
+            return;
+        }
+        int threads = properties.eventLoopThreads() > 0
+                ? properties.eventLoopThreads() : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        loops = LoopResources.create("catalog-reactive", 1, threads, true);
+        server = HttpServer.create()
+                .port(properties.port())
+                .runOn(loops)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("API de lectura reactiva escuchando en el puerto {} con {} hilos de event loop", port(), threads);
+    }
+
+    /**
+     * @return el puerto en el que escucha el servidor, o -1 si no está iniciado.
+     */
+    public int port() {
+        DisposableServer current = server;
+        return current == null ? -1 : current.port();
+    }
+}
@@ -0,0 +1,446 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.brand.application.BrandService;
+import com.ecommerce.catalog.brand.application.dto.request.BrandRequestDTO;
+import com.ecommerce.catalog.brand.application.dto.response.BrandResponseDTO;
+import com.ecommerce.catalog.brand.domain.model.Brand;
+import com.ecommerce.catalog.brand.domain.repository.BrandRepository;
+import com.ecommerce.catalog.brand.infrastructure.persistence.InMemoryBrandRepository;
+import com.ecommerce.catalog.category.application.CategoryProductCountService;
+import com.ecommerce.catalog.category.application.CategoryService;
+import com.ecommerce.catalog.category.application.dto.request.CreateCategoryRequestDTO;
+import com.ecommerce.catalog.category.application.dto.request.MoveCategoryRequest;
+import com.ecommerce.catalog.category.application.dto.request.UpdateCategoryRequest;
+import com.ecommerce.catalog.category.application.dto.response.CategoryResponseDTO;
+import com.ecommerce.catalog.category.domain.repository.CategoryRepository;
+import com.ecommerce.catalog.job.application.DeletionJobService;
+import com.ecommerce.catalog.job.application.dto.response.DeletionJobResponseDTO;
+import com.ecommerce.catalog.job.domain.constant.DeletionTarget;
+import com.ecommerce.catalog.job.domain.constant.JobStatus;
+import com.ecommerce.catalog.job.domain.model.DeletionJob;
+import com.ecommerce.catalog.job.domain.repository.DeletionJobRepository;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.VariantPriceBackfillService;
+import com.ecommerce.catalog.product.application.dto.request.BatchGetVariantsRequestDTO;
+import com.ecommerce.catalog.product.application.dto.request.CreateProductRequestDTO;
+import com.ecommerce.catalog.product.application.dto.request.CreateVariantRequestDTO;
+import com.ecommerce.catalog.product.application.dto.request.UpdateProductRequestDTO;
+import com.ecommerce.catalog.product.application.dto.response.BatchGetVariantsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.ProductDetailsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.ProductResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.catalog.product.domain.repository.ProductRepository;
+import com.ecommerce.catalog.product.domain.repository.VariantRepository;
+import com.ecommerce.catalog.product.infrastructure.persistence.InMemoryVariantRepository;
+import com.ecommerce.catalog.sharedkernel.application.IdempotencyService;
+import com.ecommerce.catalog.sharedkernel.application.exception.IdempotencyKeyReusedException;
+import com.ecommerce.catalog.sharedkernel.infrastructure.concurrent.ParallelQueryExecutor;
+import com.ecommerce.catalog.sharedkernel.infrastructure.concurrent.ParallelQueryProperties;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.application.exception.ResourceNotFoundException;
+import com.ecommerce.libs.application.util.IdGenerator;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "catalog.variants.price-backfill.on-startup=false")
+@ActiveProfiles("inmemory")
+class CatalogInMemoryProfileTests {
+
+	@Autowired private BrandService brandService;
+	@Autowired private CategoryService categoryService;
+	@Autowired private ProductService productService;
+	@Autowired private BrandRepository brandRepository;
+	@Autowired private VariantRepository variantRepository;
+	@Autowired private CategoryRepository categoryRepository;
+	@Autowired private CategoryProductCountService productCountService;
+	@Autowired private DeletionJobService deletionJobService;
+	@Autowired private DeletionJobRepository deletionJobRepository;
+	@Autowired private ProductRepository productRepository;
+	@Autowired private IdempotencyService idempotencyService;
+	@Autowired private VariantPriceBackfillService variantPriceBackfillService;
+	@Autowired private MongoConverter mongoConverter;
+
+	@Test
+	void repositoriesAreTheInMemoryAdapters() {
+		assertThat(brandRepository).isInstanceOf(InMemoryBrandRepository.class);
+	}
+
+	@Test
+	void servicesWorkEndToEndWithoutMongo() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Acme InMemory", null, null));
+		CategoryResponseDTO root = categoryService.save(new CreateCategoryRequestDTO("Hogar InMemory", null, null));
+		CategoryResponseDTO child = categoryService.save(new CreateCategoryRequestDTO("Cocina InMemory", null, root.id()));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(new BigDecimal("19.99"), "USD"), 5, List.of(), null);
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Sartén InMemory", null, brand.id(), List.of(child.id()), List.of(), initialVariant));
+
+		assertThat(brand.createdAt()).isNotNull();
+		assertThat(child.ancestors()).contains(root.id());
+		assertThat(brandService.searchByName("acme inm", PageRequest.of(0, 10)).getContent())
+				.extracting(BrandResponseDTO::id).containsExactly(brand.id());
+		assertThat(productService.searchByBrand(brand.id(), PageRequest.of(0, 10)).getContent())
+				.extracting(ProductResponseDTO::id).containsExactly(product.id());
+		assertThat(productService.searchByCategory(root.id(), PageRequest.of(0, 10, Sort.by("name.value"))).getContent())
+				.extracting(ProductResponseDTO::id).containsExactly(product.id());
+		assertThat(productService.findVariantsByProductId(product.id(), PageRequest.of(0, 10), null).getContent())
+				.extracting(VariantResponseDTO::version).containsExactly(0L);
+
+		productService.delete(product.id());
+		assertThat(variantRepository.findByProductIdValue(product.id(), PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void variantsSavedBeforePriceMinorUnitsAreFoundByPriceRangeOnceBackfilled() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Rango InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Lámparas InMemory", null, null));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(new BigDecimal("4321.57"), "USD"), 1, List.of(), null);
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Lámpara InMemory", null, brand.id(), List.of(category.id()), List.of(), initialVariant));
+		Variant variant = variantRepository.findByProductIdValue(product.id(), PageRequest.of(0, 1)).getContent().get(0);
+		Document legacy = new Document();
+		mongoConverter.write(variant, legacy);
+		legacy.remove("priceMinorUnits");
+		((InMemoryVariantRepository) variantRepository).load(legacy);
+		BigDecimal min = new BigDecimal("4321.5");
+		BigDecimal max = new BigDecimal("4321.6");
+
+		assertThat(productService.findVariantsByPriceRange("USD", min, max, PageRequest.of(0, 10))).isEmpty();
+		assertThat(variantPriceBackfillService.backfill()).isEqualTo(1);
+		assertThat(productService.findVariantsByPriceRange("USD", min, max, PageRequest.of(0, 10)).getContent())
+				.extracting(VariantResponseDTO::id).containsExactly(variant.getId());
+		assertThat(productService.findVariantsByPriceRange("EUR", min, max, PageRequest.of(0, 10))).isEmpty();
+		assertThat(variantPriceBackfillService.backfill()).isZero();
+		assertThatThrownBy(() -> productService.findVariantsByPriceRange("USD", max, min, PageRequest.of(0, 10)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		productService.delete(product.id());
+	}
+
+	@Test
+	void compositeOperationsRunTheirQueriesInParallel() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Detalle InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Detalles InMemory", null, null));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(new BigDecimal("5.00"), "USD"), 3, List.of(), null);
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Producto con detalle", null, brand.id(), List.of(category.id()), List.of(), initialVariant));
+
+		ProductDetailsResponseDTO details = productService.findDetails(product.id(), PageRequest.of(0, 10), null)
+				.orElseThrow();
+		assertThat(details.brand().id()).isEqualTo(brand.id());
+		assertThat(details.categories()).extracting(CategoryResponseDTO::id).containsExactly(category.id());
+		assertThat(details.variants().getContent()).hasSize(1);
+		assertThat(productService.findDetails("missing", PageRequest.of(0, 10), null)).isEmpty();
+
+		String variantId = details.variants().getContent().get(0).id();
+		BatchGetVariantsResponseDTO batch = productService.batchGetVariants(new BatchGetVariantsRequestDTO(
+				List.of("missing", variantId, variantId), List.of("price", "stock", "available")), null);
+		assertThat(batch.missingIds()).containsExactly("missing");
+		assertThat(batch.variants()).singleElement().satisfies(variant -> {
+			assertThat(variant.id()).isEqualTo(variantId);
+			assertThat(variant.stock()).isEqualTo(3);
+			assertThat(variant.productId()).isNull();
+			assertThat(variant.images()).isNull();
+		});
+		assertThatThrownBy(() -> productService.batchGetVariants(
+				new BatchGetVariantsRequestDTO(List.of(variantId), List.of("sku")), null))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThatThrownBy(() -> productService.saveProduct(new CreateProductRequestDTO(
+				"Sin categoría", null, brand.id(), List.of(category.id(), "missing"), List.of(), initialVariant)))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("missing");
+		assertThatThrownBy(() -> productService.searchByCategory("missing", PageRequest.of(0, 10)))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	void detailsOfAProductWhoseBrandWasDeletedHaveNoBrand() throws InterruptedException {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Sin reemplazo InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Sin marca InMemory", null, null));
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Producto sin marca", null, brand.id(), List.of(category.id()), List.of(),
+				new CreateVariantRequestDTO(new MoneyDTO(BigDecimal.TEN, "USD"), 1, List.of(), null)));
+
+		assertThat(awaitJob(brandService.delete(brand.id(), null)).status()).isEqualTo(JobStatus.COMPLETED);
+
+		ProductDetailsResponseDTO details = productService.findDetails(product.id(), PageRequest.of(0, 10), null)
+				.orElseThrow();
+		assertThat(details.brand()).isNull();
+		assertThat(details.categories()).extracting(CategoryResponseDTO::id).containsExactly(category.id());
+	}
+
+	@Test
+	void nestedParallelQueriesRunInlineInsteadOfWaitingForTheSaturatedPool() {
+		ParallelQueryExecutor executor = new ParallelQueryExecutor(
+				new ParallelQueryProperties(1, 1, Duration.ofSeconds(2)), false);
+		try {
+			CompletableFuture<Integer> outer = executor.fork(() -> {
+				CompletableFuture<Integer> inner = executor.fork(() -> 21);
+				executor.joinAll(inner);
+				return inner.join() * 2;
+			});
+			executor.joinAll(outer);
+			assertThat(outer.join()).isEqualTo(42);
+		} finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	void movingACategoryRewritesTheAncestorsOfItsSubtree() {
+		CategoryResponseDTO source = categoryService.save(new CreateCategoryRequestDTO("Origen InMemory", null, null));
+		CategoryResponseDTO target = categoryService.save(new CreateCategoryRequestDTO("Destino InMemory", null, null));
+		CategoryResponseDTO moved = categoryService.save(new CreateCategoryRequestDTO("Movida InMemory", null, source.id()));
+		CategoryResponseDTO leaf = categoryService.save(new CreateCategoryRequestDTO("Hoja InMemory", null, moved.id()));
+
+		CategoryResponseDTO result = categoryService.move(moved.id(), new MoveCategoryRequest(target.id()));
+
+		assertThat(result.parentId()).isEqualTo(target.id());
+		assertThat(result.ancestors()).containsExactly(target.id(), moved.id());
+		assertThat(categoryService.findById(leaf.id()).orElseThrow().ancestors())
+				.containsExactly(target.id(), moved.id(), leaf.id());
+		assertThat(categoryService.findDirectSubcategories(source.id(), PageRequest.of(0, 10))).isEmpty();
+		assertThatThrownBy(() -> categoryService.move(target.id(), new MoveCategoryRequest(leaf.id())))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		CategoryResponseDTO root = categoryService.move(moved.id(), new MoveCategoryRequest(null));
+		assertThat(root.parentId()).isNull();
+		assertThat(categoryService.findById(leaf.id()).orElseThrow().ancestors()).containsExactly(moved.id(), leaf.id());
+	}
+
+	@Test
+	void updatingACategoryKeepsConcurrentMovesAndCounters() {
+		CategoryResponseDTO target = categoryService.save(new CreateCategoryRequestDTO("Destino edición", null, null));
+		CategoryResponseDTO edited = categoryService.save(new CreateCategoryRequestDTO("Editada InMemory", null, null));
+		UpdateCategoryRequest rename = new UpdateCategoryRequest("Renombrada InMemory", "Nueva descripción");
+		// Lo que otra petición cambia entre la lectura y la escritura de la edición
+		categoryService.move(edited.id(), new MoveCategoryRequest(target.id()));
+		categoryRepository.incrementProductCounts(List.of(edited.id()), List.of(edited.id()), 3);
+
+		categoryService.update(edited.id(), rename);
+
+		CategoryResponseDTO result = categoryService.findById(edited.id()).orElseThrow();
+		assertThat(result.name()).isEqualTo("Renombrada InMemory");
+		assertThat(result.description()).isEqualTo("Nueva descripción");
+		assertThat(result.ancestors()).containsExactly(target.id(), edited.id());
+		assertThat(result.directProductCount()).isEqualTo(3);
+		assertThat(result.subtreeProductCount()).isEqualTo(3);
+		assertThatThrownBy(() -> categoryService.update(edited.id(), new UpdateCategoryRequest("Destino edición", null)))
+				.isInstanceOf(IllegalArgumentException.class);
+		// Devolver los contadores a su valor real para no descuadrar la reconciliación de otros tests
+		categoryRepository.incrementProductCounts(List.of(edited.id()), List.of(edited.id()), -3);
+	}
+
+	@Test
+	void productCountsFollowTheCategoryTree() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Contadores InMemory", null, null));
+		CategoryResponseDTO root = categoryService.save(new CreateCategoryRequestDTO("Raíz contadores", null, null));
+		CategoryResponseDTO left = categoryService.save(new CreateCategoryRequestDTO("Izquierda contadores", null, root.id()));
+		CategoryResponseDTO right = categoryService.save(new CreateCategoryRequestDTO("Derecha contadores", null, root.id()));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(BigDecimal.ONE, "USD"), 1, List.of(), null);
+		ProductResponseDTO both = productService.saveProduct(new CreateProductRequestDTO(
+				"En ambas ramas", null, brand.id(), List.of(left.id(), right.id()), List.of(), initialVariant));
+		productService.saveProduct(new CreateProductRequestDTO(
+				"Solo izquierda", null, brand.id(), List.of(left.id()), List.of(), initialVariant));
+
+		assertThat(categoryService.findById(root.id()).orElseThrow().subtreeProductCount()).isEqualTo(2);
+		assertThat(categoryService.findById(left.id()).orElseThrow().directProductCount()).isEqualTo(2);
+		assertThat(categoryService.findById(right.id()).orElseThrow().directProductCount()).isEqualTo(1);
+
+		productService.updateProduct(both.id(), new UpdateProductRequestDTO(
+				"En ambas ramas", null, brand.id(), List.of(right.id())));
+		assertThat(categoryService.findById(left.id()).orElseThrow().directProductCount()).isEqualTo(1);
+		productService.delete(both.id());
+		assertThat(categoryService.findById(right.id()).orElseThrow().subtreeProductCount()).isZero();
+		assertThat(categoryService.findById(root.id()).orElseThrow().subtreeProductCount()).isEqualTo(1);
+
+		categoryRepository.incrementProductCounts(List.of(left.id()), List.of(root.id()), 5);
+		assertThat(productCountService.reconcile()).isEqualTo(2);
+		assertThat(categoryService.findById(left.id()).orElseThrow().directProductCount()).isEqualTo(1);
+		assertThat(categoryService.findById(root.id()).orElseThrow().subtreeProductCount()).isEqualTo(1);
+	}
+
+	@Test
+	void movingACategoryRecountsTheSubtreeOfItsOldAndNewAncestors() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Movimiento contadores", null, null));
+		CategoryResponseDTO root = categoryService.save(new CreateCategoryRequestDTO("Raíz movimiento", null, null));
+		CategoryResponseDTO left = categoryService.save(new CreateCategoryRequestDTO("Izquierda movimiento", null, root.id()));
+		CategoryResponseDTO right = categoryService.save(new CreateCategoryRequestDTO("Derecha movimiento", null, root.id()));
+		CategoryResponseDTO target = categoryService.save(new CreateCategoryRequestDTO("Destino movimiento", null, null));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(BigDecimal.ONE, "USD"), 1, List.of(), null);
+		productService.saveProduct(new CreateProductRequestDTO(
+				"Movido en ambas ramas", null, brand.id(), List.of(left.id(), right.id()), List.of(), initialVariant));
+		productService.saveProduct(new CreateProductRequestDTO(
+				"Movido solo izquierda", null, brand.id(), List.of(left.id()), List.of(), initialVariant));
+
+		categoryService.move(left.id(), new MoveCategoryRequest(target.id()));
+
+		// La raíz conserva el producto que sigue en su rama por la derecha
+		assertThat(categoryService.findById(root.id()).orElseThrow().subtreeProductCount()).isEqualTo(1);
+		assertThat(categoryService.findById(target.id()).orElseThrow().subtreeProductCount()).isEqualTo(2);
+		assertThat(categoryService.findById(left.id()).orElseThrow().subtreeProductCount()).isEqualTo(2);
+		assertThat(categoryService.findById(right.id()).orElseThrow().subtreeProductCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deletingABrandOrCategoryCleansItsProductsInBackground() throws InterruptedException {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Eliminada InMemory", null, null));
+		BrandResponseDTO replacement = brandService.save(new BrandRequestDTO("Reemplazo InMemory", null, null));
+		CategoryResponseDTO parent = categoryService.save(new CreateCategoryRequestDTO("Padre eliminada", null, null));
+		CategoryResponseDTO deleted = categoryService.save(new CreateCategoryRequestDTO("Hija eliminada", null, parent.id()));
+		CreateVariantRequestDTO initialVariant = new CreateVariantRequestDTO(
+				new MoneyDTO(BigDecimal.ONE, "USD"), 1, List.of(), null);
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Producto huérfano", null, brand.id(), List.of(deleted.id()), List.of(), initialVariant));
+		productService.saveProduct(new CreateProductRequestDTO(
+				"Producto huérfano 2", null, brand.id(), List.of(deleted.id(), parent.id()), List.of(), initialVariant));
+
+		DeletionJobResponseDTO brandJob = awaitJob(brandService.delete(brand.id(), replacement.id()));
+		assertThat(brandJob.status()).isEqualTo(JobStatus.COMPLETED);
+		assertThat(brandJob.processedProducts()).isEqualTo(2);
+		assertThat(brandJob.progress()).isEqualTo(1.0);
+		assertThat(productRepository.countByBrandIdValue(replacement.id())).isEqualTo(2);
+		assertThat(brandService.findById(brand.id())).isEmpty();
+
+		DeletionJobResponseDTO categoryJob = awaitJob(categoryService.delete(deleted.id(), null));
+		assertThat(categoryJob.status()).isEqualTo(JobStatus.COMPLETED);
+		assertThat(categoryJob.replacementId()).isEqualTo(parent.id());
+		assertThat(productRepository.countByCategoriesId(deleted.id())).isZero();
+		assertThat(productRepository.findById(product.id()).orElseThrow().getCategoriesId()).containsExactly(parent.id());
+		assertThat(categoryService.findById(parent.id()).orElseThrow().directProductCount()).isEqualTo(2);
+		assertThatThrownBy(() -> deletionJobService.retry(categoryJob.id())).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void aJobInterruptedBeforeDeletingItsBrandDeletesItWhenResumed() throws InterruptedException {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Interrumpida InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Interrumpida InMemory", null, null));
+		productService.saveProduct(new CreateProductRequestDTO("Producto interrumpido", null, brand.id(),
+				List.of(category.id()), List.of(),
+				new CreateVariantRequestDTO(new MoneyDTO(BigDecimal.ONE, "USD"), 1, List.of(), null)));
+		// El servicio se detuvo después de guardar el trabajo y antes de eliminar la marca
+		DeletionJob pending = deletionJobRepository.save(
+				new DeletionJob(IdGenerator.generateId(), DeletionTarget.BRAND, brand.id(), null, 1));
+
+		deletionJobService.resumeUnfinished();
+
+		DeletionJobResponseDTO job = awaitJob(deletionJobService.findById(pending.getId()).orElseThrow());
+		assertThat(job.status()).isEqualTo(JobStatus.COMPLETED);
+		assertThat(brandService.findById(brand.id())).isEmpty();
+		assertThat(productRepository.countByBrandIdValue(brand.id())).isZero();
+	}
+
+	@Test
+	void queriesByExampleAreEvaluatedOverTheStoredDocuments() {
+		brandRepository.save(new Brand(IdGenerator.generateId(), "PorEjemplo Alfa", "compartida", null));
+		brandRepository.save(new Brand(IdGenerator.generateId(), "PorEjemplo Beta", "compartida", null));
+		brandRepository.save(new Brand(IdGenerator.generateId(), "Otra PorEjemplo", "propia", null));
+		ExampleMatcher startingIgnoringCase = ExampleMatcher.matching()
+				.withIgnoreCase()
+				.withStringMatcher(ExampleMatcher.StringMatcher.STARTING);
+		Example<Brand> prefix = Example.of(probe("porejemplo", null), startingIgnoringCase);
+
+		assertThat(brandRepository.findAll(prefix, Sort.by(Sort.Direction.DESC, "name.value")))
+				.extracting(brand -> brand.getName().value())
+				.containsExactly("PorEjemplo Beta", "PorEjemplo Alfa");
+		assertThat(brandRepository.count(Example.of(probe("x", "compartida"),
+				ExampleMatcher.matching().withIgnorePaths("name")))).isEqualTo(2);
+		assertThat(brandRepository.findOne(Example.of(probe("Otra PorEjemplo", null))))
+				.hasValueSatisfying(brand -> assertThat(brand.getDescription()).isEqualTo("propia"));
+		assertThat(brandRepository.findBy(prefix, query -> query.page(PageRequest.of(0, 1))).getTotalElements())
+				.isEqualTo(2);
+		assertThatThrownBy(() -> brandRepository.findOne(prefix))
+				.isInstanceOf(IncorrectResultSizeDataAccessException.class);
+	}
+
+	@Test
+	void uniqueNameIsEnforcedIgnoringCase() {
+		brandService.save(new BrandRequestDTO("Duplicada InMemory", null, null));
+
+		assertThatThrownBy(() -> brandService.save(new BrandRequestDTO("DUPLICADA inmemory", null, null)))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void staleVariantUpdatesAreRejected() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Versionada InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Versiones InMemory", null, null));
+		ProductResponseDTO product = productService.saveProduct(new CreateProductRequestDTO(
+				"Producto versionado", null, brand.id(), List.of(category.id()), List.of(),
+				new CreateVariantRequestDTO(new MoneyDTO(BigDecimal.TEN, "USD"), 1, List.of(), null)));
+		String variantId = variantRepository.findByProductIdValue(product.id(), PageRequest.of(0, 1))
+				.getContent().get(0).getId();
+		Variant first = variantRepository.findById(variantId).orElseThrow();
+		Variant second = variantRepository.findById(variantId).orElseThrow();
+
+		first.setStock(2);
+		assertThat(variantRepository.save(first).getVersion()).isEqualTo(1L);
+		second.setStock(3);
+		assertThatThrownBy(() -> variantRepository.save(second)).isInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void retriedCreationsWithTheSameIdempotencyKeyRunOnce() {
+		BrandResponseDTO brand = brandService.save(new BrandRequestDTO("Reintentos InMemory", null, null));
+		CategoryResponseDTO category = categoryService.save(new CreateCategoryRequestDTO("Reintentos InMemory", null, null));
+		CreateProductRequestDTO request = new CreateProductRequestDTO("Producto reintentado", null, brand.id(),
+				List.of(category.id()), List.of(),
+				new CreateVariantRequestDTO(new MoneyDTO(BigDecimal.ONE, "USD"), 1, List.of(), null));
+
+		ProductResponseDTO first = idempotencyService.execute("retry-1", "POST /products", request,
+				ProductResponseDTO.class, () -> productService.saveProduct(request));
+		ProductResponseDTO retry = idempotencyService.execute("retry-1", "POST /products", request,
+				ProductResponseDTO.class, () -> productService.saveProduct(request));
+
+		assertThat(retry.id()).isEqualTo(first.id());
+		assertThat(productService.searchByBrand(brand.id(), PageRequest.of(0, 10)).getContent()).hasSize(1);
+		CreateProductRequestDTO other = new CreateProductRequestDTO("Otro producto", null, brand.id(),
+				List.of(category.id()), List.of(), request.initialVariant());
+		assertThatThrownBy(() -> idempotencyService.execute("retry-1", "POST /products", other,
+				ProductResponseDTO.class, () -> productService.saveProduct(other)))
+				.isInstanceOf(IdempotencyKeyReusedException.class);
+	}
+
+	private static Brand probe(String name, String description) {
+		Brand brand = new Brand();
+		brand.setName(name);
+		brand.setDescription(description);
+		return brand;
+	}
+
+	private DeletionJobResponseDTO awaitJob(DeletionJobResponseDTO job) throws InterruptedException {
+		for (int attempt = 0; attempt < 100; attempt++) {
+			DeletionJobResponseDTO current = deletionJobService.findById(job.id()).orElseThrow();
+			if (!current.status().isUnfinished()) {
+				return current;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("El trabajo " + job.id() + " no terminó");
+	}
+}
@@ -0,0 +1,120 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.CatalogChange;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.CatalogChangeListener;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ChangeStreamProperties;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ChangeStreamWatcher;
+import com.ecommerce.catalog.sharedkernel.infrastructure.changestream.ResumeTokenStore;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeStreamTests {
+
+	private static final BsonDocument SAVED = new BsonDocument("_data", new BsonString("saved"));
+	private static final BsonDocument NEXT = new BsonDocument("_data", new BsonString("next"));
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final ResumeTokenStore tokens = mock(ResumeTokenStore.class);
+	private final CatalogChangeListener listener = mock(CatalogChangeListener.class);
+	@SuppressWarnings("unchecked")
+	private final ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class);
+	@SuppressWarnings("unchecked")
+	private final MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mock(MongoChangeStreamCursor.class);
+	private final ChangeStreamWatcher watcher = new ChangeStreamWatcher(mongoTemplate, tokens, List.of(listener),
+			new ChangeStreamProperties("catalog", List.of("products"), 100, Duration.ofMillis(10), Duration.ZERO,
+					Duration.ofMillis(10)));
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		watcher.destroy();
+	}
+
+	@Test
+	void changesAreDispatchedInOrderAndTheStreamResumesFromTheSavedToken() {
+		MongoDatabase database = mock(MongoDatabase.class);
+		when(mongoTemplate.getDb()).thenReturn(database);
+		when(database.watch(anyList())).thenReturn(stream);
+		when(stream.batchSize(anyInt())).thenReturn(stream);
+		when(stream.maxAwaitTime(anyLong(), any())).thenReturn(stream);
+		when(stream.startAfter(SAVED)).thenReturn(stream);
+		when(stream.cursor()).thenReturn(cursor);
+		when(tokens.load("catalog")).thenReturn(SAVED);
+		ChangeStreamDocument<Document> first = update("p1", "name", 1);
+		ChangeStreamDocument<Document> second = update("p2", "price", 2);
+		when(cursor.tryNext()).thenReturn(first).thenReturn(second).thenReturn(null);
+		when(cursor.getResumeToken()).thenReturn(NEXT);
+
+		watcher.start();
+
+		verify(stream, timeout(2000)).startAfter(SAVED);
+		var order = inOrder(listener);
+		order.verify(listener, timeout(2000)).onChange(new CatalogChange("products", "update", "p1", List.of("name"),
+				List.of(), Instant.ofEpochSecond(1_700_000_001)));
+		order.verify(listener, timeout(2000)).onChange(new CatalogChange("products", "update", "p2", List.of("price"),
+				List.of(), Instant.ofEpochSecond(1_700_000_002)));
+		verify(tokens, timeout(2000)).save("catalog", NEXT);
+	}
+
+	@Test
+	void lostHistoryRestartsFromNowAndResetsTheListeners() {
+		MongoDatabase database = mock(MongoDatabase.class);
+		when(mongoTemplate.getDb()).thenReturn(database);
+		when(database.watch(anyList())).thenReturn(stream);
+		when(stream.batchSize(anyInt())).thenReturn(stream);
+		when(stream.maxAwaitTime(anyLong(), any())).thenReturn(stream);
+		when(stream.startAfter(SAVED)).thenReturn(stream);
+		when(tokens.load("catalog")).thenReturn(SAVED);
+		when(stream.cursor())
+				.thenThrow(new MongoCommandException(new BsonDocument("code", new BsonInt32(286))
+						.append("errmsg", new BsonString("ChangeStreamHistoryLost")), new ServerAddress()))
+				.thenReturn(cursor);
+
+		watcher.start();
+
+		var order = inOrder(tokens, listener);
+		order.verify(tokens, timeout(2000)).clear("catalog");
+		order.verify(listener, timeout(2000)).onReset();
+		verify(cursor, timeout(2000).atLeastOnce()).tryNext();
+	}
+
+	private static ChangeStreamDocument<Document> update(String productId, String field, int second) {
+		ChangeStreamDocument<Document> change = mock();
+		when(change.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(change.getOperationTypeString()).thenReturn("update");
+		when(change.getNamespace()).thenReturn(new MongoNamespace("Catalogo", "products"));
+		when(change.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString(productId)));
+		when(change.getUpdateDescription()).thenReturn(
+				new UpdateDescription(List.of(), new BsonDocument(field, new BsonString("Nuevo"))));
+		when(change.getClusterTime()).thenReturn(new BsonTimestamp(1_700_000_000 + second, 1));
+		return change;
+	}
+}
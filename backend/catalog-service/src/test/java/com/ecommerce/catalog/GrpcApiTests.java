@@ -0,0 +1,122 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.config.GrpcConfig;
+import com.ecommerce.catalog.grpc.v1.BatchGetVariantsRequest;
+import com.ecommerce.catalog.grpc.v1.BatchGetVariantsResponse;
+import com.ecommerce.catalog.grpc.v1.CatalogServiceGrpc;
+import com.ecommerce.catalog.grpc.v1.GetProductRequest;
+import com.ecommerce.catalog.grpc.v1.GetVariantRequest;
+import com.ecommerce.catalog.grpc.v1.Variant;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.dto.request.BatchGetVariantsRequestDTO;
+import com.ecommerce.catalog.product.application.dto.response.BatchGetVariantsResponseDTO;
+import com.ecommerce.catalog.product.application.dto.response.VariantResponseDTO;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.google.protobuf.FieldMask;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GrpcApiTests {
+
+	private final ProductService productService = mock(ProductService.class);
+	private Server server;
+	private ManagedChannel channel;
+	private CatalogServiceGrpc.CatalogServiceBlockingStub client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		String name = InProcessServerBuilder.generateName();
+		server = InProcessServerBuilder.forName(name).directExecutor()
+				.addService(new GrpcConfig().productGrpcService(productService))
+				.build().start();
+		channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+		client = CatalogServiceGrpc.newBlockingStub(channel);
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.shutdownNow();
+		server.shutdownNow();
+	}
+
+	@Test
+	void pricesAreSentInMinorUnitsOfTheirCurrency() {
+		when(productService.findVariantById("v1", "USD")).thenReturn(Optional.of(new VariantResponseDTO("v1", "p1",
+				new MoneyDTO(new BigDecimal("12.5"), "USD"), 3, true, List.of(), Map.of("color", "rojo", "talla", 42),
+				7L, null, null)));
+		when(productService.findVariantById("v2", null)).thenReturn(Optional.of(new VariantResponseDTO("v2", "p1",
+				new MoneyDTO(new BigDecimal("15000"), "COP"), 0, false, List.of(), Map.of(), 1L, null, null)));
+
+		Variant usd = client.getVariant(GetVariantRequest.newBuilder().setId("v1").setCurrency("USD").build());
+		Variant cop = client.getVariant(GetVariantRequest.newBuilder().setId("v2").build());
+
+		assertThat(usd.getPrice().getMinorUnits()).isEqualTo(1250);
+		assertThat(usd.getPrice().getCurrencyCode()).isEqualTo("USD");
+		assertThat(usd.getAttributes().getFieldsOrThrow("talla").getNumberValue()).isEqualTo(42);
+		assertThat(usd.getVersion()).isEqualTo(7);
+		assertThat(cop.getPrice().getMinorUnits()).isEqualTo(1_500_000);
+		assertThat(cop.hasAvailable()).isTrue();
+		assertThat(cop.getAvailable()).isFalse();
+	}
+
+	@Test
+	void batchLookupsTranslateTheReadMaskAndKeepUnrequestedFieldsUnset() {
+		when(productService.batchGetVariants(any(), eq(null))).thenReturn(new BatchGetVariantsResponseDTO(
+				List.of(new VariantResponseDTO("v1", "p1", null, 4, null, null, null, null, null, null)),
+				List.of("missing")));
+
+		BatchGetVariantsResponse response = client.batchGetVariants(BatchGetVariantsRequest.newBuilder()
+				.addAllIds(List.of("v1", "missing"))
+				.setReadMask(FieldMask.newBuilder().addPaths("product_id").addPaths("stock"))
+				.build());
+
+		ArgumentCaptor<BatchGetVariantsRequestDTO> request = ArgumentCaptor.forClass(BatchGetVariantsRequestDTO.class);
+		verify(productService).batchGetVariants(request.capture(), eq(null));
+		assertThat(request.getValue().fields()).containsExactly("productId", "stock");
+		assertThat(response.getVariantsList()).singleElement().satisfies(variant -> {
+			assertThat(variant.getStock()).isEqualTo(4);
+			assertThat(variant.hasPrice()).isFalse();
+			assertThat(variant.hasAvailable()).isFalse();
+		});
+		assertThat(response.getMissingIdsList()).containsExactly("missing");
+	}
+
+	@Test
+	void errorsAreMappedToGrpcStatusCodes() {
+		when(productService.findById("p404")).thenReturn(Optional.empty());
+		when(productService.batchGetVariants(any(), any())).thenThrow(new IllegalArgumentException("Unknown variant field: x"));
+
+		assertThatThrownBy(() -> client.getProduct(GetProductRequest.newBuilder().setId("p404").build()))
+				.isInstanceOfSatisfying(StatusRuntimeException.class,
+						error -> assertThat(error.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+		assertThatThrownBy(() -> client.batchGetVariants(BatchGetVariantsRequest.newBuilder()
+				.addIds("v1").setReadMask(FieldMask.newBuilder().addPaths("x")).build()))
+				.isInstanceOfSatisfying(StatusRuntimeException.class,
+						error -> assertThat(error.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+		assertThatThrownBy(() -> client.batchGetVariants(BatchGetVariantsRequest.getDefaultInstance()))
+				.isInstanceOfSatisfying(StatusRuntimeException.class,
+						error -> assertThat(error.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+	}
+}
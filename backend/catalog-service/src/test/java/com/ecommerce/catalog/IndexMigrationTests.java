@@ -0,0 +1,46 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.CatalogIndexes;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.IndexSpec;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexMigrationTests {
+
+	@Test
+	void laterMigrationsReplaceTheSingleFieldIndexesWithCompoundOnes() {
+		Map<String, IndexSpec> expected = CatalogIndexes.expected(CatalogIndexes.MIGRATIONS);
+
+		assertThat(expected).containsKeys("products.categoriesId_id", "products.brandId_id",
+				"variants.productId_available_price", "variants.price_range", "idempotency_keys.expiresAt_ttl");
+		assertThat(expected).doesNotContainKeys("products.categoriesId", "products.brandId", "variants.productId",
+				"products.name_ci");
+		assertThat(expected.get("variants.productId_available_price").keys())
+				.containsExactly(Map.entry("productId.value", 1), Map.entry("available", 1), Map.entry("priceMinorUnits", 1));
+		IndexSpec brandName = expected.get("brands.name_ci");
+		assertThat(brandName.unique()).isTrue();
+		assertThat(brandName.collationLocale()).isEqualTo("es");
+		assertThat(brandName.collationStrength()).isEqualTo(2);
+	}
+
+	@Test
+	void existingIndexesAreComparedByKeysOrderAndOptions() {
+		IndexSpec brandName = CatalogIndexes.expected(CatalogIndexes.MIGRATIONS).get("brands.name_ci");
+		Document matching = new Document("name", "name_ci").append("key", new Document("name.value", 1))
+				.append("unique", true)
+				.append("collation", new Document("locale", "es").append("strength", 2).append("caseLevel", false));
+		Document withoutCollation = new Document("name", "name_ci").append("key", new Document("name.value", 1.0))
+				.append("unique", true);
+		IndexSpec compound = IndexSpec.on("products", "categoriesId_id", "categoriesId", "_id");
+		Document reversed = new Document("name", "categoriesId_id")
+				.append("key", new Document("_id", 1).append("categoriesId", 1));
+
+		assertThat(brandName.differencesWith(matching)).isEmpty();
+		assertThat(brandName.differencesWith(withoutCollation)).contains("collation null/null en vez de es/2");
+		assertThat(compound.differencesWith(reversed)).startsWith("campos");
+	}
+}
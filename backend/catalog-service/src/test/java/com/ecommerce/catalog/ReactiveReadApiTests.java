@@ -0,0 +1,150 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.brand.api.BrandReactiveHandler;
+import com.ecommerce.catalog.brand.application.mapper.BrandMapperImpl;
+import com.ecommerce.catalog.brand.domain.repository.ReactiveBrandRepository;
+import com.ecommerce.catalog.category.api.CategoryReactiveHandler;
+import com.ecommerce.catalog.category.application.mapper.CategoryMapperImpl;
+import com.ecommerce.catalog.category.domain.repository.ReactiveCategoryRepository;
+import com.ecommerce.catalog.config.ReactiveApiConfig;
+import com.ecommerce.catalog.product.api.ProductReactiveHandler;
+import com.ecommerce.catalog.product.application.ProductService;
+import com.ecommerce.catalog.product.application.mapper.ProductMapperImpl;
+import com.ecommerce.catalog.product.application.mapper.VariantMapperImpl;
+import com.ecommerce.catalog.product.domain.model.Product;
+import com.ecommerce.catalog.product.domain.model.Variant;
+import com.ecommerce.catalog.product.domain.repository.ReactiveProductRepository;
+import com.ecommerce.catalog.product.domain.repository.ReactiveVariantRepository;
+import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import com.ecommerce.libs.domain.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveReadApiTests {
+
+	private final ReactiveBrandRepository brands = mock(ReactiveBrandRepository.class);
+	private final ReactiveCategoryRepository categories = mock(ReactiveCategoryRepository.class);
+	private final ReactiveProductRepository products = mock(ReactiveProductRepository.class);
+	private final ReactiveVariantRepository variants = mock(ReactiveVariantRepository.class);
+	private AnnotationConfigApplicationContext mappers;
+	private WebTestClient client;
+
+	@BeforeEach
+	void setUp() {
+		mappers = new AnnotationConfigApplicationContext(ValueObjectMapper.class, BrandMapperImpl.class,
+				CategoryMapperImpl.class, ProductMapperImpl.class, VariantMapperImpl.class);
+		ProductService productService = mock(ProductService.class);
+		when(productService.convertPrice(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+		ReactiveApiConfig config = new ReactiveApiConfig();
+		client = WebTestClient.bindToRouterFunction(config.reactiveReadRoutes(
+				config.brandReactiveHandler(brands, mappers.getBean(BrandMapperImpl.class)),
+				config.categoryReactiveHandler(categories, mappers.getBean(CategoryMapperImpl.class)),
+				config.productReactiveHandler(products, variants, brands, categories,
+						mappers.getBean(ProductMapperImpl.class), mappers.getBean(VariantMapperImpl.class), productService),
+				"/api/v1")).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		mappers.close();
+	}
+
+	@Test
+	void literalProductRoutesTakePrecedenceOverTheIdRoute() {
+		Product product = new Product("p1", "Sartén", null, "b1", List.of("c1"), List.of());
+		when(brands.existsById("b1")).thenReturn(Mono.just(true));
+		when(products.findByBrandIdValue(eq("b1"), any(Pageable.class))).thenReturn(Flux.just(product));
+		when(products.countByBrandIdValue("b1")).thenReturn(Mono.just(41L));
+
+		client.get().uri("/api/v1/products/brand?id=b1&page=2&size=20").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content[0].id").isEqualTo("p1")
+				.jsonPath("$.page.number").isEqualTo(2)
+				.jsonPath("$.page.totalElements").isEqualTo(41);
+	}
+
+	@Test
+	void nameQueriesAreFilteredLikeTheBlockingApi() {
+		Product product = new Product("p1", "Sartén", null, "b1", List.of("c1"), List.of());
+		when(products.findByNameValueContainingIgnoreCase(eq("sart"), any(Pageable.class))).thenReturn(Flux.just(product));
+		when(products.countByNameValueContainingIgnoreCase("sart")).thenReturn(Mono.just(1L));
+		when(brands.findByNameValueContainingIgnoreCase(eq("acme"), any(Pageable.class))).thenReturn(Flux.empty());
+		when(brands.countByNameValueContainingIgnoreCase("acme")).thenReturn(Mono.just(0L));
+		when(categories.findByNameValueContainingIgnoreCase(eq("hogar"), any(Pageable.class))).thenReturn(Flux.empty());
+		when(categories.countByNameValueContainingIgnoreCase("hogar")).thenReturn(Mono.just(0L));
+
+		client.get().uri("/api/v1/products?name=sart").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content[0].id").isEqualTo("p1")
+				.jsonPath("$.page.totalElements").isEqualTo(1);
+		client.get().uri("/api/v1/brands?name=acme").exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.page.totalElements").isEqualTo(0);
+		client.get().uri("/api/v1/categories?name=hogar").exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.page.totalElements").isEqualTo(0);
+		verify(products, never()).findAllBy(any(Pageable.class));
+		verify(brands, never()).findAllBy(any(Pageable.class));
+		verify(categories, never()).findAllBy(any(Pageable.class));
+	}
+
+	@Test
+	void missingResourcesAreReportedAsNotFound() {
+		when(products.findById(anyString())).thenReturn(Mono.empty());
+		when(categories.findIdsByAncestors(anyString())).thenReturn(Flux.empty());
+
+		client.get().uri("/api/v1/products/unknown").exchange()
+				.expectStatus().isNotFound()
+				.expectBody().jsonPath("$.status").isEqualTo(404);
+		client.get().uri("/api/v1/products/categories?id=unknown").exchange()
+				.expectStatus().isNotFound();
+		client.get().uri("/api/v1/products/brand").exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void variantsAreStreamedAsNdjson() {
+		Money price = new Money(new BigDecimal("9.99"), Currency.getInstance("USD"));
+		List<Variant> all = IntStream.range(0, 1_000)
+				.mapToObj(i -> new Variant("v" + i, "p1", price, i, List.of(), Map.of()))
+				.toList();
+		when(products.existsById("p1")).thenReturn(Mono.just(true));
+		when(variants.findByProductIdValue(eq("p1"), any(Sort.class))).thenReturn(Flux.fromIterable(all));
+
+		List<String> lines = client.get().uri("/api/v1/products/p1/variants/stream").exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(String.class)
+				.getResponseBody()
+				.collectList()
+				.block();
+
+		assertThat(lines).hasSize(1_000);
+		assertThat(lines.get(0)).contains("\"id\":\"v0\"");
+	}
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.catalog;
+
+import com.ecommerce.catalog.sharedkernel.infrastructure.monitoring.FirstRequestListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupMetricsTests {
+
+	@Test
+	void onlyTheFirstHandledRequestIsRecorded() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		FirstRequestListener listener = new FirstRequestListener(registry);
+
+		listener.onRequestHandled(request("/api/v1/products"));
+		double first = registry.get(FirstRequestListener.METRIC).timeGauge().value(TimeUnit.MILLISECONDS);
+		listener.onRequestHandled(request("/api/v1/brands"));
+
+		long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+		assertThat(first).isPositive().isLessThanOrEqualTo(sinceJvmStart);
+		assertThat(registry.get(FirstRequestListener.METRIC).timeGauge().value(TimeUnit.MILLISECONDS)).isEqualTo(first);
+	}
+
+	private static ServletRequestHandledEvent request(String url) {
+		return new ServletRequestHandledEvent(new Object(), url, "127.0.0.1", "GET", "dispatcherServlet", null, null, 5, null, 200);
+	}
+}
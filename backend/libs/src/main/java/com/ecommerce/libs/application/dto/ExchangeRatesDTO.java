@@ -0,0 +1,29 @@
+package com.ecommerce.libs.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO con una publicación completa de tasas de cambio, tal como llega desde un archivo o un mensaje AMQP.
+ * @param base Código ISO de la moneda base.
+ * @param asOf Momento de publicación de las tasas.
+ * @param rates Unidades de cada moneda (por código ISO) equivalentes a una unidad de la moneda base.
+ */
+public record ExchangeRatesDTO(
+        @NotNull(message = "Base currency cannot be null.")
+        String base,
+
+        Instant asOf,
+
+        @NotEmpty(message = "Rates cannot be empty.")
+        Map<String, BigDecimal> rates
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.libs.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * DTO con el stock vigente de una variante, tal como lo publica el catálogo por AMQP cada vez que guarda la variante.
+ * @param variantId ID de la variante.
+ * @param stock Unidades en inventario.
+ * @param available Si la variante está disponible para la venta.
+ * @param version Versión de la variante; los consumidores descartan las publicaciones más viejas que la ya aplicada.
+ */
+public record VariantStockDTO(
+        @NotNull(message = "Variant ID cannot be null.")
+        String variantId,
+
+        @NotNull(message = "Stock cannot be null.")
+        @PositiveOrZero(message = "Stock cannot be less to zero.")
+        Integer stock,
+
+        Boolean available,
+
+        @NotNull(message = "Version cannot be null.")
+        Long version
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
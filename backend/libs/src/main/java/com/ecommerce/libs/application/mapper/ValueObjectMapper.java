@@ -1,6 +1,8 @@
 package com.ecommerce.libs.application.mapper;
 
 import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.MinorMoney;
 import com.ecommerce.libs.domain.vo.Money;
 import com.ecommerce.libs.domain.vo.NonBlankString;
 import com.ecommerce.libs.domain.vo.NonNegativeInteger;
@@ -55,7 +57,7 @@ public final class ValueObjectMapper {
         }
         try {
             // Valida que el código de moneda sea válido al intentar obtener la instancia
-            Currency currency = Currency.getInstance(dto.currencyCode());
+            Currency currency = Currencies.of(dto.currencyCode());
             // Llama al constructor del record Money (que valida amount/currency no nulos)
             return new Money(dto.amount(), currency);
         } catch (IllegalArgumentException e) {
@@ -63,4 +65,48 @@ public final class ValueObjectMapper {
             throw new MappingException("Código de moneda inválido en MoneyDTO: " + dto.currencyCode());
         }
     }
+
+    /**
+     * Convierte el VO MinorMoney (unidades menores) al DTO para la API, expresado en unidades mayores.
+     * @param money cantidad en unidades menores.
+     * @return Moneda dto convertida.
+     */
+    public MoneyDTO minorMoneyToMoneyDTO(MinorMoney money) {
+        if (money == null) return null;
+        return new MoneyDTO(money.toMajor(), money.currency().getCurrencyCode());
+    }
+
+    /**
+     * Convierte el MoneyDTO de la API al VO MinorMoney, redondeando a la escala de la moneda como lo hace {@link Money}.
+     * @param dto clase de DTO de la moneda.
+     * @return la cantidad en unidades menores.
+     */
+    public MinorMoney moneyDTOToMinorMoney(MoneyDTO dto) {
+        if (dto == null || dto.currencyCode() == null || dto.amount() == null) {
+            throw new IllegalArgumentException("Money DTO must have a non-null value.");
+        }
+        try {
+            return MinorMoney.ofMajor(dto.amount(), Currencies.of(dto.currencyCode()));
+        } catch (IllegalArgumentException e) {
+            throw new MappingException("Código de moneda inválido en MoneyDTO: " + dto.currencyCode());
+        }
+    }
+
+    /**
+     * Convierte el VO Money del dominio a su representación en unidades menores, sin pérdida.
+     * @param money Moneda entidad con todos sus datos (puede ser null).
+     * @return la cantidad en unidades menores, o null si money es null.
+     */
+    public MinorMoney moneyToMinorMoney(Money money) {
+        return money == null ? null : MinorMoney.fromMoney(money);
+    }
+
+    /**
+     * Convierte una cantidad en unidades menores al VO Money del dominio.
+     * @param money cantidad en unidades menores (puede ser null).
+     * @return la entidad de la moneda, o null si money es null.
+     */
+    public Money minorMoneyToMoney(MinorMoney money) {
+        return money == null ? null : money.toMoney();
+    }
 }
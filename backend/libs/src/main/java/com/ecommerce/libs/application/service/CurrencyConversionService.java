@@ -0,0 +1,110 @@
+package com.ecommerce.libs.application.service;
+
+import com.ecommerce.libs.application.dto.ExchangeRatesDTO;
+import com.ecommerce.libs.application.dto.MoneyDTO;
+import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import com.ecommerce.libs.domain.vo.Currencies;
+import com.ecommerce.libs.domain.vo.ExchangeRates;
+import com.ecommerce.libs.domain.vo.MinorMoney;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Servicio de conversión de precios entre monedas.
+ * Las conversiones se resuelven en memoria contra la instantánea vigente de {@link ExchangeRates};
+ * la instantánea se reemplaza atómicamente cuando llegan tasas nuevas, por lo que las lecturas nunca
+ * bloquean ni observan una tabla a medio actualizar.
+ */
+@Component
+public class CurrencyConversionService {
+    private static final Logger log = LoggerFactory.getLogger(CurrencyConversionService.class);
+    // --- Campos constantes ---
+    private static final String DEFAULT_BASE = "USD";
+    // --- Dependencias ---
+    private final ValueObjectMapper valueObjectMapper;
+    // --- Estado ---
+    private final AtomicReference<ExchangeRates> snapshot =
+            new AtomicReference<>(ExchangeRates.empty(Currencies.of(DEFAULT_BASE)));
+
+    /**
+     * Construye el servicio de conversión.
+     * @param valueObjectMapper el mapper común para convertir entre MoneyDTO y MinorMoney.
+     */
+    public CurrencyConversionService(ValueObjectMapper valueObjectMapper) {
+        this.valueObjectMapper = valueObjectMapper;
+    }
+
+    /**
+     * Reemplaza la tabla de tasas vigente.
+     * @param rates la nueva instantánea de tasas.
+     */
+    public void updateRates(ExchangeRates rates) {
+        ExchangeRates previous = snapshot.getAndSet(Objects.requireNonNull(rates, "Rates cannot be null."));
+        log.info("Tasas de cambio actualizadas: {} (anteriores: {})", rates, previous);
+    }
+
+    /**
+     * Reemplaza la tabla de tasas vigente a partir de su DTO.
+     * @param dto la publicación de tasas.
+     * @throws IllegalArgumentException si falta la publicación, su moneda base o sus tasas, o si algún código de moneda
+     * o tasa no es válido.
+     */
+    public void updateRates(ExchangeRatesDTO dto) {
+        if (dto == null || dto.base() == null || dto.base().isBlank()) {
+            throw new IllegalArgumentException("Exchange rates must have a base currency.");
+        }
+        if (dto.rates() == null || dto.rates().isEmpty()) {
+            throw new IllegalArgumentException("Exchange rates cannot be empty.");
+        }
+        Map<Currency, BigDecimal> rates = new HashMap<>();
+        dto.rates().forEach((code, rate) -> {
+            if (code == null) {
+                throw new IllegalArgumentException("Exchange rate currency code cannot be null.");
+            }
+            rates.put(Currencies.of(code), rate);
+        });
+        updateRates(new ExchangeRates(Currencies.of(dto.base()), dto.asOf(), rates));
+    }
+
+    /**
+     * Devuelve la instantánea de tasas vigente.
+     * @return la tabla de tasas actual.
+     */
+    public ExchangeRates currentRates() {
+        return snapshot.get();
+    }
+
+    /**
+     * Convierte una cantidad a la moneda destino.
+     * @param money la cantidad a convertir.
+     * @param target la moneda destino.
+     * @return la cantidad convertida.
+     * @throws IllegalArgumentException si no hay tasa disponible para la conversión.
+     */
+    public MinorMoney convert(MinorMoney money, Currency target) {
+        return snapshot.get().convert(money, target);
+    }
+
+    /**
+     * Convierte un precio de la API a la moneda destino.
+     * @param price el precio a convertir (puede ser null).
+     * @param currencyCode el código ISO de la moneda destino.
+     * @return el precio convertido, el mismo precio si ya está en esa moneda, o null si price es null.
+     * @throws IllegalArgumentException si el código no es válido o no hay tasa disponible.
+     */
+    public MoneyDTO convert(MoneyDTO price, String currencyCode) {
+        if (price == null || currencyCode.equals(price.currencyCode())) {
+            return price;
+        }
+        MinorMoney converted = convert(valueObjectMapper.moneyDTOToMinorMoney(price), Currencies.of(currencyCode));
+        return valueObjectMapper.minorMoneyToMoneyDTO(converted);
+    }
+}
@@ -3,11 +3,14 @@ package com.ecommerce.libs.application.util;
 import com.github.f4b6a3.ulid.Ulid;
 
 /*
- * Generador de ID únicos basado en la librería NanoID.
- * Proporciona ID cortos, seguros para URL y con baja probabilidad de colisión.
- * Es un componente de Spring para poder ser inyectado en los servicios.
+ * Generador de ID únicos basado en la especificación ULID.
+ * Proporciona ID cortos, seguros para URL, ordenables por fecha de creación y con baja probabilidad de colisión.
+ * Los ID se generan con una fábrica monótona compartida, por lo que son crecientes incluso dentro del mismo milisegundo.
  */
 public final class IdGenerator {
+    // --- Campos constantes ---
+    private static final MonotonicUlidFactory FACTORY = new MonotonicUlidFactory();
+
     /**
      * Constructor privado para evitar la instanciación de la clase IdGenerator.
      * Esta clase está diseñada para ser utilizada como una utilidad y no debe ser instanciada.
@@ -16,10 +19,40 @@ public final class IdGenerator {
 
     /**
      * Genera un identificador único basado en la especificación ULID.
-     * El ID generado está en minúsculas.
+     * El ID generado está en minúsculas y es monótono respecto a los generados previamente por este proceso.
      * @return  un identificador único, cadena en minúsculas.
      */
     public static String generateId() {
-        return Ulid.fast().toLowerCase();
+        return FACTORY.nextId();
+    }
+
+    /**
+     * Genera un identificador único ULID en su forma binaria de 16 bytes,
+     * pensada para almacenamiento compacto (ej.: subtipo binario de BSON) en lugar de la cadena de 26 caracteres.
+     * @return un identificador único de 16 bytes.
+     */
+    public static byte[] generateBinaryId() {
+        return FACTORY.nextBinaryId();
+    }
+
+    /**
+     * Convierte un identificador ULID en texto a su forma binaria de 16 bytes.
+     * @param id el identificador en texto (mayúsculas o minúsculas).
+     * @return el identificador en 16 bytes.
+     * @throws IllegalArgumentException si la cadena no es un ULID válido.
+     */
+    public static byte[] toBinary(String id) {
+        return Ulid.from(id).toBytes();
+    }
+
+    /**
+     * Convierte un identificador ULID binario de 16 bytes a su forma de texto en minúsculas.
+     * @param bytes el identificador en 16 bytes.
+     * @return el identificador en texto, en minúsculas.
+     * @throws IllegalArgumentException si el arreglo no tiene 16 bytes.
+     */
+    public static String fromBinary(byte[] bytes) {
+        Ulid ulid = Ulid.from(bytes);
+        return MonotonicUlidFactory.encode(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
     }
 }
@@ -0,0 +1,135 @@
+package com.ecommerce.libs.application.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Fábrica de ULIDs monótona y segura para hilos.
+ * Dentro de un mismo milisegundo (o si el reloj retrocede) el componente aleatorio del ULID anterior se incrementa
+ * en uno, de modo que los identificadores generados por un proceso siempre quedan ordenados según su creación.
+ * Eso mantiene las inserciones masivas al final de los índices B-tree de {@code _id}.
+ * La codificación Crockford Base32 se hace directamente desde los dos {@code long} del estado, sin objetos intermedios.
+ */
+public final class MonotonicUlidFactory {
+    // --- Campos constantes ---
+    private static final byte[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".getBytes(StandardCharsets.US_ASCII);
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL; // 16 bits aleatorios en el msb
+    // --- Dependencias ---
+    private final LongSupplier clock;
+    // --- Estado (protegido por this) ---
+    private long lastTime = -1L;
+    private long msb; // 48 bits de tiempo + 16 bits aleatorios
+    private long lsb; // 64 bits aleatorios
+
+    /**
+     * Construye una fábrica basada en el reloj del sistema.
+     */
+    public MonotonicUlidFactory() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Construye una fábrica con un reloj arbitrario (útil para pruebas y benchmarks).
+     * @param clock proveedor del tiempo actual en milisegundos desde la época Unix.
+     */
+    public MonotonicUlidFactory(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Genera el siguiente ULID como cadena de 26 caracteres en minúsculas.
+     * @return el identificador generado.
+     */
+    public String nextId() {
+        long high;
+        long low;
+        synchronized (this) {
+            advance();
+            high = msb;
+            low = lsb;
+        }
+        return encode(high, low);
+    }
+
+    /**
+     * Genera el siguiente ULID en su representación binaria de 16 bytes (big-endian).
+     * @return el identificador generado.
+     */
+    public byte[] nextBinaryId() {
+        long high;
+        long low;
+        synchronized (this) {
+            advance();
+            high = msb;
+            low = lsb;
+        }
+        return toBytes(high, low);
+    }
+
+    /**
+     * Avanza el estado: nuevo componente aleatorio si cambió el milisegundo, incremento en caso contrario.
+     * Si el componente aleatorio de 80 bits se desborda, se toma prestado el milisegundo siguiente.
+     */
+    private void advance() {
+        long now = clock.getAsLong();
+        if (now > lastTime) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            lastTime = now;
+            msb = (now << 16) | (random.nextLong() & RANDOM_HIGH_MASK);
+            lsb = random.nextLong();
+            return;
+        }
+        lsb++;
+        if (lsb == 0L) {
+            if ((msb & RANDOM_HIGH_MASK) == RANDOM_HIGH_MASK) {
+                lastTime++;
+                msb = lastTime << 16;
+            } else {
+                msb++;
+            }
+        }
+    }
+
+    /**
+     * Codifica los 128 bits en Crockford Base32 (minúsculas).
+     * @param msb los 64 bits más significativos.
+     * @param lsb los 64 bits menos significativos.
+     * @return la cadena de 26 caracteres.
+     */
+    static String encode(long msb, long lsb) {
+        byte[] chars = new byte[26];
+        // Los 10 primeros caracteres codifican los 48 bits de tiempo (más 2 bits de relleno a la izquierda).
+        long time = msb >>> 16;
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (time & 0x1F)];
+            time >>>= 5;
+        }
+        // Los 16 restantes codifican los 80 bits aleatorios: 16 del msb y 64 del lsb.
+        long randomHigh = msb & RANDOM_HIGH_MASK;
+        long randomLow = lsb;
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = ALPHABET[(int) (randomLow & 0x1F)];
+            randomLow = (randomLow >>> 5) | ((randomHigh & 0x1F) << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Escribe los 128 bits en un arreglo de 16 bytes big-endian.
+     * @param msb los 64 bits más significativos.
+     * @param lsb los 64 bits menos significativos.
+     * @return el arreglo de bytes.
+     */
+    static byte[] toBytes(long msb, long lsb) {
+        byte[] bytes = new byte[16];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) msb;
+            msb >>>= 8;
+            bytes[i + 8] = (byte) lsb;
+            lsb >>>= 8;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.libs.domain.vo;
+
+import java.util.Currency;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utilidad para la resolución internada de monedas ISO 4217.
+ * Mantiene una caché de las instancias {@link Currency} y de sus dígitos decimales,
+ * de modo que los caminos calientes (mapeo de precios, totales) no repitan la validación
+ * del código ni el cálculo de potencias de diez en cada conversión.
+ */
+public final class Currencies {
+    // --- Campos constantes ---
+    private static final Map<String, Currency> BY_CODE = new ConcurrentHashMap<>();
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L
+    };
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase utilitaria.
+     */
+    private Currencies() {}
+
+    /**
+     * Obtiene la instancia {@link Currency} asociada a un código ISO 4217, reutilizando las ya resueltas.
+     * @param currencyCode el código ISO (ej: "COP", "USD").
+     * @return la instancia única de la moneda.
+     * @throws NullPointerException si el código es nulo.
+     * @throws IllegalArgumentException si el código de moneda no es válido.
+     */
+    public static Currency of(String currencyCode) {
+        Objects.requireNonNull(currencyCode, "Currency code cannot be null.");
+        Currency currency = BY_CODE.get(currencyCode);
+        if (currency == null) {
+            currency = Currency.getInstance(currencyCode);
+            BY_CODE.putIfAbsent(currencyCode, currency);
+        }
+        return currency;
+    }
+
+    /**
+     * Devuelve el número de dígitos decimales de la moneda.
+     * Las monedas sin unidades menores definidas (ej.: "XXX") se tratan como de cero decimales.
+     * @param currency la moneda.
+     * @return los dígitos decimales, nunca negativos.
+     */
+    public static int fractionDigits(Currency currency) {
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+
+    /**
+     * Devuelve el factor entre la unidad mayor y la unidad menor de la moneda (ej.: 100 para USD).
+     * @param currency la moneda.
+     * @return diez elevado a los dígitos decimales de la moneda.
+     */
+    public static long minorUnitsPerMajor(Currency currency) {
+        return POWERS_OF_TEN[fractionDigits(currency)];
+    }
+}
@@ -0,0 +1,131 @@
+package com.ecommerce.libs.domain.vo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tabla inmutable de tasas de cambio respecto a una moneda base.
+ * Al construirse precalcula los factores cruzados entre todas las monedas ya expresados en unidades menores,
+ * de modo que una conversión se reduce a una búsqueda en un mapa y una multiplicación de {@link MinorMoney}.
+ * Está pensada para ser publicada como una instantánea completa y reemplazada atómicamente, nunca modificada.
+ */
+public final class ExchangeRates implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    // --- Campos constantes ---
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+    // --- Atributos básicos ---
+    private final Currency base;
+    private final Instant asOf;
+    private final Map<Currency, BigDecimal> rates;
+    private final Map<Currency, Map<Currency, BigDecimal>> minorFactors;
+
+    /**
+     * Construye una tabla de tasas de cambio.
+     * @param base la moneda base de las tasas.
+     * @param asOf el momento de publicación de las tasas (puede ser nulo).
+     * @param rates unidades de cada moneda equivalentes a una unidad de la moneda base; deben ser positivas.
+     * @throws IllegalArgumentException si alguna tasa no es positiva.
+     */
+    public ExchangeRates(Currency base, Instant asOf, Map<Currency, BigDecimal> rates) {
+        this.base = Objects.requireNonNull(base, "Base currency cannot be null.");
+        this.asOf = asOf;
+        Map<Currency, BigDecimal> copy = new HashMap<>(Objects.requireNonNull(rates, "Rates cannot be null."));
+        copy.put(base, BigDecimal.ONE);
+        copy.forEach((currency, rate) -> {
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Exchange rate must be positive for " + currency);
+            }
+        });
+        this.rates = Collections.unmodifiableMap(copy);
+        this.minorFactors = precomputeMinorFactors(copy);
+    }
+
+    /**
+     * Crea una tabla vacía en la que solo es posible "convertir" a la propia moneda base.
+     * @param base la moneda base.
+     * @return una tabla sin tasas adicionales.
+     */
+    public static ExchangeRates empty(Currency base) {
+        return new ExchangeRates(base, null, Map.of());
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Convierte una cantidad a la moneda destino.
+     * @param money la cantidad a convertir.
+     * @param target la moneda destino.
+     * @return la cantidad equivalente en la moneda destino, redondeada a su unidad menor.
+     * @throws IllegalArgumentException si no hay tasa para alguna de las monedas.
+     */
+    public MinorMoney convert(MinorMoney money, Currency target) {
+        Objects.requireNonNull(money, "Money cannot be null.");
+        Objects.requireNonNull(target, "Target currency cannot be null.");
+        if (money.currency() == target) {
+            return money;
+        }
+        Map<Currency, BigDecimal> fromSource = minorFactors.get(money.currency());
+        BigDecimal factor = fromSource == null ? null : fromSource.get(target);
+        if (factor == null) {
+            throw new IllegalArgumentException(
+                    "No exchange rate available from " + money.currency() + " to " + target);
+        }
+        return new MinorMoney(money.multiply(factor).amount(), target);
+    }
+
+    /**
+     * Indica si la tabla contiene una tasa para la moneda dada.
+     * @param currency la moneda a comprobar.
+     * @return true si es posible convertir desde/hacia esa moneda.
+     */
+    public boolean supports(Currency currency) {
+        return rates.containsKey(currency);
+    }
+
+    /**
+     * Calcula, para cada par de monedas, el factor que convierte unidades menores de la primera en unidades menores de la segunda.
+     * @param rates tasas respecto a la moneda base, incluyendo la propia base.
+     * @return mapa inmutable de factores por moneda origen y destino.
+     */
+    private static Map<Currency, Map<Currency, BigDecimal>> precomputeMinorFactors(Map<Currency, BigDecimal> rates) {
+        Map<Currency, Map<Currency, BigDecimal>> factors = new HashMap<>();
+        for (Map.Entry<Currency, BigDecimal> from : rates.entrySet()) {
+            Map<Currency, BigDecimal> row = new HashMap<>();
+            for (Map.Entry<Currency, BigDecimal> to : rates.entrySet()) {
+                int scaleShift = Currencies.fractionDigits(to.getKey()) - Currencies.fractionDigits(from.getKey());
+                BigDecimal factor = to.getValue()
+                        .divide(from.getValue(), PRECISION)
+                        .scaleByPowerOfTen(scaleShift);
+                row.put(to.getKey(), factor);
+            }
+            factors.put(from.getKey(), Collections.unmodifiableMap(row));
+        }
+        return Collections.unmodifiableMap(factors);
+    }
+
+    // --- Getters ---
+
+    public Currency getBase() { return base; }
+    public Instant getAsOf() { return asOf; }
+    public Map<Currency, BigDecimal> getRates() { return rates; }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public String toString() {
+        return "ExchangeRates{" +
+                "base=" + base +
+                ", asOf=" + asOf +
+                ", currencies=" + rates.size() +
+                '}';
+    }
+}
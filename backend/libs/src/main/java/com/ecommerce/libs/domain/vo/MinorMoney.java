@@ -0,0 +1,204 @@
+package com.ecommerce.libs.domain.vo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Representa una cantidad monetaria expresada en unidades menores de su moneda (ej.: centavos).
+ * Es la contraparte primitiva de {@link Money} para los caminos calientes de precios (totales de carrito,
+ * consultas por rango de precio): las operaciones trabajan sobre un {@code long} sin reescalar un {@link BigDecimal},
+ * y lanzan {@link ArithmeticException} en caso de desbordamiento en lugar de truncar el resultado.
+ * @param amount la cantidad en unidades menores de la moneda.
+ * @param currency la moneda de la cantidad.
+ */
+public record MinorMoney(long amount, Currency currency) implements Serializable, Comparable<MinorMoney> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    // --- Campos constantes ---
+    private static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+
+    /**
+     * Constructor canónico. Valida que la moneda no sea nula.
+     */
+    public MinorMoney {
+        Objects.requireNonNull(currency, "Currency cannot be null.");
+    }
+
+    /**
+     * Crea una instancia de MinorMoney con cantidad cero para una moneda dada.
+     * @param currency La moneda.
+     * @return MinorMoney con valor cero.
+     */
+    public static MinorMoney zero(Currency currency) {
+        return new MinorMoney(0L, currency);
+    }
+
+    /**
+     * Crea una instancia de MinorMoney a partir de un código de moneda ISO 4217.
+     * @param amount La cantidad en unidades menores.
+     * @param currencyCode El código ISO (ej: "COP", "USD").
+     * @return Nueva instancia de MinorMoney.
+     * @throws IllegalArgumentException si el código de moneda no es válido.
+     */
+    public static MinorMoney of(long amount, String currencyCode) {
+        return new MinorMoney(amount, Currencies.of(currencyCode));
+    }
+
+    /**
+     * Convierte una cantidad expresada en unidades mayores a unidades menores,
+     * redondeando a la escala de la moneda con el mismo criterio que {@link Money}.
+     * @param amount La cantidad en unidades mayores (ej.: 12.50).
+     * @param currency La moneda.
+     * @return Nueva instancia de MinorMoney.
+     * @throws ArithmeticException si la cantidad no cabe en un {@code long}.
+     */
+    public static MinorMoney ofMajor(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "Value cannot be null.");
+        Objects.requireNonNull(currency, "Currency cannot be null.");
+        long minor = amount
+                .setScale(Currencies.fractionDigits(currency), DEFAULT_ROUNDING)
+                .unscaledValue()
+                .longValueExact();
+        return new MinorMoney(minor, currency);
+    }
+
+    /**
+     * Convierte un {@link Money} a su representación en unidades menores sin pérdida,
+     * ya que {@code Money} mantiene su cantidad en la escala de la moneda.
+     * @param money El Money a convertir.
+     * @return Nueva instancia de MinorMoney.
+     */
+    public static MinorMoney fromMoney(Money money) {
+        Objects.requireNonNull(money, "Money cannot be null.");
+        return ofMajor(money.amount(), money.currency());
+    }
+
+    /**
+     * Convierte esta cantidad a un {@link Money} equivalente.
+     * @return Nueva instancia de Money con la cantidad en unidades mayores.
+     */
+    public Money toMoney() {
+        return new Money(toMajor(), currency);
+    }
+
+    /**
+     * Devuelve la cantidad en unidades mayores con la escala de la moneda.
+     * @return la cantidad como {@link BigDecimal} (ej.: 1250 centavos -> 12.50).
+     */
+    public BigDecimal toMajor() {
+        return BigDecimal.valueOf(amount, Currencies.fractionDigits(currency));
+    }
+
+    // --- Métodos aritméticos ---
+
+    /**
+     * Suma otro objeto MinorMoney a este. Lanza excepción si las monedas no coinciden.
+     * @param other El otro MinorMoney a sumar.
+     * @return Un nuevo objeto MinorMoney con el resultado de la suma.
+     * @throws IllegalArgumentException si las monedas son diferentes.
+     * @throws ArithmeticException si el resultado desborda un {@code long}.
+     */
+    public MinorMoney add(MinorMoney other) {
+        requireSameCurrency(other);
+        return new MinorMoney(Math.addExact(this.amount, other.amount), this.currency);
+    }
+
+    /**
+     * Resta otro objeto MinorMoney de este. Lanza excepción si las monedas no coinciden.
+     * @param other El otro MinorMoney a restar.
+     * @return Un nuevo objeto MinorMoney con el resultado de la resta.
+     * @throws IllegalArgumentException si las monedas son diferentes.
+     * @throws ArithmeticException si el resultado desborda un {@code long}.
+     */
+    public MinorMoney subtract(MinorMoney other) {
+        requireSameCurrency(other);
+        return new MinorMoney(Math.subtractExact(this.amount, other.amount), this.currency);
+    }
+
+    /**
+     * Multiplica la cantidad por un multiplicador entero (ej.: cantidad de unidades de una línea).
+     * @param multiplier el valor por el que se multiplicará la cantidad.
+     * @return una nueva instancia de {@code MinorMoney} con el resultado, en la misma moneda.
+     * @throws ArithmeticException si el resultado desborda un {@code long}.
+     */
+    public MinorMoney multiply(long multiplier) {
+        return new MinorMoney(Math.multiplyExact(this.amount, multiplier), this.currency);
+    }
+
+    /**
+     * Multiplica la cantidad por un factor decimal, redondeando a la unidad menor.
+     * @param multiplier el factor {@code BigDecimal} por el que se multiplicará la cantidad.
+     * @return una nueva instancia de {@code MinorMoney} con el resultado, en la misma moneda.
+     * @throws ArithmeticException si el resultado no cabe en un {@code long}.
+     */
+    public MinorMoney multiply(BigDecimal multiplier) {
+        long result = BigDecimal.valueOf(this.amount)
+                .multiply(multiplier)
+                .setScale(0, DEFAULT_ROUNDING)
+                .longValueExact();
+        return new MinorMoney(result, this.currency);
+    }
+
+    // --- Métodos comparables ---
+
+    /**
+     * Determina si la cantidad monetaria es cero.
+     * @return {@code true} si la cantidad es cero; {@code false} en caso contrario.
+     */
+    public boolean isZero() {
+        return this.amount == 0L;
+    }
+
+    /**
+     * Determina si la cantidad monetaria es positiva.
+     * @return true si la cantidad es mayor que cero, false en caso contrario.
+     */
+    public boolean isPositive() {
+        return this.amount > 0L;
+    }
+
+    /**
+     * Compara esta cantidad con otra de la misma moneda.
+     * @param other La otra instancia con la que comparar.
+     * @return {@code true} si esta cantidad es mayor que la dada; {@code false} en caso contrario.
+     * @throws IllegalArgumentException si las monedas son diferentes.
+     */
+    public boolean isGreaterThan(MinorMoney other) {
+        requireSameCurrency(other);
+        return this.amount > other.amount;
+    }
+
+    @Override
+    public int compareTo(MinorMoney other) {
+        requireSameCurrency(other);
+        return Long.compare(this.amount, other.amount);
+    }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Asegura que la instancia dada tiene la misma moneda que la instancia actual.
+     * @param other La otra instancia para comprobar la igualdad de divisas.
+     * @throws NullPointerException si la instancia proporcionada es nula.
+     * @throws IllegalArgumentException si las monedas de las dos instancias no coinciden.
+     */
+    private void requireSameCurrency(MinorMoney other) {
+        Objects.requireNonNull(other);
+        if (this.currency != other.currency) {
+            throw new IllegalArgumentException(
+                    "Cannot perform operation on Money with different currencies: "
+                            + this.currency + " and " + other.currency);
+        }
+    }
+
+    // --- Métodos heredados ---
+
+    @Override
+    public String toString() {
+        return toMajor().toPlainString() + " " + currency.getCurrencyCode();
+    }
+}
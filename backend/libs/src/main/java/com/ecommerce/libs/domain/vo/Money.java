@@ -44,7 +44,7 @@ public record Money(BigDecimal amount, Currency currency) implements Serializabl
      * @throws IllegalArgumentException si el código de moneda no es válido.
      */
     public static Money of(BigDecimal amount, String currencyCode) {
-        return new Money(amount, Currency.getInstance(currencyCode));
+        return new Money(amount, Currencies.of(currencyCode));
     }
 
     // --- Métodos aritméticos ---
@@ -0,0 +1,37 @@
+package com.ecommerce.libs.application.service;
+
+import com.ecommerce.libs.application.dto.ExchangeRatesDTO;
+import com.ecommerce.libs.application.mapper.ValueObjectMapper;
+import com.ecommerce.libs.domain.vo.Currencies;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyConversionServiceTest {
+    private final CurrencyConversionService service = new CurrencyConversionService(new ValueObjectMapper());
+
+    @Test
+    void replacesTheRatesFromAPublication() {
+        service.updateRates(new ExchangeRatesDTO("USD", null, Map.of("COP", new BigDecimal("4000"))));
+
+        assertThat(service.currentRates().getRates()).containsKey(Currencies.of("COP"));
+    }
+
+    @Test
+    void rejectsIncompletePublicationsWithoutChangingTheRates() {
+        service.updateRates(new ExchangeRatesDTO("USD", null, Map.of("COP", new BigDecimal("4000"))));
+
+        assertThatThrownBy(() -> service.updateRates((ExchangeRatesDTO) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.updateRates(new ExchangeRatesDTO(null, null, Map.of("EUR", BigDecimal.ONE))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.updateRates(new ExchangeRatesDTO("USD", null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.updateRates(new ExchangeRatesDTO("USD", null, Map.of("EUR", BigDecimal.ZERO))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.currentRates().getRates()).containsKey(Currencies.of("COP"));
+    }
+}
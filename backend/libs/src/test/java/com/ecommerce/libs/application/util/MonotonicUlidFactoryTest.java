@@ -0,0 +1,44 @@
+package com.ecommerce.libs.application.util;
+
+import com.github.f4b6a3.ulid.Ulid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonotonicUlidFactoryTest {
+
+    @Test
+    void idsAreStrictlyIncreasingWithinTheSameMillisecond() {
+        MonotonicUlidFactory factory = new MonotonicUlidFactory(() -> 1_700_000_000_000L);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(factory.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void encodingMatchesTheUlidSpecification() {
+        MonotonicUlidFactory factory = new MonotonicUlidFactory();
+        for (int i = 0; i < 1_000; i++) {
+            String id = factory.nextId();
+            Ulid parsed = Ulid.from(id);
+
+            assertThat(id).hasSize(26).isEqualTo(parsed.toLowerCase());
+        }
+    }
+
+    @Test
+    void binaryFormRoundTrips() {
+        String id = IdGenerator.generateId();
+        byte[] binary = IdGenerator.toBinary(id);
+
+        assertThat(binary).hasSize(16);
+        assertThat(IdGenerator.fromBinary(binary)).isEqualTo(id);
+        assertThat(IdGenerator.fromBinary(IdGenerator.generateBinaryId())).hasSize(26);
+    }
+}
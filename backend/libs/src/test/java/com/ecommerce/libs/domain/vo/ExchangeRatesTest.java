@@ -0,0 +1,38 @@
+package com.ecommerce.libs.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExchangeRatesTest {
+    private final ExchangeRates rates = new ExchangeRates(
+            Currencies.of("USD"),
+            Instant.parse("2025-01-01T00:00:00Z"),
+            Map.of(Currencies.of("COP"), new BigDecimal("4000"), Currencies.of("JPY"), new BigDecimal("150")));
+
+    @Test
+    void convertsBetweenCurrenciesWithDifferentMinorUnits() {
+        MinorMoney tenDollars = MinorMoney.of(1000L, "USD");
+
+        assertThat(rates.convert(tenDollars, Currencies.of("COP"))).isEqualTo(MinorMoney.of(4_000_000L, "COP"));
+        assertThat(rates.convert(tenDollars, Currencies.of("JPY"))).isEqualTo(MinorMoney.of(1500L, "JPY"));
+    }
+
+    @Test
+    void convertsThroughTheBaseCurrency() {
+        MinorMoney yen = MinorMoney.of(1500L, "JPY");
+
+        assertThat(rates.convert(yen, Currencies.of("COP"))).isEqualTo(MinorMoney.of(4_000_000L, "COP"));
+    }
+
+    @Test
+    void rejectsUnknownCurrencies() {
+        assertThatThrownBy(() -> rates.convert(MinorMoney.of(100L, "USD"), Currencies.of("EUR")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.libs.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MinorMoneyTest {
+
+    @Test
+    void convertsToAndFromMoneyWithoutLoss() {
+        Money money = Money.of(new BigDecimal("12.345"), "USD");
+        MinorMoney minor = MinorMoney.fromMoney(money);
+
+        assertThat(minor.amount()).isEqualTo(1235L);
+        assertThat(minor.toMoney()).isEqualTo(money);
+    }
+
+    @Test
+    void handlesCurrenciesWithoutMinorUnits() {
+        MinorMoney minor = MinorMoney.ofMajor(new BigDecimal("1500"), Currency.getInstance("JPY"));
+
+        assertThat(minor.amount()).isEqualTo(1500L);
+        assertThat(minor.toMajor()).isEqualByComparingTo("1500");
+    }
+
+    @Test
+    void arithmeticIsOverflowChecked() {
+        MinorMoney max = MinorMoney.of(Long.MAX_VALUE, "USD");
+
+        assertThatThrownBy(() -> max.add(MinorMoney.of(1L, "USD"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2L)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsMixedCurrencies() {
+        assertThatThrownBy(() -> MinorMoney.of(100L, "USD").add(MinorMoney.of(100L, "EUR")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void internsCurrencyLookups() {
+        assertThat(Currencies.of("COP")).isSameAs(Currencies.of("COP"));
+        assertThat(Currencies.minorUnitsPerMajor(Currencies.of("COP"))).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.loadtest;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import de.flapdoodle.embed.mongo.commands.MongodArguments;
+import de.flapdoodle.embed.mongo.config.Storage;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import de.flapdoodle.reverse.transitions.Start;
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * MongoDB embebido para las pruebas de carga, descargado y arrancado por flapdoodle en un puerto libre.
+ * Evita depender de un clúster compartido; los datos se pierden al cerrar.
+ * <p>
+ * Arranca como un replica set de un solo nodo, porque el consumidor de change streams del servicio
+ * ({@code ChangeStreamWatcher}) no funciona contra un servidor standalone.
+ */
+public final class EmbeddedMongo implements AutoCloseable {
+    // --- Campos constantes ---
+    private static final String REPLICA_SET = "rs0";
+    private static final int OPLOG_SIZE_MB = 512;
+    private static final long PRIMARY_TIMEOUT_MILLIS = 30_000;
+    // --- Estado ---
+    private final TransitionWalker.ReachedState<RunningMongodProcess> process;
+
+    private EmbeddedMongo(TransitionWalker.ReachedState<RunningMongodProcess> process) {
+        this.process = process;
+    }
+
+    /**
+     * Arranca una instancia de MongoDB 7.0 como replica set de un nodo y espera a que sea primaria.
+     * @return la instancia en ejecución.
+     * @throws IllegalStateException si la instancia no llega a ser primaria a tiempo.
+     */
+    public static EmbeddedMongo start() {
+        EmbeddedMongo mongo = new EmbeddedMongo(Mongod.instance()
+                .withMongodArguments(Start.to(MongodArguments.class).initializedWith(MongodArguments.defaults()
+                        .withReplication(Storage.of(REPLICA_SET, OPLOG_SIZE_MB))))
+                .start(Version.Main.V7_0));
+        try {
+            mongo.initiateReplicaSet();
+        } catch (RuntimeException e) {
+            mongo.close();
+            throw e;
+        }
+        return mongo;
+    }
+
+    /**
+     * @return la URI de conexión al replica set.
+     */
+    public String uri() {
+        return "mongodb://" + address() + "/?replicaSet=" + REPLICA_SET;
+    }
+
+    @Override
+    public void close() {
+        process.close();
+    }
+
+    // --- Métodos auxiliares ---
+
+    private String address() {
+        return process.current().getServerAddress().toString();
+    }
+
+    /**
+     * Inicia el replica set con este único nodo y espera a que sea elegido primario. La conexión es directa porque
+     * antes de {@code replSetInitiate} el nodo todavía no pertenece a ningún replica set.
+     */
+    private void initiateReplicaSet() {
+        try (MongoClient client = MongoClients.create("mongodb://" + address() + "/?directConnection=true")) {
+            MongoDatabase admin = client.getDatabase("admin");
+            admin.runCommand(new Document("replSetInitiate", new Document("_id", REPLICA_SET)
+                    .append("members", List.of(new Document("_id", 0).append("host", address())))));
+            long deadline = System.currentTimeMillis() + PRIMARY_TIMEOUT_MILLIS;
+            while (!admin.runCommand(new Document("hello", 1)).getBoolean("isWritablePrimary", false)) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("El replica set " + REPLICA_SET + " no eligió primario a tiempo");
+                }
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido mientras se iniciaba el replica set", e);
+        }
+    }
+}
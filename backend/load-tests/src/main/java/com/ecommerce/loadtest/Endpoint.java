@@ -0,0 +1,129 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.datagen.CatalogGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Endpoints de {@code ProductController} ejercitados por la carga, con su peso relativo dentro de las lecturas
+ * (o de las escrituras) y la construcción de una petición aleatoria sobre el catálogo sintético.
+ * Los IDs se recalculan desde el generador determinista, sin listas en memoria.
+ */
+public enum Endpoint {
+    GET_PRODUCT("GET /products/{id}", false, 25) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            return get(baseUrl + "/products/" + catalog.productId(random.nextLong(catalog.shape().products())));
+        }
+    },
+    LIST_PRODUCTS("GET /products", false, 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            return get(baseUrl + "/products?page=" + random.nextInt(50) + "&size=20");
+        }
+    },
+    SEARCH_BY_NAME("GET /products?name=", false, 15) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            String term = URLEncoder.encode(pick(catalog.searchTerms(), random), StandardCharsets.UTF_8);
+            return get(baseUrl + "/products?name=" + term + "&size=20");
+        }
+    },
+    SEARCH_BY_BRAND("GET /products/brand?id=", false, 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            String brandId = catalog.brandId(random.nextInt(catalog.shape().brands()));
+            return get(baseUrl + "/products/brand?id=" + brandId + "&size=20");
+        }
+    },
+    SEARCH_BY_CATEGORY("GET /products/categories?id=", false, 15) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            String categoryId = catalog.categoryId(random.nextLong(catalog.categoryTree().size()));
+            return get(baseUrl + "/products/categories?id=" + categoryId + "&size=20");
+        }
+    },
+    PRODUCT_VARIANTS("GET /products/{id}/variants", false, 15) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            String productId = catalog.productId(random.nextLong(catalog.shape().products()));
+            return get(baseUrl + "/products/" + productId + "/variants");
+        }
+    },
+    GET_VARIANT("GET /products/variants/{id}", false, 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            return get(baseUrl + "/products/variants/" + catalog.variantId(random.nextLong(catalog.shape().products()),
+                    random.nextInt(catalog.shape().variantsPerProduct())));
+        }
+    },
+    CREATE_VARIANT("POST /products/{id}/variants", true, 1) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json) {
+            long index = random.nextLong(catalog.shape().products());
+            Map<String, Object> body = Map.of(
+                    "price", Map.of("amount", 10 + random.nextInt(1_000), "currencyCode", "USD"),
+                    "stock", random.nextInt(100),
+                    "attributes", catalog.productTemplate(index).variantAttributes(random));
+            return post(baseUrl + "/products/" + catalog.productId(index) + "/variants", json, body);
+        }
+    };
+
+    // --- Atributos ---
+    private final String label;
+    private final boolean write;
+    private final int weight;
+
+    Endpoint(String label, boolean write, int weight) {
+        this.label = label;
+        this.write = write;
+        this.weight = weight;
+    }
+
+    // --- Getters ---
+
+    public String label() { return label; }
+    public boolean isWrite() { return write; }
+    public int weight() { return weight; }
+
+    // --- Métodos funcionales ---
+
+    /**
+     * Construye una petición aleatoria para este endpoint.
+     * @param baseUrl la URL base del servicio, incluyendo el context-path.
+     * @param catalog el generador del catálogo cargado, usado para recalcular IDs y atributos.
+     * @param random la fuente de aleatoriedad del cliente.
+     * @param json el serializador de los cuerpos de petición.
+     * @return el constructor de la petición.
+     */
+    abstract HttpRequest.Builder request(String baseUrl, CatalogGenerator catalog, SplittableRandom random, ObjectMapper json);
+
+    // --- Métodos auxiliares ---
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().header("Accept", "application/json");
+    }
+
+    private static HttpRequest.Builder post(String url, ObjectMapper json, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar la petición", e);
+        }
+    }
+}
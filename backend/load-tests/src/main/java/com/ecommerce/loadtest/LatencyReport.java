@@ -0,0 +1,136 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula la latencia (HdrHistogram, microsegundos) y los errores de cada endpoint durante la medición,
+ * y produce el reporte con RPS y percentiles p50/p90/p99 por endpoint.
+ * <p>
+ * Los percentiles y las RPS solo cuentan las respuestas 2xx: las respuestas de error se cuentan aparte, por código
+ * de estado, para que un escenario que falla (p. ej. una validación 400) no se reporte como latencia del camino feliz.
+ */
+public class LatencyReport {
+    // --- Campos constantes ---
+    /**
+     * Código de estado con el que se registran las peticiones que no obtuvieron respuesta (error de E/S).
+     */
+    public static final int NO_RESPONSE = 0;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    // --- Estado ---
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Map<Integer, LongAdder>> errors = new EnumMap<>(Endpoint.class);
+
+    public LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Registra una petición finalizada. Solo las respuestas 2xx entran en el histograma de latencia.
+     * @param endpoint el endpoint invocado.
+     * @param nanos la latencia observada.
+     * @param status el código de estado de la respuesta, o {@link #NO_RESPONSE} si no la hubo.
+     */
+    public void record(Endpoint endpoint, long nanos, int status) {
+        if (status / 100 == 2) {
+            latencies.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        } else {
+            errors.get(endpoint).computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Calcula el resumen de la medición.
+     * @param elapsed la duración real de la medición.
+     * @return una fila por endpoint invocado.
+     */
+    public List<EndpointStats> summarize(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<EndpointStats> rows = new ArrayList<>();
+        latencies.forEach((endpoint, histogram) -> {
+            long count = histogram.getTotalCount();
+            Map<Integer, Long> errorsByStatus = new TreeMap<>();
+            errors.get(endpoint).forEach((status, counter) -> errorsByStatus.put(status, counter.sum()));
+            long failed = errorsByStatus.values().stream().mapToLong(Long::longValue).sum();
+            if (count + failed > 0) {
+                rows.add(new EndpointStats(endpoint.label(), count, failed, errorsByStatus, count / seconds,
+                        histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                        histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Selecciona los endpoints cuya proporción de errores supera el máximo tolerado.
+     * @param rows el resumen.
+     * @param maxErrorRate la proporción máxima de errores (entre 0 y 1).
+     * @return los endpoints que la superan.
+     */
+    public static List<EndpointStats> failing(List<EndpointStats> rows, double maxErrorRate) {
+        return rows.stream().filter(row -> row.errorRate() > maxErrorRate).toList();
+    }
+
+    /**
+     * Imprime el resumen como tabla.
+     * @param rows el resumen.
+     * @param out el flujo de salida.
+     */
+    public static void print(List<EndpointStats> rows, PrintStream out) {
+        out.printf("%-32s %9s %7s %9s %9s %9s %9s %9s  %s%n",
+                "Endpoint", "Count", "Errors", "RPS", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "Errors by status");
+        for (EndpointStats row : rows) {
+            out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n", row.endpoint(), row.count(), row.errors(),
+                    row.rps(), row.p50Millis(), row.p90Millis(), row.p99Millis(), row.maxMillis(),
+                    row.errorsByStatus().isEmpty() ? "" : row.errorsByStatus());
+        }
+    }
+
+    /**
+     * Escribe el resumen y las opciones de la ejecución en JSON.
+     * @param options las opciones de la ejecución.
+     * @param rows el resumen.
+     * @param json el serializador.
+     * @throws IOException si no se puede escribir el archivo.
+     */
+    public static void write(LoadTestOptions options, List<EndpointStats> rows, ObjectMapper json) throws IOException {
+        Path file = options.report().toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        json.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), Map.of("options", options, "endpoints", rows));
+    }
+
+    /**
+     * Resultado de un endpoint. {@code count}, {@code rps} y los percentiles corresponden solo a las respuestas 2xx;
+     * {@code errorsByStatus} usa {@link #NO_RESPONSE} para las peticiones sin respuesta.
+     */
+    public record EndpointStats(String endpoint, long count, long errors, Map<Integer, Long> errorsByStatus, double rps,
+                                double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+        /**
+         * @return la proporción de peticiones fallidas sobre el total enviado.
+         */
+        public double errorRate() {
+            return errors == 0 ? 0 : (double) errors / (count + errors);
+        }
+    }
+}
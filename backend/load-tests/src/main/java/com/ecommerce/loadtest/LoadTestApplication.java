@@ -0,0 +1,113 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.catalog.CatalogApplication;
+import com.ecommerce.catalog.sharedkernel.infrastructure.persistence.migration.IndexMigrator;
+import com.ecommerce.datagen.CatalogGenerator;
+import com.ecommerce.datagen.sink.EntityDocumentWriter;
+import com.ecommerce.datagen.sink.MongoBulkSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Punto de entrada de las pruebas de carga de catalog-service.
+ * Arranca un MongoDB embebido como replica set (o usa {@code --mongo-uri}), levanta el servicio en un puerto libre
+ * dentro del mismo proceso, con el consumidor del change stream activo, carga un catálogo sintético, ejecuta una fase
+ * de calentamiento y otra de medición, e imprime la latencia p50/p90/p99 y las RPS de cada endpoint. El reporte
+ * también se escribe en JSON (ver {@code --report}).
+ * Si algún endpoint supera la proporción de errores tolerada ({@code --max-error-rate}) el proceso termina con
+ * código 1.
+ * <p>
+ * Ejemplo: {@code java -jar load-tests.jar --products=50000 --threads=32 --duration=120s --mix=balanced}.
+ * Para medir el efecto de los hilos virtuales se repite la ejecución con alta concurrencia
+ * ({@code --threads=1000}) con y sin {@code --virtual-threads=true} y se comparan las RPS y las latencias.
+ */
+public final class LoadTestApplication {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestApplication.class);
+    // --- Campos constantes ---
+    private static final String DATABASE = "CatalogoLoadTest";
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private LoadTestApplication() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<LatencyReport.EndpointStats> failing;
+        EmbeddedMongo embeddedMongo = options.mongoUri().isBlank() ? EmbeddedMongo.start() : null;
+        String mongoUri = embeddedMongo != null ? embeddedMongo.uri() : options.mongoUri();
+        try {
+            // La base se borra antes de arrancar el servicio, para no competir con la migración de índices
+            // que este lanza al arrancar
+            dropDatabase(mongoUri);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CatalogApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "catalog.reactive.port=0",
+                            "catalog.grpc.port=0",
+                            "spring.data.mongodb.uri=" + mongoUri,
+                            "spring.data.mongodb.database=" + DATABASE,
+                            "spring.threads.virtual.enabled=" + options.virtualThreads(),
+                            "catalog.change-stream.enabled=true",
+                            "management.health.rabbit.enabled=false",
+                            "logging.level.com.ecommerce.catalog=WARN")
+                    .run()) {
+                MongoTemplate mongoTemplate = context.getBean(MongoTemplate.class);
+                CatalogGenerator catalog = new CatalogGenerator(options.shape());
+                long seedStart = System.nanoTime();
+                CatalogGenerator.Counts counts = catalog.writeTo(new MongoBulkSink(mongoTemplate.getDb(),
+                        new EntityDocumentWriter(mongoTemplate.getConverter()), SEED_BATCH_SIZE));
+                log.info("Catálogo sintético cargado en {} ms: {}",
+                        (System.nanoTime() - seedStart) / 1_000_000, counts);
+                // La migración del arranque es asíncrona: se espera a que termine (o se aplica aquí) antes de medir
+                List<Integer> applied = context.getBean(IndexMigrator.class).migrate();
+                log.info("Índices al día antes de medir (migraciones aplicadas ahora: {})", applied);
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+                ObjectMapper json = context.getBean(ObjectMapper.class);
+                WorkloadDriver driver = new WorkloadDriver("http://localhost:" + port + contextPath, catalog,
+                        options, json);
+
+                log.info("Calentamiento durante {} con {} clientes", options.warmup(), options.threads());
+                driver.run(options.warmup(), null);
+                log.info("Medición durante {} (mezcla {}, hilos virtuales en el servicio: {})",
+                        options.duration(), options.mix(), options.virtualThreads());
+                LatencyReport report = new LatencyReport();
+                Duration elapsed = driver.run(options.duration(), report);
+
+                List<LatencyReport.EndpointStats> rows = report.summarize(elapsed);
+                LatencyReport.print(rows, System.out);
+                LatencyReport.write(options, rows, json);
+                log.info("Reporte escrito en {}", options.report().toAbsolutePath());
+                failing = LatencyReport.failing(rows, options.maxErrorRate());
+            }
+        } finally {
+            if (embeddedMongo != null) {
+                embeddedMongo.close();
+            }
+        }
+        if (!failing.isEmpty()) {
+            failing.forEach(row -> log.error("{}: {} de {} peticiones fallaron ({})", row.endpoint(), row.errors(),
+                    row.count() + row.errors(), row.errorsByStatus()));
+            log.error("La ejecución no es válida: la proporción de errores supera {}", options.maxErrorRate());
+            System.exit(1);
+        }
+    }
+
+    // --- Métodos auxiliares ---
+
+    private static void dropDatabase(String mongoUri) {
+        try (MongoClient client = MongoClients.create(mongoUri)) {
+            client.getDatabase(DATABASE).drop();
+        }
+    }
+}
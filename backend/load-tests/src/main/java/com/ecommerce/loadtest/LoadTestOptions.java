@@ -0,0 +1,83 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.datagen.CatalogShape;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opciones de una ejecución de carga, leídas de argumentos {@code --clave=valor}.
+ * @param mongoUri URI de un MongoDB existente; si está vacía se arranca un MongoDB embebido.
+ * @param seed semilla del generador de datos y de la selección de peticiones.
+ * @param brands cantidad de marcas.
+ * @param categoryDepth profundidad del árbol de categorías (1 = solo raíces).
+ * @param categoryFanout cantidad de hijas por categoría.
+ * @param products cantidad de productos.
+ * @param variantsPerProduct cantidad de variantes por producto.
+ * @param threads cantidad de clientes concurrentes.
+ * @param warmup duración del calentamiento (no se reporta).
+ * @param duration duración de la medición.
+ * @param mix mezcla de lectura/escritura.
+ * @param report archivo JSON donde se escribe el reporte.
+ * @param virtualThreads si el servicio atiende las peticiones en hilos virtuales ({@code spring.threads.virtual.enabled}).
+ * @param maxErrorRate proporción máxima de respuestas no 2xx por endpoint; si algún endpoint la supera la ejecución falla.
+ */
+public record LoadTestOptions(
+        String mongoUri,
+        long seed,
+        int brands,
+        int categoryDepth,
+        int categoryFanout,
+        long products,
+        int variantsPerProduct,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        WorkloadMix mix,
+        Path report,
+        boolean virtualThreads,
+        double maxErrorRate
+) {
+
+    /**
+     * @return las dimensiones del catálogo sintético.
+     */
+    public CatalogShape shape() {
+        return new CatalogShape(seed, brands, categoryDepth, categoryFanout, products, variantsPerProduct);
+    }
+
+    /**
+     * Interpreta los argumentos de línea de comandos, usando valores por defecto para los ausentes.
+     * @param args argumentos con forma {@code --clave=valor}.
+     * @return las opciones de la ejecución.
+     * @throws IllegalArgumentException si un argumento no tiene la forma esperada.
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido (se espera --clave=valor): " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                values.getOrDefault("mongo-uri", ""),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("brands", "50")),
+                Integer.parseInt(values.getOrDefault("category-depth", "3")),
+                Integer.parseInt(values.getOrDefault("category-fanout", "5")),
+                Long.parseLong(values.getOrDefault("products", "10000")),
+                Integer.parseInt(values.getOrDefault("variants-per-product", "4")),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                Duration.parse("PT" + values.getOrDefault("warmup", "15s")),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s")),
+                WorkloadMix.valueOf(values.getOrDefault("mix", "read-heavy").toUpperCase().replace('-', '_')),
+                Path.of(values.getOrDefault("report", "target/load-test-report.json")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01"))
+        );
+    }
+}
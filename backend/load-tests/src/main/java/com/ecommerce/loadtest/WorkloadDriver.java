@@ -0,0 +1,127 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.datagen.CatalogGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Genera carga en lazo cerrado: cada cliente envía una petición, espera la respuesta completa y envía la siguiente.
+ * El endpoint de cada petición se elige según la mezcla de lectura/escritura y el peso de cada endpoint.
+ * Cada cliente corre en un hilo virtual, por lo que se pueden simular miles de clientes concurrentes.
+ */
+public class WorkloadDriver {
+    private static final Logger log = LoggerFactory.getLogger(WorkloadDriver.class);
+    // --- Dependencias ---
+    private final String baseUrl;
+    private final CatalogGenerator catalog;
+    private final LoadTestOptions options;
+    private final ObjectMapper json;
+    private final HttpClient client;
+    // --- Estado ---
+    private final Endpoint[] reads;
+    private final Endpoint[] writes;
+
+    /**
+     * Construye el generador de carga.
+     * @param baseUrl la URL base del servicio, incluyendo el context-path.
+     * @param catalog el generador del catálogo cargado.
+     * @param options las opciones de la ejecución.
+     * @param json el serializador de cuerpos de petición.
+     */
+    public WorkloadDriver(String baseUrl, CatalogGenerator catalog, LoadTestOptions options, ObjectMapper json) {
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.options = options;
+        this.json = json;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.reads = weighted(false);
+        this.writes = weighted(true);
+    }
+
+    /**
+     * Ejecuta la carga durante el tiempo indicado.
+     * @param duration la duración de la fase.
+     * @param report el reporte donde registrar las latencias, o {@code null} en el calentamiento.
+     * @return la duración real de la fase.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera a los clientes.
+     */
+    public Duration run(Duration duration, LatencyReport report) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        SplittableRandom seedRandom = new SplittableRandom(options.seed());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> clients = new ArrayList<>(options.threads());
+            for (int i = 0; i < options.threads(); i++) {
+                SplittableRandom random = seedRandom.split();
+                clients.add(executor.submit(() -> loop(deadline, random, report)));
+            }
+            for (Future<?> future : clients) {
+                try {
+                    future.get();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    log.error("Un cliente de carga terminó con error", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    // --- Métodos auxiliares ---
+
+    private void loop(long deadline, SplittableRandom random, LatencyReport report) {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = writes.length > 0 && random.nextDouble() < options.mix().writeRatio()
+                    ? writes[random.nextInt(writes.length)]
+                    : reads[random.nextInt(reads.length)];
+            long sent = System.nanoTime();
+            int status;
+            try {
+                HttpResponse<Void> response = client.send(
+                        endpoint.request(baseUrl, catalog, random, json).timeout(Duration.ofSeconds(30)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                status = response.statusCode();
+            } catch (IOException e) {
+                status = LatencyReport.NO_RESPONSE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (report != null) {
+                report.record(endpoint, System.nanoTime() - sent, status);
+            }
+        }
+    }
+
+    /**
+     * Expande los endpoints según su peso, para elegirlos con un único número aleatorio.
+     */
+    private static Endpoint[] weighted(boolean write) {
+        List<Endpoint> expanded = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.isWrite() == write) {
+                for (int i = 0; i < endpoint.weight(); i++) {
+                    expanded.add(endpoint);
+                }
+            }
+        }
+        return expanded.toArray(Endpoint[]::new);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.loadtest;
+
+/**
+ * Mezclas de carga predefinidas: proporción de peticiones de escritura sobre el total.
+ * Las lecturas se reparten entre los endpoints de lectura según su peso propio.
+ */
+public enum WorkloadMix {
+    READ_ONLY(0.0),
+    READ_HEAVY(0.05),
+    BALANCED(0.20),
+    WRITE_HEAVY(0.50);
+
+    private final double writeRatio;
+
+    WorkloadMix(double writeRatio) {
+        this.writeRatio = writeRatio;
+    }
+
+    public double writeRatio() { return writeRatio; }
+}